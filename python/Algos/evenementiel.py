@@ -0,0 +1,87 @@
+import heapq
+import itertools
+
+#Types d'évènements de la simulation
+ARRIVEE = 0      #Des processus sont soumis à cette date
+FIN_TRANCHE = 1  #Un processus élu quitte son CPU (fin d'exécution ou quantum épuisé)
+
+
+def simuler(processus_attente_soumission: list, processus_elus: list, soumettre, allouer, liberer, quantum=None) -> int:
+    """
+    Moteur de simulation à évènements discrets, commun aux différents algorithmes.
+
+    Au lieu d'avancer la date d'une unité à chaque tour de boucle, on saute directement
+    à la date du prochain évènement (arrivée de processus, fin d'exécution, fin de quantum),
+    conservé dans un tas (heapq). Les allocations produites sont identiques à celles de la
+    simulation par unité de temps : à chaque date on traite d'abord les fins de tranche
+    (dans l'ordre de la liste des élus), puis la soumission, puis l'allocation.
+
+    Paramètres :
+    ----------
+    processus_attente_soumission : list
+        Processus en attente de soumission (initialisés par l'algorithme).
+
+    processus_elus : list
+        Liste des processus élus de l'algorithme : {"processus": {...}, "processeur": "CPUx"}.
+        Les nouveaux élus doivent être ajoutés à la fin de la liste par allouer().
+
+    soumettre : fonction(date)
+        Soumission des processus dont la date de soumission est atteinte.
+
+    allouer : fonction(date)
+        Allocation des CPU libres aux processus de la file d'attente.
+
+    liberer : fonction(pe, date, termine)
+        Appelée quand un processus élu quitte son CPU à la date donnée.
+        termine vaut True si le processus a fini son exécution, False si son quantum est épuisé.
+        Doit retirer pe de processus_elus.
+
+    quantum : int | None
+        Durée maximale d'une tranche d'exécution (None si l'algorithme n'est pas préemptif).
+
+    Retour :
+    -------
+    int
+        La date de fin de la simulation (makespan).
+    """
+    evenements = [] #Tas des évènements : (date, numéro d'ordre, type, processus élu)
+    compteur = itertools.count() #Numéro d'ordre, pour ne jamais comparer les dictionnaires
+
+    #Un évènement d'arrivée par date de soumission distincte
+    for d in sorted({p["dateSoumission"] for p in processus_attente_soumission}):
+        heapq.heappush(evenements, (d, next(compteur), ARRIVEE, None))
+
+    date = 0
+    while evenements:
+        date = evenements[0][0] #On saute directement au prochain évènement
+
+        #Récupérer tous les évènements de cette date
+        fins = set()
+        while evenements and evenements[0][0] == date:
+            _, _, type_evenement, pe = heapq.heappop(evenements)
+            if type_evenement == FIN_TRANCHE:
+                fins.add(id(pe))
+
+        #Fins de tranche, dans l'ordre de la liste des élus (comme la simulation par unité de temps)
+        for pe in list(processus_elus):
+            if id(pe) in fins:
+                proc = pe["processus"]
+                proc["tempsTotalExecution"] += date - pe["debutTranche"]
+                liberer(pe, date, proc["tempsTotalExecution"] >= proc["tempsExecution"])
+
+        soumettre(date)
+
+        nb_elus = len(processus_elus)
+        allouer(date)
+        #Planifier la fin de tranche des processus qui viennent d'être élus
+        for pe in processus_elus[nb_elus:]:
+            proc = pe["processus"]
+            if proc["dateDebut"] is None:
+                proc["dateDebut"] = date
+            duree = proc["tempsExecution"] - proc["tempsTotalExecution"]
+            if quantum is not None:
+                duree = min(duree, quantum)
+            pe["debutTranche"] = date
+            heapq.heappush(evenements, (date + duree, next(compteur), FIN_TRANCHE, pe))
+
+    return date
@@ -3,6 +3,7 @@ from pathlib import Path
 import sys
 from Metriques import metriques
 import ManipulationFichiers.Writing.writing
+import Algos.evenementiel
 
 
 def enregistrer_date_fin_alloc(infos_allocations_processeur, pe, date_fin):
@@ -39,14 +40,7 @@ def initialiser_processus(processus):
             "usedRam": None
         })
 
-    for i in range(len(nouvelle_liste) - 1):
-        for j in range(i + 1, len(nouvelle_liste)):
-            if (nouvelle_liste[i]["dateSoumission"] > nouvelle_liste[j]["dateSoumission"]) or (
-                nouvelle_liste[i]["dateSoumission"] == nouvelle_liste[j]["dateSoumission"]
-            ):
-                tmp = nouvelle_liste[i]
-                nouvelle_liste[i] = nouvelle_liste[j]
-                nouvelle_liste[j] = tmp
+    nouvelle_liste.sort(key=lambda x: x["dateSoumission"]) #Tri stable : à date égale, l'ordre du fichier est conservé
     return nouvelle_liste
 
 
@@ -111,23 +105,35 @@ def executer_processus_elus(processus_elus, processus_file_attente, processus_te
         proc["tempsTotalExecution"] += 1
 
         if proc["tempsTotalExecution"] == proc["tempsExecution"]:
-            proc["dateFin"] = date_actuelle + 1
-            enregistrer_date_fin_alloc(infos_allocations_processeur, pe, date_actuelle + 1)
-
-            if proc.get("usedRam"):
-                etat_ram["utilisee"] -= proc["usedRam"]
-                if etat_ram["utilisee"] < 0:
-                    etat_ram["utilisee"] = 0
-            processeurs_dispos.append(pe["processeur"])
-            processus_elus.pop(i)
-            processus_termines.append(proc)
+            terminer_processus(pe, processus_elus, processus_termines, processeurs_dispos,
+                               infos_allocations_processeur, date_actuelle + 1, etat_ram)
             continue
         i += 1
 
 
-def fifo(params_algo: dict, processus: list[dict], ressources_dispo: dict):
+def terminer_processus(pe, processus_elus, processus_termines, processeurs_dispos,
+                       infos_allocations_processeur, date_fin, etat_ram):
+    """
+    Termine un processus élu (FIFO) à la date donnée : enregistre sa date de fin
+    et libère sa RAM et son CPU.
+    """
+    proc = pe["processus"]
+    proc["dateFin"] = date_fin
+    enregistrer_date_fin_alloc(infos_allocations_processeur, pe, date_fin)
+
+    if proc.get("usedRam"):
+        etat_ram["utilisee"] -= proc["usedRam"]
+        if etat_ram["utilisee"] < 0:
+            etat_ram["utilisee"] = 0
+    processeurs_dispos.append(pe["processeur"])
+    processus_elus.remove(pe)
+    processus_termines.append(proc)
+
+
+def fifo(params_algo: dict, processus: list[dict], ressources_dispo: dict, mode_simulation: str = "TICK"):
     """
     Exécute l'algorithme FIFO sur un ensemble de processus.
+    - mode_simulation : "TICK" (unité de temps par unité de temps) ou "EVENEMENTIEL" (saut d'évènement en évènement).
     - Les deadlines ne provoquent plus de rejet.
     - Si la RAM disponible est insuffisante, le processus attend simplement.
     """
@@ -142,13 +148,26 @@ def fifo(params_algo: dict, processus: list[dict], ressources_dispo: dict):
     processus_elus = []
     processus_termines = []
 
-    while processus_attente_soumission or processus_file_attente or processus_elus:
-        soumettre_processus(date_actuelle, processus_attente_soumission, processus_file_attente)
-        allouer_cpu(processus_file_attente, processeurs_dispos, processus_elus,
-                    infos_allocations_processeur, date_actuelle, etat_ram)
-        executer_processus_elus(processus_elus, processus_file_attente, processus_termines,
-                                processeurs_dispos, infos_allocations_processeur, date_actuelle, etat_ram)
-        date_actuelle += 1
+    if mode_simulation == "EVENEMENTIEL":
+        def liberer(pe, date, termine):
+            #FIFO n'est pas préemptif : une fin de tranche est toujours une fin d'exécution
+            terminer_processus(pe, processus_elus, processus_termines, processeurs_dispos,
+                               infos_allocations_processeur, date, etat_ram)
+
+        date_actuelle = Algos.evenementiel.simuler(
+            processus_attente_soumission, processus_elus,
+            lambda date: soumettre_processus(date, processus_attente_soumission, processus_file_attente),
+            lambda date: allouer_cpu(processus_file_attente, processeurs_dispos, processus_elus,
+                                     infos_allocations_processeur, date, etat_ram),
+            liberer)
+    else:
+        while processus_attente_soumission or processus_file_attente or processus_elus:
+            soumettre_processus(date_actuelle, processus_attente_soumission, processus_file_attente)
+            allouer_cpu(processus_file_attente, processeurs_dispos, processus_elus,
+                        infos_allocations_processeur, date_actuelle, etat_ram)
+            executer_processus_elus(processus_elus, processus_file_attente, processus_termines,
+                                    processeurs_dispos, infos_allocations_processeur, date_actuelle, etat_ram)
+            date_actuelle += 1
 
     if etat_ram["utilisee"] != 0:
         print(f"Avertissement: RAM utilisée non nulle à la fin ({etat_ram['utilisee']}).", file=sys.stderr)
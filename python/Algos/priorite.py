@@ -2,6 +2,7 @@ import sys, csv, json
 from pathlib import Path
 from Metriques import metriques
 import ManipulationFichiers.Writing.writing
+import Algos.evenementiel
 
 def enregistrer_date_fin_alloc(infos_allocations_processeur, pe, date):
     """
@@ -182,20 +183,36 @@ def executer_processus_elus(processus_elus: list, processus_termines: list,
 
         #Si le processus s'est executé pendant le temps qui était prévu, on le met dans la liste des processus terminés
         if pe["processus"]["tempsTotalExecution"] == pe["processus"]["tempsExecution"]:
-            pe["processus"]["dateFin"] = date+1 #Enregistrement de la date de fin (+1 sur la date pour qu'elle soit exacte)
-            processus_termines.append(pe["processus"]) #Le processus est terminé
-            enregistrer_date_fin_alloc(infos_allocations_processeur,pe,date+1) #Enregistrement de la date de fin de l'alloc (+1 pour qu'elle soit exacte)
-            
-            
-            if pe["processus"]["usedRam"]:
-                etat_ram["utilisee"] -= pe["processus"]["usedRam"]
-                if etat_ram["utilisee"] < 0:
-                    etat_ram["utilisee"] = 0
-            processeurs_dispos.append(pe["processeur"]) #Le processeur utilisé est à nouveau disponible
-            processus_elus.remove(pe) #Supression des processus élus
+            terminer_processus(pe, processus_elus, processus_termines, processeurs_dispos,
+                               infos_allocations_processeur, date+1, etat_ram) #+1 sur la date pour qu'elle soit exacte
+
+
+def terminer_processus(pe: dict, processus_elus: list, processus_termines: list, processeurs_dispos: list,
+                       infos_allocations_processeur: list, date_fin: int, etat_ram):
+    """
+    Termine un processus élu à la date donnée : enregistre sa date de fin, libère sa RAM et son CPU.
+
+    Paramètres
+    ----------
+    pe : dict
+        Le processus élu qui se termine.
+    date_fin : int
+        La date de fin d'exécution du processus.
+    (autres paramètres : voir executer_processus_elus)
+    """
+    pe["processus"]["dateFin"] = date_fin #Enregistrement de la date de fin
+    processus_termines.append(pe["processus"]) #Le processus est terminé
+    enregistrer_date_fin_alloc(infos_allocations_processeur,pe,date_fin) #Enregistrement de la date de fin de l'alloc
+
+    if pe["processus"]["usedRam"]:
+        etat_ram["utilisee"] -= pe["processus"]["usedRam"]
+        if etat_ram["utilisee"] < 0:
+            etat_ram["utilisee"] = 0
+    processeurs_dispos.append(pe["processeur"]) #Le processeur utilisé est à nouveau disponible
+    processus_elus.remove(pe) #Supression des processus élus
             
             
-def priorite(params_algo: dict, processus: list[dict], ressources_dispo: dict):
+def priorite(params_algo: dict, processus: list[dict], ressources_dispo: dict, mode_simulation: str = "TICK"):
     """
     Exécute l'algorithme de planification par priorité (priorité la plus élevée d'abord).
     - Pas de quantum.
@@ -209,6 +226,8 @@ def priorite(params_algo: dict, processus: list[dict], ressources_dispo: dict):
         Liste des processus.
     ressources_dispo : dict
         Ressources disponibles.
+    mode_simulation : str
+        "TICK" (avance d'une unité de temps par tour) ou "EVENEMENTIEL" (saut d'évènement en évènement).
 
     Retour
     ------
@@ -234,16 +253,25 @@ def priorite(params_algo: dict, processus: list[dict], ressources_dispo: dict):
     processus_termines = []
 
 
-    # Boucle principale: soumettre -> allouer -> exécuter -> avancer l'horloge
-    while processus_attente_soumission or processus_file_attente or processus_elus:
-        # Ajoute à la file d'attente les processus dont la date de soumission == date
-        soumettre_processus_priorite(date, processus_attente_soumission, processus_file_attente)
-        # Attribue les CPU libres aux processus les plus prioritaires en attente
-        allouer_cpu(processus_file_attente, processeurs_dispos, processus_elus, infos_allocations_processeur, date, etat_ram)
-        # Fait progresser d'un tick les processus en cours; termine et libère CPU si fini
-        executer_processus_elus(processus_elus, processus_termines, processeurs_dispos, infos_allocations_processeur, date, etat_ram)
-        # Avance le temps d'une unité
-        date += 1
+    if mode_simulation == "EVENEMENTIEL":
+        # Simulation à évènements discrets : l'algorithme n'est pas préemptif, une fin de tranche est une fin d'exécution
+        date = Algos.evenementiel.simuler(
+            processus_attente_soumission, processus_elus,
+            lambda d: soumettre_processus_priorite(d, processus_attente_soumission, processus_file_attente),
+            lambda d: allouer_cpu(processus_file_attente, processeurs_dispos, processus_elus, infos_allocations_processeur, d, etat_ram),
+            lambda pe, d, termine: terminer_processus(pe, processus_elus, processus_termines, processeurs_dispos,
+                                                      infos_allocations_processeur, d, etat_ram))
+    else:
+        # Boucle principale: soumettre -> allouer -> exécuter -> avancer l'horloge
+        while processus_attente_soumission or processus_file_attente or processus_elus:
+            # Ajoute à la file d'attente les processus dont la date de soumission == date
+            soumettre_processus_priorite(date, processus_attente_soumission, processus_file_attente)
+            # Attribue les CPU libres aux processus les plus prioritaires en attente
+            allouer_cpu(processus_file_attente, processeurs_dispos, processus_elus, infos_allocations_processeur, date, etat_ram)
+            # Fait progresser d'un tick les processus en cours; termine et libère CPU si fini
+            executer_processus_elus(processus_elus, processus_termines, processeurs_dispos, infos_allocations_processeur, date, etat_ram)
+            # Avance le temps d'une unité
+            date += 1
 
     if etat_ram["utilisee"] != 0:
         print(f"Avertissement: RAM utilisée non nulle à la fin ({etat_ram['utilisee']}).", file=sys.stderr)
@@ -2,6 +2,7 @@
 
 from Metriques import metriques
 import ManipulationFichiers.Writing.writing
+import Algos.evenementiel
 
 def enregistrer_date_fin_alloc(infos_allocations_processeur,pe, date):
     """
@@ -323,27 +324,60 @@ def executer_processus_elus(processus_elus: list, processus_file_attente: list,
 
         
         #Si le processus s'est executé pendant le temps qui était prévu, on le met dans la liste des processus terminés
+        #(+1 sur la date pour avoir la VRAIE date de fin, il se termine une unité de temps après)
         if pe["processus"]["tempsTotalExecution"] >= pe["processus"]["tempsExecution"]:
-            pe["processus"]["dateFin"] = date+1 #Enregistrement de la date de fin (+1 sur la date pour avoir la VRAIE date de fin, il se termine une unité de temps après)
-            processus_termines.append(pe["processus"]) #Le processus est terminé
-            enregistrer_date_fin_alloc(infos_allocations_processeur,pe,date+1) #Enregistrement de la date de fin de l'alloc (+1 sur la date pour avoir la VRAIE date de fin)
-            ram_liberee += pe["processus"]["usedRam"] #On récupère la ram rendue par le processus fini
-            processeurs_dispos.append(pe["processeur"]) #Le processeur utilisé est à nouveau disponible
-            processus_elus.remove(pe) #Suppression des processus élus
+            ram_liberee += liberer_processus(pe, True, processus_elus, processus_file_attente, processus_termines,
+                                             processeurs_dispos, infos_allocations_processeur, date+1, quantum)
         else:
             #Si le processus élu à épuisé le quantum de temps
             if pe["processus"]["tempsRestQuantum"] == 0:
-                processus_file_attente.append(pe["processus"]) #On renvoie le processus en file d'attente
-                # Réinitialiser le quantum pour le prochain passage
-                pe["processus"]["tempsRestQuantum"] = quantum
-                enregistrer_date_fin_alloc(infos_allocations_processeur,pe,date+1) #Enregistrement de la date de fin de l'alloc (+1 sur la date pour avoir la VRAIE date de fin)
-                processeurs_dispos.append(pe["processeur"]) #Le processeur utilisé est à nouveau disponible
-                processus_elus.remove(pe) #Suppression du processus de la liste des élus
+                liberer_processus(pe, False, processus_elus, processus_file_attente, processus_termines,
+                                  processeurs_dispos, infos_allocations_processeur, date+1, quantum)
         
     return ram_liberee    #On return la qte de ram libérée par les processus terminés
 
 
-def round_robin(params_algo : dict, processus : list[dict], ressources_dispo : dict):
+def liberer_processus(pe: dict, termine: bool, processus_elus: list, processus_file_attente: list,
+                      processus_termines: list, processeurs_dispos: list,
+                      infos_allocations_processeur: list, date_fin: int, quantum: int) -> int:
+    """
+    Retire un processus élu de son CPU à la date donnée.
+    S'il est terminé il rejoint les processus terminés et rend sa RAM,
+    sinon (quantum épuisé) il retourne en fin de file d'attente en conservant sa RAM.
+
+    Paramètres :
+    ----------
+    pe : dict
+        Le processus élu qui quitte son CPU : {"processus": {...}, "processeur": "CPUx"}
+
+    termine : bool
+        True si le processus a fini son exécution, False si son quantum est épuisé.
+
+    date_fin : int
+        La date à laquelle le processus quitte le CPU.
+
+    (autres paramètres : voir executer_processus_elus)
+
+    Retour :
+    -------
+    int
+        La quantité de RAM libérée (0 si le processus n'est pas terminé).
+    """
+    enregistrer_date_fin_alloc(infos_allocations_processeur,pe,date_fin) #Enregistrement de la date de fin de l'alloc
+    processeurs_dispos.append(pe["processeur"]) #Le processeur utilisé est à nouveau disponible
+    processus_elus.remove(pe) #Suppression du processus de la liste des élus
+
+    if termine:
+        pe["processus"]["dateFin"] = date_fin #Enregistrement de la date de fin
+        processus_termines.append(pe["processus"]) #Le processus est terminé
+        return pe["processus"]["usedRam"] #On rend la ram utilisée par le processus fini
+
+    processus_file_attente.append(pe["processus"]) #On renvoie le processus en file d'attente
+    pe["processus"]["tempsRestQuantum"] = quantum # Réinitialiser le quantum pour le prochain passage
+    return 0
+
+
+def round_robin(params_algo : dict, processus : list[dict], ressources_dispo : dict, mode_simulation : str = "TICK"):
     """
     Exécute l'algorithme Round-Robin sur un ensemble de processus et enregistre les résultats.
 
@@ -376,6 +410,9 @@ def round_robin(params_algo : dict, processus : list[dict], ressources_dispo : d
             "ram_tot": 8192
         }
 
+    mode_simulation : str
+        "TICK" (avance d'une unité de temps par tour de boucle) ou "EVENEMENTIEL"
+        (saut direct au prochain évènement : arrivée, fin de quantum ou fin d'exécution).
         
     Retour :
     -------
@@ -403,15 +440,30 @@ def round_robin(params_algo : dict, processus : list[dict], ressources_dispo : d
     
    
 
-    #Tant qu'il reste des processus à traiter
-    while processus_attente_soumission or processus_file_attente or processus_elus:
-        
-        #Effectuer les 4 actions
-        soumettre_processus(date,processus_attente_soumission,processus_file_attente)
-        ram_dispo = allouer_cpu(processus_file_attente,processeurs_dispos,processus_elus,infos_allocations_processeur,date,ram_dispo) #Allocation du cpu au processus, mise a jour de la qte de ram dispo
-        ram_dispo += executer_processus_elus(processus_elus,processus_file_attente,processus_termines,processeurs_dispos,infos_allocations_processeur,date,quantum) #Execution du processus, si il se finit, la ram libérée est rendue
-
-        date += 1 #Incrémentation de la date 
+    if mode_simulation == "EVENEMENTIEL":
+        def allouer(d):
+            nonlocal ram_dispo
+            ram_dispo = allouer_cpu(processus_file_attente,processeurs_dispos,processus_elus,infos_allocations_processeur,d,ram_dispo)
+
+        def liberer(pe, d, termine):
+            nonlocal ram_dispo
+            ram_dispo += liberer_processus(pe, termine, processus_elus, processus_file_attente, processus_termines,
+                                           processeurs_dispos, infos_allocations_processeur, d, quantum)
+
+        #Simulation à évènements discrets, les tranches d'exécution durent au plus un quantum
+        date = Algos.evenementiel.simuler(processus_attente_soumission, processus_elus,
+                                          lambda d: soumettre_processus(d,processus_attente_soumission,processus_file_attente),
+                                          allouer, liberer, quantum)
+    else:
+        #Tant qu'il reste des processus à traiter
+        while processus_attente_soumission or processus_file_attente or processus_elus:
+            
+            #Effectuer les 4 actions
+            soumettre_processus(date,processus_attente_soumission,processus_file_attente)
+            ram_dispo = allouer_cpu(processus_file_attente,processeurs_dispos,processus_elus,infos_allocations_processeur,date,ram_dispo) #Allocation du cpu au processus, mise a jour de la qte de ram dispo
+            ram_dispo += executer_processus_elus(processus_elus,processus_file_attente,processus_termines,processeurs_dispos,infos_allocations_processeur,date,quantum) #Execution du processus, si il se finit, la ram libérée est rendue
+
+            date += 1 #Incrémentation de la date 
         
     #Enregistrer les résultats de l'ordonnancement dans les deux fichiers de résultats       
     ManipulationFichiers.Writing.writing.enregistrer_resultats("ROUND ROBIN",processus_termines,infos_allocations_processeur, params_algo)
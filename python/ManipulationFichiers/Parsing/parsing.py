@@ -21,7 +21,7 @@ def parser_fichier_config(chemin_fichier : Path):
 
     Retour
     ------
-    tuple : (fichier_processus, fichier_ressources, fichier_metriques, dict_algos)
+    tuple : (fichier_processus, fichier_ressources, fichier_metriques, dict_algos, mode_simulation)
 
     exemple :
     (
@@ -32,9 +32,11 @@ def parser_fichier_config(chemin_fichier : Path):
             'ROUND ROBIN': {
                 'fichierResultatsDetailles': Path('Resultats/RoundRobin/rDetailedROUNDROBIN.csv'),
                 'fichierResultatsGlobaux': Path('Resultats/RoundRobin/rGlobauxROUNDROBIN.csv'),
-                'quantum': 2
+                'quantum': 2,
+                'formatResultats': 'CSV'
             }
-        }
+        },
+        'TICK'
     )
 
     """
@@ -62,7 +64,11 @@ def parser_fichier_config(chemin_fichier : Path):
         for algo in config["listeAlgorithmes"]:
             dict_algos[algo["nomAlgorithme"]] = {"fichierResultatsDetailles" : Path(algo["fichierResultatsDetailles"]), #Tentative de conversion des chaines en Path (si cela échoue, déclenche direct exception)
             "fichierResultatsGlobaux": Path(algo["fichierResultatsGlobaux"]),
-            "quantum": algo["quantum"]}
+            "quantum": algo["quantum"],
+            "formatResultats": algo.get("formatResultats") or "CSV"} #Format optionnel : "CSV" par défaut pour les anciens fichiers de configuration
+
+        #Mode de simulation (optionnel, "TICK" par défaut pour les anciens fichiers de configuration)
+        mode_simulation = config.get("modeSimulation") or "TICK"
 
     except json.JSONDecodeError:
         print("Erreur d'ouverture du fichier de configuration", file=sys.stderr)
@@ -76,7 +82,7 @@ def parser_fichier_config(chemin_fichier : Path):
             print("Erreur inattendue lors du parsing du fichier de configuration", file=sys.stderr)
             sys.exit(99)
     
-    return fichier_processus,fichier_ressources,fichier_metriques,dict_algos
+    return fichier_processus,fichier_ressources,fichier_metriques,dict_algos,mode_simulation
 
 
 #Utilisé pour parser le fichier des processus
@@ -4,7 +4,8 @@ from pathlib import Path
 
 def enregistrer_resultats(nom_algo,processus, infos_allocations_processeur,params_algos):
     """
-    Enregistre les résultats de l'ordonnancement dans deux fichiers CSV : global et détaillé.
+    Enregistre les résultats de l'ordonnancement dans deux fichiers : global et détaillé,
+    au format CSV (par défaut) ou au format binaire.
 
     Paramètres :
     ----------
@@ -36,8 +37,11 @@ def enregistrer_resultats(nom_algo,processus, infos_allocations_processeur,param
         {
           'fichierResultatsDetailles': Path('Resultats/RoundRobin'),
                 'fichierResultatsGlobaux': Path('Resultats/RoundRobin'),
-                'quantum': 2
+                'quantum': 2,
+                'formatResultats': 'CSV'
         }
+        Avec 'formatResultats' à 'BINAIRE', les deux fichiers sont écrits au format binaire
+        (voir encoder_resultats_globaux et encoder_resultats_detailles).
     """
     
     fichier_detaille = params_algos["fichierResultatsDetailles"]
@@ -50,6 +54,14 @@ def enregistrer_resultats(nom_algo,processus, infos_allocations_processeur,param
         sys.exit(12)
     
     try :
+        #Format binaire compact (optionnel) : mêmes informations que les deux CSV
+        if params_algos.get("formatResultats", "CSV") == "BINAIRE":
+            with open(fichier_global, "wb") as f:
+                f.write(encoder_resultats_globaux(processus))
+            with open(fichier_detaille, "wb") as f:
+                f.write(encoder_resultats_detailles(infos_allocations_processeur))
+            return
+
         #Enregistrer le fichier d'informations globales des processus---------------------
         with open(fichier_global, "w", newline="", encoding="utf-8") as f:
             writer = csv.DictWriter(f, fieldnames=["idProcessus", "dateSoumission", "dateDebut","dateFin","requiredRam","usedRam"])
@@ -82,6 +94,99 @@ def enregistrer_resultats(nom_algo,processus, infos_allocations_processeur,param
         sys.exit(11)
 
 
+SIGNATURE_BINAIRE = b"ORDB"
+VERSION_BINAIRE = 1
+TYPE_DETAILLES = 1
+TYPE_GLOBAUX = 2
+
+
+def ajouter_varint(tampon: bytearray, valeur: int):
+    """
+    Ajoute un entier positif au tampon, par groupes de 7 bits (poids faibles d'abord,
+    bit de poids fort à 1 s'il reste des groupes).
+    """
+    while valeur > 0x7F:
+        tampon.append((valeur & 0x7F) | 0x80)
+        valeur >>= 7
+    tampon.append(valeur)
+
+
+def ajouter_zigzag(tampon: bytearray, valeur: int):
+    """
+    Ajoute un entier signé au tampon, codé en zigzag (0, -1, 1, -2... devient 0, 1, 2, 3...)
+    pour que les petites valeurs négatives restent sur un octet.
+    """
+    ajouter_varint(tampon, valeur << 1 if valeur >= 0 else ((-valeur) << 1) - 1)
+
+
+def ajouter_dictionnaire(tampon: bytearray, identifiants: list[str]):
+    """
+    Ajoute un dictionnaire d'identifiants : leur nombre, puis chaque identifiant (longueur et octets UTF-8).
+    """
+    ajouter_varint(tampon, len(identifiants))
+    for identifiant in identifiants:
+        octets = str(identifiant).encode("utf-8")
+        ajouter_varint(tampon, len(octets))
+        tampon += octets
+
+
+def encoder_resultats_detailles(infos_allocations_processeur: list[dict]) -> bytearray:
+    """
+    Encode les allocations CPU au format binaire des résultats détaillés.
+
+    Format (lu par la classe Java BinaryResultProcessParser) :
+    "ORDB", version, type 1, dictionnaire des processus, dictionnaire des processeurs,
+    nombre d'allocations, puis pour chaque allocation :
+    zigzag(dateDebut - dateDebut précédente), zigzag(dateFin - dateDebut),
+    indice du processus, indice du processeur.
+    """
+    indices_processus = {}
+    indices_processeurs = {}
+    enregistrements = bytearray()
+    debut_precedent = 0
+    for allocation in infos_allocations_processeur:
+        debut = allocation["dateDebut"]
+        ajouter_zigzag(enregistrements, debut - debut_precedent)
+        ajouter_zigzag(enregistrements, allocation["dateFin"] - debut)
+        #Les identifiants reçoivent un indice à leur première apparition
+        ajouter_varint(enregistrements, indices_processus.setdefault(allocation["idProcessus"], len(indices_processus)))
+        ajouter_varint(enregistrements, indices_processeurs.setdefault(allocation["idProcesseur"], len(indices_processeurs)))
+        debut_precedent = debut
+
+    tampon = bytearray(SIGNATURE_BINAIRE)
+    tampon.append(VERSION_BINAIRE)
+    tampon.append(TYPE_DETAILLES)
+    ajouter_dictionnaire(tampon, list(indices_processus))
+    ajouter_dictionnaire(tampon, list(indices_processeurs))
+    ajouter_varint(tampon, len(infos_allocations_processeur))
+    tampon += enregistrements
+    return tampon
+
+
+def encoder_resultats_globaux(processus: list[dict]) -> bytearray:
+    """
+    Encode les informations globales des processus au format binaire des résultats globaux.
+
+    Format (lu par la classe Java BinaryResultProcessParser) :
+    "ORDB", version, type 2, dictionnaire des processus, nombre de processus, puis pour chaque processus :
+    indice du processus, zigzag(dateSoumission), zigzag(dateDebut - dateSoumission),
+    zigzag(dateFin - dateDebut), zigzag(requiredRam), zigzag(usedRam).
+    """
+    tampon = bytearray(SIGNATURE_BINAIRE)
+    tampon.append(VERSION_BINAIRE)
+    tampon.append(TYPE_GLOBAUX)
+    ajouter_dictionnaire(tampon, [p["idProcessus"] for p in processus])
+    ajouter_varint(tampon, len(processus))
+    for indice, p in enumerate(processus):
+        ajouter_varint(tampon, indice)
+        ajouter_zigzag(tampon, p["dateSoumission"])
+        ajouter_zigzag(tampon, p["dateDebut"] - p["dateSoumission"])
+        ajouter_zigzag(tampon, p["dateFin"] - p["dateDebut"])
+        ajouter_zigzag(tampon, p["requiredRam"])
+        ajouter_zigzag(tampon, p["usedRam"])
+    return tampon
+
+
 def enregistrerMetriques(chemin_fichier : Path, metriques : list[dict]):
     
     """
@@ -194,6 +194,7 @@ def verifierAlgos(algos : dict):
     Vérifie :
     - Que la liste des algorithmes n’est pas vide.
     - Pour ROUND ROBIN, que le quantum est défini et > 0.
+    - Que le format des résultats est "CSV" ou "BINAIRE".
 
     Termine le programme avec une erreur en cas d'incohérence 
     """
@@ -213,6 +214,25 @@ def verifierAlgos(algos : dict):
             elif a.strip().upper() != "ROUND ROBIN" and algos[a]["quantum"] is not None: #Pour d'autres algos qui n'ont pas besoin de quantum
                 print(f"Erreur dans le fichier de configuration, quantum doit être null pour l'algo {a} ", file=sys.stderr)
                 sys.exit(13)
+            if algos[a].get("formatResultats", "CSV") not in ("CSV", "BINAIRE"):
+                print(f"Erreur dans le fichier de configuration, format de résultats inconnu pour l'algo {a} : {algos[a]['formatResultats']}", file=sys.stderr)
+                sys.exit(13)
         except Exception:
             print(f"Erreur inattendue dans le fichier de config pour l'algo à exécuter {a}", file=sys.stderr)
-            sys.exit(13)
\ No newline at end of file
+            sys.exit(13)
+
+
+def verifierModeSimulation(mode_simulation : str):
+    """
+    Vérifie que le mode de simulation demandé dans le fichier de configuration est connu.
+
+    Paramètres
+    ----------
+    mode_simulation : str
+        "TICK" (unité de temps par unité de temps) ou "EVENEMENTIEL" (évènements discrets)
+
+    Termine le programme avec une erreur si le mode est inconnu
+    """
+    if mode_simulation not in ("TICK", "EVENEMENTIEL"):
+        print(f"Erreur dans le fichier de configuration, mode de simulation inconnu : {mode_simulation}", file=sys.stderr)
+        sys.exit(13)
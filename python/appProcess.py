@@ -1,4 +1,8 @@
+import json
+import os
 import sys
+from concurrent.futures import ProcessPoolExecutor, as_completed
+from concurrent.futures.process import BrokenProcessPool
 from pathlib import Path
 import Verifications.verifications
 import Algos.roundRobin
@@ -8,11 +12,11 @@ import ManipulationFichiers.Writing.writing
 import ManipulationFichiers.Parsing.parsing
 
 
-def charger_donnees():
+def charger_donnees(cheming_config : Path):
     """
     Charge et vérifie toutes les données nécessaires à l’ordonnancement.
 
-    Lit le fichier de configuration, puis charge :
+    Lit le fichier de configuration passé en paramètre, puis charge :
     - la liste des processus à ordonnancer (CSV),
     - les ressources disponibles (JSON),
     - les algorithmes à exécuter et leurs paramètres,
@@ -20,6 +24,11 @@ def charger_donnees():
 
     Effectue également les vérifications de cohérence sur les données chargées.
 
+    Paramètres
+    ----------
+    cheming_config : Path
+        Le chemin du fichier de configuration JSON.
+
     Retour
     ------
     dict
@@ -39,11 +48,10 @@ def charger_donnees():
                             'fichierResultatsGlobaux': Path('Resultats/RoundRobin/rGlobauxROUNDROBIN.csv'),
                             'quantum': 2}
         },
-        'metriques': Path('Resultats/fichierMetriquesGlobales.csv')
+        'metriques': Path('Resultats/fichierMetriquesGlobales.csv'),
+        'mode': 'TICK'
     }
     """
-    #Récupération du fichier de configuration
-    cheming_config = Path(sys.argv[1]) #Utilisation de Path pouir représenter le chemin de manière sécurisée, permet de tester son existance
     config = ManipulationFichiers.Parsing.parsing.parser_fichier_config(cheming_config) #Récupération de toutes les données du fichier de config
     
     #Récupérer le chemin de chaque fichiers
@@ -51,6 +59,7 @@ def charger_donnees():
     fichier_ressources = config[1]
     fichier_metriques = config[2]
     dict_algos = config[3] #Récupérer le dictionnaire des algos à exécuter
+    mode_simulation = config[4] #Récupérer le mode de simulation (TICK ou EVENEMENTIEL)
 
     #Lire les éléments des fichiers de données et les convertir en structures de données
     liste_processus = ManipulationFichiers.Parsing.parsing.parser_fichier_processus(fichier_processus)
@@ -60,11 +69,53 @@ def charger_donnees():
     Verifications.verifications.verifierRessources(dict_ressources) #Vérification des ressources
     Verifications.verifications.verifierProcessus(liste_processus,dict_ressources["ram_tot"]) #Vérification des processus
     Verifications.verifications.verifierAlgos(dict_algos) #Vérification des algos d'ordonnancement
+    Verifications.verifications.verifierModeSimulation(mode_simulation) #Vérification du mode de simulation
+
+    return {"processus" : liste_processus,"ressources" :dict_ressources, "algos":dict_algos, "metriques" : fichier_metriques, "mode" : mode_simulation}
+
+
+
+
 
-    return {"processus" : liste_processus,"ressources" :dict_ressources, "algos":dict_algos, "metriques" : fichier_metriques}
+#Noms des algorithmes d'ordonnancement disponibles
+ALGOS_CONNUS = ("ROUND ROBIN", "FIFO", "PRIORITE")
 
 
+def executer_algo(algo : str, params_algo : dict, processus : list[dict], ressources : dict, mode_simulation : str) -> dict:
+    """
+    Exécute un algorithme d'ordonnancement et renvoie ses métriques globales.
+    Fonction de niveau module pour pouvoir être exécutée dans un processus séparé.
+
+    Paramètres
+    ----------
+    algo : str
+        Le nom de l'algorithme (ex : "ROUND ROBIN")
+    params_algo : dict
+        Les paramètres de l'algorithme : chemins des fichiers de sortie et quantum
+    processus : list[dict]
+        La liste des processus à ordonnancer
+    ressources : dict
+        Les ressources disponibles
+    mode_simulation : str
+        "TICK" ou "EVENEMENTIEL"
 
+    Retour
+    ------
+    dict
+        Les métriques moyennes de l'algorithme
+    """
+    #Vérification de la correspondance du nom de l'algo, pour l'executer
+    match algo.strip().upper():  #Enlever espaces et forcer les majuscules sur le nom d'algo
+        case "ROUND ROBIN":
+            #On exécute le round robin (passage en params des paramètres de l'algo : chemins fichiers sortie et Quantum)
+            return Algos.roundRobin.round_robin(params_algo, processus, ressources, mode_simulation)
+        case "FIFO":
+            return Algos.fifo.fifo(params_algo, processus, ressources, mode_simulation)
+        case "PRIORITE":
+            return Algos.priorite.priorite(params_algo, processus, ressources, mode_simulation)
+        case _:
+            print("Algo inconnu : ",algo, file=sys.stderr)
+            sys.exit(3)
 
 
 def main():
@@ -82,6 +133,9 @@ def main():
     En cas d’erreur (chemin manquant, algo inconnu, etc.), 
     affiche un message sur stderr et quitte.
 
+    Avec l'argument --serveur, le programme reste lancé et exécute les demandes reçues
+    sur l'entrée standard (voir serveur()).
+
     Exemple d’exécution
     -------------------
     $ python appProcess.py config.json
@@ -95,48 +149,163 @@ def main():
     if len(sys.argv) < 2 :
         print("Chemin du fichier de configuration manquant !", file=sys.stderr)
         sys.exit(1)
+    elif sys.argv[1] == "--serveur":
+        serveur()
     else:
-        #Récupération des données 
-        donnees = charger_donnees()
-        metriques_moyennes = []
+        #Utilisation de Path pouir représenter le chemin de manière sécurisée, permet de tester son existance
+        ordonnancer(Path(sys.argv[1]))
+
+
+def ordonnancer(cheming_config : Path, executor : ProcessPoolExecutor = None):
+    """
+    Exécute tous les algorithmes demandés dans un fichier de configuration
+    et enregistre leurs résultats.
+
+    Paramètres
+    ----------
+    cheming_config : Path
+        Le chemin du fichier de configuration JSON
+    executor : ProcessPoolExecutor
+        Le pool de processus à utiliser pour exécuter les algos en parallèle.
+        S'il est absent, un pool est créé pour cette exécution.
+    """
+    #Récupération des données 
+    donnees = charger_donnees(cheming_config)
+    #Lignes d'avancement lues en direct par l'application Java (flush : la sortie est bufferisée quand elle est redirigée)
+    print(f"Données chargées : {len(donnees['processus'])} processus, {len(donnees['algos'])} algorithme(s)", flush=True)
+
+    #Vérification des noms d'algos avant de lancer les exécutions
+    for algo in donnees["algos"]:
+        if algo.strip().upper() not in ALGOS_CONNUS:
+            print("Algo inconnu : ",algo, file=sys.stderr)
+            sys.exit(3)
 
-        #Parcours du dictionnaire contenant les algos d'ordonnancement à exécuter
+    #Les algos sont indépendants (chacun écrit ses propres fichiers de résultats) :
+    #ils sont exécutés en parallèle, un processus par algo (le GIL empêche le parallélisme avec des threads)
+    if len(donnees["algos"]) > 1:
+        if executor is None:
+            nb_workers = min(len(donnees["algos"]), os.cpu_count() or 1)
+            with ProcessPoolExecutor(max_workers=nb_workers) as nouvel_executor:
+                metriques_moyennes = executer_en_parallele(donnees, nouvel_executor)
+        else:
+            metriques_moyennes = executer_en_parallele(donnees, executor)
+    else:
+        metriques_moyennes = []
         for algo in donnees["algos"]:
+            metriques_moyennes.append(executer_algo(algo, donnees["algos"][algo], donnees["processus"], donnees["ressources"], donnees["mode"]))
+            print(f"Algorithme terminé : {algo}", flush=True)
+
+    #Affichage des métriques moyennes
+    print("Métriques globales pour les différents algorithmes :")
+    print("----------------------------------------------------")
+    for m in metriques_moyennes:
+       print(f"- {m['algo']} | Temps d'attente moyen : {m['tempsAttenteMoyen']} | Temps reponse moyen : {m['tempsReponseMoyen']} | Makespan : {m['makespan']}")   
+
+    ManipulationFichiers.Writing.writing.enregistrerMetriques(donnees["metriques"],metriques_moyennes)
+
+
+def executer_en_parallele(donnees : dict, executor : ProcessPoolExecutor) -> list[dict]:
+    """
+    Exécute chaque algorithme dans un processus du pool.
+
+    Retour
+    ------
+    list[dict]
+        Les métriques moyennes des algorithmes, dans le même ordre que dans le fichier de configuration
+    """
+    futures = {executor.submit(executer_algo, algo, donnees["algos"][algo], donnees["processus"], donnees["ressources"], donnees["mode"]) : algo
+               for algo in donnees["algos"]}
+    for f in as_completed(futures):
+        f.result() #Une erreur dans un algo est relancée immédiatement
+        print(f"Algorithme terminé : {futures[f]}", flush=True)
+    return [f.result() for f in futures] #Même ordre que dans le fichier de configuration
+
+
+class FluxTrame:
+    """
+    Flux texte qui écrit chaque ligne reçue sur la vraie sortie standard, précédée d'une étiquette.
+    Utilisé en mode serveur pour que Java distingue la sortie, les erreurs et la fin de chaque demande
+    sur un seul flux (l'ordre des lignes est ainsi conservé).
+    """
+
+    def __init__(self, etiquette : str, sortie):
+        self.etiquette = etiquette
+        self.sortie = sortie
+        self.ligne_en_cours = ""
+
+    def write(self, texte : str) -> int:
+        self.ligne_en_cours += texte
+        *lignes, self.ligne_en_cours = self.ligne_en_cours.split("\n")
+        for ligne in lignes:
+            self.sortie.write(f"{self.etiquette} {ligne}\n")
+        if lignes:
+            self.sortie.flush()
+        return len(texte)
+
+    def flush(self):
+        if self.ligne_en_cours:
+            self.write("\n")
+        self.sortie.flush()
+
+
+def code_sortie(e : SystemExit) -> int:
+    """
+    Convertit le code d'un sys.exit() en code de retour (comme le ferait l'interpréteur).
+    """
+    if e.code is None:
+        return 0
+    if isinstance(e.code, int):
+        return e.code
+    print(e.code, file=sys.stderr) #sys.exit("message") : le message est une erreur
+    return 1
+
+
+def serveur():
+    """
+    Mode serveur : le programme reste lancé et exécute les demandes les unes après les autres,
+    ce qui évite de payer le démarrage de l'interpréteur et l'import des modules à chaque exécution.
+    Le pool de processus utilisé pour paralléliser les algos est également conservé.
+
+    Protocole (une ligne par trame, encodée en UTF-8) :
+    - demande, sur l'entrée standard : {"config": "chemin/du/fichier/config.json"}
+    - réponse, sur la sortie standard :
+        "L <texte>" pour une ligne de sortie,
+        "E <texte>" pour une ligne d'erreur,
+        "F <code>" à la fin de la demande (0 si elle a réussi, le code de sys.exit() sinon).
+    Le serveur s'arrête lorsque l'entrée standard est fermée.
+    """
+    sortie = sys.stdout
+    sys.stdout = FluxTrame("L", sortie)
+    sys.stderr = FluxTrame("E", sortie)
+    executor = None
+
+    while True:
+        demande = sys.stdin.readline()
+        if not demande: #Entrée standard fermée : arrêt du serveur
+            break
+        if not demande.strip():
+            continue
+        try:
+            if executor is None:
+                executor = ProcessPoolExecutor(max_workers=os.cpu_count() or 1)
+            ordonnancer(Path(json.loads(demande)["config"]), executor)
+            code = 0
+        except SystemExit as e:
+            code = code_sortie(e)
+        except BrokenProcessPool as e: #Un worker du pool a été tué : nouveau pool à la prochaine demande
+            print("Erreur inattendue lors de l'exécution du programme.", e, file=sys.stderr)
+            executor = None
+            code = 99
+        except Exception as e:
+            print("Erreur inattendue lors de l'exécution du programme.", e, file=sys.stderr)
+            code = 99
+        sys.stdout.flush()
+        sys.stderr.flush()
+        sortie.write(f"F {code}\n")
+        sortie.flush()
 
-            #Vérification de la correspondance du nom de l'algo, pour l'executer
-            match algo.strip().upper():  #Enlever espaces et forcer les majuscules sur le nom d'algo
-                case "ROUND ROBIN":
-                    #On exécute le round robin (passage en params des paramètres de l'algo : chemins fichiers sortie et Quantum)
-                    #Récupération de ses métriques (moyennes)
-                    metriques_round_robin = Algos.roundRobin.round_robin(donnees["algos"][algo], donnees["processus"], donnees["ressources"]) 
-                    metriques_moyennes.append(metriques_round_robin)
-                case "FIFO":
-                    #On exécute le fifo (passage en params des paramètres de l'algo : chemins fichiers sortie
-                    #Récupération de ses métriques (moyennes)
-                    metriques_fifo = Algos.fifo.fifo(
-                    donnees["algos"][algo],
-                    donnees["processus"],
-                    donnees["ressources"])
-                    metriques_moyennes.append(metriques_fifo)
-
-                case "PRIORITE":
-                    metrique_priorite = Algos.priorite.priorite(
-                    donnees["algos"][algo],
-                    donnees["processus"],
-                    donnees["ressources"]
-                    )
-                    metriques_moyennes.append(metrique_priorite)
-                    
-                case _:
-                    print("Algo inconnu : ",algo, file=sys.stderr)
-                    sys.exit(3)
-        #Affichage des métriques moyennes
-        print("Métriques globales pour les différents algorithmes :")
-        print("----------------------------------------------------")
-        for m in metriques_moyennes:
-           print(f"- {m['algo']} | Temps d'attente moyen : {m['tempsAttenteMoyen']} | Temps reponse moyen : {m['tempsReponseMoyen']} | Makespan : {m['makespan']}")   
-
-        ManipulationFichiers.Writing.writing.enregistrerMetriques(donnees["metriques"],metriques_moyennes)
+    if executor is not None:
+        executor.shutdown()
 
 #Début du programme
 if __name__ == "__main__":
@@ -0,0 +1,94 @@
+package com.ordonnancement.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.ModeSimulation;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Ressources;
+import com.ordonnancement.service.engine.simulation.Simulation;
+import com.ordonnancement.service.engine.simulation.SimulationPriorite;
+import com.ordonnancement.service.engine.simulation.SimulationRoundRobin;
+
+/**
+ * Benchmarks de l'allocation des CPU sous contrainte de mémoire dans le moteur Java :
+ * recherche du premier processus admissible par l'index d'admission ou par parcours de la file.
+ *
+ * La RAM totale ne permet d'exécuter qu'une petite partie des processus en attente :
+ * la file s'allonge et la plupart des processus ne tiennent pas dans la RAM restante.
+ * Les données sont identiques d'un essai à l'autre (graine fixe).
+ * @author ROMA Quentin
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class AdmissionBenchmark {
+
+    private static final int NB_PROCESSEURS = 64;
+    private static final int RAM_TOTALE = 16_384;
+    private static final long GRAINE = 42;
+
+    @Param({"10000", "100000"})
+    public int nombreProcessus;
+
+    @Param({"PRIORITE", "ROUND ROBIN"})
+    public String algo;
+
+    @Param({"true", "false"})
+    public boolean admissionIndexee;
+
+    @Param({"EVENEMENTIEL"})
+    public ModeSimulation mode;
+
+    private Ressources ressources;
+    private List<Process> processus;
+
+    /**
+     * Génère les processus : arrivées en rafale, besoins en RAM de 256 à 8192.
+     */
+    @Setup(Level.Trial)
+    public void generer() {
+        List<String> processeurs = new ArrayList<>();
+        for (int i = 1; i <= NB_PROCESSEURS; i++) {
+            processeurs.add("CPU" + i);
+        }
+        ressources = new Ressources(processeurs, RAM_TOTALE);
+
+        SplittableRandom random = new SplittableRandom(GRAINE);
+        processus = new ArrayList<>(nombreProcessus);
+        for (int i = 0; i < nombreProcessus; i++) {
+            int soumission = i / 50; //50 arrivées par unité de temps
+            int duree = 1 + random.nextInt(20);
+            int ram = 256 * (1 + random.nextInt(32));
+            processus.add(new Process("P" + (i + 1), soumission, duree, ram, soumission + 10 * duree, random.nextInt(10)));
+        }
+    }
+
+    @Benchmark
+    public Metrics simuler() {
+        Simulation simulation = "PRIORITE".equals(algo)
+                ? new SimulationPriorite(ressources)
+                : new SimulationRoundRobin(ressources, 4);
+        simulation.setAdmissionIndexee(admissionIndexee);
+        return simulation.executer(processus, algo, mode);
+    }
+}
@@ -0,0 +1,114 @@
+package com.ordonnancement.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Fichiers d'entrée des benchmarks, générés une fois par essai dans un dossier temporaire :
+ * processus initiaux, résultats globaux et détaillés d'un ordonnancement cohérent
+ * (accepté par ProcessValidator) et métriques globales.
+ *
+ * Chaque processus est exécuté en deux allocations sur l'un des {@value #NB_PROCESSEURS} processeurs :
+ * le fichier des résultats détaillés contient donc environ deux fois plus de lignes que de processus.
+ * Les données sont identiques d'un essai à l'autre (graine fixe).
+ * @author ROMA Quentin
+ */
+@State(Scope.Benchmark)
+public class DonneesBenchmark {
+
+    public static final String ALGO = "ROUND ROBIN"; //Nom de l'algorithme des résultats générés
+    private static final int NB_PROCESSEURS = 8;
+    private static final long GRAINE = 42;
+
+    /**
+     * Nombre de processus (lignes du fichier des processus, des résultats globaux et des métriques).
+     * Les benchmarks sont lancés avec -Xmx4g : pour 10M lignes, il faut un tas plus grand
+     * (par exemple -Djmh.args="-prof gc -jvmArgsAppend -Xmx12g").
+     */
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int lignes;
+
+    public Path dossier; //Dossier temporaire des fichiers générés
+    public String fichierProcessus;
+    public String fichierResultatsGlobaux;
+    public String fichierResultatsDetailles;
+    public String fichierMetriques;
+
+    /**
+     * Génère les fichiers de l'essai.
+     * @throws IOException si l'écriture échoue
+     */
+    @Setup(Level.Trial)
+    public void generer() throws IOException {
+        dossier = Files.createTempDirectory("ordonnancement-jmh");
+        fichierProcessus = dossier.resolve("processusInitiaux.csv").toString();
+        fichierResultatsGlobaux = dossier.resolve("rGlobaux.csv").toString();
+        fichierResultatsDetailles = dossier.resolve("rDetailled.csv").toString();
+        fichierMetriques = dossier.resolve("MetriquesGlobales.csv").toString();
+
+        SplittableRandom random = new SplittableRandom(GRAINE);
+        int[] finProcesseurs = new int[NB_PROCESSEURS]; //Date à laquelle chaque processeur se libère
+        try (BufferedWriter processus = Files.newBufferedWriter(Path.of(fichierProcessus));
+             BufferedWriter globaux = Files.newBufferedWriter(Path.of(fichierResultatsGlobaux));
+             BufferedWriter detailles = Files.newBufferedWriter(Path.of(fichierResultatsDetailles))) {
+
+            processus.write("idProcessus,dateSoumission,tempsExecution,requiredRam,deadline,priority\n");
+            globaux.write("idProcessus,dateSoumission,dateDebut,dateFin,requiredRam,usedRam\n");
+            detailles.write("idProcessus,dateDebut,dateFin,idProcesseur\n");
+
+            for (int i = 0; i < lignes; i++) {
+                String id = "P" + (i + 1);
+                int soumission = i / NB_PROCESSEURS;
+                int duree = 2 + random.nextInt(20);
+                int ram = 256 * (1 + random.nextInt(16));
+                int cpu = i % NB_PROCESSEURS;
+
+                //Deux allocations consécutives sur le même processeur
+                int debut = Math.max(soumission, finProcesseurs[cpu]);
+                int milieu = debut + duree / 2;
+                int fin = debut + duree;
+                finProcesseurs[cpu] = fin;
+
+                processus.write(id + "," + soumission + "," + duree + "," + ram + "," + (fin + random.nextInt(50)) + ","
+                        + random.nextInt(10) + "\n");
+                globaux.write(id + "," + soumission + "," + debut + "," + fin + "," + ram + "," + ram + "\n");
+                String processeur = "CPU" + (cpu + 1);
+                detailles.write(id + "," + debut + "," + milieu + "," + processeur + "\n");
+                detailles.write(id + "," + milieu + "," + fin + "," + processeur + "\n");
+            }
+        }
+
+        try (BufferedWriter metriques = Files.newBufferedWriter(Path.of(fichierMetriques))) {
+            metriques.write("algo,tempsAttenteMoyen,tempsReponseMoyen,makespan\n");
+            for (int i = 0; i < lignes; i++) {
+                metriques.write("ALGO" + i + "," + random.nextDouble() * 100 + "," + random.nextDouble() * 100 + ","
+                        + random.nextInt(100_000) + "\n");
+            }
+        }
+    }
+
+    /**
+     * Supprime les fichiers de l'essai.
+     * @throws IOException si la suppression échoue
+     */
+    @TearDown(Level.Trial)
+    public void supprimer() throws IOException {
+        try (Stream<Path> fichiers = Files.walk(dossier)) {
+            for (Path fichier : (Iterable<Path>) fichiers.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(fichier);
+            }
+        }
+    }
+}
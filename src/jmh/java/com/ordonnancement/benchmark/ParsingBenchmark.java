@@ -0,0 +1,72 @@
+package com.ordonnancement.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.parser.metrics.MetricsParser;
+import com.ordonnancement.service.parser.process.DetailedResultProcessParser;
+import com.ordonnancement.service.parser.process.GlobalResultProcessParser;
+import com.ordonnancement.service.parser.process.InitialProcessParser;
+
+/**
+ * Benchmarks des parsers utilisés à chaque exécution pour charger les résultats.
+ * Le débit est exprimé en opérations (fichiers entiers lus) par seconde ;
+ * avec -prof gc, JMH indique aussi le volume alloué par opération (gc.alloc.rate.norm).
+ * @author ROMA Quentin
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParsingBenchmark {
+
+    /**
+     * Processus initiaux déjà lus, mis à jour par les parsers de résultats.
+     */
+    @State(Scope.Benchmark)
+    public static class ProcessusLus {
+        public List<Process> processus;
+
+        @Setup(Level.Trial)
+        public void lire(DonneesBenchmark donnees) {
+            processus = new InitialProcessParser().parse(donnees.fichierProcessus);
+            //Les résultats détaillés sont validés avec les dates globales de chaque processus
+            new GlobalResultProcessParser(processus).parse(donnees.fichierResultatsGlobaux, DonneesBenchmark.ALGO);
+        }
+    }
+
+    @Benchmark
+    public List<Process> processusInitiaux(DonneesBenchmark donnees) {
+        return new InitialProcessParser().parse(donnees.fichierProcessus);
+    }
+
+    @Benchmark
+    public List<Process> resultatsGlobaux(DonneesBenchmark donnees, ProcessusLus lus) {
+        return new GlobalResultProcessParser(lus.processus).parse(donnees.fichierResultatsGlobaux, DonneesBenchmark.ALGO);
+    }
+
+    @Benchmark
+    public List<Process> resultatsDetailles(DonneesBenchmark donnees, ProcessusLus lus) {
+        return new DetailedResultProcessParser(lus.processus).parse(donnees.fichierResultatsDetailles, DonneesBenchmark.ALGO);
+    }
+
+    @Benchmark
+    public List<Metrics> metriques(DonneesBenchmark donnees) {
+        return new MetricsParser().parse(donnees.fichierMetriques);
+    }
+}
@@ -0,0 +1,70 @@
+package com.ordonnancement.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ordonnancement.model.Allocation;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.parser.process.DetailedResultProcessParser;
+import com.ordonnancement.service.parser.process.GlobalResultProcessParser;
+import com.ordonnancement.service.parser.process.InitialProcessParser;
+import com.ordonnancement.service.validation.ResultatsValidator;
+import com.ordonnancement.util.ProcessUtils;
+
+/**
+ * Benchmarks de la validation des résultats et de la récupération des allocations,
+ * sur des résultats entièrement chargés.
+ * @author ROMA Quentin
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ValidationBenchmark {
+
+    /**
+     * Processus avec les résultats globaux et détaillés de l'algorithme.
+     */
+    @State(Scope.Benchmark)
+    public static class ResultatsCharges {
+        public List<Process> processus;
+
+        @Setup(Level.Trial)
+        public void charger(DonneesBenchmark donnees) {
+            processus = new InitialProcessParser().parse(donnees.fichierProcessus);
+            new GlobalResultProcessParser(processus).parse(donnees.fichierResultatsGlobaux, DonneesBenchmark.ALGO);
+            new DetailedResultProcessParser(processus).parse(donnees.fichierResultatsDetailles, DonneesBenchmark.ALGO);
+        }
+    }
+
+    @Benchmark
+    public void validerResultats(ResultatsCharges resultats) {
+        ResultatsValidator.valider(resultats.processus, DonneesBenchmark.ALGO);
+    }
+
+    @Benchmark
+    public List<Allocation> allocationsDeTousLesProcessus(ResultatsCharges resultats) {
+        return ProcessUtils.getAllocations(resultats.processus, DonneesBenchmark.ALGO);
+    }
+
+    @Benchmark
+    public void allocationsParProcessus(ResultatsCharges resultats, Blackhole blackhole) {
+        for (Process p : resultats.processus) {
+            blackhole.consume(ProcessUtils.getAllocations(p, DonneesBenchmark.ALGO));
+        }
+    }
+}
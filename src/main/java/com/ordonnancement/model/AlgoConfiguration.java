@@ -11,7 +11,8 @@ public class AlgoConfiguration {
     private final String fichierResultatsDetailles; //Chemin du fichier des résultats détaillés de cet algo
     private final String fichierResultatsGlobaux;//Chemin du fichier des résultats globaux de cet algo
     private final Integer quantum; //null si non nécessaire pour l'algorithme
-    
+    private final FormatResultats formatResultats; //Format des fichiers de résultats écrits par python
+
     /**
      * Constructeur pour configurer un algorithme d'ordonnancement
      * @param nomAlgorithme : Le nom de l'algorithme d'ordonnancement
@@ -20,6 +21,18 @@ public class AlgoConfiguration {
      * @param quantum
      */
     public AlgoConfiguration(String nomAlgorithme, String fichierResultatsDetailles, String fichierResultatsGlobaux, Integer quantum) {
+        this(nomAlgorithme, fichierResultatsDetailles, fichierResultatsGlobaux, quantum, FormatResultats.CSV);
+    }
+
+    /**
+     * Constructeur permettant en plus de choisir le format des fichiers de résultats
+     * @param nomAlgorithme : Le nom de l'algorithme d'ordonnancement
+     * @param fichierResultatsDetailles : Le chemin du fichier des résultats détaillés de l'algo
+     * @param fichierResultatsGlobaux : Le chemin du fichier des résultats globaux de l'algo
+     * @param quantum
+     * @param formatResultats : Le format des fichiers de résultats (CSV ou binaire)
+     */
+    public AlgoConfiguration(String nomAlgorithme, String fichierResultatsDetailles, String fichierResultatsGlobaux, Integer quantum, FormatResultats formatResultats) {
         //Vérifications de sécurité sur les paramètres
         if (nomAlgorithme == null || nomAlgorithme.isBlank()){
             throw new IllegalArgumentException("Le nom de l'algorithme est obligatoire.");
@@ -33,11 +46,15 @@ public class AlgoConfiguration {
         if(quantum!= null && quantum <= 0){
             throw new IllegalArgumentException("Un quantum peut etre null s'il n'y en a pas, sinon il doit être supérieur ou égal à 1.");
         }
+        if (formatResultats == null) {
+            throw new IllegalArgumentException("Le format des résultats doit être renseigné pour " + nomAlgorithme);
+        }
 
         this.nomAlgorithme = nomAlgorithme.trim();
         this.fichierResultatsDetailles = fichierResultatsDetailles.trim();
         this.fichierResultatsGlobaux = fichierResultatsGlobaux.trim();
         this.quantum = quantum;
+        this.formatResultats = formatResultats;
     }
 
     /**
@@ -73,6 +90,14 @@ public class AlgoConfiguration {
     public Integer getQuantum() {
         return quantum;
     }
+    /**
+     * Renvoie le format des fichiers de résultats de l'algorithme.
+     *
+     * @return le format des résultats
+     */
+    public FormatResultats getFormatResultats() {
+        return formatResultats;
+    }
   
 
 }
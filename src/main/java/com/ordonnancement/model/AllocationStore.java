@@ -0,0 +1,464 @@
+package com.ordonnancement.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stockage en colonnes des allocations processeur d'un algorithme d'ordonnancement.
+ * Chaque allocation est une ligne répartie dans quatre tableaux d'entiers
+ * (date de début, date de fin, indice du processus, indice du processeur) ;
+ * les processus et les identifiants de processeurs sont encodés dans des dictionnaires.
+ *
+ * Aucun objet n'est créé par allocation : les objets Allocation ne sont construits
+ * qu'à la lecture, au travers des vues renvoyées par {@link #getVue(Process)}.
+ *
+ * L'ajout n'est pas thread-safe (un store est rempli par un seul thread : parser ou simulation) ;
+ * la lecture, une fois le remplissage terminé, peut être faite depuis plusieurs threads.
+ * @author ROMA Quentin
+ */
+public class AllocationStore {
+
+    private static final int CAPACITE_INITIALE = 64;
+
+    private int[] debuts; //Date de début de chaque allocation
+    private int[] fins; //Date de fin de chaque allocation
+    private int[] indicesProcessus; //Indice du processus (dans le dictionnaire des processus)
+    private int[] indicesProcesseur; //Indice du processeur (dans le dictionnaire des processeurs)
+    private int taille = 0; //Nombre d'allocations
+
+    private final List<Process> processus = new ArrayList<>(); //Dictionnaire indice -> processus
+    private final Map<Process, Integer> indexProcessus = new IdentityHashMap<>(); //Dictionnaire processus -> indice
+    private final List<String> processeurs = new ArrayList<>(); //Dictionnaire indice -> identifiant de processeur
+    private final Map<String, Integer> indexProcesseurs = new HashMap<>(); //Dictionnaire identifiant -> indice
+
+    private int[] debutGroupes; //Première ligne de chaque processus une fois les lignes regroupées
+    private volatile boolean regroupe = true; //Les lignes sont-elles regroupées par processus ?
+
+    //Index d'intervalles construits à la demande (invalidés à chaque ajout)
+    private IndexIntervalles index; //Index de toutes les allocations
+    private IndexIntervalles[] indexParProcesseur; //Index des allocations de chaque processeur
+    private IndexIntervalles[] indexParProcessus; //Index des allocations de chaque processus
+
+    /**
+     * Constructeur
+     */
+    public AllocationStore() {
+        this(CAPACITE_INITIALE);
+    }
+
+    /**
+     * Constructeur avec capacité initiale
+     * @param capacite : le nombre d'allocations attendu
+     */
+    public AllocationStore(int capacite) {
+        int c = Math.max(capacite, 1);
+        this.debuts = new int[c];
+        this.fins = new int[c];
+        this.indicesProcessus = new int[c];
+        this.indicesProcesseur = new int[c];
+        this.debutGroupes = new int[1];
+    }
+
+    /**
+     * Ajoute une allocation au store.
+     * @param p : le processus exécuté
+     * @param idProcesseur : le processeur alloué
+     * @param dateDebut : la date de début de l'allocation
+     * @param dateFin : la date de fin de l'allocation
+     */
+    public void ajouter(Process p, String idProcesseur, int dateDebut, int dateFin) {
+        if (taille == debuts.length) {
+            agrandir();
+        }
+        debuts[taille] = dateDebut;
+        fins[taille] = dateFin;
+        indicesProcessus[taille] = indexer(p);
+        indicesProcesseur[taille] = indexerProcesseur(idProcesseur);
+        taille++;
+        regroupe = false;
+        invaliderIndex();
+    }
+
+    /**
+     * Enregistre un processus dans le dictionnaire, même s'il n'a aucune allocation.
+     * @param p : le processus
+     * @return l'indice du processus dans le store
+     */
+    public int indexer(Process p) {
+        Integer indice = indexProcessus.get(p);
+        if (indice == null) {
+            indice = processus.size();
+            processus.add(p);
+            indexProcessus.put(p, indice);
+            regroupe = false;
+            invaliderIndex();
+        }
+        return indice;
+    }
+
+    /**
+     * Renvoie le nombre d'allocations du store.
+     * @return le nombre d'allocations
+     */
+    public int taille() {
+        return taille;
+    }
+
+    /**
+     * Renvoie le nombre de processus enregistrés dans le store.
+     * @return le nombre de processus
+     */
+    public int nombreProcessus() {
+        return processus.size();
+    }
+
+    /**
+     * Renvoie la date de début d'une allocation.
+     * @param ligne : l'indice de l'allocation
+     * @return la date de début
+     */
+    public int getDateDebut(int ligne) {
+        regrouper();
+        return debuts[ligne];
+    }
+
+    /**
+     * Renvoie la date de fin d'une allocation.
+     * @param ligne : l'indice de l'allocation
+     * @return la date de fin
+     */
+    public int getDateFin(int ligne) {
+        regrouper();
+        return fins[ligne];
+    }
+
+    /**
+     * Renvoie le processus d'une allocation.
+     * @param ligne : l'indice de l'allocation
+     * @return le processus
+     */
+    public Process getProcessus(int ligne) {
+        regrouper();
+        return processus.get(indicesProcessus[ligne]);
+    }
+
+    /**
+     * Renvoie l'identifiant du processeur d'une allocation.
+     * @param ligne : l'indice de l'allocation
+     * @return l'identifiant du processeur
+     */
+    public String getProcesseur(int ligne) {
+        regrouper();
+        return processeurs.get(indicesProcesseur[ligne]);
+    }
+
+    /**
+     * Renvoie l'indice du processus d'une allocation (les lignes d'un même processus sont contiguës).
+     * @param ligne : l'indice de l'allocation
+     * @return l'indice du processus dans le store
+     */
+    public int getIndiceProcessus(int ligne) {
+        regrouper();
+        return indicesProcessus[ligne];
+    }
+
+    /**
+     * Renvoie l'indice du processeur d'une allocation, dans l'ordre de {@link #getProcesseurs()}.
+     * @param ligne : l'indice de l'allocation
+     * @return l'indice du processeur
+     */
+    public int getIndiceProcesseur(int ligne) {
+        regrouper();
+        return indicesProcesseur[ligne];
+    }
+
+    /**
+     * Construit l'objet Allocation correspondant à une ligne.
+     * @param ligne : l'indice de l'allocation
+     * @return une nouvelle Allocation
+     */
+    public Allocation getAllocation(int ligne) {
+        regrouper();
+        return new Allocation(processus.get(indicesProcessus[ligne]), processeurs.get(indicesProcesseur[ligne]),
+                debuts[ligne], fins[ligne]);
+    }
+
+    /**
+     * Renvoie la liste des processeurs utilisés, dans l'ordre de première apparition.
+     * @return les identifiants de processeurs
+     */
+    public List<String> getProcesseurs() {
+        return new ArrayList<>(processeurs);
+    }
+
+    /**
+     * Renvoie la date de fin maximale des allocations.
+     * @return la date de fin maximale (0 si aucune allocation)
+     */
+    public int getDateFinMax() {
+        int max = 0;
+        for (int i = 0; i < taille; i++) {
+            if (fins[i] > max) {
+                max = fins[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Renvoie l'index d'intervalles de toutes les allocations du store.
+     * Les éléments renvoyés par l'index sont des indices de lignes du store.
+     * @return l'index (construit au premier appel)
+     */
+    public synchronized IndexIntervalles getIndex() {
+        regrouper();
+        if (index == null) {
+            index = new IndexIntervalles(debuts, fins, taille);
+        }
+        return index;
+    }
+
+    /**
+     * Renvoie l'index d'intervalles des allocations d'un processeur.
+     * @param idProcesseur : l'identifiant du processeur
+     * @return l'index (vide si le processeur n'a aucune allocation)
+     */
+    public synchronized IndexIntervalles getIndexProcesseur(String idProcesseur) {
+        regrouper();
+        if (indexParProcesseur == null) {
+            //Répartition des lignes par processeur en une passe
+            int nbProcesseurs = processeurs.size();
+            int[] compte = new int[nbProcesseurs];
+            for (int i = 0; i < taille; i++) {
+                compte[indicesProcesseur[i]]++;
+            }
+            int[][] lignes = new int[nbProcesseurs][];
+            for (int k = 0; k < nbProcesseurs; k++) {
+                lignes[k] = new int[compte[k]];
+                compte[k] = 0;
+            }
+            for (int i = 0; i < taille; i++) {
+                int k = indicesProcesseur[i];
+                lignes[k][compte[k]++] = i;
+            }
+            indexParProcesseur = new IndexIntervalles[nbProcesseurs];
+            for (int k = 0; k < nbProcesseurs; k++) {
+                indexParProcesseur[k] = new IndexIntervalles(debuts, fins, lignes[k]);
+            }
+        }
+        Integer k = indexProcesseurs.get(idProcesseur);
+        return k == null ? new IndexIntervalles(debuts, fins, 0) : indexParProcesseur[k];
+    }
+
+    /**
+     * Renvoie l'index d'intervalles des allocations d'un processus.
+     * @param p : le processus
+     * @return l'index (vide si le processus n'a aucune allocation)
+     */
+    public synchronized IndexIntervalles getIndexProcessus(Process p) {
+        regrouper();
+        Integer k = indexProcessus.get(p);
+        if (k == null) {
+            return new IndexIntervalles(debuts, fins, 0);
+        }
+        if (indexParProcessus == null) {
+            indexParProcessus = new IndexIntervalles[processus.size()];
+        }
+        if (indexParProcessus[k] == null) {
+            //Les lignes du processus sont contiguës une fois regroupées
+            int[] lignes = new int[debutGroupes[k + 1] - debutGroupes[k]];
+            for (int i = 0; i < lignes.length; i++) {
+                lignes[i] = debutGroupes[k] + i;
+            }
+            indexParProcessus[k] = new IndexIntervalles(debuts, fins, lignes);
+        }
+        return indexParProcessus[k];
+    }
+
+    /**
+     * Renvoie les indices des allocations qui chevauchent la fenêtre [t0, t1].
+     * @param t0 : le début de la fenêtre
+     * @param t1 : la fin de la fenêtre
+     * @return les indices de lignes, par date de début croissante
+     * @see IndexIntervalles#chercher(int, int)
+     */
+    public int[] chercher(int t0, int t1) {
+        return getIndex().chercher(t0, t1);
+    }
+
+    /**
+     * Renvoie la vue des allocations d'un processus.
+     * La vue lit directement les colonnes du store : elle ne copie aucune donnée.
+     * @param p : le processus
+     * @return la liste (non modifiable) des allocations du processus
+     */
+    public VueProcessus getVue(Process p) {
+        return new VueProcessus(indexer(p));
+    }
+
+    /**
+     * Ajuste les tableaux à la taille réelle, puis associe à chaque processus
+     * du store sa vue pour l'algorithme donné.
+     * @param nomAlgo : le nom de l'algorithme
+     */
+    public void attacher(String nomAlgo) {
+        compacter();
+        for (Process p : processus) {
+            p.setAllocations(nomAlgo, getVue(p));
+        }
+    }
+
+    /**
+     * Libère la capacité inutilisée des colonnes.
+     */
+    public synchronized void compacter() {
+        regrouper();
+        if (debuts.length != taille) {
+            debuts = Arrays.copyOf(debuts, taille);
+            fins = Arrays.copyOf(fins, taille);
+            indicesProcessus = Arrays.copyOf(indicesProcessus, taille);
+            indicesProcesseur = Arrays.copyOf(indicesProcesseur, taille);
+        }
+    }
+
+    /**
+     * Construit un store à partir de listes d'allocations existantes.
+     * @param listeProcessus : les processus
+     * @param nomAlgo : le nom de l'algorithme
+     * @return le store contenant toutes les allocations des processus pour cet algo
+     */
+    public static AllocationStore depuis(List<Process> listeProcessus, String nomAlgo) {
+        AllocationStore store = new AllocationStore();
+        for (Process p : listeProcessus) {
+            List<Allocation> allocations = p.getAllocations(nomAlgo);
+            if (allocations == null) {
+                continue;
+            }
+            for (Allocation a : allocations) {
+                store.ajouter(a.getProcessus(), a.getProcessor(), a.getDateDebutExecution(), a.getDateFinExecution());
+            }
+        }
+        return store;
+    }
+
+    /**
+     * Oublie les index d'intervalles déjà construits.
+     */
+    private void invaliderIndex() {
+        index = null;
+        indexParProcesseur = null;
+        indexParProcessus = null;
+    }
+
+    /**
+     * Double la capacité des colonnes.
+     */
+    private void agrandir() {
+        int capacite = Math.max(debuts.length * 2, CAPACITE_INITIALE);
+        debuts = Arrays.copyOf(debuts, capacite);
+        fins = Arrays.copyOf(fins, capacite);
+        indicesProcessus = Arrays.copyOf(indicesProcessus, capacite);
+        indicesProcesseur = Arrays.copyOf(indicesProcesseur, capacite);
+    }
+
+    /**
+     * Renvoie l'indice d'un processeur, en l'ajoutant au dictionnaire si besoin.
+     * @param idProcesseur : l'identifiant du processeur
+     * @return l'indice du processeur
+     */
+    private int indexerProcesseur(String idProcesseur) {
+        Integer indice = indexProcesseurs.get(idProcesseur);
+        if (indice == null) {
+            indice = processeurs.size();
+            processeurs.add(idProcesseur);
+            indexProcesseurs.put(idProcesseur, indice);
+        }
+        return indice;
+    }
+
+    /**
+     * Regroupe les lignes par processus (tri stable, par comptage),
+     * pour que les allocations d'un processus soient contiguës.
+     * L'ordre des allocations d'un même processus est conservé.
+     */
+    private void regrouper() {
+        if (regroupe) {
+            return;
+        }
+        synchronized (this) {
+            if (regroupe) {
+                return;
+            }
+            int nbProcessus = processus.size();
+            int[] groupes = new int[nbProcessus + 1];
+            for (int i = 0; i < taille; i++) {
+                groupes[indicesProcessus[i] + 1]++;
+            }
+            for (int k = 0; k < nbProcessus; k++) {
+                groupes[k + 1] += groupes[k];
+            }
+            int[] position = Arrays.copyOf(groupes, nbProcessus);
+            int[] nouveauxDebuts = new int[debuts.length];
+            int[] nouvellesFins = new int[debuts.length];
+            int[] nouveauxProcesseurs = new int[debuts.length];
+            for (int i = 0; i < taille; i++) {
+                int cible = position[indicesProcessus[i]]++;
+                nouveauxDebuts[cible] = debuts[i];
+                nouvellesFins[cible] = fins[i];
+                nouveauxProcesseurs[cible] = indicesProcesseur[i];
+            }
+            for (int k = 0; k < nbProcessus; k++) {
+                Arrays.fill(indicesProcessus, groupes[k], groupes[k + 1], k);
+            }
+            debuts = nouveauxDebuts;
+            fins = nouvellesFins;
+            indicesProcesseur = nouveauxProcesseurs;
+            debutGroupes = groupes;
+            regroupe = true;
+        }
+    }
+
+    /**
+     * Vue en lecture seule sur les allocations d'un processus du store.
+     */
+    public class VueProcessus extends AbstractList<Allocation> {
+
+        private final int indice; //Indice du processus dans le store
+
+        /**
+         * Constructeur
+         * @param indice : l'indice du processus dans le store
+         */
+        private VueProcessus(int indice) {
+            this.indice = indice;
+        }
+
+        @Override
+        public Allocation get(int i) {
+            regrouper();
+            if (i < 0 || i >= size()) {
+                throw new IndexOutOfBoundsException("Indice " + i + " hors de la vue (taille " + size() + ")");
+            }
+            return getAllocation(debutGroupes[indice] + i);
+        }
+
+        @Override
+        public int size() {
+            regrouper();
+            return debutGroupes[indice + 1] - debutGroupes[indice];
+        }
+
+        /**
+         * Renvoie le store sur lequel porte la vue.
+         * @return le store
+         */
+        public AllocationStore getStore() {
+            return AllocationStore.this;
+        }
+    }
+}
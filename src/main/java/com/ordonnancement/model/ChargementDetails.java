@@ -0,0 +1,136 @@
+package com.ordonnancement.model;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Chargement différé des résultats détaillés (allocations processeur) d'un algorithme.
+ *
+ * Le chargement n'est réalisé qu'une seule fois : en arrière-plan lorsqu'il est demandé
+ * par {@link #demarrer()}, ou dans le thread appelant par {@link #attendre()} s'il n'a pas encore commencé.
+ * Les vues qui ont besoin des allocations s'abonnent au futur renvoyé par {@link #demarrer()}
+ * au lieu de bloquer le thread JavaFX.
+ * @author ROMA Quentin
+ */
+public class ChargementDetails {
+
+    //Threads des chargements en arrière-plan (un par algorithme en cours de chargement)
+    private static final ExecutorService ARRIERE_PLAN = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "ordonnancement-details");
+        thread.setDaemon(true); //Ne bloque pas la fermeture de l'application
+        return thread;
+    });
+
+    private final String nomAlgorithme;
+    private final Runnable chargement; //Lit les résultats détaillés et met à jour les processus
+    private final CompletableFuture<Void> termine = new CompletableFuture<>();
+    private final AtomicBoolean demarre = new AtomicBoolean(false);
+
+    /**
+     * Constructeur
+     * @param nomAlgorithme : le nom de l'algorithme
+     * @param chargement : le chargement des résultats détaillés, exécuté une seule fois
+     */
+    public ChargementDetails(String nomAlgorithme, Runnable chargement) {
+        this.nomAlgorithme = nomAlgorithme;
+        this.chargement = chargement;
+    }
+
+    /**
+     * Crée le chargement d'un algorithme dont les résultats détaillés sont déjà en mémoire.
+     *
+     * @param nomAlgorithme : le nom de l'algorithme
+     * @return un chargement déjà terminé
+     */
+    public static ChargementDetails termine(String nomAlgorithme) {
+        ChargementDetails chargement = new ChargementDetails(nomAlgorithme, () -> { });
+        chargement.demarre.set(true);
+        chargement.termine.complete(null);
+        return chargement;
+    }
+
+    /**
+     * Renvoie le nom de l'algorithme
+     * @return le nom de l'algorithme
+     */
+    public String getNomAlgorithme() {
+        return nomAlgorithme;
+    }
+
+    /**
+     * Lance le chargement en arrière-plan s'il n'a pas encore commencé.
+     *
+     * @return un futur terminé lorsque les résultats détaillés sont chargés et validés
+     *         (ou en échec avec l'erreur du chargement)
+     */
+    public CompletableFuture<Void> demarrer() {
+        if (demarre.compareAndSet(false, true)) {
+            ARRIERE_PLAN.execute(this::executer);
+        }
+        return futur();
+    }
+
+    /**
+     * Renvoie le futur du chargement, sans le lancer.
+     *
+     * @return un futur terminé lorsque le chargement l'est
+     */
+    public CompletableFuture<Void> futur() {
+        return termine.copy(); //Une copie : l'annulation par un appelant n'affecte pas le chargement
+    }
+
+    /**
+     * Attend la fin du chargement. S'il n'a pas encore commencé, il est réalisé dans le thread appelant
+     * (il peut alors être annulé en interrompant ce thread).
+     *
+     * @throws RuntimeException l'exception levée par le chargement (FileParsingException...)
+     * @throws CancellationException si le thread appelant est interrompu pendant l'attente
+     */
+    public void attendre() {
+        if (demarre.compareAndSet(false, true)) {
+            executer();
+        }
+        try {
+            termine.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            CancellationException annulation = new CancellationException("Chargement des résultats détaillés annulé : " + nomAlgorithme);
+            annulation.initCause(e);
+            throw annulation;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Indique si les résultats détaillés sont chargés (sans erreur).
+     *
+     * @return true si le chargement est terminé avec succès
+     */
+    public boolean isTermine() {
+        return termine.isDone() && !termine.isCompletedExceptionally();
+    }
+
+    /**
+     * Réalise le chargement et termine le futur avec son résultat.
+     */
+    private void executer() {
+        try {
+            chargement.run();
+            termine.complete(null);
+        } catch (Throwable erreur) {
+            termine.completeExceptionally(erreur);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.ordonnancement.model;
+
+import java.util.Arrays;
+
+/**
+ * Fonction en escalier du temps (nombre de processeurs occupés, RAM utilisée...).
+ * Elle est stockée par paliers dans des tableaux d'entiers : la valeur vaut valeurs[i] sur [dates[i], dates[i+1]),
+ * 0 avant la première date et valeurs[dernier] après la dernière.
+ *
+ * Les intégrales cumulées de chaque palier sont précalculées : l'intégrale (et donc la moyenne) sur un intervalle
+ * ne demande que la recherche des deux paliers des bornes et une soustraction, quelle que soit la longueur de l'intervalle.
+ * @author ROMA Quentin
+ */
+public class Chronologie {
+
+    private final int[] dates; //Début de chaque palier, strictement croissant
+    private final int[] valeurs; //Valeur de chaque palier
+    private final long[] cumuls; //Intégrale de la fonction avant le début de chaque palier
+    private final int max; //Valeur maximale
+
+    /**
+     * Constructeur
+     * @param dates : le début de chaque palier, strictement croissant
+     * @param valeurs : la valeur de chaque palier (même taille que dates)
+     * @throws IllegalArgumentException si les tableaux sont de tailles différentes ou si les dates ne sont pas croissantes
+     */
+    public Chronologie(int[] dates, int[] valeurs) {
+        if (dates.length != valeurs.length) {
+            throw new IllegalArgumentException("Une chronologie doit avoir une valeur par date.");
+        }
+        this.dates = dates.clone();
+        this.valeurs = valeurs.clone();
+        this.cumuls = new long[dates.length];
+        int maximum = 0;
+        for (int i = 0; i < dates.length; i++) {
+            if (i > 0) {
+                if (dates[i] <= dates[i - 1]) {
+                    throw new IllegalArgumentException("Les dates d'une chronologie doivent être strictement croissantes.");
+                }
+                cumuls[i] = cumuls[i - 1] + (long) valeurs[i - 1] * (dates[i] - dates[i - 1]);
+            }
+            maximum = Math.max(maximum, valeurs[i]);
+        }
+        this.max = maximum;
+    }
+
+    /**
+     * Renvoie la valeur à une date.
+     *
+     * @param date : la date
+     * @return la valeur du palier qui contient la date
+     */
+    public int getValeur(int date) {
+        int palier = palier(date);
+        return palier < 0 ? 0 : valeurs[palier];
+    }
+
+    /**
+     * Renvoie l'intégrale de la fonction sur [debut, fin) (par exemple le temps CPU consommé sur l'intervalle).
+     *
+     * @param debut : le début de l'intervalle
+     * @param fin : la fin de l'intervalle (exclue)
+     * @return l'intégrale
+     */
+    public long integrale(int debut, int fin) {
+        return primitive(fin) - primitive(debut);
+    }
+
+    /**
+     * Renvoie la valeur moyenne de la fonction sur [debut, fin).
+     *
+     * @param debut : le début de l'intervalle
+     * @param fin : la fin de l'intervalle (exclue)
+     * @return la moyenne (la valeur à la date de début si l'intervalle est vide)
+     */
+    public double moyenne(int debut, int fin) {
+        if (fin <= debut) {
+            return getValeur(debut);
+        }
+        return (double) integrale(debut, fin) / ((long) fin - debut);
+    }
+
+    /**
+     * Réduit la fonction à un nombre fixe de points, pour l'afficher : l'intervalle est découpé en tranches
+     * de même durée et chaque point est la moyenne de la fonction sur sa tranche (l'aire sous la courbe est conservée).
+     *
+     * @param debut : le début de l'intervalle
+     * @param fin : la fin de l'intervalle (exclue)
+     * @param nombrePoints : le nombre maximal de points
+     * @return la date de début de chaque tranche (colonne 0) et la moyenne sur la tranche (colonne 1)
+     */
+    public double[][] echantillonner(int debut, int fin, int nombrePoints) {
+        long duree = Math.max(0L, (long) fin - debut);
+        int n = (int) Math.max(1, Math.min(nombrePoints, duree)); //Pas de tranche plus courte qu'une unité de temps
+        double[][] points = new double[n][2];
+        for (int k = 0; k < n; k++) {
+            int debutTranche = (int) (debut + duree * k / n);
+            int finTranche = (int) (debut + duree * (k + 1) / n);
+            points[k][0] = debutTranche;
+            points[k][1] = moyenne(debutTranche, finTranche);
+        }
+        return points;
+    }
+
+    /**
+     * Renvoie la valeur maximale de la fonction.
+     *
+     * @return le maximum (0 si la chronologie est vide)
+     */
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * Renvoie le nombre de paliers.
+     *
+     * @return le nombre de paliers
+     */
+    public int getNombrePaliers() {
+        return dates.length;
+    }
+
+    /**
+     * Renvoie l'intégrale de la fonction avant une date.
+     */
+    private long primitive(int date) {
+        int palier = palier(date);
+        return palier < 0 ? 0 : cumuls[palier] + (long) valeurs[palier] * (date - dates[palier]);
+    }
+
+    /**
+     * Renvoie l'indice du palier qui contient une date (-1 avant le premier palier).
+     */
+    private int palier(int date) {
+        int position = Arrays.binarySearch(dates, date);
+        return position >= 0 ? position : -position - 2;
+    }
+
+    /**
+     * Construit une chronologie palier par palier, par dates croissantes.
+     * Plusieurs valeurs à la même date : seule la dernière est gardée ; deux paliers consécutifs de même valeur sont fusionnés.
+     */
+    public static final class Constructeur {
+
+        private int[] dates = new int[16];
+        private int[] valeurs = new int[16];
+        private int taille = 0;
+
+        /**
+         * Fixe la valeur de la fonction à partir d'une date.
+         *
+         * @param date : la date, supérieure ou égale à la précédente
+         * @param valeur : la valeur à partir de cette date
+         */
+        public void ajouter(int date, int valeur) {
+            if (taille > 0 && dates[taille - 1] == date) {
+                taille--; //Remplace la valeur fixée à la même date
+            }
+            if (taille > 0 && valeurs[taille - 1] == valeur) {
+                return; //Prolonge le palier précédent
+            }
+            if (taille == 0 && valeur == 0) {
+                return; //La fonction vaut déjà 0 avant le premier palier
+            }
+            if (taille == dates.length) {
+                dates = Arrays.copyOf(dates, taille * 2);
+                valeurs = Arrays.copyOf(valeurs, taille * 2);
+            }
+            dates[taille] = date;
+            valeurs[taille] = valeur;
+            taille++;
+        }
+
+        /**
+         * Construit la chronologie.
+         *
+         * @return la chronologie
+         */
+        public Chronologie construire() {
+            return new Chronologie(Arrays.copyOf(dates, taille), Arrays.copyOf(valeurs, taille));
+        }
+    }
+}
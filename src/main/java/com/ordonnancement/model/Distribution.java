@@ -0,0 +1,71 @@
+package com.ordonnancement.model;
+
+/**
+ * Résumé de la distribution d'une grandeur sur l'ensemble des processus
+ * (temps d'attente, temps de séjour...) : moyenne, quantiles et maximum.
+ * @author ROMA Quentin
+ */
+public class Distribution {
+
+    private final double moyenne;
+    private final double p50; //Médiane
+    private final double p90;
+    private final double p99;
+    private final double max;
+
+    /**
+     * Constructeur
+     * @param moyenne : la moyenne
+     * @param p50 : la médiane
+     * @param p90 : le 90ème centile
+     * @param p99 : le 99ème centile
+     * @param max : la valeur maximale
+     */
+    public Distribution(double moyenne, double p50, double p90, double p99, double max) {
+        this.moyenne = moyenne;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+    /**
+     * Renvoie la moyenne
+     * @return la moyenne
+     */
+    public double getMoyenne() {
+        return moyenne;
+    }
+
+    /**
+     * Renvoie la médiane (50 % des valeurs sont inférieures ou égales)
+     * @return la médiane
+     */
+    public double getP50() {
+        return p50;
+    }
+
+    /**
+     * Renvoie le 90ème centile (90 % des valeurs sont inférieures ou égales)
+     * @return le 90ème centile
+     */
+    public double getP90() {
+        return p90;
+    }
+
+    /**
+     * Renvoie le 99ème centile (99 % des valeurs sont inférieures ou égales)
+     * @return le 99ème centile
+     */
+    public double getP99() {
+        return p99;
+    }
+
+    /**
+     * Renvoie la valeur maximale
+     * @return le maximum
+     */
+    public double getMax() {
+        return max;
+    }
+}
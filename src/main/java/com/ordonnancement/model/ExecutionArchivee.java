@@ -0,0 +1,107 @@
+package com.ordonnancement.model;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Classe représentant une exécution enregistrée dans l'historique :
+ * seulement ses informations résumées (date, configuration, métriques globales).
+ * Les processus et leurs résultats restent sur disque jusqu'à ce que l'exécution soit rouverte.
+ * @author ROMA Quentin
+ */
+public class ExecutionArchivee {
+
+    private static final DateTimeFormatter FORMAT_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+
+    private final String id; //Identifiant de l'exécution dans l'historique
+    private final LocalDateTime date; //Date de l'exécution
+    private final FileConfiguration configuration; //La configuration exécutée
+    private final List<Metrics> metriques; //Les métriques globales de chaque algorithme
+    private final int nombreProcessus; //Le nombre de processus ordonnancés
+
+    /**
+     * Constructeur
+     * @param id : l'identifiant de l'exécution dans l'historique
+     * @param date : la date de l'exécution
+     * @param configuration : la configuration exécutée
+     * @param metriques : les métriques globales de chaque algorithme
+     * @param nombreProcessus : le nombre de processus ordonnancés
+     */
+    public ExecutionArchivee(String id, LocalDateTime date, FileConfiguration configuration, List<Metrics> metriques, int nombreProcessus) {
+        this.id = id;
+        this.date = date;
+        this.configuration = configuration;
+        this.metriques = List.copyOf(metriques);
+        this.nombreProcessus = nombreProcessus;
+    }
+
+    /**
+     * Renvoie l'identifiant de l'exécution dans l'historique.
+     *
+     * @return l'identifiant
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Renvoie la date de l'exécution.
+     *
+     * @return la date
+     */
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    /**
+     * Renvoie la configuration exécutée.
+     *
+     * @return la configuration
+     */
+    public FileConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Renvoie les métriques globales de chaque algorithme exécuté.
+     *
+     * @return la liste des métriques
+     */
+    public List<Metrics> getMetriques() {
+        return metriques;
+    }
+
+    /**
+     * Renvoie le nombre de processus ordonnancés.
+     *
+     * @return le nombre de processus
+     */
+    public int getNombreProcessus() {
+        return nombreProcessus;
+    }
+
+    /**
+     * Renvoie la description affichée de l'exécution : date, processus et algorithmes.
+     *
+     * @return le libellé
+     */
+    public String getLibelle() {
+        StringBuilder algos = new StringBuilder();
+        for (AlgoConfiguration algo : configuration.getListeAlgorithmes()) {
+            if (algos.length() > 0) {
+                algos.append(", ");
+            }
+            algos.append(algo.getNomAlgorithme());
+            if (algo.getQuantum() != null) {
+                algos.append(" (q=").append(algo.getQuantum()).append(")");
+            }
+        }
+        return date.format(FORMAT_DATE) + " - " + nombreProcessus + " processus - " + algos;
+    }
+
+    @Override
+    public String toString() {
+        return getLibelle();
+    }
+}
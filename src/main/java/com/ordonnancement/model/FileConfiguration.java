@@ -14,6 +14,8 @@ public class FileConfiguration {
     private final String fichierRessourcesDisponibles;
     private final String fichierMetriquesGlobales;
     private final List<AlgoConfiguration> listeAlgorithmes; //La liste des algorithmes d'ordonnancement qui seront utilisés
+    private final TypeMoteur moteur; //Le moteur utilisé pour exécuter les algorithmes
+    private final ModeSimulation modeSimulation; //La manière dont le temps avance pendant la simulation
 
     /**
      * Constructeur prenant en paramètres toutes les données nécessaires à la
@@ -29,6 +31,37 @@ public class FileConfiguration {
      * fichiers de sortie / quantum des algos
      */
     public FileConfiguration(String fichierProcessus, String fichierMetriquesGlobales, String fichierRessourcesDisponibles, List<AlgoConfiguration> listeAlgorithmes) {
+        this(fichierProcessus, fichierMetriquesGlobales, fichierRessourcesDisponibles, listeAlgorithmes, TypeMoteur.PYTHON);
+    }
+
+    /**
+     * Constructeur permettant en plus de choisir le moteur d'ordonnancement.
+     *
+     * @param fichierProcessus : Le chemin du fichier des processus à ordonnacer
+     * @param fichierMetriquesGlobales : Le chemin du fichier des métriques
+     * globales
+     * @param fichierRessourcesDisponibles : Le chemin du fichier détaillant les
+     * ressources disponibles
+     * @param listeAlgorithmes : La liste des différents algo d'ordonnancement
+     * @param moteur : Le moteur qui exécutera les algorithmes (python ou java)
+     */
+    public FileConfiguration(String fichierProcessus, String fichierMetriquesGlobales, String fichierRessourcesDisponibles, List<AlgoConfiguration> listeAlgorithmes, TypeMoteur moteur) {
+        this(fichierProcessus, fichierMetriquesGlobales, fichierRessourcesDisponibles, listeAlgorithmes, moteur, ModeSimulation.TICK);
+    }
+
+    /**
+     * Constructeur permettant en plus de choisir le moteur et le mode de simulation.
+     *
+     * @param fichierProcessus : Le chemin du fichier des processus à ordonnacer
+     * @param fichierMetriquesGlobales : Le chemin du fichier des métriques
+     * globales
+     * @param fichierRessourcesDisponibles : Le chemin du fichier détaillant les
+     * ressources disponibles
+     * @param listeAlgorithmes : La liste des différents algo d'ordonnancement
+     * @param moteur : Le moteur qui exécutera les algorithmes (python ou java)
+     * @param modeSimulation : Le mode de simulation (par unité de temps ou par évènements)
+     */
+    public FileConfiguration(String fichierProcessus, String fichierMetriquesGlobales, String fichierRessourcesDisponibles, List<AlgoConfiguration> listeAlgorithmes, TypeMoteur moteur, ModeSimulation modeSimulation) {
         //Vérifications de sécurité sur les paramètres
         if (fichierProcessus == null || fichierProcessus.isBlank()) {
             throw new IllegalArgumentException("Le chemin du fichier des processus doit être renseigné (non null et non vide).");
@@ -51,11 +84,19 @@ public class FileConfiguration {
                 throw new IllegalArgumentException("Aucun algorithme de la liste ne doit être null");
             }
         }
+        if (moteur == null) {
+            throw new IllegalArgumentException("Le moteur d'ordonnancement doit être renseigné.");
+        }
+        if (modeSimulation == null) {
+            throw new IllegalArgumentException("Le mode de simulation doit être renseigné.");
+        }
 
         this.fichierMetriquesGlobales = fichierMetriquesGlobales.trim();
         this.fichierProcessus = fichierProcessus.trim();
         this.fichierRessourcesDisponibles = fichierRessourcesDisponibles.trim();
         this.listeAlgorithmes = List.copyOf(listeAlgorithmes); //Faire une copie de la liste pour empecher toutes modifs après
+        this.moteur = moteur;
+        this.modeSimulation = modeSimulation;
 
     }
     /**
@@ -96,4 +137,22 @@ public class FileConfiguration {
         return fichierMetriquesGlobales;
     }
 
+    /**
+     * Renvoie le moteur utilisé pour exécuter les algorithmes d'ordonnancement.
+     *
+     * @return le type de moteur
+     */
+    public TypeMoteur getMoteur() {
+        return moteur;
+    }
+
+    /**
+     * Renvoie le mode de simulation (par unité de temps ou par évènements).
+     *
+     * @return le mode de simulation
+     */
+    public ModeSimulation getModeSimulation() {
+        return modeSimulation;
+    }
+
 }
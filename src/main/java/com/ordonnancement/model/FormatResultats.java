@@ -0,0 +1,19 @@
+package com.ordonnancement.model;
+
+/**
+ * Enum représentant le format des fichiers de résultats (globaux et détaillés)
+ * écrits par le moteur python pour un algorithme.
+ * @author ROMA Quentin
+ */
+public enum FormatResultats {
+
+    /**
+     * Fichiers texte CSV, lisibles directement
+     */
+    CSV,
+    /**
+     * Fichiers binaires compacts (voir {@link com.ordonnancement.service.parser.FormatBinaire}) :
+     * plus petits et plus rapides à écrire et à lire pour les exécutions de plusieurs millions d'allocations
+     */
+    BINAIRE
+}
@@ -0,0 +1,200 @@
+package com.ordonnancement.model;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Index statique d'intervalles [début, fin) permettant de retrouver rapidement
+ * tous les éléments qui chevauchent une fenêtre de temps.
+ *
+ * Les intervalles sont triés par date de début et rangés dans un arbre binaire implicite
+ * (le milieu de chaque plage est la racine) où chaque nœud connaît la plus grande date de fin
+ * de son sous-arbre : une recherche coûte O(log n + k) pour k résultats
+ * lorsque les intervalles ne se chevauchent pas (allocations d'un même CPU ou d'un même processus).
+ *
+ * Les éléments sont identifiés par un entier (indice de ligne, position dans une liste...).
+ * @author ROMA Quentin
+ */
+public class IndexIntervalles {
+
+    private final int[] debuts; //Dates de début, triées par ordre croissant
+    private final int[] fins; //Date de fin de chaque intervalle (même ordre que debuts)
+    private final int[] elements; //Identifiant de l'élément de chaque intervalle
+    private final int[] finMax; //Plus grande date de fin du sous-arbre dont la racine est à cet indice
+
+    /**
+     * Construit l'index sur les n premiers intervalles, identifiés par leur position.
+     * @param debuts : les dates de début
+     * @param fins : les dates de fin
+     * @param n : le nombre d'intervalles
+     */
+    public IndexIntervalles(int[] debuts, int[] fins, int n) {
+        this(debuts, fins, identite(n));
+    }
+
+    /**
+     * Construit l'index sur une sélection d'intervalles.
+     * @param debuts : les dates de début (indexées par élément)
+     * @param fins : les dates de fin (indexées par élément)
+     * @param selection : les éléments à indexer
+     */
+    public IndexIntervalles(int[] debuts, int[] fins, int[] selection) {
+        int n = selection.length;
+        //Tri stable par date de début : la date dans les 32 bits forts, la position dans les 32 bits faibles
+        long[] cles = new long[n];
+        for (int i = 0; i < n; i++) {
+            cles[i] = ((long) debuts[selection[i]] << 32) | i;
+        }
+        Arrays.sort(cles);
+
+        this.debuts = new int[n];
+        this.fins = new int[n];
+        this.elements = new int[n];
+        this.finMax = new int[n];
+        for (int i = 0; i < n; i++) {
+            int element = selection[(int) cles[i]];
+            this.debuts[i] = debuts[element];
+            this.fins[i] = fins[element];
+            this.elements[i] = element;
+        }
+        construire(0, n);
+    }
+
+    /**
+     * Renvoie le nombre d'intervalles indexés.
+     * @return le nombre d'intervalles
+     */
+    public int taille() {
+        return elements.length;
+    }
+
+    /**
+     * Renvoie les éléments dont l'intervalle [début, fin) chevauche la fenêtre [t0, t1],
+     * c'est-à-dire tels que début &lt;= t1 et fin &gt; t0 (pour t0 = t1 : les éléments actifs à la date t0).
+     * @param t0 : le début de la fenêtre
+     * @param t1 : la fin de la fenêtre
+     * @return les éléments trouvés, par date de début croissante
+     */
+    public int[] chercher(int t0, int t1) {
+        Collecteur collecteur = new Collecteur();
+        parcourir(t0, t1, collecteur);
+        return Arrays.copyOf(collecteur.resultats, collecteur.taille);
+    }
+
+    /**
+     * Parcourt les éléments dont l'intervalle chevauche la fenêtre [t0, t1],
+     * par date de début croissante.
+     * @param t0 : le début de la fenêtre
+     * @param t1 : la fin de la fenêtre
+     * @param action : l'action appelée pour chaque élément trouvé
+     * @see #chercher(int, int)
+     */
+    public void parcourir(int t0, int t1, IntConsumer action) {
+        if (t1 < t0) {
+            return;
+        }
+        parcourir(0, elements.length, t0, t1, action);
+    }
+
+    /**
+     * Renvoie le premier élément (par date de début) dont l'intervalle chevauche la fenêtre [t0, t1].
+     * La recherche s'arrête au premier résultat : O(log n) lorsque les intervalles ne se chevauchent pas.
+     * @param t0 : le début de la fenêtre
+     * @param t1 : la fin de la fenêtre
+     * @return l'élément trouvé, ou -1 si aucun intervalle ne chevauche la fenêtre
+     */
+    public int premier(int t0, int t1) {
+        if (t1 < t0) {
+            return -1;
+        }
+        return premier(0, elements.length, t0, t1);
+    }
+
+    /**
+     * Calcule récursivement la date de fin maximale de chaque sous-arbre.
+     * @param lo : début de la plage (inclus)
+     * @param hi : fin de la plage (exclue)
+     * @return la plus grande date de fin de la plage
+     */
+    private int construire(int lo, int hi) {
+        if (lo >= hi) {
+            return Integer.MIN_VALUE;
+        }
+        int milieu = (lo + hi) >>> 1;
+        int max = Math.max(fins[milieu], Math.max(construire(lo, milieu), construire(milieu + 1, hi)));
+        finMax[milieu] = max;
+        return max;
+    }
+
+    /**
+     * Parcours en ordre de l'arbre implicite, en élaguant les sous-arbres
+     * qui se terminent avant t0 ou qui commencent après t1.
+     */
+    private void parcourir(int lo, int hi, int t0, int t1, IntConsumer action) {
+        if (lo >= hi) {
+            return;
+        }
+        int milieu = (lo + hi) >>> 1;
+        if (finMax[milieu] <= t0) { //Tout le sous-arbre se termine avant la fenêtre
+            return;
+        }
+        parcourir(lo, milieu, t0, t1, action);
+        if (debuts[milieu] > t1) { //Ce nœud et tout le sous-arbre droit commencent après la fenêtre
+            return;
+        }
+        if (fins[milieu] > t0) {
+            action.accept(elements[milieu]);
+        }
+        parcourir(milieu + 1, hi, t0, t1, action);
+    }
+
+    /**
+     * Recherche du premier élément en ordre, avec le même élagage que le parcours.
+     */
+    private int premier(int lo, int hi, int t0, int t1) {
+        if (lo >= hi) {
+            return -1;
+        }
+        int milieu = (lo + hi) >>> 1;
+        if (finMax[milieu] <= t0) {
+            return -1;
+        }
+        int trouve = premier(lo, milieu, t0, t1);
+        if (trouve >= 0 || debuts[milieu] > t1) {
+            return trouve;
+        }
+        if (fins[milieu] > t0) {
+            return elements[milieu];
+        }
+        return premier(milieu + 1, hi, t0, t1);
+    }
+
+    /**
+     * Renvoie le tableau [0, 1, ..., n-1].
+     * @param n : la taille
+     * @return le tableau des positions
+     */
+    private static int[] identite(int n) {
+        int[] positions = new int[n];
+        for (int i = 0; i < n; i++) {
+            positions[i] = i;
+        }
+        return positions;
+    }
+
+    /**
+     * Accumule les résultats d'une recherche dans un tableau extensible.
+     */
+    private static class Collecteur implements IntConsumer {
+        private int[] resultats = new int[16];
+        private int taille = 0;
+
+        @Override
+        public void accept(int element) {
+            if (taille == resultats.length) {
+                resultats = Arrays.copyOf(resultats, taille * 2);
+            }
+            resultats[taille++] = element;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.ordonnancement.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Métriques détaillées d'un algorithme d'ordonnancement, calculées en Java à partir des résultats
+ * globaux et détaillés : distributions (et pas seulement moyennes) des temps, deadlines manquées,
+ * utilisation de chaque processeur, changements de contexte et débit.
+ * @author ROMA Quentin
+ */
+public class MetriquesDetaillees {
+
+    private final String nomAlgorithme;
+    private final int nombreProcessus; //Processus exécutés par l'algorithme
+    private final Distribution attente; //Date de début - date de soumission
+    private final Distribution sejour; //Date de fin - date de soumission
+    private final Distribution ralentissement; //Temps de séjour / temps d'exécution
+    private final int deadlinesManquees; //Processus terminés après leur deadline
+    private final Map<String, Double> utilisationParProcesseur; //Temps occupé / makespan, par processeur
+    private final long changementsContexte; //Allocations qui ne prolongent pas la précédente du processus sur le même processeur
+    private final int makespan;
+
+    /**
+     * Constructeur
+     * @param nomAlgorithme : le nom de l'algorithme
+     * @param nombreProcessus : le nombre de processus exécutés
+     * @param attente : la distribution des temps d'attente
+     * @param sejour : la distribution des temps de séjour
+     * @param ralentissement : la distribution des ralentissements
+     * @param deadlinesManquees : le nombre de processus terminés après leur deadline
+     * @param utilisationParProcesseur : le taux d'utilisation (entre 0 et 1) de chaque processeur
+     * @param changementsContexte : le nombre de changements de contexte
+     * @param makespan : la date de fin du dernier processus
+     */
+    public MetriquesDetaillees(String nomAlgorithme, int nombreProcessus, Distribution attente, Distribution sejour,
+            Distribution ralentissement, int deadlinesManquees, Map<String, Double> utilisationParProcesseur,
+            long changementsContexte, int makespan) {
+        this.nomAlgorithme = nomAlgorithme;
+        this.nombreProcessus = nombreProcessus;
+        this.attente = attente;
+        this.sejour = sejour;
+        this.ralentissement = ralentissement;
+        this.deadlinesManquees = deadlinesManquees;
+        this.utilisationParProcesseur = Collections.unmodifiableMap(new LinkedHashMap<>(utilisationParProcesseur));
+        this.changementsContexte = changementsContexte;
+        this.makespan = makespan;
+    }
+
+    /**
+     * Renvoie le nom de l'algorithme
+     * @return le nom de l'algorithme
+     */
+    public String getNomAlgorithme() {
+        return nomAlgorithme;
+    }
+
+    /**
+     * Renvoie le nombre de processus exécutés par l'algorithme
+     * @return le nombre de processus
+     */
+    public int getNombreProcessus() {
+        return nombreProcessus;
+    }
+
+    /**
+     * Renvoie la distribution des temps d'attente
+     * Attente = délai entre la soumission du processus et le début de sa première exécution
+     * @return la distribution des temps d'attente
+     */
+    public Distribution getAttente() {
+        return attente;
+    }
+
+    /**
+     * Renvoie la distribution des temps de séjour
+     * Séjour = délai entre la soumission du processus et la fin de son exécution
+     * @return la distribution des temps de séjour
+     */
+    public Distribution getSejour() {
+        return sejour;
+    }
+
+    /**
+     * Renvoie la distribution des ralentissements
+     * Ralentissement = temps de séjour / temps d'exécution (1 si le processus n'a jamais attendu)
+     * @return la distribution des ralentissements
+     */
+    public Distribution getRalentissement() {
+        return ralentissement;
+    }
+
+    /**
+     * Renvoie le nombre de processus terminés après leur deadline
+     * @return le nombre de deadlines manquées
+     */
+    public int getDeadlinesManquees() {
+        return deadlinesManquees;
+    }
+
+    /**
+     * Renvoie la proportion de processus terminés après leur deadline
+     * @return le taux de deadlines manquées, entre 0 et 1
+     */
+    public double getTauxDeadlinesManquees() {
+        return nombreProcessus == 0 ? 0 : (double) deadlinesManquees / nombreProcessus;
+    }
+
+    /**
+     * Renvoie le taux d'utilisation de chaque processeur : temps passé à exécuter un processus / makespan
+     * @return le taux d'utilisation (entre 0 et 1) par identifiant de processeur
+     */
+    public Map<String, Double> getUtilisationParProcesseur() {
+        return utilisationParProcesseur;
+    }
+
+    /**
+     * Renvoie le nombre de changements de contexte : chaque allocation d'un processus à un processeur,
+     * sauf lorsqu'elle prolonge sans interruption l'allocation précédente du processus sur le même processeur
+     * @return le nombre de changements de contexte
+     */
+    public long getChangementsContexte() {
+        return changementsContexte;
+    }
+
+    /**
+     * Renvoie le débit : nombre de processus terminés par unité de temps
+     * @return le débit (processus / unité de temps)
+     */
+    public double getDebit() {
+        return makespan == 0 ? 0 : (double) nombreProcessus / makespan;
+    }
+
+    /**
+     * Renvoie le makespan : la date de fin du dernier processus
+     * @return le makespan
+     */
+    public int getMakespan() {
+        return makespan;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ordonnancement.model;
+
+/**
+ * Enum représentant la manière dont le temps avance pendant la simulation d'ordonnancement.
+ * Les deux modes produisent exactement les mêmes allocations.
+ * @author ROMA Quentin
+ */
+public enum ModeSimulation {
+
+    /**
+     * La date avance d'une unité de temps à chaque tour de boucle
+     */
+    TICK,
+    /**
+     * La date saute directement au prochain évènement (arrivée, fin de quantum, fin d'exécution)
+     */
+    EVENEMENTIEL
+}
@@ -0,0 +1,77 @@
+package com.ordonnancement.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Occupation des ressources au cours du temps pour un algorithme d'ordonnancement :
+ * nombre de processeurs occupés, occupation de chaque processeur (1 occupé, 0 libre) et RAM utilisée.
+ * @author ROMA Quentin
+ */
+public class Occupation {
+
+    private final String nomAlgorithme;
+    private final Chronologie processeursOccupes; //Nombre de processeurs occupés
+    private final Map<String, Chronologie> occupationParProcesseur; //1 si le processeur est occupé, par identifiant trié
+    private final Chronologie ramUtilisee; //Somme de la RAM des processus entre leur première et leur dernière allocation
+    private final int dateFin; //Fin de la dernière allocation
+
+    /**
+     * Constructeur
+     * @param nomAlgorithme : le nom de l'algorithme
+     * @param processeursOccupes : le nombre de processeurs occupés
+     * @param occupationParProcesseur : l'occupation de chaque processeur
+     * @param ramUtilisee : la RAM utilisée
+     * @param dateFin : la fin de la dernière allocation
+     */
+    public Occupation(String nomAlgorithme, Chronologie processeursOccupes, Map<String, Chronologie> occupationParProcesseur,
+            Chronologie ramUtilisee, int dateFin) {
+        this.nomAlgorithme = nomAlgorithme;
+        this.processeursOccupes = processeursOccupes;
+        this.occupationParProcesseur = Collections.unmodifiableMap(new LinkedHashMap<>(occupationParProcesseur));
+        this.ramUtilisee = ramUtilisee;
+        this.dateFin = dateFin;
+    }
+
+    /**
+     * Renvoie le nom de l'algorithme
+     * @return le nom de l'algorithme
+     */
+    public String getNomAlgorithme() {
+        return nomAlgorithme;
+    }
+
+    /**
+     * Renvoie le nombre de processeurs occupés au cours du temps
+     * @return la chronologie des processeurs occupés
+     */
+    public Chronologie getProcesseursOccupes() {
+        return processeursOccupes;
+    }
+
+    /**
+     * Renvoie l'occupation de chaque processeur au cours du temps (1 occupé, 0 libre) :
+     * sa moyenne sur un intervalle est le taux d'utilisation du processeur.
+     * @return les chronologies, par identifiant de processeur trié
+     */
+    public Map<String, Chronologie> getOccupationParProcesseur() {
+        return occupationParProcesseur;
+    }
+
+    /**
+     * Renvoie la RAM utilisée au cours du temps
+     * @return la chronologie de la RAM utilisée
+     */
+    public Chronologie getRamUtilisee() {
+        return ramUtilisee;
+    }
+
+    /**
+     * Renvoie la fin de la dernière allocation
+     * @return la date de fin
+     */
+    public int getDateFin() {
+        return dateFin;
+    }
+}
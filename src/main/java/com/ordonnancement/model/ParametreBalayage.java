@@ -0,0 +1,45 @@
+package com.ordonnancement.model;
+
+/**
+ * Enum représentant un paramètre d'algorithme que l'on peut faire varier lors d'un balayage
+ * (plusieurs exécutions du même algorithme avec différentes valeurs du paramètre).
+ * @author ROMA Quentin
+ */
+public enum ParametreBalayage {
+
+    /**
+     * Le quantum de l'algorithme Round Robin
+     */
+    QUANTUM("Quantum") {
+        @Override
+        public AlgoConfiguration appliquer(AlgoConfiguration algo, int valeur) {
+            return new AlgoConfiguration(algo.getNomAlgorithme(), algo.getFichierResultatsDetailles(),
+                    algo.getFichierResultatsGlobaux(), valeur, algo.getFormatResultats());
+        }
+    };
+
+    private final String libelle; //Nom affiché du paramètre
+
+    ParametreBalayage(String libelle) {
+        this.libelle = libelle;
+    }
+
+    /**
+     * Crée une variante de la configuration d'un algorithme avec une autre valeur du paramètre.
+     *
+     * @param algo : la configuration de l'algorithme
+     * @param valeur : la valeur du paramètre
+     * @return la configuration de la variante
+     * @throws IllegalArgumentException si la valeur est invalide pour ce paramètre
+     */
+    public abstract AlgoConfiguration appliquer(AlgoConfiguration algo, int valeur);
+
+    /**
+     * Renvoie le nom affiché du paramètre.
+     *
+     * @return le libellé
+     */
+    public String getLibelle() {
+        return libelle;
+    }
+}
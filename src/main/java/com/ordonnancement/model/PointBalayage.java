@@ -0,0 +1,52 @@
+package com.ordonnancement.model;
+
+/**
+ * Classe représentant le résultat d'une variante d'un balayage de paramètre :
+ * la valeur du paramètre et les métriques obtenues avec cette valeur.
+ * @author ROMA Quentin
+ */
+public class PointBalayage {
+
+    private final int valeur; //La valeur du paramètre
+    private final Metrics metriques; //Les métriques globales de la variante
+    private final MetriquesDetaillees metriquesDetaillees; //Les métriques détaillées de la variante
+
+    /**
+     * Constructeur
+     * @param valeur : la valeur du paramètre
+     * @param metriques : les métriques globales de la variante
+     * @param metriquesDetaillees : les métriques détaillées de la variante
+     */
+    public PointBalayage(int valeur, Metrics metriques, MetriquesDetaillees metriquesDetaillees) {
+        this.valeur = valeur;
+        this.metriques = metriques;
+        this.metriquesDetaillees = metriquesDetaillees;
+    }
+
+    /**
+     * Renvoie la valeur du paramètre de la variante.
+     *
+     * @return la valeur du paramètre
+     */
+    public int getValeur() {
+        return valeur;
+    }
+
+    /**
+     * Renvoie les métriques globales de la variante.
+     *
+     * @return les métriques globales
+     */
+    public Metrics getMetriques() {
+        return metriques;
+    }
+
+    /**
+     * Renvoie les métriques détaillées de la variante.
+     *
+     * @return les métriques détaillées
+     */
+    public MetriquesDetaillees getMetriquesDetaillees() {
+        return metriquesDetaillees;
+    }
+}
@@ -1,7 +1,8 @@
 package com.ordonnancement.model;
 
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Représente un processus exécuté
@@ -20,8 +21,9 @@ public class Process {
     private final int deadline; //Date butoire (la date à laquelle le processus doit être fini)
     private final int priority;
 
-    private final HashMap<String,List<Allocation>> allocationsParAlgo; //La liste des allocations processeur de ce processus par différents algo d'ordonnancement (résultats détaillés)
-    private final HashMap<String,ExecutionInfo> infoExecutionsParAlgo; //La liste des informations des executions sur les différents algos (résultats globaux)
+    //Maps concurrentes : les résultats des différents algorithmes peuvent être ajoutés en parallèle
+    private final Map<String,List<Allocation>> allocationsParAlgo; //La liste des allocations processeur de ce processus par différents algo d'ordonnancement (résultats détaillés)
+    private final Map<String,ExecutionInfo> infoExecutionsParAlgo; //La liste des informations des executions sur les différents algos (résultats globaux)
    
 
     /**
@@ -41,8 +43,8 @@ public class Process {
         this.priority = priority;
         this.requiredRam = requiredRam;
         this.tempsExecution = tempsExecution;
-        this.infoExecutionsParAlgo = new HashMap<>();
-        this.allocationsParAlgo = new HashMap<>();
+        this.infoExecutionsParAlgo = new ConcurrentHashMap<>();
+        this.allocationsParAlgo = new ConcurrentHashMap<>();
     }
 
     /**
@@ -115,6 +117,10 @@ public class Process {
      */
     // Ajouter toutes les allocations pour un algo
     public void setAllocations(String algo, List<Allocation> allocations) {
+        if (allocations == null) { //La map concurrente n'accepte pas null : aucune allocation pour cet algo
+            allocationsParAlgo.remove(algo);
+            return;
+        }
         allocationsParAlgo.put(algo, allocations);
     }
     
@@ -124,7 +130,7 @@ public class Process {
      *
      * @return une map { nomAlgo → liste d'allocations }
      */
-    public HashMap<String,List<Allocation>> getAllAllocations(){
+    public Map<String,List<Allocation>> getAllAllocations(){
         return this.allocationsParAlgo;
     }
     
@@ -146,6 +152,10 @@ public class Process {
      * @param e  l'information d'exécution associée
      */
     public void addExecution(String nomAlgo,ExecutionInfo e){
+        if (e == null) { //La map concurrente n'accepte pas null : aucune execution pour cet algo
+            this.infoExecutionsParAlgo.remove(nomAlgo);
+            return;
+        }
         this.infoExecutionsParAlgo.put(nomAlgo,e);
     }
     
@@ -155,7 +165,7 @@ public class Process {
      *
      * @return une map { nomAlgo → ExecutionInfo }
      */
-    public HashMap<String,ExecutionInfo> getAllExecutions(){
+    public Map<String,ExecutionInfo> getAllExecutions(){
         return this.infoExecutionsParAlgo;
     }
 
@@ -0,0 +1,51 @@
+package com.ordonnancement.model;
+
+import java.util.List;
+
+/**
+ * Représente les ressources disponibles pour l'ordonnancement :
+ * la liste des processeurs et la quantité totale de RAM.
+ * Correspond au contenu du fichier des ressources (JSON).
+ * @author ROMA Quentin
+ */
+public class Ressources {
+
+    private final List<String> processeurs; //Les identifiants des processeurs disponibles (ex : CPU1, CPU2)
+    private final int ramTotale; //La quantité totale de RAM disponible
+
+    /**
+     * Constructeur des ressources
+     * @param processeurs : la liste des identifiants des processeurs disponibles
+     * @param ramTotale : la quantité totale de RAM disponible
+     */
+    public Ressources(List<String> processeurs, int ramTotale) {
+        //Vérifications de sécurité sur les paramètres
+        if (processeurs == null || processeurs.isEmpty()) {
+            throw new IllegalArgumentException("Au moins un processeur doit être disponible.");
+        }
+        if (ramTotale <= 0) {
+            throw new IllegalArgumentException("La quantité de RAM totale doit être supérieure à 0.");
+        }
+        this.processeurs = List.copyOf(processeurs); //Copie pour empecher toutes modifs après
+        this.ramTotale = ramTotale;
+    }
+
+    /**
+     * Renvoie la liste des identifiants des processeurs disponibles.
+     *
+     * @return la liste des processeurs
+     */
+    public List<String> getProcesseurs() {
+        return processeurs;
+    }
+
+    /**
+     * Renvoie la quantité totale de RAM disponible.
+     *
+     * @return la RAM totale
+     */
+    public int getRamTotale() {
+        return ramTotale;
+    }
+
+}
@@ -1,10 +1,20 @@
 package com.ordonnancement.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Classe permetant de stocker les résultats obtenus après
  * l'exécution du script python et d'y accéder facilement
+ *
+ * Les résultats détaillés (allocations processeur) de chaque algorithme peuvent être chargés
+ * après coup ({@link ChargementDetails}) : les vues qui en ont besoin demandent leur chargement
+ * par {@link #chargerDetails(String)} et sont mises à jour lorsqu'il est terminé.
  * @author ROMA Quentin
  */
 
@@ -13,14 +23,60 @@ public class Resultats {
 
     private final List<Process> listeProcessus;
     private final List<Metrics> listeMetriques;
+    private final Set<String> algorithmesEnCache; //Algorithmes dont les résultats ont été lus dans le cache
+    private final Map<String, ChargementDetails> chargementsDetails; //Chargement des résultats détaillés, par algorithme
+    private final FileConfiguration configuration; //La configuration exécutée (null si inconnue)
     /**
      * Constructeur
      * @param listeProcessus : la liste des processus après ordonnancement
      * @param listeMetriques : la liste des métriques après ordonanncement
      */
     public Resultats(List<Process> listeProcessus, List<Metrics> listeMetriques){
+        this(listeProcessus, listeMetriques, Set.of());
+    }
+
+    /**
+     * Constructeur
+     * @param listeProcessus : la liste des processus après ordonnancement
+     * @param listeMetriques : la liste des métriques après ordonanncement
+     * @param algorithmesEnCache : les noms des algorithmes dont les résultats proviennent du cache
+     */
+    public Resultats(List<Process> listeProcessus, List<Metrics> listeMetriques, Set<String> algorithmesEnCache){
+        this(listeProcessus, listeMetriques, algorithmesEnCache, List.of());
+    }
+
+    /**
+     * Constructeur
+     * @param listeProcessus : la liste des processus après ordonnancement (avec les résultats globaux)
+     * @param listeMetriques : la liste des métriques après ordonanncement
+     * @param algorithmesEnCache : les noms des algorithmes dont les résultats proviennent du cache
+     * @param chargementsDetails : le chargement des résultats détaillés de chaque algorithme
+     *                             (un algorithme sans chargement a ses résultats détaillés déjà en mémoire)
+     */
+    public Resultats(List<Process> listeProcessus, List<Metrics> listeMetriques, Set<String> algorithmesEnCache,
+            List<ChargementDetails> chargementsDetails){
+        this(listeProcessus, listeMetriques, algorithmesEnCache, chargementsDetails, null);
+    }
+
+    /**
+     * Constructeur
+     * @param listeProcessus : la liste des processus après ordonnancement (avec les résultats globaux)
+     * @param listeMetriques : la liste des métriques après ordonanncement
+     * @param algorithmesEnCache : les noms des algorithmes dont les résultats proviennent du cache
+     * @param chargementsDetails : le chargement des résultats détaillés de chaque algorithme
+     *                             (un algorithme sans chargement a ses résultats détaillés déjà en mémoire)
+     * @param configuration : la configuration qui a produit ces résultats (null si inconnue)
+     */
+    public Resultats(List<Process> listeProcessus, List<Metrics> listeMetriques, Set<String> algorithmesEnCache,
+            List<ChargementDetails> chargementsDetails, FileConfiguration configuration){
         this.listeProcessus = listeProcessus;
         this.listeMetriques = listeMetriques;
+        this.algorithmesEnCache = Set.copyOf(algorithmesEnCache);
+        this.chargementsDetails = new LinkedHashMap<>();
+        for (ChargementDetails chargement : chargementsDetails) {
+            this.chargementsDetails.put(chargement.getNomAlgorithme(), chargement);
+        }
+        this.configuration = configuration;
     }
 
     /**
@@ -41,6 +97,95 @@ public class Resultats {
     public List<Metrics> getListeMetrics(){
         return this.listeMetriques;
     }
+    /**
+     * Indique si les résultats d'un algorithme ont été lus dans le cache
+     * plutôt que recalculés.
+     *
+     * @param nomAlgorithme : le nom de l'algorithme
+     * @return true si les résultats proviennent du cache
+     */
+    public boolean isEnCache(String nomAlgorithme){
+        return this.algorithmesEnCache.contains(nomAlgorithme);
+    }
+
+    /**
+     * Renvoie le nom des algorithmes dont les résultats détaillés peuvent être chargés.
+     *
+     * @return les noms des algorithmes, dans l'ordre de la configuration
+     */
+    public Set<String> getNomsAlgorithmes(){
+        return Collections.unmodifiableSet(this.chargementsDetails.keySet());
+    }
 
+    /**
+     * Renvoie la configuration qui a produit ces résultats : celle de l'exécution rouverte depuis l'historique,
+     * qui peut différer de la configuration courante.
+     *
+     * @return la configuration, ou null si elle est inconnue
+     */
+    public FileConfiguration getConfiguration(){
+        return this.configuration;
+    }
+
+    /**
+     * Renvoie le chargement des résultats détaillés d'un algorithme.
+     *
+     * @param nomAlgorithme : le nom de l'algorithme
+     * @return le chargement (déjà terminé si les résultats détaillés sont en mémoire)
+     */
+    public ChargementDetails getChargementDetails(String nomAlgorithme){
+        ChargementDetails chargement = this.chargementsDetails.get(nomAlgorithme);
+        return chargement != null ? chargement : ChargementDetails.termine(nomAlgorithme);
+    }
+
+    /**
+     * Lance en arrière-plan le chargement des résultats détaillés d'un algorithme, s'il n'est pas déjà fait.
+     *
+     * @param nomAlgorithme : le nom de l'algorithme
+     * @return un futur qui renvoie la liste des processus avec les allocations de l'algorithme
+     */
+    public CompletableFuture<List<Process>> chargerDetails(String nomAlgorithme){
+        return getChargementDetails(nomAlgorithme).demarrer().thenApply(fait -> this.listeProcessus);
+    }
 
+    /**
+     * Lance en arrière-plan le chargement des résultats détaillés de tous les algorithmes
+     * (les algorithmes sont chargés en parallèle).
+     *
+     * @return un futur qui renvoie la liste des processus avec toutes leurs allocations
+     */
+    public CompletableFuture<List<Process>> chargerDetails(){
+        List<CompletableFuture<Void>> futurs = new ArrayList<>();
+        for (ChargementDetails chargement : this.chargementsDetails.values()) {
+            futurs.add(chargement.demarrer());
+        }
+        return CompletableFuture.allOf(futurs.toArray(CompletableFuture[]::new)).thenApply(fait -> this.listeProcessus);
+    }
+
+    /**
+     * Indique si les résultats détaillés de tous les algorithmes sont chargés.
+     *
+     * @return true si toutes les allocations sont en mémoire
+     */
+    public boolean isDetailsCharges(){
+        for (ChargementDetails chargement : this.chargementsDetails.values()) {
+            if (!chargement.isTermine()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Attend que les résultats détaillés de tous les algorithmes soient chargés
+     * (les chargements qui n'ont pas commencé sont réalisés dans le thread appelant).
+     *
+     * @throws RuntimeException l'exception levée par le premier chargement en échec
+     * @throws java.util.concurrent.CancellationException si le thread appelant est interrompu
+     */
+    public void attendreDetails(){
+        for (ChargementDetails chargement : this.chargementsDetails.values()) {
+            chargement.attendre();
+        }
+    }
 }
@@ -0,0 +1,17 @@
+package com.ordonnancement.model;
+
+/**
+ * Enum représentant le moteur utilisé pour exécuter les algorithmes d'ordonnancement.
+ * @author ROMA Quentin
+ */
+public enum TypeMoteur {
+
+    /**
+     * Exécution par le script python (écriture puis lecture des fichiers de résultats)
+     */
+    PYTHON,
+    /**
+     * Exécution directe dans la JVM par le moteur Java intégré
+     */
+    JAVA
+}
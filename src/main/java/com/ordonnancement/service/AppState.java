@@ -1,8 +1,13 @@
 package com.ordonnancement.service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.ordonnancement.model.Resultats;
 
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyLongWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
 
 /**
@@ -25,11 +30,22 @@ public class AppState {
      */
     private final BooleanProperty executionTerminee = new SimpleBooleanProperty(false);
 
+    /**
+     * Génération des résultats : incrémentée à chaque changement des résultats courants ou comparés.
+     * Les vues construites pour une génération précédente sont obsolètes.
+     */
+    private final ReadOnlyLongWrapper generationResultats = new ReadOnlyLongWrapper(0);
+
     /*
      * Résultats complets retournés par l'exécution Python
      */
     private Resultats resultats;
 
+    /*
+     * Résultats d'exécutions précédentes (rouvertes depuis l'historique) comparés aux résultats courants
+     */
+    private List<Resultats> resultatsCompares = new ArrayList<>();
+
     /*
      * Constructeur privé pour empêcher l'instanciation directe.
      */
@@ -67,6 +83,47 @@ public class AppState {
      */
     public void setResultats(Resultats resultats) {
         this.resultats = resultats;
+        generationResultats.set(generationResultats.get() + 1);
+    }
+
+    /**
+     * Retourne les résultats des exécutions comparées aux résultats courants.
+     *
+     * @return La liste des résultats comparés (vide si aucune comparaison)
+     */
+    public List<Resultats> getResultatsCompares() {
+        return resultatsCompares;
+    }
+
+    /**
+     * Définit les résultats des exécutions à comparer aux résultats courants
+     * dans les vues des métriques et du Gantt.
+     *
+     * @param resultatsCompares La liste des résultats à comparer
+     */
+    public void setResultatsCompares(List<Resultats> resultatsCompares) {
+        this.resultatsCompares = List.copyOf(resultatsCompares);
+        generationResultats.set(generationResultats.get() + 1);
+    }
+
+    /**
+     * Renvoie la propriété observable de la génération des résultats,
+     * qui change à chaque nouveau jeu de résultats (courants ou comparés).
+     * Elle est modifiée sur le thread JavaFX.
+     *
+     * @return la propriété listenable de la génération des résultats
+     */
+    public ReadOnlyLongProperty generationResultatsProperty() {
+        return generationResultats.getReadOnlyProperty();
+    }
+
+    /**
+     * Renvoie la génération des résultats courante.
+     *
+     * @return la génération des résultats
+     */
+    public long getGenerationResultats() {
+        return generationResultats.get();
     }
 
     /**
@@ -0,0 +1,37 @@
+package com.ordonnancement.service;
+
+/**
+ * Interface permettant de suivre l'avancement d'une exécution (moteur d'ordonnancement, lecture des résultats).
+ * L'annulation passe par l'interruption du thread qui exécute le travail :
+ * le travail en cours lève alors une CancellationException.
+ * @author ROMA Quentin
+ */
+@FunctionalInterface
+public interface SuiviExecution {
+
+    /**
+     * Suivi qui ignore l'avancement.
+     */
+    public static final SuiviExecution AUCUN = (phase, fait, total) -> { };
+
+    /**
+     * Signale l'avancement de l'exécution.
+     * Peut être appelée depuis plusieurs threads en même temps.
+     *
+     * @param phase : la description de la phase en cours
+     * @param fait : le nombre d'étapes terminées
+     * @param total : le nombre total d'étapes (0 ou moins si l'avancement est inconnu)
+     */
+    public void avancer(String phase, long fait, long total);
+
+    /**
+     * Signale une ligne de journal produite pendant la phase en cours
+     * (par exemple une ligne écrite par le script python). Ignorée par défaut.
+     * Peut être appelée depuis plusieurs threads en même temps.
+     *
+     * @param ligne : la ligne de journal
+     */
+    public default void journaliser(String ligne) {
+    }
+
+}
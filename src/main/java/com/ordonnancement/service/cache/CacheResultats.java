@@ -0,0 +1,259 @@
+package com.ordonnancement.service.cache;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.ordonnancement.model.AlgoConfiguration;
+import com.ordonnancement.model.FileConfiguration;
+import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.parser.FileParsingException;
+import com.ordonnancement.service.parser.metrics.MetricsParser;
+import com.ordonnancement.service.parser.process.BinaryResultProcessParser;
+import com.ordonnancement.service.parser.process.BinaryResultProcessWriter;
+import com.ordonnancement.service.validation.ResultatsValidator;
+import com.ordonnancement.util.DossierEntrees;
+
+/**
+ * Cache sur disque des résultats d'ordonnancement, adressé par le contenu des entrées.
+ *
+ * La clé d'un algorithme est l'empreinte SHA-256 du fichier des processus, du fichier des ressources,
+ * du nom de l'algorithme et de son quantum : si l'un d'eux change, la clé change et l'algorithme est simulé à nouveau.
+ * Chaque entrée est un dossier contenant les résultats globaux et détaillés (au format binaire)
+ * et les métriques de l'algorithme.
+ *
+ * La taille totale du cache est bornée : les entrées les moins récemment utilisées sont supprimées en premier
+ * (la date de modification du dossier d'une entrée est mise à jour à chaque lecture).
+ * @author ROMA Quentin
+ */
+public class CacheResultats {
+
+    public static final Path DOSSIER_PAR_DEFAUT = Path.of("cache", "resultats");
+    public static final long TAILLE_MAX_PAR_DEFAUT = 512L * 1024 * 1024; //512 Mo
+
+    private static final String VERSION = "1"; //À changer si le contenu des entrées change : les anciennes deviennent inaccessibles
+    private static final String GLOBAUX = "globaux.bin";
+    private static final String DETAILLES = "detailles.bin";
+    private static final String METRIQUES = "metriques.csv";
+
+    private final Path dossier; //Dossier contenant une entrée par clé
+    private final DossierEntrees entrees; //Écriture, liste et suppression des entrées
+    private final long tailleMax; //Taille totale maximale des entrées, en octets
+
+    /**
+     * Constructeur
+     * @param dossier : le dossier du cache (créé au premier enregistrement)
+     * @param tailleMax : la taille totale maximale des entrées, en octets
+     */
+    public CacheResultats(Path dossier, long tailleMax) {
+        if (tailleMax <= 0) {
+            throw new IllegalArgumentException("La taille maximale du cache doit être strictement positive.");
+        }
+        this.dossier = dossier;
+        this.entrees = new DossierEntrees(dossier);
+        this.tailleMax = tailleMax;
+    }
+
+    /**
+     * Calcule l'empreinte des entrées communes à tous les algorithmes : fichier des processus et fichier des ressources.
+     *
+     * @param configuration : la configuration
+     * @return l'empreinte, à passer à {@link #cle(String, AlgoConfiguration)}
+     * @throws UncheckedIOException si un fichier ne peut pas être lu
+     */
+    public static String empreinteEntrees(FileConfiguration configuration) {
+        MessageDigest sha = sha256();
+        sha.update(hacherFichier(Path.of(configuration.getFichierProcessus())));
+        sha.update(hacherFichier(Path.of(configuration.getFichierRessourcesDisponibles())));
+        return HexFormat.of().formatHex(sha.digest());
+    }
+
+    /**
+     * Calcule la clé d'un algorithme.
+     *
+     * @param empreinteEntrees : l'empreinte des fichiers d'entrée
+     * @param algo : la configuration de l'algorithme
+     * @return la clé de l'entrée de l'algorithme
+     */
+    public static String cle(String empreinteEntrees, AlgoConfiguration algo) {
+        MessageDigest sha = sha256();
+        String description = VERSION + "\n" + empreinteEntrees + "\n" + algo.getNomAlgorithme().trim().toUpperCase()
+                + "\n" + algo.getQuantum();
+        sha.update(description.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(sha.digest());
+    }
+
+    /**
+     * Charge les résultats d'un algorithme depuis le cache et met à jour les processus.
+     * Une entrée illisible ou incohérente est supprimée et traitée comme absente.
+     *
+     * @param cle : la clé de l'algorithme
+     * @param processus : la liste des processus initiaux
+     * @param nomAlgorithme : le nom de l'algorithme
+     * @return les métriques de l'algorithme, ou null si l'entrée est absente
+     * @throws java.util.concurrent.CancellationException si le thread est interrompu pendant la lecture
+     */
+    public Metrics charger(String cle, List<Process> processus, String nomAlgorithme) {
+        Path entree = dossier.resolve(cle);
+        if (!Files.isDirectory(entree)) {
+            return null;
+        }
+        try {
+            List<Metrics> metriques = new MetricsParser().parse(entree.resolve(METRIQUES).toString());
+            if (metriques.size() != 1) {
+                throw new FileParsingException("Métriques invalides dans le cache : " + entree);
+            }
+            BinaryResultProcessParser parser = new BinaryResultProcessParser(processus);
+            parser.parseGlobaux(entree.resolve(GLOBAUX).toString(), nomAlgorithme);
+            parser.parseDetailles(entree.resolve(DETAILLES).toString(), nomAlgorithme);
+            ResultatsValidator.valider(processus, nomAlgorithme);
+            Files.setLastModifiedTime(entree, FileTime.fromMillis(System.currentTimeMillis())); //Entrée la plus récemment utilisée
+            return metriques.get(0);
+        } catch (FileParsingException | IOException e) { //Entrée incomplète ou corrompue : simulée à nouveau
+            DossierEntrees.supprimer(entree);
+            return null;
+        }
+    }
+
+    /**
+     * Enregistre les résultats d'un algorithme, puis supprime les entrées les moins récemment utilisées
+     * si la taille maximale est dépassée.
+     * L'entrée est écrite dans un dossier temporaire puis renommée : une entrée n'est jamais visible à moitié écrite.
+     * Les enregistrements sont faits l'un après l'autre (ils sont lancés par les chargements en arrière-plan).
+     *
+     * @param cle : la clé de l'algorithme
+     * @param processus : les processus ordonnancés
+     * @param metriques : les métriques de l'algorithme
+     * @throws UncheckedIOException si l'écriture échoue
+     */
+    public synchronized void enregistrer(String cle, List<Process> processus, Metrics metriques) {
+        String nomAlgorithme = metriques.getNomAlgorithme();
+        try {
+            boolean enregistree = entrees.ecrire(cle, temporaire -> { //Remplace l'ancienne version (illisible ou enregistrée entre temps)
+                BinaryResultProcessWriter writer = new BinaryResultProcessWriter(processus);
+                writer.ecrireGlobaux(temporaire.resolve(GLOBAUX).toString(), nomAlgorithme);
+                writer.ecrireDetailles(temporaire.resolve(DETAILLES).toString(), nomAlgorithme);
+                ecrireMetriques(temporaire.resolve(METRIQUES), metriques);
+                return taille(temporaire) <= tailleMax; //Entrée plus grande que le cache entier : pas enregistrée
+            });
+            if (enregistree) {
+                evincer();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible d'enregistrer les résultats de " + nomAlgorithme + " dans le cache", e);
+        }
+    }
+
+    /**
+     * Renvoie la taille totale des entrées du cache.
+     *
+     * @return la taille en octets
+     */
+    public long getTailleTotale() {
+        long total = 0;
+        for (Path entree : entrees.listerEntrees()) {
+            total += taille(entree);
+        }
+        return total;
+    }
+
+    /**
+     * Supprime toutes les entrées du cache.
+     */
+    public void vider() {
+        for (Path entree : entrees.listerEntrees()) {
+            DossierEntrees.supprimer(entree);
+        }
+    }
+
+    /**
+     * Supprime les entrées les moins récemment utilisées jusqu'à repasser sous la taille maximale.
+     */
+    private void evincer() throws IOException {
+        List<Path> liste = entrees.listerEntrees();
+        List<Long> tailles = new ArrayList<>();
+        long total = 0;
+        for (Path entree : liste) {
+            long t = taille(entree);
+            tailles.add(t);
+            total += t;
+        }
+        if (total <= tailleMax) {
+            return;
+        }
+        List<Integer> ordre = new ArrayList<>();
+        List<FileTime> dates = new ArrayList<>();
+        for (int i = 0; i < liste.size(); i++) {
+            ordre.add(i);
+            dates.add(Files.getLastModifiedTime(liste.get(i)));
+        }
+        ordre.sort(Comparator.comparing(dates::get)); //Les moins récemment utilisées d'abord
+        for (int i : ordre) {
+            if (total <= tailleMax) {
+                break;
+            }
+            DossierEntrees.supprimer(liste.get(i));
+            total -= tailles.get(i);
+        }
+    }
+
+    /**
+     * Écrit les métriques d'un algorithme au format du fichier des métriques globales.
+     */
+    private static void ecrireMetriques(Path fichier, Metrics metriques) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(fichier, StandardCharsets.UTF_8)) {
+            writer.write("algo,tempsAttenteMoyen,tempsReponseMoyen,makespan\n");
+            writer.write(metriques.getNomAlgorithme() + "," + metriques.getTempsAttenteMoyen() + ","
+                    + metriques.getTempsReponseMoyen() + "," + metriques.getMakespan() + "\n");
+        }
+    }
+
+    /**
+     * Renvoie la taille des fichiers d'une entrée (0 si elle n'existe plus).
+     */
+    private static long taille(Path entree) {
+        try (Stream<Path> fichiers = Files.list(entree)) {
+            return fichiers.mapToLong(f -> f.toFile().length()).sum();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Calcule l'empreinte du contenu d'un fichier.
+     */
+    private static byte[] hacherFichier(Path fichier) {
+        MessageDigest sha = sha256();
+        byte[] tampon = new byte[64 * 1024];
+        try (InputStream entree = Files.newInputStream(fichier)) {
+            int lus;
+            while ((lus = entree.read(tampon)) > 0) {
+                sha.update(tampon, 0, lus);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible de lire le fichier : " + fichier, e);
+        }
+        return sha.digest();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e); //Toujours présent dans le JDK
+        }
+    }
+}
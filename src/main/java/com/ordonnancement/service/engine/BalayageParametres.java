@@ -0,0 +1,188 @@
+package com.ordonnancement.service.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.ordonnancement.model.AlgoConfiguration;
+import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.MetriquesDetaillees;
+import com.ordonnancement.model.ModeSimulation;
+import com.ordonnancement.model.ParametreBalayage;
+import com.ordonnancement.model.PointBalayage;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Ressources;
+import com.ordonnancement.service.SuiviExecution;
+import com.ordonnancement.service.engine.simulation.Simulation;
+import com.ordonnancement.service.metriques.CalculateurMetriques;
+import com.ordonnancement.util.ParallelUtils;
+
+/**
+ * Balayage d'un paramètre d'algorithme (par exemple le quantum de Round Robin) :
+ * l'algorithme est simulé par le moteur Java une fois par valeur du paramètre,
+ * sur la même liste de processus déjà lue (les fichiers d'entrée ne sont pas relus).
+ *
+ * Les variantes sont simulées en parallèle (au plus une par coeur) et le résultat de chacune
+ * est transmis dès qu'il est disponible. Les allocations d'une variante sont retirées des processus
+ * une fois ses métriques calculées : la mémoire utilisée ne dépend pas du nombre de valeurs.
+ * @author ROMA Quentin
+ */
+public class BalayageParametres {
+
+    private static final int NOMBRE_MAX_VALEURS = 1000; //Garde-fou contre une plage saisie par erreur (1-1000000)
+
+    private final AlgoConfiguration algo; //L'algorithme dont on fait varier le paramètre
+    private final ParametreBalayage parametre; //Le paramètre qui varie
+    private final List<Integer> valeurs; //Les valeurs du paramètre, croissantes
+    private final ModeSimulation mode; //Le mode de simulation des variantes
+
+    /**
+     * Constructeur
+     * @param algo : la configuration de l'algorithme
+     * @param parametre : le paramètre qui varie
+     * @param valeurs : les valeurs du paramètre (les doublons sont ignorés)
+     * @param mode : le mode de simulation
+     * @throws SchedulingEngineException s'il n'y a aucune valeur ou si une valeur est invalide pour l'algorithme
+     */
+    public BalayageParametres(AlgoConfiguration algo, ParametreBalayage parametre, List<Integer> valeurs, ModeSimulation mode) {
+        if (valeurs.isEmpty()) {
+            throw new SchedulingEngineException("Le balayage doit contenir au moins une valeur.");
+        }
+        this.algo = algo;
+        this.parametre = parametre;
+        this.valeurs = new ArrayList<>(new TreeSet<>(valeurs));
+        this.mode = mode;
+        for (int valeur : this.valeurs) {
+            creerVariante(valeur); //Vérifie chaque valeur avant de lancer les simulations
+        }
+    }
+
+    /**
+     * Lit une liste de valeurs saisie par l'utilisateur : des entiers et des plages séparés par des virgules.
+     * Une plage s'écrit "debut-fin" ou "debut-fin:pas", par exemple "1-10", "2-64:2" ou "1,2,4,8-12".
+     *
+     * @param texte : le texte saisi
+     * @return les valeurs, dans l'ordre de saisie
+     * @throws SchedulingEngineException si le texte est mal formé ou contient trop de valeurs
+     */
+    public static List<Integer> parserValeurs(String texte) {
+        List<Integer> valeurs = new ArrayList<>();
+        if (texte == null || texte.isBlank()) {
+            throw new SchedulingEngineException("Aucune valeur à balayer.");
+        }
+        try {
+            for (String element : texte.split(",")) {
+                String[] plageEtPas = element.trim().split(":");
+                String[] bornes = plageEtPas[0].trim().split("-");
+                if (plageEtPas.length > 2 || bornes.length > 2 || (plageEtPas.length == 2 && bornes.length == 1)) {
+                    throw new SchedulingEngineException("Valeur de balayage invalide : " + element.trim());
+                }
+                int debut = Integer.parseInt(bornes[0].trim());
+                int fin = bornes.length == 2 ? Integer.parseInt(bornes[1].trim()) : debut;
+                int pas = plageEtPas.length == 2 ? Integer.parseInt(plageEtPas[1].trim()) : 1;
+                if (fin < debut || pas <= 0) {
+                    throw new SchedulingEngineException("Plage de balayage invalide : " + element.trim());
+                }
+                for (long v = debut; v <= fin; v += pas) {
+                    if (valeurs.size() == NOMBRE_MAX_VALEURS) {
+                        throw new SchedulingEngineException("Un balayage est limité à " + NOMBRE_MAX_VALEURS + " valeurs.");
+                    }
+                    valeurs.add((int) v);
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new SchedulingEngineException("Format numérique invalide dans le balayage : " + texte);
+        }
+        return valeurs;
+    }
+
+    /**
+     * Simule toutes les variantes sur la liste des processus.
+     * L'exécution peut être annulée en interrompant le thread appelant.
+     *
+     * @param processus : la liste des processus initiaux (partagée entre les variantes)
+     * @param ressources : les ressources disponibles
+     * @param ecouteur : reçoit le résultat de chaque variante dès qu'il est disponible,
+     *                   depuis le thread qui l'a simulée (dans l'ordre de fin des simulations)
+     * @param suivi : le suivi qui reçoit l'avancement
+     * @return les résultats des variantes, par valeur croissante du paramètre
+     * @throws SchedulingEngineException si une simulation échoue
+     * @throws java.util.concurrent.CancellationException si l'exécution est annulée
+     */
+    public List<PointBalayage> executer(List<Process> processus, Ressources ressources,
+            Consumer<PointBalayage> ecouteur, SuiviExecution suivi) {
+        AtomicInteger variantesTerminees = new AtomicInteger();
+        suivi.avancer("Balayage " + parametre.getLibelle() + " : " + algo.getNomAlgorithme(), 0, valeurs.size());
+        List<Callable<PointBalayage>> taches = new ArrayList<>();
+        for (int valeur : valeurs) {
+            taches.add(() -> {
+                PointBalayage point = simulerVariante(processus, ressources, valeur);
+                ecouteur.accept(point);
+                suivi.avancer("Variante terminée : " + parametre.getLibelle() + " = " + valeur,
+                        variantesTerminees.incrementAndGet(), valeurs.size());
+                return point;
+            });
+        }
+        return ParallelUtils.executer(taches);
+    }
+
+    /**
+     * Renvoie les valeurs du paramètre balayées.
+     *
+     * @return les valeurs, croissantes et sans doublon
+     */
+    public List<Integer> getValeurs() {
+        return valeurs;
+    }
+
+    /**
+     * Renvoie le paramètre balayé.
+     *
+     * @return le paramètre
+     */
+    public ParametreBalayage getParametre() {
+        return parametre;
+    }
+
+    /**
+     * Simule une variante puis retire ses résultats des processus.
+     *
+     * @param processus : la liste des processus
+     * @param ressources : les ressources disponibles
+     * @param valeur : la valeur du paramètre
+     * @return le résultat de la variante
+     */
+    private PointBalayage simulerVariante(List<Process> processus, Ressources ressources, int valeur) {
+        AlgoConfiguration variante = creerVariante(valeur);
+        String cle = "BALAYAGE " + algo.getNomAlgorithme() + " " + parametre.name() + "=" + valeur; //Distincte des résultats affichés
+        Simulation simulation = JavaSchedulingEngine.creerSimulation(variante, ressources);
+        try {
+            Metrics metriques = simulation.executer(processus, cle, mode);
+            MetriquesDetaillees details = CalculateurMetriques.calculer(processus, cle);
+            return new PointBalayage(valeur, metriques, details);
+        } finally {
+            for (Process p : processus) {
+                p.setAllocations(cle, null);
+                p.addExecution(cle, null);
+            }
+        }
+    }
+
+    /**
+     * Crée la configuration de la variante correspondant à une valeur du paramètre.
+     *
+     * @param valeur : la valeur du paramètre
+     * @return la configuration de la variante
+     * @throws SchedulingEngineException si la valeur est invalide
+     */
+    private AlgoConfiguration creerVariante(int valeur) {
+        try {
+            return parametre.appliquer(algo, valeur);
+        } catch (IllegalArgumentException e) {
+            throw new SchedulingEngineException(parametre.getLibelle() + " invalide (" + valeur + ") : " + e.getMessage());
+        }
+    }
+}
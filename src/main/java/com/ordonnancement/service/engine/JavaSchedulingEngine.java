@@ -0,0 +1,83 @@
+package com.ordonnancement.service.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ordonnancement.model.AlgoConfiguration;
+import com.ordonnancement.model.FileConfiguration;
+import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Ressources;
+import com.ordonnancement.service.SuiviExecution;
+import com.ordonnancement.service.engine.simulation.Simulation;
+import com.ordonnancement.service.engine.simulation.SimulationFifo;
+import com.ordonnancement.service.engine.simulation.SimulationPriorite;
+import com.ordonnancement.service.engine.simulation.SimulationRoundRobin;
+import com.ordonnancement.service.validation.ResultatsValidator;
+import com.ordonnancement.util.ParallelUtils;
+
+/**
+ * Moteur d'ordonnancement exécuté directement dans la JVM.
+ * Reproduit les algorithmes python (FIFO, PRIORITE, ROUND ROBIN) sans lancer
+ * de processus externe ni écrire / relire de fichiers CSV.
+ * Les algorithmes sont simulés en parallèle, un thread par algorithme.
+ * @author ROMA Quentin
+ */
+public class JavaSchedulingEngine implements SchedulingEngine {
+
+    @Override
+    public List<Metrics> ordonnancer(FileConfiguration configuration, List<Process> processus, Ressources ressources) {
+        return ordonnancer(configuration, processus, ressources, SuiviExecution.AUCUN);
+    }
+
+    /**
+     * Simule les algorithmes en signalant l'avancement à la fin de chaque simulation.
+     */
+    @Override
+    public List<Metrics> ordonnancer(FileConfiguration configuration, List<Process> processus, Ressources ressources,
+            SuiviExecution suivi) {
+        //Une tâche par algorithme d'ordonnancement : les simulations sont indépendantes
+        int nbAlgos = configuration.getListeAlgorithmes().size();
+        AtomicInteger simulationsTerminees = new AtomicInteger();
+        suivi.avancer("Simulation des algorithmes", 0, nbAlgos);
+        List<Callable<Metrics>> taches = new ArrayList<>();
+        for (AlgoConfiguration algo : configuration.getListeAlgorithmes()) {
+            Simulation simulation = creerSimulation(algo, ressources);
+            taches.add(() -> {
+                Metrics metriques = simulation.executer(processus, algo.getNomAlgorithme(), configuration.getModeSimulation());
+                ResultatsValidator.valider(processus, algo.getNomAlgorithme()); //Mêmes vérifications que pour les résultats produits par python
+                suivi.avancer("Simulation terminée : " + algo.getNomAlgorithme(), simulationsTerminees.incrementAndGet(), nbAlgos);
+                return metriques;
+            });
+        }
+        return ParallelUtils.executer(taches);
+    }
+
+    /**
+     * Crée la simulation correspondant à l'algorithme demandé.
+     *
+     * @param algo : la configuration de l'algorithme
+     * @param ressources : les ressources disponibles
+     * @return la simulation à exécuter
+     * @throws SchedulingEngineException si l'algorithme est inconnu ou mal configuré
+     */
+    static Simulation creerSimulation(AlgoConfiguration algo, Ressources ressources) {
+        String nom = algo.getNomAlgorithme().trim().toUpperCase();
+        switch (nom) {
+            case "FIFO":
+                return new SimulationFifo(ressources);
+            case "PRIORITE":
+                return new SimulationPriorite(ressources);
+            case "ROUND ROBIN":
+                if (algo.getQuantum() == null) {
+                    throw new SchedulingEngineException("Le quantum de l'algorithme Round Robin doit être renseigné.");
+                }
+                return new SimulationRoundRobin(ressources, algo.getQuantum());
+            default:
+                throw new SchedulingEngineException("Algorithme d'ordonnancement inconnu : " + algo.getNomAlgorithme());
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.ordonnancement.service.engine;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ordonnancement.model.AlgoConfiguration;
+import com.ordonnancement.model.ChargementDetails;
+import com.ordonnancement.model.FileConfiguration;
+import com.ordonnancement.model.FormatResultats;
+import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Ressources;
+import com.ordonnancement.model.Resultats;
+import com.ordonnancement.service.SuiviExecution;
+import com.ordonnancement.service.parser.metrics.MetricsParser;
+import com.ordonnancement.service.parser.process.BinaryResultProcessParser;
+import com.ordonnancement.service.parser.process.DetailedResultProcessParser;
+import com.ordonnancement.service.parser.process.GlobalResultProcessParser;
+import com.ordonnancement.service.python.EcouteurSortie;
+import com.ordonnancement.service.python.PythonLauncher;
+import com.ordonnancement.service.python.PythonWorker;
+import com.ordonnancement.service.validation.ResultatsValidator;
+import com.ordonnancement.util.ParallelUtils;
+
+/**
+ * Moteur d'ordonnancement qui délègue au script Python.
+ * Lance le script, puis parse en parallèle les fichiers de résultats qu'il a écrits
+ * (en CSV ou en binaire, selon le format choisi pour chaque algorithme).
+ * Les résultats détaillés peuvent n'être lus qu'à la demande ({@link #ordonnancerDetailsDifferes}).
+ * Conservé pour pouvoir comparer ses résultats avec ceux du moteur Java.
+ * @author ROMA Quentin
+ */
+public class PythonSchedulingEngine implements SchedulingEngine {
+
+    private final Path cheminScript; //Chemin du script python à exécuter
+    private final String cheminConfig; //Chemin du fichier de configuration JSON passé au script
+    private final boolean workerPersistant; //Exécution dans le script python déjà lancé (mode serveur)
+
+    /**
+     * Constructeur : le script est lancé pour cette exécution uniquement.
+     * @param cheminScript : le chemin du script python
+     * @param cheminConfig : le chemin du fichier de configuration JSON
+     */
+    public PythonSchedulingEngine(Path cheminScript, String cheminConfig) {
+        this(cheminScript, cheminConfig, false);
+    }
+
+    /**
+     * Constructeur
+     * @param cheminScript : le chemin du script python
+     * @param cheminConfig : le chemin du fichier de configuration JSON
+     * @param workerPersistant : true pour exécuter la configuration dans un script python lancé une seule fois
+     *                           et réutilisé d'une exécution à l'autre (voir {@link PythonWorker})
+     */
+    public PythonSchedulingEngine(Path cheminScript, String cheminConfig, boolean workerPersistant) {
+        this.cheminScript = cheminScript;
+        this.cheminConfig = cheminConfig;
+        this.workerPersistant = workerPersistant;
+    }
+
+    /**
+     * Lance python puis parse les résultats globaux, détaillés et les métriques.
+     * Les ressources ne sont pas utilisées : python lit lui-même le fichier des ressources.
+     */
+    @Override
+    public List<Metrics> ordonnancer(FileConfiguration configuration, List<Process> processus, Ressources ressources) {
+        return ordonnancer(configuration, processus, ressources, SuiviExecution.AUCUN);
+    }
+
+    /**
+     * Lance python puis parse les résultats, en signalant l'avancement :
+     * exécution du script (chaque ligne écrite par le script est transmise au journal du suivi),
+     * puis chaque fichier de résultats lu.
+     * Les résultats détaillés sont lus au retour de {@link #ordonnancerDetailsDifferes}, un algorithme par tâche.
+     */
+    @Override
+    public List<Metrics> ordonnancer(FileConfiguration configuration, List<Process> processus, Ressources ressources,
+            SuiviExecution suivi) {
+        Resultats resultats = ordonnancerDetailsDifferes(configuration, processus, ressources, suivi);
+
+        int nbAlgos = configuration.getListeAlgorithmes().size();
+        AtomicInteger algosCharges = new AtomicInteger();
+        suivi.avancer("Lecture des résultats détaillés", 0, nbAlgos);
+        List<Callable<Void>> taches = new ArrayList<>();
+        for (AlgoConfiguration algo : configuration.getListeAlgorithmes()) {
+            taches.add(() -> {
+                resultats.getChargementDetails(algo.getNomAlgorithme()).attendre(); //Chargement dans le thread de la tâche
+                suivi.avancer("Résultats détaillés lus : " + algo.getNomAlgorithme(), algosCharges.incrementAndGet(), nbAlgos);
+                return null;
+            });
+        }
+        ParallelUtils.executer(taches);
+        return resultats.getListeMetrics();
+    }
+
+    /**
+     * Lance python puis parse les métriques et les résultats globaux, en signalant l'avancement.
+     * Les fichiers des résultats détaillés (les plus volumineux) ne sont lus qu'à la demande :
+     * chaque chargement lit le fichier de son algorithme puis valide ses résultats.
+     * Ces fichiers sont remplacés à la prochaine exécution du script : leur chargement doit être terminé avant.
+     */
+    @Override
+    public Resultats ordonnancerDetailsDifferes(FileConfiguration configuration, List<Process> processus,
+            Ressources ressources, SuiviExecution suivi) {
+
+        //Lancement python, execution script 
+        suivi.avancer("Exécution du moteur Python", 0, 0);
+        EcouteurSortie ecouteur = (flux, ligne) -> suivi.journaliser(ligne);
+        if (workerPersistant) {
+            PythonWorker.getInstance(cheminScript).executer(cheminConfig, ecouteur);
+        } else {
+            PythonLauncher.runPythonScript(cheminScript, cheminConfig, ecouteur);
+        }
+
+        //Une tâche de parsing par algorithme, plus une pour les métriques : les fichiers sont indépendants
+        int nbFichiers = configuration.getListeAlgorithmes().size() + 1;
+        AtomicInteger fichiersLus = new AtomicInteger();
+        suivi.avancer("Lecture des résultats", 0, nbFichiers);
+        List<Callable<List<Metrics>>> taches = new ArrayList<>();
+        for (AlgoConfiguration algo : configuration.getListeAlgorithmes()) {
+            taches.add(() -> {
+                //Parse le fichier des résultats globaux et met à jour la liste des processus
+                if (algo.getFormatResultats() == FormatResultats.BINAIRE) {
+                    new BinaryResultProcessParser(processus).parseGlobaux(algo.getFichierResultatsGlobaux(), algo.getNomAlgorithme());
+                } else {
+                    new GlobalResultProcessParser(processus).parse(algo.getFichierResultatsGlobaux(), algo.getNomAlgorithme());
+                }
+                suivi.avancer("Résultats globaux lus : " + algo.getNomAlgorithme(), fichiersLus.incrementAndGet(), nbFichiers);
+                return null;
+            });
+        }
+        //Parser le fichier des métriques et récupérer la liste des métriques
+        taches.add(() -> {
+            List<Metrics> metriques = new MetricsParser().parse(configuration.getFichierMetriquesGlobales());
+            suivi.avancer("Métriques lues", fichiersLus.incrementAndGet(), nbFichiers);
+            return metriques;
+        });
+        List<List<Metrics>> resultats = ParallelUtils.executer(taches);
+
+        List<ChargementDetails> chargements = new ArrayList<>();
+        for (AlgoConfiguration algo : configuration.getListeAlgorithmes()) {
+            chargements.add(new ChargementDetails(algo.getNomAlgorithme(), () -> chargerDetails(algo, processus)));
+        }
+        return new Resultats(processus, resultats.get(resultats.size() - 1), Set.of(), chargements);
+    }
+
+    /**
+     * Parse le fichier des résultats détaillés d'un algorithme, puis vérifie une seule fois
+     * l'ensemble de ses résultats (globaux et détaillés).
+     *
+     * @param algo : la configuration de l'algorithme
+     * @param processus : la liste des processus, avec les résultats globaux de l'algorithme
+     * @throws com.ordonnancement.service.parser.FileParsingException si le fichier est invalide ou les résultats incohérents
+     */
+    private static void chargerDetails(AlgoConfiguration algo, List<Process> processus) {
+        if (algo.getFormatResultats() == FormatResultats.BINAIRE) {
+            new BinaryResultProcessParser(processus).parseDetailles(algo.getFichierResultatsDetailles(), algo.getNomAlgorithme());
+        } else {
+            new DetailedResultProcessParser(processus).parse(algo.getFichierResultatsDetailles(), algo.getNomAlgorithme());
+        }
+        ResultatsValidator.valider(processus, algo.getNomAlgorithme());
+    }
+
+}
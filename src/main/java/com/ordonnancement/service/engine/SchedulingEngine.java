@@ -0,0 +1,77 @@
+package com.ordonnancement.service.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.ordonnancement.model.AlgoConfiguration;
+import com.ordonnancement.model.ChargementDetails;
+import com.ordonnancement.model.FileConfiguration;
+import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Ressources;
+import com.ordonnancement.model.Resultats;
+import com.ordonnancement.service.SuiviExecution;
+
+/**
+ * Interface représentant un moteur d'ordonnancement.
+ * Un moteur exécute chacun des algorithmes de la configuration sur la liste des processus
+ * et complète les Process avec leurs allocations et informations d'exécution.
+ * @author ROMA Quentin
+ */
+public interface SchedulingEngine {
+
+    /**
+     * Ordonnance les processus avec chacun des algorithmes de la configuration.
+     * Met à jour chaque Process avec ses Allocations et ExecutionInfo par algorithme.
+     *
+     * @param configuration : la configuration (algorithmes à exécuter, fichiers)
+     * @param processus : la liste des processus initiaux
+     * @param ressources : les ressources disponibles (processeurs, RAM)
+     * @return la liste des métriques globales, une par algorithme exécuté
+     * @throws SchedulingEngineException si l'ordonnancement échoue
+     */
+    public List<Metrics> ordonnancer(FileConfiguration configuration, List<Process> processus, Ressources ressources);
+
+    /**
+     * Ordonnance les processus en signalant l'avancement de chaque phase.
+     * L'exécution peut être annulée en interrompant le thread appelant.
+     *
+     * @param configuration : la configuration (algorithmes à exécuter, fichiers)
+     * @param processus : la liste des processus initiaux
+     * @param ressources : les ressources disponibles (processeurs, RAM)
+     * @param suivi : le suivi qui reçoit l'avancement
+     * @return la liste des métriques globales, une par algorithme exécuté
+     * @throws SchedulingEngineException si l'ordonnancement échoue
+     * @throws java.util.concurrent.CancellationException si l'exécution est annulée
+     */
+    public default List<Metrics> ordonnancer(FileConfiguration configuration, List<Process> processus, Ressources ressources,
+            SuiviExecution suivi) {
+        return ordonnancer(configuration, processus, ressources);
+    }
+
+    /**
+     * Ordonnance les processus sans attendre le chargement des résultats détaillés.
+     * Au retour, les métriques et les résultats globaux (ExecutionInfo) sont disponibles ;
+     * les allocations de chaque algorithme sont chargées par son {@link ChargementDetails}.
+     * Par défaut, toutes les allocations sont déjà en mémoire au retour.
+     *
+     * @param configuration : la configuration (algorithmes à exécuter, fichiers)
+     * @param processus : la liste des processus initiaux
+     * @param ressources : les ressources disponibles (processeurs, RAM)
+     * @param suivi : le suivi qui reçoit l'avancement
+     * @return les résultats : processus, métriques et chargement des résultats détaillés de chaque algorithme
+     * @throws SchedulingEngineException si l'ordonnancement échoue
+     * @throws java.util.concurrent.CancellationException si l'exécution est annulée
+     */
+    public default Resultats ordonnancerDetailsDifferes(FileConfiguration configuration, List<Process> processus,
+            Ressources ressources, SuiviExecution suivi) {
+        List<Metrics> metriques = ordonnancer(configuration, processus, ressources, suivi);
+        List<ChargementDetails> chargements = new ArrayList<>();
+        for (AlgoConfiguration algo : configuration.getListeAlgorithmes()) {
+            chargements.add(ChargementDetails.termine(algo.getNomAlgorithme()));
+        }
+        return new Resultats(processus, metriques, Set.of(), chargements);
+    }
+
+}
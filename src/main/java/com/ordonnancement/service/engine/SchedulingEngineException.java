@@ -0,0 +1,17 @@
+package com.ordonnancement.service.engine;
+
+/**
+ * Exception générique pour les erreurs liées à un moteur d'ordonnancement.
+ * 
+ * Utilisée par les moteurs pour signaler un problème lors de l'ordonnancement des processus.
+ */
+public class SchedulingEngineException extends RuntimeException {
+
+    public SchedulingEngineException(String message) {
+        super(message);
+    }
+
+    public SchedulingEngineException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,39 @@
+package com.ordonnancement.service.engine.simulation;
+
+import com.ordonnancement.model.Process;
+
+/**
+ * État d'un processus pendant une simulation d'ordonnancement.
+ * Regroupe les compteurs qui évoluent au fil de la simulation
+ * (temps déjà exécuté, quantum restant, RAM réservée, allocation en cours...).
+ * @author ROMA Quentin
+ */
+class EtatProcessus {
+
+    final Process processus; //Le processus simulé
+    int indice; //Rang du processus dans l'ordre de soumission (identifiant dans les files et les tas)
+    int tempsExecute = 0; //Nombre d'unités de temps pendant lesquelles le processus s'est exécuté
+    int tempsRestQuantum; //Quantum restant avant retour en file d'attente (Round Robin)
+    int dateDebut = -1; //Date du premier passage sur un CPU (-1 si jamais exécuté)
+    int dateFin = -1; //Date de fin d'exécution (-1 si pas terminé)
+    int usedRam = 0; //RAM réservée par le processus (0 si aucune)
+    String processeur; //CPU de l'allocation en cours
+    int debutAllocation; //Date de début de l'allocation en cours
+
+    /**
+     * Constructeur
+     * @param processus : le processus simulé
+     */
+    EtatProcessus(Process processus) {
+        this.processus = processus;
+    }
+
+    /**
+     * Indique si le processus a déjà réservé sa RAM.
+     * @return true si la RAM est réservée
+     */
+    boolean ramReservee() {
+        return usedRam > 0;
+    }
+
+}
@@ -0,0 +1,397 @@
+package com.ordonnancement.service.engine.simulation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import com.ordonnancement.model.AllocationStore;
+import com.ordonnancement.model.ExecutionInfo;
+import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.ModeSimulation;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Ressources;
+import com.ordonnancement.service.engine.SchedulingEngineException;
+import com.ordonnancement.util.IndexAdmission;
+import com.ordonnancement.util.ParallelUtils;
+import com.ordonnancement.util.TasIndexe;
+
+/**
+ * Classe de base des simulations d'ordonnancement du moteur Java.
+ * Reproduit la boucle des algorithmes python : à chaque unité de temps on
+ * soumet les processus arrivés, on alloue les CPU libres puis on exécute les processus élus.
+ * En mode évènementiel, la date saute directement au prochain évènement
+ * (arrivée, fin de quantum, fin d'exécution) ; les allocations obtenues sont identiques.
+ * Chaque algorithme gère sa propre file d'attente, avec une structure adaptée à sa politique
+ * (file pour FIFO, index d'admission par RAM pour Round Robin et les priorités).
+ * Une simulation ne doit être exécutée qu'une seule fois.
+ * Elle peut être annulée en interrompant son thread (CancellationException).
+ * @author ROMA Quentin
+ */
+public abstract class Simulation {
+
+    private static final int MASQUE_VERIFICATION_ANNULATION = 0xFFF; //Vérification de l'annulation toutes les 4096 itérations
+
+    private final String nomAlgorithme; //Le nom de l'algorithme (utilisé pour les métriques)
+    private final int ramTotale; //La RAM totale disponible
+    private int ramUtilisee = 0; //La RAM actuellement réservée par les processus
+    private boolean admissionIndexee = true; //Recherche du premier processus admissible par l'index (sinon par parcours)
+
+    protected final Deque<String> processeursDispos; //CPU libres : on prend le premier, on rend à la fin
+    protected final List<EtatProcessus> elus = new ArrayList<>(); //Processus en cours d'exécution sur un CPU
+    private final List<EtatProcessus> termines = new ArrayList<>(); //Processus terminés, dans l'ordre de fin
+    private final List<EtatProcessus> attenteSoumission = new ArrayList<>(); //Processus triés par date de soumission croissante
+    private int indexSoumission = 0; //Indice du prochain processus à soumettre
+    private final AllocationStore allocations = new AllocationStore(); //Allocations terminées de tous les processus
+
+    /**
+     * Constructeur
+     * @param nomAlgorithme : le nom de l'algorithme simulé
+     * @param ressources : les ressources disponibles
+     */
+    protected Simulation(String nomAlgorithme, Ressources ressources) {
+        this.nomAlgorithme = nomAlgorithme;
+        this.ramTotale = ressources.getRamTotale();
+        this.processeursDispos = new ArrayDeque<>(ressources.getProcesseurs());
+    }
+
+    /**
+     * Exécute la simulation unité de temps par unité de temps.
+     * @see #executer(List, String, ModeSimulation)
+     */
+    public Metrics executer(List<Process> processus, String cleAlgo) {
+        return executer(processus, cleAlgo, ModeSimulation.TICK);
+    }
+
+    /**
+     * Exécute la simulation sur la liste des processus et met à jour chaque Process
+     * avec ses allocations et son information d'exécution.
+     *
+     * @param processus : la liste des processus à ordonnancer
+     * @param cleAlgo : le nom sous lequel les résultats sont enregistrés dans les Process
+     * @param mode : le mode de simulation (par unité de temps ou par évènements)
+     * @return les métriques globales de l'ordonnancement
+     * @throws SchedulingEngineException si un processus demande plus de RAM que la RAM totale
+     */
+    public Metrics executer(List<Process> processus, String cleAlgo, ModeSimulation mode) {
+        for (Process p : processus) {
+            if (p.getRequiredRam() > ramTotale) { //Le processus ne pourrait jamais être élu
+                throw new SchedulingEngineException("Impossible d'exécuter le processus " + p.getId()
+                        + " : RAM demandée " + p.getRequiredRam() + " > RAM disponible " + ramTotale);
+            }
+            attenteSoumission.add(new EtatProcessus(p));
+        }
+        //Tri par date de soumission croissante (tri stable)
+        attenteSoumission.sort(Comparator.comparingInt(e -> e.processus.getDateSoumission()));
+        for (int i = 0; i < attenteSoumission.size(); i++) {
+            attenteSoumission.get(i).indice = i;
+        }
+        preparer(attenteSoumission);
+
+        int makespan = (mode == ModeSimulation.EVENEMENTIEL) ? simulerEvenements() : simulerTicks();
+
+        enregistrerResultats(cleAlgo);
+        return calculerMetriques(makespan);
+    }
+
+    /**
+     * Boucle de simulation : la date avance d'une unité de temps à chaque tour.
+     * @return la date de fin de la simulation
+     */
+    private int simulerTicks() {
+        int date = 0; //Date courante de l'ordonnancement
+
+        //Tant qu'il reste des processus à traiter
+        while (indexSoumission < attenteSoumission.size() || !fileAttenteVide() || !elus.isEmpty()) {
+            soumettreArrivees(date);
+            allouer(date);
+            executerElus(date);
+            date++;
+            if ((date & MASQUE_VERIFICATION_ANNULATION) == 0) {
+                ParallelUtils.verifierAnnulation("Simulation " + nomAlgorithme + " annulée");
+            }
+        }
+        return date;
+    }
+
+    /**
+     * Boucle de simulation à évènements discrets : la date saute au prochain évènement.
+     * À chaque date on traite les fins de tranche (dans l'ordre des élus), puis la soumission,
+     * puis l'allocation, comme dans la boucle par unité de temps.
+     * @return la date de fin de la simulation
+     */
+    private int simulerEvenements() {
+        //Fins de tranche à venir, par date : un processus élu a exactement une fin de tranche en attente
+        TasIndexe finsTranche = new TasIndexe(attenteSoumission.size());
+        BitSet fins = new BitSet(attenteSoumission.size()); //Processus dont la tranche se termine à la date courante
+
+        int date = 0;
+        int iterations = 0;
+        while (indexSoumission < attenteSoumission.size() || !finsTranche.estVide()) {
+            //Saut direct au prochain évènement : arrivée ou fin de tranche
+            date = Integer.MAX_VALUE;
+            if (indexSoumission < attenteSoumission.size()) {
+                date = attenteSoumission.get(indexSoumission).processus.getDateSoumission();
+            }
+            if (!finsTranche.estVide()) {
+                date = (int) Math.min(date, finsTranche.getCle(finsTranche.min()));
+            }
+            if ((++iterations & MASQUE_VERIFICATION_ANNULATION) == 0) {
+                ParallelUtils.verifierAnnulation("Simulation " + nomAlgorithme + " annulée");
+            }
+
+            //Marquer (par indice) les processus dont la tranche d'exécution se termine à cette date
+            int nbFins = 0;
+            while (!finsTranche.estVide() && finsTranche.getCle(finsTranche.min()) == date) {
+                fins.set(finsTranche.extraireMin());
+                nbFins++;
+            }
+
+            Iterator<EtatProcessus> it = elus.iterator();
+            while (nbFins > 0 && it.hasNext()) {
+                EtatProcessus e = it.next();
+                if (fins.get(e.indice)) {
+                    fins.clear(e.indice);
+                    nbFins--;
+                    e.tempsExecute += date - e.debutAllocation;
+                    it.remove();
+                    if (e.tempsExecute >= e.processus.getTempsExecution()) {
+                        terminer(e, date);
+                    } else {
+                        preempter(e, date);
+                    }
+                }
+            }
+
+            soumettreArrivees(date);
+            int nbElus = elus.size();
+            allouer(date);
+
+            //Planifier la fin de tranche des processus qui viennent d'être élus
+            for (int i = nbElus; i < elus.size(); i++) {
+                EtatProcessus e = elus.get(i);
+                if (e.dateDebut < 0) {
+                    e.dateDebut = date;
+                }
+                int duree = Math.min(e.processus.getTempsExecution() - e.tempsExecute, dureeMaxTranche());
+                finsTranche.inserer(e.indice, (long) date + duree);
+            }
+        }
+        return date;
+    }
+
+    /**
+     * Prépare la file d'attente une fois les processus connus (avant le premier tour de simulation).
+     * Par défaut rien n'est à préparer.
+     * @param processus : les processus, triés par date de soumission (rang = indice)
+     */
+    protected void preparer(List<EtatProcessus> processus) {
+    }
+
+    /**
+     * Soumet les processus dont la date de soumission est atteinte.
+     * @param date : la date courante
+     */
+    private void soumettreArrivees(int date) {
+        List<EtatProcessus> arrivees = new ArrayList<>();
+        while (indexSoumission < attenteSoumission.size()
+                && attenteSoumission.get(indexSoumission).processus.getDateSoumission() <= date) {
+            arrivees.add(attenteSoumission.get(indexSoumission++));
+        }
+        soumettre(arrivees);
+    }
+
+    /**
+     * Ajoute à la file d'attente les processus arrivés à la date courante.
+     * @param arrivees : les processus arrivés, dans l'ordre de soumission
+     */
+    protected abstract void soumettre(List<EtatProcessus> arrivees);
+
+    /**
+     * Alloue les CPU libres aux processus de la file d'attente.
+     * @param date : la date courante
+     */
+    protected abstract void allouer(int date);
+
+    /**
+     * Remet en file d'attente un processus qui a quitté son CPU sans être terminé.
+     * @param e : le processus préempté
+     */
+    protected abstract void remettreEnFile(EtatProcessus e);
+
+    /**
+     * Indique si la file d'attente est vide.
+     * @return true si aucun processus n'attend de CPU
+     */
+    protected abstract boolean fileAttenteVide();
+
+    /**
+     * Indique si le processus élu doit quitter son CPU car il a épuisé son quantum.
+     * Appelée à chaque unité de temps pour chaque processus élu non terminé.
+     * Par défaut les algorithmes ne sont pas préemptifs.
+     * @param e : le processus élu
+     * @return true si le processus doit retourner en file d'attente
+     */
+    protected boolean quantumEpuise(EtatProcessus e) {
+        return false;
+    }
+
+    /**
+     * Renvoie la durée maximale d'une tranche d'exécution sur un CPU (mode évènementiel).
+     * Par défaut les algorithmes ne sont pas préemptifs.
+     * @return la durée maximale d'une tranche
+     */
+    protected int dureeMaxTranche() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Fait progresser d'une unité de temps les processus élus.
+     * Termine les processus finis et renvoie en file d'attente ceux qui ont épuisé leur quantum.
+     * @param date : la date courante
+     */
+    private void executerElus(int date) {
+        Iterator<EtatProcessus> it = elus.iterator();
+        while (it.hasNext()) {
+            EtatProcessus e = it.next();
+            if (e.dateDebut < 0) { //Enregistrement de la date de début d'exécution
+                e.dateDebut = date;
+            }
+            e.tempsExecute++;
+
+            if (e.tempsExecute >= e.processus.getTempsExecution()) { //Le processus est terminé
+                it.remove();
+                terminer(e, date + 1); //+1 : il se termine à la fin de l'unité de temps
+            } else if (quantumEpuise(e)) { //Retour en file d'attente
+                it.remove();
+                preempter(e, date + 1);
+            }
+        }
+    }
+
+    /**
+     * Termine un processus (déjà retiré des élus) : rend son CPU et sa RAM.
+     * @param e : le processus terminé
+     * @param dateFin : la date de fin d'exécution
+     */
+    private void terminer(EtatProcessus e, int dateFin) {
+        e.dateFin = dateFin;
+        libererProcesseur(e, dateFin);
+        ramUtilisee -= e.usedRam; //La RAM est rendue
+        termines.add(e);
+    }
+
+    /**
+     * Renvoie un processus (déjà retiré des élus) en fin de file d'attente, la RAM reste réservée.
+     * @param e : le processus qui a épuisé son quantum
+     * @param date : la date à laquelle il quitte son CPU
+     */
+    private void preempter(EtatProcessus e, int date) {
+        libererProcesseur(e, date);
+        remettreEnFile(e);
+    }
+
+    /**
+     * Élit un processus sur le premier CPU libre et ouvre son allocation.
+     * @param e : le processus à élire
+     * @param date : la date de début de l'allocation
+     */
+    protected void elire(EtatProcessus e, int date) {
+        e.processeur = processeursDispos.pollFirst();
+        e.debutAllocation = date;
+        elus.add(e);
+    }
+
+    /**
+     * Réserve la RAM nécessaire au processus.
+     * @param e : le processus
+     */
+    protected void reserverRam(EtatProcessus e) {
+        e.usedRam = e.processus.getRequiredRam();
+        ramUtilisee += e.usedRam;
+    }
+
+    /**
+     * Renvoie le premier processus de la file, dans l'ordre de la politique, qui tient dans la RAM restante.
+     * @param file : l'index d'admission de la file d'attente (éléments : indices des processus)
+     * @return le processus, ou null si aucun ne tient
+     */
+    protected EtatProcessus premierAdmissible(IndexAdmission file) {
+        int indice = admissionIndexee ? file.premierAdmissible(ramRestante()) : file.premierAdmissibleParParcours(ramRestante());
+        return indice < 0 ? null : etat(indice);
+    }
+
+    /**
+     * Choisit la recherche du premier processus admissible : par l'index (par défaut, en O(log n))
+     * ou par parcours de la file dans l'ordre (référence pour les tests et les benchmarks).
+     * Les allocations obtenues sont identiques.
+     * @param admissionIndexee : true pour utiliser l'index
+     */
+    public void setAdmissionIndexee(boolean admissionIndexee) {
+        this.admissionIndexee = admissionIndexee;
+    }
+
+    /**
+     * Renvoie l'état d'un processus à partir de son indice (rang dans l'ordre de soumission).
+     * @param indice : l'indice du processus
+     * @return son état
+     */
+    protected EtatProcessus etat(int indice) {
+        return attenteSoumission.get(indice);
+    }
+
+    /**
+     * Renvoie la RAM encore disponible.
+     * @return la RAM restante
+     */
+    protected int ramRestante() {
+        return ramTotale - ramUtilisee;
+    }
+
+    /**
+     * Ferme l'allocation en cours du processus et rend son CPU.
+     * @param e : le processus qui quitte son CPU
+     * @param dateFin : la date de fin de l'allocation
+     */
+    private void libererProcesseur(EtatProcessus e, int dateFin) {
+        allocations.ajouter(e.processus, e.processeur, e.debutAllocation, dateFin);
+        processeursDispos.addLast(e.processeur); //Le CPU est à nouveau disponible
+        e.processeur = null;
+    }
+
+    /**
+     * Enregistre les allocations et les informations d'exécution dans chaque Process.
+     * @param cleAlgo : le nom sous lequel les résultats sont enregistrés
+     */
+    private void enregistrerResultats(String cleAlgo) {
+        for (EtatProcessus e : termines) {
+            e.processus.addExecution(cleAlgo, new ExecutionInfo(e.dateDebut, e.dateFin, e.usedRam));
+            allocations.indexer(e.processus); //Un processus sans allocation reçoit une vue vide
+        }
+        allocations.attacher(cleAlgo);
+    }
+
+    /**
+     * Calcule les métriques globales, de la même manière que metriques.py.
+     * @param makespan : la date de fin de la simulation
+     * @return les métriques
+     */
+    private Metrics calculerMetriques(int makespan) {
+        if (termines.isEmpty()) {
+            return new Metrics(nomAlgorithme, 0, 0, makespan);
+        }
+        long sommeAttente = 0;
+        long sommeReponse = 0;
+        for (EtatProcessus e : termines) {
+            sommeAttente += e.dateDebut - e.processus.getDateSoumission();
+            sommeReponse += e.dateFin - e.processus.getDateSoumission();
+        }
+        double tempsAttenteMoyen = (double) sommeAttente / termines.size();
+        double tempsReponseMoyen = (double) sommeReponse / termines.size();
+        return new Metrics(nomAlgorithme, tempsReponseMoyen, tempsAttenteMoyen, makespan);
+    }
+
+}
\ No newline at end of file
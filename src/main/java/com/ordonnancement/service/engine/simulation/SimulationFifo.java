@@ -0,0 +1,62 @@
+package com.ordonnancement.service.engine.simulation;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+import com.ordonnancement.model.Ressources;
+
+/**
+ * Simulation de l'algorithme FIFO (équivalent de fifo.py).
+ * La file est triée par date de soumission puis priorité décroissante.
+ * Si la RAM restante ne suffit pas au premier processus de la file, on attend.
+ * Les processus arrivent par date de soumission croissante : il suffit de trier chaque lot
+ * d'arrivées et de l'ajouter en fin de file, sans jamais retrier la file entière.
+ * @author ROMA Quentin
+ */
+public class SimulationFifo extends Simulation {
+
+    private final Deque<EtatProcessus> fileAttente = new ArrayDeque<>(); //Processus prêts en attente d'un CPU
+
+    /**
+     * Constructeur
+     * @param ressources : les ressources disponibles
+     */
+    public SimulationFifo(Ressources ressources) {
+        super("FIFO", ressources);
+    }
+
+    @Override
+    protected void soumettre(List<EtatProcessus> arrivees) {
+        //Tri par date de soumission croissante et priorité décroissante (tri stable)
+        //Les arrivées sont soumises après tous les processus déjà en file : la file reste triée
+        arrivees.sort(Comparator.<EtatProcessus>comparingInt(e -> e.processus.getDateSoumission())
+                .thenComparingInt(e -> -e.processus.getPriority()));
+        fileAttente.addAll(arrivees);
+    }
+
+    @Override
+    protected void allouer(int date) {
+        while (!fileAttente.isEmpty() && !processeursDispos.isEmpty()) {
+            EtatProcessus tete = fileAttente.peekFirst();
+            if (tete.processus.getRequiredRam() > ramRestante()) { //Pas assez de RAM : le premier attend
+                break;
+            }
+            reserverRam(tete);
+            elire(tete, date);
+            fileAttente.pollFirst();
+        }
+    }
+
+    @Override
+    protected void remettreEnFile(EtatProcessus e) {
+        fileAttente.addLast(e);
+    }
+
+    @Override
+    protected boolean fileAttenteVide() {
+        return fileAttente.isEmpty();
+    }
+
+}
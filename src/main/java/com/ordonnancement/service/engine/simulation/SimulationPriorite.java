@@ -0,0 +1,85 @@
+package com.ordonnancement.service.engine.simulation;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.ordonnancement.model.Ressources;
+import com.ordonnancement.util.IndexAdmission;
+
+/**
+ * Simulation de l'algorithme par priorité non préemptif (équivalent de priorite.py).
+ * La file est triée par priorité décroissante. Un processus qui ne tient pas
+ * dans la RAM restante est sauté au profit des suivants.
+ *
+ * L'algorithme n'est pas préemptif : un processus entre une seule fois en file, par ordre de soumission.
+ * Sa place dans l'ordre de la file (priorité décroissante, puis ordre de soumission) est donc connue dès le départ :
+ * la file est un index d'admission dont les positions sont ces rangs, ce qui reproduit le tri stable de priorite.py
+ * et trouve le premier processus qui tient dans la RAM restante en O(log n).
+ * @author ROMA Quentin
+ */
+public class SimulationPriorite extends Simulation {
+
+    private IndexAdmission fileAttente = new IndexAdmission(16); //Processus prêts, positionnés par rang de priorité
+    private int[] rangs = new int[0]; //Rang de chaque processus (par indice) dans l'ordre de la file
+
+    /**
+     * Constructeur
+     * @param ressources : les ressources disponibles
+     */
+    public SimulationPriorite(Ressources ressources) {
+        super("PRIORITE", ressources);
+    }
+
+    /**
+     * Calcule le rang de chaque processus : priorité décroissante, puis ordre de soumission.
+     */
+    @Override
+    protected void preparer(List<EtatProcessus> processus) {
+        int n = processus.size();
+        long[] cles = new long[n];
+        for (int i = 0; i < n; i++) {
+            cles[i] = ((long) -processus.get(i).processus.getPriority() << 32) | i;
+        }
+        Arrays.parallelSort(cles);
+        rangs = new int[n];
+        for (int rang = 0; rang < n; rang++) {
+            rangs[(int) cles[rang]] = rang; //Les 32 bits de poids faible sont l'indice
+        }
+        fileAttente = new IndexAdmission(n);
+    }
+
+    @Override
+    protected void soumettre(List<EtatProcessus> arrivees) {
+        for (EtatProcessus e : arrivees) {
+            remettreEnFile(e);
+        }
+    }
+
+    @Override
+    protected void allouer(int date) {
+        //Par priorité décroissante : les processus qui ne tiennent pas en RAM sont sautés
+        while (!fileAttente.estVide() && !processeursDispos.isEmpty()) {
+            EtatProcessus e = premierAdmissible(fileAttente);
+            if (e == null) { //Aucun processus ne tient dans la RAM restante
+                break;
+            }
+            fileAttente.retirer(e.indice);
+            reserverRam(e);
+            elire(e, date);
+        }
+    }
+
+    /**
+     * Place un processus à son rang dans la file.
+     */
+    @Override
+    protected void remettreEnFile(EtatProcessus e) {
+        fileAttente.placer(e.indice, rangs[e.indice], e.processus.getRequiredRam());
+    }
+
+    @Override
+    protected boolean fileAttenteVide() {
+        return fileAttente.estVide();
+    }
+
+}
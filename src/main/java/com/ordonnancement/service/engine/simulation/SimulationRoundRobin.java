@@ -0,0 +1,93 @@
+package com.ordonnancement.service.engine.simulation;
+
+import java.util.Comparator;
+import java.util.List;
+
+import com.ordonnancement.model.Ressources;
+import com.ordonnancement.util.IndexAdmission;
+
+/**
+ * Simulation de l'algorithme Round Robin (équivalent de roundRobin.py).
+ * Les processus arrivés en même temps entrent dans la file par priorité décroissante.
+ * Un processus qui épuise son quantum retourne en fin de file en conservant sa RAM.
+ * La file est un index d'admission (ordre d'entrée en file, besoin en RAM : 0 une fois la RAM réservée) :
+ * le premier processus qui peut être élu est trouvé sans parcourir ceux qui ne tiennent pas en RAM.
+ * @author ROMA Quentin
+ */
+public class SimulationRoundRobin extends Simulation {
+
+    private final int quantum; //Le quantum de temps alloué à chaque passage sur un CPU
+    private final IndexAdmission fileAttente = new IndexAdmission(16); //Processus prêts en attente d'un CPU
+
+    /**
+     * Constructeur
+     * @param ressources : les ressources disponibles
+     * @param quantum : le quantum de temps (> 0)
+     */
+    public SimulationRoundRobin(Ressources ressources, int quantum) {
+        super("ROUND ROBIN", ressources);
+        if (quantum <= 0) {
+            throw new IllegalArgumentException("Le quantum du Round Robin doit être supérieur ou égal à 1.");
+        }
+        this.quantum = quantum;
+    }
+
+    @Override
+    protected void soumettre(List<EtatProcessus> arrivees) {
+        //Les processus soumis en même temps sont triés par priorité décroissante (tri stable)
+        arrivees.sort(Comparator.comparingInt(e -> -e.processus.getPriority()));
+        for (EtatProcessus e : arrivees) {
+            e.tempsRestQuantum = quantum;
+            fileAttente.ajouterEnFin(e.indice, e.processus.getRequiredRam());
+        }
+    }
+
+    @Override
+    protected void allouer(int date) {
+        //Dans l'ordre de la file : premier passage si la RAM suffit, reprise d'exécution sinon (RAM déjà réservée)
+        while (!fileAttente.estVide() && !processeursDispos.isEmpty()) {
+            EtatProcessus e = premierAdmissible(fileAttente);
+            if (e == null) { //Aucun processus ne tient dans la RAM restante
+                break;
+            }
+            fileAttente.retirer(e.indice);
+            if (!e.ramReservee()) {
+                reserverRam(e);
+            }
+            elire(e, date);
+        }
+    }
+
+    @Override
+    protected void remettreEnFile(EtatProcessus e) {
+        fileAttente.ajouterEnFin(e.indice, 0); //Fin de file, la RAM reste réservée
+    }
+
+    @Override
+    protected boolean fileAttenteVide() {
+        return fileAttente.estVide();
+    }
+
+    /**
+     * Décrémente le quantum restant du processus et indique s'il est épuisé.
+     * Le quantum est alors réinitialisé pour le prochain passage.
+     */
+    @Override
+    protected boolean quantumEpuise(EtatProcessus e) {
+        e.tempsRestQuantum--;
+        if (e.tempsRestQuantum == 0) {
+            e.tempsRestQuantum = quantum;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Une tranche d'exécution dure au plus un quantum.
+     */
+    @Override
+    protected int dureeMaxTranche() {
+        return quantum;
+    }
+
+}
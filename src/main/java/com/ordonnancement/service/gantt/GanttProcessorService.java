@@ -1,15 +1,18 @@
 package com.ordonnancement.service.gantt;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
-import com.ordonnancement.config.ConfigurationManager;
-import com.ordonnancement.model.AlgoConfiguration;
-import com.ordonnancement.model.Allocation;
+import com.ordonnancement.model.AllocationStore;
 import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Resultats;
 import com.ordonnancement.model.gantt.IGanttTask;
 import com.ordonnancement.model.gantt.impl.CpuTask;
 import com.ordonnancement.util.ProcessUtils;
@@ -24,25 +27,48 @@ import com.ordonnancement.util.ProcessUtils;
 
 public class GanttProcessorService {
     private String nomAlgo;
-    private List<String> algosDispos;
+    private final List<String> algosDispos;
     private final List<Process> processus;
     private int dateFinMax;
     private List<IGanttTask> listeTachesGantt;
     private List<String> allCpus; //Tous les cpus dispos
+    private AllocationStore store; //Allocations de l'algorithme courant
+    private final Map<String, TachesAlgo> cacheTaches = new HashMap<>(); //Taches déjà préparées, par algorithme
+
+    /**
+     * Prépare le service en arrière-plan, une fois les résultats détaillés de tous les algorithmes chargés.
+     * @param resultats Les résultats de l'ordonnancement
+     * @return un futur qui renvoie le service (ou l'erreur de chargement des résultats détaillés)
+     */
+    public static CompletableFuture<GanttProcessorService> charger(Resultats resultats) {
+        return resultats.chargerDetails().thenApply(processus -> new GanttProcessorService(resultats));
+    }
+
+    /**
+     * Construteur
+     * Les algorithmes sont ceux des résultats, pas ceux de la configuration courante.
+     * @param resultats Les résultats de l'ordonnancement, avec leurs résultats détaillés chargés
+     */
+    public GanttProcessorService(Resultats resultats) {
+        this(resultats.getListeProcessus(), ProcessUtils.getNomAlgos(resultats));
+    }
 
     /**
      * Construteur
      * @param processus La liste des processus
+     * @param algosDispos Les noms des algorithmes exécutés
      */
-    public GanttProcessorService(List<Process> processus) {
+    public GanttProcessorService(List<Process> processus, List<String> algosDispos) {
         this.processus = processus;
-        trouverAlgosDisponibles();
+        this.algosDispos = List.copyOf(algosDispos);
         trouverTousLesCpus();
         
     }
     /**
      * Change l'algorithme courant,
      * recharge les CPUs disponibles et les tâches Gantt associées.
+     * Les tâches de chaque algorithme ne sont préparées qu'une fois : les appels suivants
+     * renvoient la même liste (ce qui permet aux composants Gantt de réutiliser leur dessin).
      *
      * @param nomAlgo Nom de l'algorithme à sélectionner.
      */
@@ -60,6 +86,30 @@ public class GanttProcessorService {
         return this.listeTachesGantt;
     };
     
+    /**
+     * Retourne les tâches Gantt de l'algorithme courant qui chevauchent la fenêtre de temps [t0, t1].
+     * La recherche utilise l'index d'intervalles du store : seules les tâches visibles sont parcourues.
+     *
+     * @param t0 Début de la fenêtre.
+     * @param t1 Fin de la fenêtre.
+     * @return Liste des IGanttTask visibles dans la fenêtre.
+     */
+    public List<IGanttTask> getTachesGantt(int t0, int t1){
+        return creerTaches(store.chercher(t0, t1));
+    }
+
+    /**
+     * Retourne les tâches Gantt d'un CPU de l'algorithme courant qui chevauchent la fenêtre de temps [t0, t1].
+     *
+     * @param cpu Identifiant du CPU.
+     * @param t0 Début de la fenêtre.
+     * @param t1 Fin de la fenêtre.
+     * @return Liste des IGanttTask du CPU visibles dans la fenêtre.
+     */
+    public List<IGanttTask> getTachesGantt(String cpu, int t0, int t1){
+        return creerTaches(store.getIndexProcesseur(cpu).chercher(t0, t1));
+    }
+
     /**
      * Retourne la date de fin maximale parmi toutes les tâches Gantt.
      *
@@ -86,31 +136,57 @@ public class GanttProcessorService {
     /**
      * Recharge la liste des tâches Gantt pour l'algorithme courant et calcule la date de fin maximale.
      * Met à jour les attributs internes listeTachesGantt et dateFinMax.
+     * La liste des tâches est une vue sur le store en colonnes des allocations :
+     * les tâches sont créées à la lecture, sans copie préalable de toutes les allocations.
      */
     private void rechargerTachesGantt(){
-        //Récupérer liste des allocations pour l'algo
-        List<Allocation> allocations = ProcessUtils.getAllocations(processus, nomAlgo); //Liste qui va garder les allocations de TOUS les processus
-        //Liste qui va stocker les taches du gantt
-        List<IGanttTask>tachesGantt = new ArrayList<>();
-        int max = 0;
-        //Pour chaque allocation, conversion en IGanttTask
-        for (Allocation a : allocations) {
-            IGanttTask tache = new CpuTask(a); //(CPU task car gantt par CPU en Y)
-            tachesGantt.add(tache);
-            
-            if (a.getDateFinExecution() > max) {
-                    max = a.getDateFinExecution();
-            }
-        }
-        //Rechargement avec les nouvelles valeurs
-        this.dateFinMax = max;
-        this.listeTachesGantt = tachesGantt;
+        TachesAlgo taches = cacheTaches.computeIfAbsent(nomAlgo, this::preparerTaches);
+        //Rechargement avec les valeurs de l'algo
+        this.store = taches.store;
+        this.dateFinMax = taches.dateFinMax;
+        this.listeTachesGantt = taches.taches;
        
     }
 
+    /**
+     * Prépare les tâches Gantt d'un algorithme.
+     * @param algo Nom de l'algorithme.
+     * @return Les tâches de l'algorithme et leur date de fin maximale.
+     */
+    private TachesAlgo preparerTaches(String algo){
+        //Récupérer le store des allocations de TOUS les processus pour l'algo
+        AllocationStore storeAlgo = ProcessUtils.getAllocationStore(processus, algo);
+        //Vue des taches du gantt (CPU task car gantt par CPU en Y)
+        List<IGanttTask> tachesGantt = new AbstractList<>() {
+            @Override
+            public IGanttTask get(int i) {
+                return new CpuTask(storeAlgo.getAllocation(i));
+            }
+
+            @Override
+            public int size() {
+                return storeAlgo.taille();
+            }
+        };
+        return new TachesAlgo(storeAlgo, tachesGantt, storeAlgo.getDateFinMax());
+    }
+
 
     /**
-     * Retourne la liste des de tous les noms d'algorithmes ayant été exécuté par python
+     * Crée les tâches Gantt correspondant à des lignes du store courant.
+     * @param lignes Indices des allocations dans le store.
+     * @return Liste des IGanttTask.
+     */
+    private List<IGanttTask> creerTaches(int[] lignes){
+        List<IGanttTask> taches = new ArrayList<>(lignes.length);
+        for (int ligne : lignes) {
+            taches.add(new CpuTask(store.getAllocation(ligne)));
+        }
+        return taches;
+    }
+
+    /**
+     * Retourne la liste des de tous les noms d'algorithmes de l'exécution
      * @return Liste des noms d'algorithmes.
      */
     public List<String> getNomAlgosDisponibles(){
@@ -118,15 +194,6 @@ public class GanttProcessorService {
         return this.algosDispos;
     };
 
-    private void trouverAlgosDisponibles(){
-        List<AlgoConfiguration> algos = ConfigurationManager.getInstance().getFileConfiguration().getListeAlgorithmes(); //Récupération de la liste des algorithmes exécutés dans le singleton
-        algosDispos = new ArrayList<>();
-        for (AlgoConfiguration algo : algos) { //On récup le nom de chaque algo exécuté
-            algosDispos.add(algo.getNomAlgorithme()); 
-
-        }
-    }
-
     /**
      * Permet de trouver tous les cpus pour tous les algos
      * @return Liste de tous les cpus
@@ -142,4 +209,19 @@ public class GanttProcessorService {
     }
 
 
+    /**
+     * Tâches Gantt préparées pour un algorithme.
+     */
+    private static class TachesAlgo {
+        private final AllocationStore store;
+        private final List<IGanttTask> taches;
+        private final int dateFinMax;
+
+        private TachesAlgo(AllocationStore store, List<IGanttTask> taches, int dateFinMax) {
+            this.store = store;
+            this.taches = taches;
+            this.dateFinMax = dateFinMax;
+        }
+    }
+
 }
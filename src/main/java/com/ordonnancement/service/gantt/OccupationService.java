@@ -0,0 +1,142 @@
+package com.ordonnancement.service.gantt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ordonnancement.model.AllocationStore;
+import com.ordonnancement.model.Chronologie;
+import com.ordonnancement.model.Occupation;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.util.ProcessUtils;
+
+/**
+ * Service qui construit l'occupation des ressources au cours du temps (processeurs occupés,
+ * occupation de chaque processeur et RAM utilisée) à partir des allocations d'un algorithme.
+ *
+ * Les chronologies sont construites par un seul balayage des évènements de début et de fin,
+ * triés une fois : chaque allocation occupe son processeur sur [début, fin), et chaque processus
+ * occupe sa RAM (requiredRam) de sa première à sa dernière allocation, comme dans la simulation
+ * où la RAM est réservée à la première élection et rendue à la fin du processus.
+ * @author ROMA Quentin
+ */
+public class OccupationService {
+
+    //Type de l'évènement, dans les deux bits faibles (l'ordre des évènements d'une même date n'a pas d'importance)
+    private static final int FIN_ALLOCATION = 0;
+    private static final int FIN_RAM = 1;
+    private static final int DEBUT_ALLOCATION = 2;
+    private static final int DEBUT_RAM = 3;
+
+    private OccupationService() {
+    }
+
+    /**
+     * Construit l'occupation des ressources d'un algorithme.
+     * Les résultats détaillés de l'algorithme doivent être chargés.
+     *
+     * @param processus : la liste des processus
+     * @param nomAlgo : le nom de l'algorithme
+     * @return l'occupation des ressources
+     */
+    public static Occupation calculer(List<Process> processus, String nomAlgo) {
+        AllocationStore store = ProcessUtils.getAllocationStore(processus, nomAlgo);
+        List<String> processeurs = store.getProcesseurs();
+        int nbProcessus = store.nombreProcessus();
+
+        //Période de résidence en RAM de chaque processus : de sa première à sa dernière allocation
+        int[] premiersDebuts = new int[nbProcessus];
+        int[] dernieresFins = new int[nbProcessus];
+        int[] rams = new int[nbProcessus]; //RAM demandée par chaque processus
+        Arrays.fill(premiersDebuts, Integer.MAX_VALUE);
+        Arrays.fill(dernieresFins, Integer.MIN_VALUE);
+        for (int ligne = 0; ligne < store.taille(); ligne++) {
+            int p = store.getIndiceProcessus(ligne);
+            if (premiersDebuts[p] == Integer.MAX_VALUE) { //Première allocation du processus
+                rams[p] = store.getProcessus(ligne).getRequiredRam();
+            }
+            premiersDebuts[p] = Math.min(premiersDebuts[p], store.getDateDebut(ligne));
+            dernieresFins[p] = Math.max(dernieresFins[p], store.getDateFin(ligne));
+        }
+
+        //Évènements : date dans les bits forts, puis indice (processeur ou processus) et type dans les bits faibles
+        long[] evenements = new long[2 * store.taille() + 2 * nbProcessus];
+        int nbEvenements = 0;
+        for (int ligne = 0; ligne < store.taille(); ligne++) {
+            if (store.getDateFin(ligne) > store.getDateDebut(ligne)) {
+                evenements[nbEvenements++] = evenement(store.getDateDebut(ligne), store.getIndiceProcesseur(ligne), DEBUT_ALLOCATION);
+                evenements[nbEvenements++] = evenement(store.getDateFin(ligne), store.getIndiceProcesseur(ligne), FIN_ALLOCATION);
+            }
+        }
+        for (int p = 0; p < nbProcessus; p++) {
+            if (dernieresFins[p] > premiersDebuts[p]) {
+                evenements[nbEvenements++] = evenement(premiersDebuts[p], p, DEBUT_RAM);
+                evenements[nbEvenements++] = evenement(dernieresFins[p], p, FIN_RAM);
+            }
+        }
+        Arrays.parallelSort(evenements, 0, nbEvenements);
+
+        //Balayage : les valeurs sont relevées après tous les évènements d'une même date
+        Chronologie.Constructeur occupes = new Chronologie.Constructeur();
+        Chronologie.Constructeur ram = new Chronologie.Constructeur();
+        Chronologie.Constructeur[] parProcesseur = new Chronologie.Constructeur[processeurs.size()];
+        for (int c = 0; c < parProcesseur.length; c++) {
+            parProcesseur[c] = new Chronologie.Constructeur();
+        }
+        int[] allocationsEnCours = new int[processeurs.size()];
+        List<Integer> processeursModifies = new ArrayList<>();
+        int nbOccupes = 0;
+        int ramEnCours = 0;
+        int i = 0;
+        while (i < nbEvenements) {
+            int date = (int) (evenements[i] >> 32);
+            for (; i < nbEvenements && (int) (evenements[i] >> 32) == date; i++) {
+                int type = (int) (evenements[i] & 3);
+                int indice = (int) ((evenements[i] & 0xFFFFFFFFL) >>> 2);
+                switch (type) {
+                    case DEBUT_ALLOCATION -> {
+                        if (allocationsEnCours[indice]++ == 0) {
+                            nbOccupes++;
+                        }
+                        processeursModifies.add(indice);
+                    }
+                    case FIN_ALLOCATION -> {
+                        if (--allocationsEnCours[indice] == 0) {
+                            nbOccupes--;
+                        }
+                        processeursModifies.add(indice);
+                    }
+                    case DEBUT_RAM -> ramEnCours += rams[indice];
+                    default -> ramEnCours -= rams[indice];
+                }
+            }
+            occupes.ajouter(date, nbOccupes);
+            ram.ajouter(date, ramEnCours);
+            for (int c : processeursModifies) {
+                parProcesseur[c].ajouter(date, allocationsEnCours[c] > 0 ? 1 : 0);
+            }
+            processeursModifies.clear();
+        }
+
+        //Chronologies des processeurs, par identifiant trié
+        List<Integer> ordre = new ArrayList<>();
+        for (int c = 0; c < processeurs.size(); c++) {
+            ordre.add(c);
+        }
+        ordre.sort((a, b) -> processeurs.get(a).compareTo(processeurs.get(b)));
+        Map<String, Chronologie> occupationParProcesseur = new LinkedHashMap<>();
+        for (int c : ordre) {
+            occupationParProcesseur.put(processeurs.get(c), parProcesseur[c].construire());
+        }
+        return new Occupation(nomAlgo, occupes.construire(), occupationParProcesseur, ram.construire(), store.getDateFinMax());
+    }
+
+    /**
+     * Encode un évènement dans un long : trier les évènements revient à les trier par date.
+     */
+    private static long evenement(int date, int indice, int type) {
+        return ((long) date << 32) | ((long) indice << 2) | type;
+    }
+}
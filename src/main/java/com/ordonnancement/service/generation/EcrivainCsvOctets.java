@@ -0,0 +1,135 @@
+package com.ordonnancement.service.generation;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Écrit un CSV directement en octets ASCII dans un tampon, vidé par blocs dans le flux de sortie :
+ * les entiers sont convertis sans créer de String, ce qui permet d'écrire des millions de lignes
+ * à la vitesse du disque.
+ * @author ROMA Quentin
+ */
+class EcrivainCsvOctets implements AutoCloseable {
+
+    private static final int TAILLE_TAMPON = 1 << 20; //1 Mo
+    private static final int TAILLE_MAX_ENTIER = 10; //"2147483647"
+    private static final byte[] DIZAINES = new byte[100]; //Chiffre des dizaines de 0 à 99
+    private static final byte[] UNITES = new byte[100]; //Chiffre des unités de 0 à 99
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIZAINES[i] = (byte) ('0' + i / 10);
+            UNITES[i] = (byte) ('0' + i % 10);
+        }
+    }
+
+    private final OutputStream sortie;
+    private final byte[] tampon = new byte[TAILLE_TAMPON];
+    private int position = 0;
+
+    /**
+     * Constructeur
+     * @param sortie : le flux dans lequel écrire (fermé avec l'écrivain)
+     */
+    EcrivainCsvOctets(OutputStream sortie) {
+        this.sortie = sortie;
+    }
+
+    /**
+     * Écrit un texte ASCII (en-tête, préfixe d'identifiant...).
+     * @param texte : le texte à écrire
+     */
+    void ecrire(String texte) throws IOException {
+        for (int i = 0; i < texte.length(); i++) {
+            ecrireOctet((byte) texte.charAt(i));
+        }
+    }
+
+    /**
+     * Écrit un entier en décimal.
+     * @param valeur : l'entier à écrire
+     */
+    void ecrireEntier(long valeur) throws IOException {
+        if (valeur >= 0 && valeur <= Integer.MAX_VALUE) { //Cas courant : arithmétique sur int, plus rapide
+            ecrireEntier((int) valeur);
+            return;
+        }
+        byte[] chiffres = Long.toString(valeur).getBytes(StandardCharsets.US_ASCII);
+        if (position + chiffres.length > tampon.length) {
+            vider();
+        }
+        System.arraycopy(chiffres, 0, tampon, position, chiffres.length);
+        position += chiffres.length;
+    }
+
+    /**
+     * Écrit un entier positif en décimal, deux chiffres par division.
+     * @param valeur : l'entier à écrire (positif ou nul)
+     */
+    private void ecrireEntier(int valeur) throws IOException {
+        if (position + TAILLE_MAX_ENTIER > tampon.length) {
+            vider();
+        }
+        int fin = position + nombreChiffres(valeur);
+        int i = fin;
+        while (valeur >= 100) { //Chiffres écrits de droite à gauche
+            int quotient = valeur / 100;
+            int reste = valeur - quotient * 100;
+            tampon[--i] = UNITES[reste];
+            tampon[--i] = DIZAINES[reste];
+            valeur = quotient;
+        }
+        tampon[--i] = UNITES[valeur];
+        if (valeur >= 10) {
+            tampon[--i] = DIZAINES[valeur];
+        }
+        position = fin;
+    }
+
+    /**
+     * Renvoie le nombre de chiffres décimaux d'un entier positif.
+     */
+    private static int nombreChiffres(int valeur) {
+        int nombre = 1;
+        for (int seuil = 10; nombre < 10 && valeur >= seuil; seuil *= 10) {
+            nombre++;
+        }
+        return nombre;
+    }
+
+    /**
+     * Écrit un séparateur de colonnes.
+     */
+    void virgule() throws IOException {
+        ecrireOctet((byte) ',');
+    }
+
+    /**
+     * Termine la ligne en cours.
+     */
+    void finLigne() throws IOException {
+        ecrireOctet((byte) '\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            vider();
+        } finally {
+            sortie.close();
+        }
+    }
+
+    private void ecrireOctet(byte octet) throws IOException {
+        if (position == tampon.length) {
+            vider();
+        }
+        tampon[position++] = octet;
+    }
+
+    private void vider() throws IOException {
+        sortie.write(tampon, 0, position);
+        position = 0;
+    }
+}
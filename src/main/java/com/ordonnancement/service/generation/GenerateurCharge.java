@@ -0,0 +1,211 @@
+package com.ordonnancement.service.generation;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Générateur de charges de travail synthétiques : écrit un fichier de processus initiaux
+ * (même format que python/Settings/processusInitiaux.csv) et le fichier des ressources correspondant.
+ *
+ * Les processus sont générés et écrits un par un, sans jamais construire de liste en mémoire :
+ * la taille du fichier n'est limitée que par le disque. Pour une même graine, les fichiers générés
+ * sont identiques octet pour octet.
+ * Les dates de soumission sont croissantes, chaque processus tient dans la RAM totale
+ * et a une deadline postérieure à sa soumission : les fichiers sont acceptés par les vérifications
+ * de python et de Java.
+ * @author ROMA Quentin
+ */
+public class GenerateurCharge {
+
+    public static final String EN_TETE_PROCESSUS = "idProcessus,dateSoumission,tempsExecution,requiredRam,deadline,priority";
+
+    private final ParametresCharge parametres;
+
+    /**
+     * Constructeur
+     * @param parametres : les paramètres de la charge
+     * @throws GenerationException si les paramètres sont incohérents
+     */
+    public GenerateurCharge(ParametresCharge parametres) {
+        parametres.valider();
+        this.parametres = parametres;
+    }
+
+    /**
+     * Génère le fichier des processus et celui des ressources dans un dossier
+     * (processusInitiaux.csv et ressources.json).
+     *
+     * @param dossier : le dossier de destination, créé s'il n'existe pas
+     * @throws GenerationException si l'écriture échoue
+     */
+    public void generer(Path dossier) {
+        try {
+            Files.createDirectories(dossier);
+        } catch (IOException e) {
+            throw new GenerationException("Impossible de créer le dossier : " + dossier, e);
+        }
+        genererProcessus(dossier.resolve("processusInitiaux.csv"));
+        genererRessources(dossier.resolve("ressources.json"));
+    }
+
+    /**
+     * Écrit le fichier CSV des processus.
+     *
+     * @param fichier : le fichier à écrire (remplacé s'il existe)
+     * @throws GenerationException si l'écriture échoue
+     */
+    public void genererProcessus(Path fichier) {
+        try {
+            ecrireProcessus(Files.newOutputStream(fichier));
+        } catch (IOException e) {
+            throw new GenerationException("Erreur d'écriture du fichier des processus : " + fichier, e);
+        }
+    }
+
+    /**
+     * Écrit les processus au format CSV dans un flux, qui est fermé à la fin.
+     *
+     * @param sortie : le flux de sortie
+     * @throws IOException si l'écriture échoue
+     * @throws GenerationException si les dates générées dépassent la capacité d'un entier
+     */
+    public void ecrireProcessus(OutputStream sortie) throws IOException {
+        SplittableRandom random = new SplittableRandom(parametres.getGraine());
+        Arrivees arrivees = new Arrivees(random);
+
+        try (EcrivainCsvOctets csv = new EcrivainCsvOctets(sortie)) {
+            csv.ecrire(EN_TETE_PROCESSUS);
+            csv.finLigne();
+            for (long i = 1; i <= parametres.getNombreProcessus(); i++) {
+                long soumission = arrivees.suivante();
+                int duree = tirerDuree(random);
+                long deadline = soumission + duree + (long) Math.ceil(duree * parametres.getMargeDeadline() * random.nextDouble());
+                if (deadline > Integer.MAX_VALUE) {
+                    throw new GenerationException("Les dates générées dépassent " + Integer.MAX_VALUE
+                            + " : augmentez le taux d'arrivée ou réduisez le nombre de processus.");
+                }
+                csv.ecrire("P");
+                csv.ecrireEntier(i);
+                csv.virgule();
+                csv.ecrireEntier(soumission);
+                csv.virgule();
+                csv.ecrireEntier(duree);
+                csv.virgule();
+                csv.ecrireEntier(parametres.getRam().tirer(random));
+                csv.virgule();
+                csv.ecrireEntier(deadline);
+                csv.virgule();
+                csv.ecrireEntier(parametres.getPriorites().tirer(random));
+                csv.finLigne();
+            }
+        }
+    }
+
+    /**
+     * Écrit le fichier JSON des ressources : les processeurs CPU1 à CPUk et la RAM totale.
+     *
+     * @param fichier : le fichier à écrire (remplacé s'il existe)
+     * @throws GenerationException si l'écriture échoue
+     */
+    public void genererRessources(Path fichier) {
+        JsonObject ressources = new JsonObject();
+        ressources.addProperty("nombreTotalProcesseurs", parametres.getNombreProcesseurs());
+        ressources.addProperty("ramTotale", parametres.getRamTotale());
+        JsonArray processeurs = new JsonArray();
+        for (int i = 1; i <= parametres.getNombreProcesseurs(); i++) {
+            JsonObject processeur = new JsonObject();
+            processeur.addProperty("idProcesseur", "CPU" + i);
+            processeurs.add(processeur);
+        }
+        ressources.add("processeurs", processeurs);
+
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try (Writer writer = Files.newBufferedWriter(fichier, StandardCharsets.UTF_8)) {
+            gson.toJson(ressources, writer);
+        } catch (IOException e) {
+            throw new GenerationException("Erreur d'écriture du fichier des ressources : " + fichier, e);
+        }
+    }
+
+    /**
+     * Tire un temps d'exécution selon la loi choisie, entre 1 et la durée maximale.
+     *
+     * @param random : le générateur aléatoire
+     * @return le temps d'exécution
+     */
+    private int tirerDuree(SplittableRandom random) {
+        double moyenne = parametres.getDureeMoyenne();
+        double duree = switch (parametres.getLoiDuree()) {
+            case EXPONENTIELLE -> exponentielle(random, moyenne);
+            case PARETO -> {
+                //Pareto de moyenne donnée : échelle xm = moyenne * (alpha - 1) / alpha
+                double alpha = parametres.getAlphaPareto();
+                double echelle = moyenne * (alpha - 1) / alpha;
+                yield echelle / Math.pow(1.0 - random.nextDouble(), 1.0 / alpha);
+            }
+        };
+        return (int) Math.max(1, Math.min(parametres.getDureeMax(), Math.ceil(duree)));
+    }
+
+    /**
+     * Tire une valeur selon une loi exponentielle.
+     *
+     * @param random : le générateur aléatoire
+     * @param moyenne : la moyenne de la loi
+     * @return la valeur tirée (positive)
+     */
+    private static double exponentielle(SplittableRandom random, double moyenne) {
+        return -moyenne * Math.log(1.0 - random.nextDouble()); //1 - u est dans (0, 1] : pas de log(0)
+    }
+
+    /**
+     * Suite des dates de soumission, croissantes, selon la loi d'arrivée choisie.
+     */
+    private class Arrivees {
+        private final SplittableRandom random;
+        private double date = 0; //Date de la dernière arrivée (ou de la rafale en cours)
+        private long restantsRafale = 0; //Processus restant à soumettre dans la rafale en cours
+        private boolean premiereRafale = true;
+
+        Arrivees(SplittableRandom random) {
+            this.random = random;
+        }
+
+        /**
+         * Renvoie la date de soumission du processus suivant.
+         * Le premier processus est soumis à la date 0.
+         */
+        long suivante() {
+            double taux = parametres.getTauxArrivee();
+            if (parametres.getLoiArrivee() == ParametresCharge.LoiArrivee.POISSON) {
+                long soumission = (long) date;
+                date += exponentielle(random, 1.0 / taux);
+                return soumission;
+            }
+            //Rafales : taille géométrique de moyenne m, intervalle moyen m / taux entre deux rafales (même débit moyen)
+            double tailleMoyenne = parametres.getTailleMoyenneRafale();
+            if (restantsRafale == 0) {
+                if (!premiereRafale) {
+                    date += exponentielle(random, tailleMoyenne / taux);
+                }
+                premiereRafale = false;
+                restantsRafale = 1;
+                if (tailleMoyenne > 1) { //Loi géométrique sur {1, 2, ...} de paramètre 1 / m
+                    restantsRafale += (long) Math.floor(Math.log(1.0 - random.nextDouble()) / Math.log(1.0 - 1.0 / tailleMoyenne));
+                }
+            }
+            restantsRafale--;
+            return (long) date;
+        }
+    }
+}
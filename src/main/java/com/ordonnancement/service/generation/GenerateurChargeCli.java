@@ -0,0 +1,102 @@
+package com.ordonnancement.service.generation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Ligne de commande du générateur de charges de travail.
+ *
+ * Exemple :
+ * <pre>
+ * java -cp ordonnancement.jar com.ordonnancement.service.generation.GenerateurChargeCli \
+ *     --processus 1000000 --cpus 8 --arrivee rafales --duree pareto --sortie charges/1M
+ * </pre>
+ * @author ROMA Quentin
+ */
+public class GenerateurChargeCli {
+
+    private static final String USAGE = """
+            Usage : GenerateurChargeCli --sortie <dossier> [options]
+              --processus <n>          nombre de processus (défaut 1000)
+              --graine <n>             graine aléatoire (défaut 42)
+              --arrivee poisson|rafales
+              --taux <x>               processus soumis par unité de temps (défaut 1)
+              --rafale <x>             taille moyenne d'une rafale (défaut 10)
+              --duree exponentielle|pareto
+              --duree-moyenne <x>      temps d'exécution moyen (défaut 10)
+              --alpha <x>              indice de la loi de Pareto, > 1 (défaut 1.5)
+              --duree-max <n>          temps d'exécution maximal (défaut 1000000)
+              --marge-deadline <x>     marge des deadlines, en multiple du temps d'exécution (défaut 3)
+              --ram <mélange>          RAM demandée, ex : 512:4,1024:3,2048:2,4096:1
+              --priorites <mélange>    priorités, ex : 1:1,2:1,3:1
+              --cpus <n>               nombre de processeurs (défaut 4)
+              --ram-totale <n>         RAM totale (défaut 8192)
+            """;
+
+    /**
+     * Point d'entrée : génère processusInitiaux.csv et ressources.json dans le dossier de sortie.
+     * @param args : les options de la ligne de commande
+     */
+    public static void main(String[] args) {
+        try {
+            ParametresCharge parametres = new ParametresCharge();
+            Path sortie = lireArguments(args, parametres);
+            long debut = System.nanoTime();
+            new GenerateurCharge(parametres).generer(sortie);
+            double secondes = (System.nanoTime() - debut) / 1e9;
+            long octets = Files.size(sortie.resolve("processusInitiaux.csv"));
+            System.out.printf(Locale.ROOT, "%d processus écrits dans %s en %.2f s (%.1f Mo/s)%n",
+                    parametres.getNombreProcessus(), sortie, secondes, octets / 1e6 / secondes);
+        } catch (GenerationException | IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Lit les options et remplit les paramètres.
+     *
+     * @param args : les options
+     * @param parametres : les paramètres à remplir
+     * @return le dossier de sortie
+     * @throws GenerationException si une option est inconnue, sans valeur ou invalide
+     */
+    static Path lireArguments(String[] args, ParametresCharge parametres) {
+        Path sortie = null;
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new GenerationException("Valeur manquante pour l'option " + option + "\n" + USAGE);
+            }
+            String valeur = args[i + 1];
+            try {
+                switch (option) {
+                    case "--sortie" -> sortie = Path.of(valeur);
+                    case "--processus" -> parametres.setNombreProcessus(Long.parseLong(valeur));
+                    case "--graine" -> parametres.setGraine(Long.parseLong(valeur));
+                    case "--arrivee" -> parametres.setLoiArrivee(ParametresCharge.LoiArrivee.valueOf(valeur.toUpperCase(Locale.ROOT)));
+                    case "--taux" -> parametres.setTauxArrivee(Double.parseDouble(valeur));
+                    case "--rafale" -> parametres.setTailleMoyenneRafale(Double.parseDouble(valeur));
+                    case "--duree" -> parametres.setLoiDuree(ParametresCharge.LoiDuree.valueOf(valeur.toUpperCase(Locale.ROOT)));
+                    case "--duree-moyenne" -> parametres.setDureeMoyenne(Double.parseDouble(valeur));
+                    case "--alpha" -> parametres.setAlphaPareto(Double.parseDouble(valeur));
+                    case "--duree-max" -> parametres.setDureeMax(Integer.parseInt(valeur));
+                    case "--marge-deadline" -> parametres.setMargeDeadline(Double.parseDouble(valeur));
+                    case "--ram" -> parametres.setRam(Melange.parse(valeur));
+                    case "--priorites" -> parametres.setPriorites(Melange.parse(valeur));
+                    case "--cpus" -> parametres.setNombreProcesseurs(Integer.parseInt(valeur));
+                    case "--ram-totale" -> parametres.setRamTotale(Integer.parseInt(valeur));
+                    default -> throw new GenerationException("Option inconnue : " + option + "\n" + USAGE);
+                }
+            } catch (IllegalArgumentException e) { //NumberFormatException ou valeur d'enum inconnue
+                throw new GenerationException("Valeur invalide pour l'option " + option + " : " + valeur, e);
+            }
+        }
+        if (sortie == null) {
+            throw new GenerationException("Le dossier de sortie doit être spécifié.\n" + USAGE);
+        }
+        return sortie;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ordonnancement.service.generation;
+
+/**
+ * Exception levée lorsque la génération d'une charge de travail échoue
+ * (paramètres invalides, erreur d'écriture des fichiers).
+ */
+public class GenerationException extends RuntimeException {
+
+    public GenerationException(String message) {
+        super(message);
+    }
+
+    public GenerationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,148 @@
+package com.ordonnancement.service.generation;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Distribution discrète pondérée de valeurs entières (par exemple les quantités de RAM
+ * ou les priorités des processus générés), décrite sous la forme "valeur:poids,valeur:poids,...".
+ * Les poids sont relatifs : "512:1,1024:3" donne 512 une fois sur quatre.
+ *
+ * Les tirages utilisent la méthode des alias (Walker / Vose) : un seul nombre aléatoire
+ * et une comparaison par tirage, quel que soit le nombre de valeurs.
+ * @author ROMA Quentin
+ */
+public class Melange {
+
+    private final int[] valeurs; //Les valeurs possibles
+    private final double[] seuils; //Probabilité de garder la valeur de la case (sinon son alias)
+    private final int[] alias; //Valeur qui complète chaque case
+
+    /**
+     * Constructeur
+     * @param valeurs : les valeurs possibles
+     * @param poids : le poids de chaque valeur (même taille que valeurs)
+     * @throws GenerationException si les tableaux sont vides, de tailles différentes ou si un poids est négatif
+     */
+    public Melange(int[] valeurs, double[] poids) {
+        if (valeurs.length == 0 || valeurs.length != poids.length) {
+            throw new GenerationException("Un mélange doit contenir au moins une valeur, avec un poids par valeur.");
+        }
+        double total = 0;
+        for (double p : poids) {
+            if (!(p >= 0) || Double.isInfinite(p)) {
+                throw new GenerationException("Les poids d'un mélange doivent être positifs : " + Arrays.toString(poids));
+            }
+            total += p;
+        }
+        if (total <= 0) {
+            throw new GenerationException("La somme des poids d'un mélange doit être strictement positive.");
+        }
+        this.valeurs = valeurs.clone();
+        this.seuils = new double[valeurs.length];
+        this.alias = new int[valeurs.length];
+        construireAlias(poids, total);
+    }
+
+    /**
+     * Crée un mélange depuis sa description textuelle "valeur:poids,valeur:poids,...".
+     * Un poids absent vaut 1 ("1,2,3" donne trois valeurs équiprobables).
+     *
+     * @param description : la description du mélange
+     * @return le mélange
+     * @throws GenerationException si la description est mal formée
+     */
+    public static Melange parse(String description) {
+        String[] elements = description.split(",");
+        int[] valeurs = new int[elements.length];
+        double[] poids = new double[elements.length];
+        try {
+            for (int i = 0; i < elements.length; i++) {
+                String[] parties = elements[i].split(":");
+                if (parties.length > 2) {
+                    throw new GenerationException("Élément de mélange invalide : " + elements[i]);
+                }
+                valeurs[i] = Integer.parseInt(parties[0].trim());
+                poids[i] = parties.length == 2 ? Double.parseDouble(parties[1].trim()) : 1.0;
+            }
+        } catch (NumberFormatException e) {
+            throw new GenerationException("Format numérique invalide dans le mélange : " + description, e);
+        }
+        return new Melange(valeurs, poids);
+    }
+
+    /**
+     * Tire une valeur selon les poids.
+     * @param random : le générateur aléatoire
+     * @return la valeur tirée
+     */
+    public int tirer(SplittableRandom random) {
+        double tirage = random.nextDouble() * seuils.length; //Partie entière : la case, partie décimale : le seuil
+        int caseTiree = Math.min((int) tirage, seuils.length - 1); //Garde-fou contre un arrondi à n
+        return tirage - caseTiree < seuils[caseTiree] ? valeurs[caseTiree] : alias[caseTiree];
+    }
+
+    /**
+     * Renvoie la plus petite valeur du mélange.
+     * @return la valeur minimale
+     */
+    public int getMin() {
+        return Arrays.stream(valeurs).min().getAsInt();
+    }
+
+    /**
+     * Renvoie la plus grande valeur du mélange.
+     * @return la valeur maximale
+     */
+    public int getMax() {
+        return Arrays.stream(valeurs).max().getAsInt();
+    }
+
+    /**
+     * Construit la table des alias (méthode de Vose) : chaque case a une probabilité 1/n,
+     * partagée entre sa propre valeur et au plus une autre valeur (son alias).
+     *
+     * @param poids : le poids de chaque valeur
+     * @param total : la somme des poids
+     */
+    private void construireAlias(double[] poids, double total) {
+        int n = poids.length;
+        double[] probabilites = new double[n]; //Probabilité de chaque valeur multipliée par n (moyenne 1)
+        int[] petites = new int[n]; //Cases dont la probabilité est < 1
+        int[] grandes = new int[n]; //Cases dont la probabilité est >= 1
+        int nbPetites = 0;
+        int nbGrandes = 0;
+        for (int i = 0; i < n; i++) {
+            probabilites[i] = poids[i] * n / total;
+            if (probabilites[i] < 1.0) {
+                petites[nbPetites++] = i;
+            } else {
+                grandes[nbGrandes++] = i;
+            }
+        }
+        //Chaque petite case est complétée par une grande, qui perd la part donnée
+        while (nbPetites > 0 && nbGrandes > 0) {
+            int petite = petites[--nbPetites];
+            int grande = grandes[--nbGrandes];
+            seuils[petite] = probabilites[petite];
+            alias[petite] = valeurs[grande];
+            probabilites[grande] -= 1.0 - probabilites[petite];
+            if (probabilites[grande] < 1.0) {
+                petites[nbPetites++] = grande;
+            } else {
+                grandes[nbGrandes++] = grande;
+            }
+        }
+        //Cases restantes (probabilité 1, aux arrondis près) : toujours leur propre valeur
+        while (nbGrandes > 0) {
+            int i = grandes[--nbGrandes];
+            seuils[i] = 1.0;
+            alias[i] = valeurs[i];
+        }
+        while (nbPetites > 0) {
+            int i = petites[--nbPetites];
+            seuils[i] = 1.0;
+            alias[i] = valeurs[i];
+        }
+    }
+}
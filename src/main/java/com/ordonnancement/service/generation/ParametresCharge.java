@@ -0,0 +1,194 @@
+package com.ordonnancement.service.generation;
+
+/**
+ * Paramètres d'une charge de travail synthétique : nombre de processus, loi d'arrivée,
+ * loi des temps d'exécution, mélanges de RAM et de priorités, et ressources générées.
+ * Les valeurs par défaut donnent une charge réaliste, proche du fichier d'exemple.
+ * @author ROMA Quentin
+ */
+public class ParametresCharge {
+
+    /**
+     * Loi d'arrivée des processus.
+     */
+    public enum LoiArrivee {
+        POISSON, //Arrivées indépendantes, intervalles exponentiels
+        RAFALES  //Arrivées groupées : des rafales de taille géométrique, à intervalles exponentiels
+    }
+
+    /**
+     * Loi des temps d'exécution des processus.
+     */
+    public enum LoiDuree {
+        EXPONENTIELLE, //Beaucoup de processus courts, peu de longs
+        PARETO         //Queue lourde : quelques processus très longs
+    }
+
+    private long nombreProcessus = 1000;
+    private long graine = 42;
+    private LoiArrivee loiArrivee = LoiArrivee.POISSON;
+    private double tauxArrivee = 1.0; //Nombre moyen de processus soumis par unité de temps
+    private double tailleMoyenneRafale = 10.0; //Nombre moyen de processus par rafale (loi RAFALES)
+    private LoiDuree loiDuree = LoiDuree.EXPONENTIELLE;
+    private double dureeMoyenne = 10.0; //Temps d'exécution moyen
+    private double alphaPareto = 1.5; //Indice de queue de la loi de Pareto (> 1 : moyenne finie)
+    private int dureeMax = 1_000_000; //Temps d'exécution maximal (borne la queue lourde)
+    private double margeDeadline = 3.0; //La deadline est entre 1 et (1 + marge) fois le temps d'exécution après la soumission
+    private Melange ram = Melange.parse("512:4,1024:3,2048:2,4096:1");
+    private Melange priorites = Melange.parse("1:1,2:1,3:1,4:1,5:1");
+    private int nombreProcesseurs = 4;
+    private int ramTotale = 8192;
+
+    /**
+     * Vérifie la cohérence des paramètres.
+     * @throws GenerationException si un paramètre est invalide
+     */
+    public void valider() {
+        if (nombreProcessus < 0) {
+            throw new GenerationException("Le nombre de processus doit être positif : " + nombreProcessus);
+        }
+        if (!(tauxArrivee > 0) || Double.isInfinite(tauxArrivee)) {
+            throw new GenerationException("Le taux d'arrivée doit être strictement positif : " + tauxArrivee);
+        }
+        if (!(tailleMoyenneRafale >= 1)) {
+            throw new GenerationException("La taille moyenne d'une rafale doit être au moins 1 : " + tailleMoyenneRafale);
+        }
+        if (!(dureeMoyenne >= 1)) {
+            throw new GenerationException("Le temps d'exécution moyen doit être au moins 1 : " + dureeMoyenne);
+        }
+        if (!(alphaPareto > 1)) {
+            throw new GenerationException("L'indice de la loi de Pareto doit être > 1 : " + alphaPareto);
+        }
+        if (dureeMax < 1) {
+            throw new GenerationException("Le temps d'exécution maximal doit être au moins 1 : " + dureeMax);
+        }
+        if (!(margeDeadline >= 0)) {
+            throw new GenerationException("La marge des deadlines doit être positive : " + margeDeadline);
+        }
+        if (ram.getMin() <= 0) {
+            throw new GenerationException("Les quantités de RAM doivent être strictement positives.");
+        }
+        if (priorites.getMin() < 0) {
+            throw new GenerationException("Les priorités doivent être positives.");
+        }
+        if (nombreProcesseurs <= 0) {
+            throw new GenerationException("Au moins un processeur doit être généré.");
+        }
+        if (ramTotale < ram.getMax()) { //Sinon certains processus ne pourraient jamais être exécutés
+            throw new GenerationException("La RAM totale (" + ramTotale + ") doit être au moins égale à la plus grande RAM demandée ("
+                    + ram.getMax() + ").");
+        }
+    }
+
+    public long getNombreProcessus() {
+        return nombreProcessus;
+    }
+
+    public void setNombreProcessus(long nombreProcessus) {
+        this.nombreProcessus = nombreProcessus;
+    }
+
+    public long getGraine() {
+        return graine;
+    }
+
+    public void setGraine(long graine) {
+        this.graine = graine;
+    }
+
+    public LoiArrivee getLoiArrivee() {
+        return loiArrivee;
+    }
+
+    public void setLoiArrivee(LoiArrivee loiArrivee) {
+        this.loiArrivee = loiArrivee;
+    }
+
+    public double getTauxArrivee() {
+        return tauxArrivee;
+    }
+
+    public void setTauxArrivee(double tauxArrivee) {
+        this.tauxArrivee = tauxArrivee;
+    }
+
+    public double getTailleMoyenneRafale() {
+        return tailleMoyenneRafale;
+    }
+
+    public void setTailleMoyenneRafale(double tailleMoyenneRafale) {
+        this.tailleMoyenneRafale = tailleMoyenneRafale;
+    }
+
+    public LoiDuree getLoiDuree() {
+        return loiDuree;
+    }
+
+    public void setLoiDuree(LoiDuree loiDuree) {
+        this.loiDuree = loiDuree;
+    }
+
+    public double getDureeMoyenne() {
+        return dureeMoyenne;
+    }
+
+    public void setDureeMoyenne(double dureeMoyenne) {
+        this.dureeMoyenne = dureeMoyenne;
+    }
+
+    public double getAlphaPareto() {
+        return alphaPareto;
+    }
+
+    public void setAlphaPareto(double alphaPareto) {
+        this.alphaPareto = alphaPareto;
+    }
+
+    public int getDureeMax() {
+        return dureeMax;
+    }
+
+    public void setDureeMax(int dureeMax) {
+        this.dureeMax = dureeMax;
+    }
+
+    public double getMargeDeadline() {
+        return margeDeadline;
+    }
+
+    public void setMargeDeadline(double margeDeadline) {
+        this.margeDeadline = margeDeadline;
+    }
+
+    public Melange getRam() {
+        return ram;
+    }
+
+    public void setRam(Melange ram) {
+        this.ram = ram;
+    }
+
+    public Melange getPriorites() {
+        return priorites;
+    }
+
+    public void setPriorites(Melange priorites) {
+        this.priorites = priorites;
+    }
+
+    public int getNombreProcesseurs() {
+        return nombreProcesseurs;
+    }
+
+    public void setNombreProcesseurs(int nombreProcesseurs) {
+        this.nombreProcesseurs = nombreProcesseurs;
+    }
+
+    public int getRamTotale() {
+        return ramTotale;
+    }
+
+    public void setRamTotale(int ramTotale) {
+        this.ramTotale = ramTotale;
+    }
+}
@@ -0,0 +1,15 @@
+package com.ordonnancement.service.historique;
+
+/**
+ * Exception levée lorsqu'une exécution de l'historique ne peut pas être enregistrée ou rouverte.
+ */
+public class HistoriqueException extends RuntimeException {
+
+    public HistoriqueException(String message) {
+        super(message);
+    }
+
+    public HistoriqueException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,238 @@
+package com.ordonnancement.service.historique;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.ordonnancement.model.AlgoConfiguration;
+import com.ordonnancement.model.ChargementDetails;
+import com.ordonnancement.model.ExecutionArchivee;
+import com.ordonnancement.model.FileConfiguration;
+import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Resultats;
+import com.ordonnancement.service.parser.FileParsingException;
+import com.ordonnancement.service.parser.config.ConfigParser;
+import com.ordonnancement.service.parser.process.BinaryInitialProcessParser;
+import com.ordonnancement.service.parser.process.BinaryInitialProcessWriter;
+import com.ordonnancement.service.parser.process.BinaryResultProcessParser;
+import com.ordonnancement.service.parser.process.BinaryResultProcessWriter;
+import com.ordonnancement.service.validation.ResultatsValidator;
+import com.ordonnancement.util.DossierEntrees;
+
+/**
+ * Historique des exécutions : chaque exécution terminée est enregistrée sur disque sous forme d'instantané binaire
+ * (processus initiaux, résultats globaux et détaillés de chaque algorithme) avec sa configuration et ses métriques.
+ * Une exécution est rouverte sans relire les fichiers CSV ni relancer d'ordonnancement.
+ *
+ * Seules les informations résumées des exécutions ({@link ExecutionArchivee}) restent en mémoire.
+ * À la réouverture, les processus et les résultats globaux sont lus immédiatement, les résultats détaillés
+ * de chaque algorithme à la demande ({@link Resultats#chargerDetails(String)}).
+ * Le nombre d'exécutions conservées est borné : les plus anciennes sont supprimées en premier.
+ * @author ROMA Quentin
+ */
+public class HistoriqueExecutions {
+
+    public static final Path DOSSIER_PAR_DEFAUT = Path.of("historique");
+    public static final int NOMBRE_MAX_PAR_DEFAUT = 20;
+
+    private static final DateTimeFormatter FORMAT_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final String RESUME = "execution.json";
+    private static final String CONFIGURATION = "configuration.json";
+    private static final String PROCESSUS = "processus.bin";
+    private static final String SUFFIXE_GLOBAUX = ".globaux.bin";
+    private static final String SUFFIXE_DETAILLES = ".detailles.bin";
+
+    private final Path dossier; //Dossier contenant un sous-dossier par exécution
+    private final DossierEntrees entrees; //Écriture, liste et suppression des dossiers des exécutions
+    private final int nombreMax; //Nombre maximal d'exécutions conservées
+    private List<ExecutionArchivee> executions; //Résumés des exécutions, de la plus récente à la plus ancienne (lus au premier accès)
+
+    /**
+     * Constructeur
+     * @param dossier : le dossier de l'historique (créé au premier enregistrement)
+     * @param nombreMax : le nombre maximal d'exécutions conservées
+     */
+    public HistoriqueExecutions(Path dossier, int nombreMax) {
+        if (nombreMax <= 0) {
+            throw new IllegalArgumentException("L'historique doit pouvoir conserver au moins une exécution.");
+        }
+        this.dossier = dossier;
+        this.entrees = new DossierEntrees(dossier);
+        this.nombreMax = nombreMax;
+    }
+
+    /**
+     * Renvoie les exécutions enregistrées, de la plus récente à la plus ancienne.
+     * Les exécutions illisibles sont ignorées.
+     *
+     * @return les résumés des exécutions
+     */
+    public synchronized List<ExecutionArchivee> lister() {
+        if (executions == null) {
+            executions = new ArrayList<>();
+            for (Path entree : entrees.listerEntrees()) {
+                try {
+                    executions.add(lireResume(entree));
+                } catch (HistoriqueException e) {
+                    //Exécution incomplète ou d'un ancien format : ignorée
+                }
+            }
+            executions.sort(Comparator.comparing(ExecutionArchivee::getDate).thenComparing(ExecutionArchivee::getId).reversed());
+        }
+        return List.copyOf(executions);
+    }
+
+    /**
+     * Enregistre une exécution dont les résultats détaillés sont chargés, puis supprime les plus anciennes
+     * si le nombre maximal est dépassé.
+     * L'exécution est écrite dans un dossier temporaire puis renommée : elle n'est jamais visible à moitié écrite.
+     *
+     * @param configuration : la configuration exécutée
+     * @param resultats : les résultats de l'exécution
+     * @return le résumé de l'exécution enregistrée
+     * @throws UncheckedIOException si l'écriture échoue
+     */
+    public synchronized ExecutionArchivee enregistrer(FileConfiguration configuration, Resultats resultats) {
+        lister();
+        LocalDateTime date = LocalDateTime.now();
+        String id = date.format(FORMAT_ID);
+        for (int i = 2; Files.exists(dossier.resolve(id)); i++) { //Deux exécutions dans la même milliseconde
+            id = date.format(FORMAT_ID) + "-" + i;
+        }
+        List<Process> processus = resultats.getListeProcessus();
+        ExecutionArchivee execution = new ExecutionArchivee(id, date, configuration, resultats.getListeMetrics(), processus.size());
+
+        try {
+            entrees.ecrire(id, temporaire -> {
+                new BinaryInitialProcessWriter().ecrire(processus, temporaire.resolve(PROCESSUS).toString());
+                BinaryResultProcessWriter writer = new BinaryResultProcessWriter(processus);
+                List<AlgoConfiguration> algos = configuration.getListeAlgorithmes();
+                for (int i = 0; i < algos.size(); i++) {
+                    writer.ecrireGlobaux(temporaire.resolve(i + SUFFIXE_GLOBAUX).toString(), algos.get(i).getNomAlgorithme());
+                    writer.ecrireDetailles(temporaire.resolve(i + SUFFIXE_DETAILLES).toString(), algos.get(i).getNomAlgorithme());
+                }
+                Gson gson = new GsonBuilder().setPrettyPrinting().serializeNulls().create();
+                try (Writer fichier = Files.newBufferedWriter(temporaire.resolve(CONFIGURATION), StandardCharsets.UTF_8)) {
+                    gson.toJson(configuration, fichier); //Même format que le fichier de configuration, relu par ConfigParser
+                }
+                try (Writer fichier = Files.newBufferedWriter(temporaire.resolve(RESUME), StandardCharsets.UTF_8)) {
+                    gson.toJson(ecrireResume(execution), fichier);
+                }
+                return true;
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible d'enregistrer l'exécution dans l'historique", e);
+        }
+
+        executions.add(0, execution);
+        while (executions.size() > nombreMax) { //Les plus anciennes sont à la fin
+            DossierEntrees.supprimer(dossier.resolve(executions.remove(executions.size() - 1).getId()));
+        }
+        return execution;
+    }
+
+    /**
+     * Rouvre une exécution : lit ses processus et les résultats globaux de chaque algorithme.
+     * Les résultats détaillés sont lus à la demande, par le chargement de chaque algorithme.
+     *
+     * @param execution : l'exécution à rouvrir
+     * @return les résultats de l'exécution
+     * @throws HistoriqueException si l'exécution n'existe plus ou si ses fichiers sont illisibles
+     * @throws java.util.concurrent.CancellationException si le thread est interrompu pendant la lecture
+     */
+    public Resultats ouvrir(ExecutionArchivee execution) {
+        Path entree = dossier.resolve(execution.getId());
+        if (!Files.isDirectory(entree)) {
+            throw new HistoriqueException("L'exécution du " + execution.getLibelle() + " n'existe plus dans l'historique.");
+        }
+        try {
+            List<Process> processus = new BinaryInitialProcessParser().parse(entree.resolve(PROCESSUS).toString());
+            BinaryResultProcessParser parser = new BinaryResultProcessParser(processus);
+            List<AlgoConfiguration> algos = execution.getConfiguration().getListeAlgorithmes();
+            List<ChargementDetails> chargements = new ArrayList<>();
+            for (int i = 0; i < algos.size(); i++) {
+                String nomAlgo = algos.get(i).getNomAlgorithme();
+                parser.parseGlobaux(entree.resolve(i + SUFFIXE_GLOBAUX).toString(), nomAlgo);
+                String fichierDetailles = entree.resolve(i + SUFFIXE_DETAILLES).toString();
+                chargements.add(new ChargementDetails(nomAlgo, () -> {
+                    new BinaryResultProcessParser(processus).parseDetailles(fichierDetailles, nomAlgo);
+                    ResultatsValidator.valider(processus, nomAlgo);
+                }));
+            }
+            return new Resultats(processus, execution.getMetriques(), Set.of(), chargements, execution.getConfiguration());
+        } catch (FileParsingException e) {
+            throw new HistoriqueException("Impossible de rouvrir l'exécution " + execution.getId() + " : " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Supprime une exécution de l'historique.
+     *
+     * @param execution : l'exécution à supprimer
+     */
+    public synchronized void supprimer(ExecutionArchivee execution) {
+        lister();
+        executions.removeIf(e -> e.getId().equals(execution.getId()));
+        DossierEntrees.supprimer(dossier.resolve(execution.getId()));
+    }
+
+    /**
+     * Crée le contenu du fichier résumé d'une exécution.
+     */
+    private static JsonObject ecrireResume(ExecutionArchivee execution) {
+        JsonObject resume = new JsonObject();
+        resume.addProperty("date", execution.getDate().toString());
+        resume.addProperty("nombreProcessus", execution.getNombreProcessus());
+        JsonArray metriques = new JsonArray();
+        for (Metrics m : execution.getMetriques()) {
+            JsonObject metrique = new JsonObject();
+            metrique.addProperty("algo", m.getNomAlgorithme());
+            metrique.addProperty("tempsAttenteMoyen", m.getTempsAttenteMoyen());
+            metrique.addProperty("tempsReponseMoyen", m.getTempsReponseMoyen());
+            metrique.addProperty("makespan", m.getMakespan());
+            metriques.add(metrique);
+        }
+        resume.add("metriques", metriques);
+        return resume;
+    }
+
+    /**
+     * Lit le résumé d'une exécution (fichier résumé et configuration).
+     *
+     * @param entree : le dossier de l'exécution
+     * @return le résumé
+     * @throws HistoriqueException si les fichiers sont absents ou illisibles
+     */
+    private static ExecutionArchivee lireResume(Path entree) {
+        try (Reader fichier = Files.newBufferedReader(entree.resolve(RESUME), StandardCharsets.UTF_8)) {
+            JsonObject resume = new Gson().fromJson(fichier, JsonObject.class);
+            List<Metrics> metriques = new ArrayList<>();
+            for (JsonElement element : resume.getAsJsonArray("metriques")) {
+                JsonObject m = element.getAsJsonObject();
+                metriques.add(new Metrics(m.get("algo").getAsString(), m.get("tempsReponseMoyen").getAsDouble(),
+                        m.get("tempsAttenteMoyen").getAsDouble(), m.get("makespan").getAsInt()));
+            }
+            FileConfiguration configuration = ConfigParser.parse(entree.resolve(CONFIGURATION).toString());
+            return new ExecutionArchivee(entree.getFileName().toString(), LocalDateTime.parse(resume.get("date").getAsString()),
+                    configuration, metriques, resume.get("nombreProcessus").getAsInt());
+        } catch (IOException | RuntimeException e) { //Fichier absent, JSON invalide ou champ manquant
+            throw new HistoriqueException("Exécution illisible dans l'historique : " + entree, e);
+        }
+    }
+}
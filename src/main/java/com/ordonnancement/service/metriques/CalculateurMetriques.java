@@ -0,0 +1,114 @@
+package com.ordonnancement.service.metriques;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ordonnancement.model.AllocationStore;
+import com.ordonnancement.model.Distribution;
+import com.ordonnancement.model.ExecutionInfo;
+import com.ordonnancement.model.MetriquesDetaillees;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.util.ProcessUtils;
+import com.ordonnancement.util.SketchQuantiles;
+
+/**
+ * Calcule les métriques détaillées d'un algorithme à partir des résultats chargés
+ * (ExecutionInfo et allocations de chaque processus).
+ *
+ * Le calcul fait un seul passage sur les processus et un seul passage sur les colonnes du store
+ * des allocations, sans tri ni copie : les quantiles sont estimés par des {@link SketchQuantiles},
+ * dont la taille ne dépend pas du nombre de processus.
+ * @author ROMA Quentin
+ */
+public class CalculateurMetriques {
+
+    public static final double PRECISION_QUANTILES = 0.01; //Erreur relative maximale des quantiles (1 %)
+
+    /**
+     * Calcule les métriques détaillées d'un algorithme.
+     * Les résultats globaux et détaillés de l'algorithme doivent être chargés.
+     *
+     * @param processus : la liste des processus
+     * @param nomAlgo : le nom de l'algorithme
+     * @return les métriques détaillées (seuls les processus exécutés par l'algorithme sont comptés)
+     */
+    public static MetriquesDetaillees calculer(List<Process> processus, String nomAlgo) {
+        SketchQuantiles attente = new SketchQuantiles(PRECISION_QUANTILES);
+        SketchQuantiles sejour = new SketchQuantiles(PRECISION_QUANTILES);
+        SketchQuantiles ralentissement = new SketchQuantiles(PRECISION_QUANTILES);
+        int deadlinesManquees = 0;
+        int makespan = 0;
+
+        //Passage sur les processus : temps, deadlines et makespan
+        for (Process p : processus) {
+            ExecutionInfo execution = p.getExecutionInfo(nomAlgo);
+            if (execution == null) { //Processus non exécuté par cet algorithme
+                continue;
+            }
+            int tempsSejour = execution.getDateFin() - p.getDateSoumission();
+            attente.ajouter(Math.max(0, execution.getDateDebut() - p.getDateSoumission()));
+            sejour.ajouter(Math.max(0, tempsSejour));
+            ralentissement.ajouter(Math.max(0, (double) tempsSejour / p.getTempsExecution()));
+            if (execution.getDateFin() > p.getDeadline()) {
+                deadlinesManquees++;
+            }
+            makespan = Math.max(makespan, execution.getDateFin());
+        }
+
+        //Passage sur les allocations : occupation des processeurs et changements de contexte
+        AllocationStore store = ProcessUtils.getAllocationStore(processus, nomAlgo);
+        List<String> processeurs = store.getProcesseurs();
+        long[] occupation = new long[processeurs.size()];
+        long changementsContexte = 0;
+        int processusPrecedent = -1;
+        int processeurPrecedent = -1;
+        int finPrecedente = 0;
+        for (int ligne = 0; ligne < store.taille(); ligne++) { //Les allocations d'un processus sont contiguës
+            int indiceProcessus = store.getIndiceProcessus(ligne);
+            int indiceProcesseur = store.getIndiceProcesseur(ligne);
+            int debut = store.getDateDebut(ligne);
+            int fin = store.getDateFin(ligne);
+            occupation[indiceProcesseur] += fin - debut;
+            boolean prolongation = indiceProcessus == processusPrecedent && indiceProcesseur == processeurPrecedent
+                    && debut == finPrecedente; //Même processus, même processeur, sans interruption
+            if (!prolongation) {
+                changementsContexte++;
+            }
+            processusPrecedent = indiceProcessus;
+            processeurPrecedent = indiceProcesseur;
+            finPrecedente = fin;
+        }
+        makespan = Math.max(makespan, store.getDateFinMax());
+
+        //Utilisation de chaque processeur, par identifiant trié
+        List<Integer> ordre = new ArrayList<>();
+        for (int i = 0; i < processeurs.size(); i++) {
+            ordre.add(i);
+        }
+        ordre.sort((a, b) -> processeurs.get(a).compareTo(processeurs.get(b)));
+        Map<String, Double> utilisation = new LinkedHashMap<>();
+        for (int i : ordre) {
+            utilisation.put(processeurs.get(i), makespan == 0 ? 0 : (double) occupation[i] / makespan);
+        }
+
+        return new MetriquesDetaillees(nomAlgo, (int) attente.getNombre(), distribution(attente), distribution(sejour),
+                distribution(ralentissement), deadlinesManquees, utilisation,
+                changementsContexte, makespan);
+    }
+
+    /**
+     * Résume un sketch : moyenne, médiane, p90, p99 et maximum.
+     *
+     * @param sketch : le sketch des valeurs
+     * @return la distribution (toutes les valeurs à 0 si le sketch est vide)
+     */
+    private static Distribution distribution(SketchQuantiles sketch) {
+        if (sketch.getNombre() == 0) {
+            return new Distribution(0, 0, 0, 0, 0);
+        }
+        return new Distribution(sketch.getMoyenne(), sketch.quantile(0.5), sketch.quantile(0.9),
+                sketch.quantile(0.99), sketch.getMax());
+    }
+}
@@ -0,0 +1,130 @@
+package com.ordonnancement.service.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Table de hachage dont les clés sont des suites d'octets (UTF-8).
+ * Permet de retrouver une valeur (Process, identifiant de processeur...) directement
+ * depuis les octets d'un champ CSV, sans créer de String à chaque ligne.
+ * @author ROMA Quentin
+ *
+ * @param <V> le type des valeurs
+ */
+public class DictionnaireOctets<V> {
+
+    private byte[][] cles; //Les clés, en octets UTF-8 (null = case libre)
+    private Object[] valeurs; //Les valeurs associées
+    private int taille = 0; //Nombre de clés présentes
+
+    /**
+     * Constructeur
+     * @param capaciteInitiale : le nombre de clés attendu
+     */
+    public DictionnaireOctets(int capaciteInitiale) {
+        int capacite = Integer.highestOneBit(Math.max(4, capaciteInitiale * 2 - 1)) * 2; //Puissance de 2, remplissage <= 50%
+        this.cles = new byte[capacite][];
+        this.valeurs = new Object[capacite];
+    }
+
+    /**
+     * Associe une valeur à une clé texte.
+     * @param cle : la clé
+     * @param valeur : la valeur
+     */
+    public void ajouter(String cle, V valeur) {
+        byte[] octets = cle.getBytes(StandardCharsets.UTF_8);
+        inserer(octets, valeur);
+    }
+
+    /**
+     * Recherche la valeur associée aux octets [debut, fin[.
+     * @param octets : le tampon contenant la clé
+     * @param debut : début de la clé
+     * @param fin : fin (exclue) de la clé
+     * @return la valeur, ou null si la clé est absente
+     */
+    @SuppressWarnings("unchecked")
+    public V chercher(byte[] octets, int debut, int fin) {
+        int masque = cles.length - 1;
+        int i = hacher(octets, debut, fin) & masque;
+        while (cles[i] != null) {
+            if (Arrays.equals(cles[i], 0, cles[i].length, octets, debut, fin)) {
+                return (V) valeurs[i];
+            }
+            i = (i + 1) & masque;
+        }
+        return null;
+    }
+
+    /**
+     * Renvoie la String correspondant aux octets [debut, fin[, en réutilisant toujours
+     * la même instance pour une même suite d'octets (interning local).
+     * N'a de sens que pour un DictionnaireOctets&lt;String&gt;.
+     * @param octets : le tampon contenant le texte
+     * @param debut : début du texte
+     * @param fin : fin (exclue) du texte
+     * @return la String partagée
+     */
+    @SuppressWarnings("unchecked")
+    public String interner(byte[] octets, int debut, int fin) {
+        V existante = chercher(octets, debut, fin);
+        if (existante != null) {
+            return (String) existante;
+        }
+        String texte = new String(octets, debut, fin - debut, StandardCharsets.UTF_8);
+        inserer(Arrays.copyOfRange(octets, debut, fin), (V) texte);
+        return texte;
+    }
+
+    /**
+     * Insère (ou remplace) une clé.
+     */
+    private void inserer(byte[] cle, V valeur) {
+        if ((taille + 1) * 2 > cles.length) {
+            agrandir();
+        }
+        int masque = cles.length - 1;
+        int i = hacher(cle, 0, cle.length) & masque;
+        while (cles[i] != null) {
+            if (Arrays.equals(cles[i], cle)) {
+                valeurs[i] = valeur;
+                return;
+            }
+            i = (i + 1) & masque;
+        }
+        cles[i] = cle;
+        valeurs[i] = valeur;
+        taille++;
+    }
+
+    /**
+     * Double la capacité de la table.
+     */
+    @SuppressWarnings("unchecked")
+    private void agrandir() {
+        byte[][] anciennesCles = cles;
+        Object[] anciennesValeurs = valeurs;
+        cles = new byte[anciennesCles.length * 2][];
+        valeurs = new Object[anciennesCles.length * 2];
+        taille = 0;
+        for (int i = 0; i < anciennesCles.length; i++) {
+            if (anciennesCles[i] != null) {
+                inserer(anciennesCles[i], (V) anciennesValeurs[i]);
+            }
+        }
+    }
+
+    /**
+     * Hachage FNV-1a des octets.
+     */
+    private static int hacher(byte[] octets, int debut, int fin) {
+        int h = 0x811C9DC5;
+        for (int i = debut; i < fin; i++) {
+            h ^= octets[i];
+            h *= 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+}
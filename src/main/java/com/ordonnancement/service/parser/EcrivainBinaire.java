@@ -0,0 +1,109 @@
+package com.ordonnancement.service.parser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Écrit un fichier au format binaire des résultats (voir {@link FormatBinaire}) dans un tampon,
+ * vidé par blocs dans le flux de sortie.
+ * Pendant Java de l'écriture faite par python, utilisé pour produire des résultats binaires depuis le modèle.
+ * @author ROMA Quentin
+ */
+public class EcrivainBinaire implements AutoCloseable {
+
+    private static final int TAILLE_TAMPON = 64 * 1024;
+    private static final int TAILLE_MAX_VARINT = 5;
+
+    private final OutputStream sortie;
+    private final byte[] tampon = new byte[TAILLE_TAMPON];
+    private int position = 0;
+
+    /**
+     * Constructeur
+     * @param sortie : le flux dans lequel écrire (fermé avec l'écrivain)
+     */
+    public EcrivainBinaire(OutputStream sortie) {
+        this.sortie = sortie;
+    }
+
+    /**
+     * Écrit l'en-tête du fichier.
+     * @param type : le type de fichier ({@link FormatBinaire#TYPE_DETAILLES} ou {@link FormatBinaire#TYPE_GLOBAUX})
+     */
+    public void ecrireEnTete(int type) throws IOException {
+        ecrireOctets(FormatBinaire.SIGNATURE);
+        ecrireOctet(FormatBinaire.VERSION);
+        ecrireOctet(type);
+    }
+
+    /**
+     * Écrit un dictionnaire d'identifiants.
+     * @param identifiants : les identifiants, dans l'ordre de leurs indices
+     */
+    public void ecrireDictionnaire(List<String> identifiants) throws IOException {
+        ecrireVarint(identifiants.size());
+        for (String id : identifiants) {
+            byte[] octets = id.getBytes(StandardCharsets.UTF_8);
+            ecrireVarint(octets.length);
+            ecrireOctets(octets);
+        }
+    }
+
+    /**
+     * Écrit un entier non signé (varint).
+     * @param valeur : l'entier, vu comme non signé
+     */
+    public void ecrireVarint(int valeur) throws IOException {
+        if (position + TAILLE_MAX_VARINT > tampon.length) {
+            vider();
+        }
+        while ((valeur & ~0x7F) != 0) {
+            tampon[position++] = (byte) ((valeur & 0x7F) | 0x80);
+            valeur >>>= 7;
+        }
+        tampon[position++] = (byte) valeur;
+    }
+
+    /**
+     * Écrit un entier signé (codé en zigzag).
+     * @param valeur : l'entier
+     */
+    public void ecrireZigzag(int valeur) throws IOException {
+        ecrireVarint(FormatBinaire.zigzag(valeur));
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            vider();
+        } finally {
+            sortie.close();
+        }
+    }
+
+    private void ecrireOctet(int octet) throws IOException {
+        if (position == tampon.length) {
+            vider();
+        }
+        tampon[position++] = (byte) octet;
+    }
+
+    private void ecrireOctets(byte[] octets) throws IOException {
+        if (position + octets.length > tampon.length) {
+            vider();
+        }
+        if (octets.length > tampon.length) { //Identifiant plus grand que le tampon : écrit directement
+            sortie.write(octets);
+            return;
+        }
+        System.arraycopy(octets, 0, tampon, position, octets.length);
+        position += octets.length;
+    }
+
+    private void vider() throws IOException {
+        sortie.write(tampon, 0, position);
+        position = 0;
+    }
+}
@@ -0,0 +1,58 @@
+package com.ordonnancement.service.parser;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Description du format binaire des fichiers de résultats (écrit par python/ManipulationFichiers/Writing/writing.py).
+ *
+ * <pre>
+ * en-tête       : "ORDB" | version (1 octet) | type (1 octet : 1 = détaillés, 2 = globaux, 3 = processus initiaux)
+ * dictionnaires : processus, puis processeurs (détaillés uniquement)
+ *                 chacun : varint n, puis n fois (varint longueur, identifiant en UTF-8)
+ * varint nombre d'enregistrements, puis les enregistrements :
+ *   détaillés : zigzag(dateDebut - dateDebut précédente), zigzag(dateFin - dateDebut),
+ *               varint indice du processus, varint indice du processeur
+ *   globaux   : varint indice du processus, zigzag(dateSoumission), zigzag(dateDebut - dateSoumission),
+ *               zigzag(dateFin - dateDebut), zigzag(requiredRam), zigzag(usedRam)
+ *   processus initiaux : un enregistrement par processus du dictionnaire, dans le même ordre :
+ *               zigzag(dateSoumission), zigzag(tempsExecution), zigzag(requiredRam),
+ *               zigzag(deadline - dateSoumission), zigzag(priority)
+ * </pre>
+ *
+ * Les fichiers de processus initiaux ne sont écrits que par Java (instantanés de l'historique des exécutions).
+ *
+ * Les varints sont des entiers non signés écrits par groupes de 7 bits (poids faibles d'abord,
+ * bit de poids fort à 1 s'il reste des groupes). Le codage zigzag (0, -1, 1, -2... devient 0, 1, 2, 3...)
+ * garde sur un octet les petites différences négatives.
+ * Les dates étant proches d'une allocation à l'autre, la plupart des enregistrements tiennent sur 4 octets.
+ * @author ROMA Quentin
+ */
+public final class FormatBinaire {
+
+    public static final byte[] SIGNATURE = "ORDB".getBytes(StandardCharsets.US_ASCII);
+    public static final int VERSION = 1;
+    public static final int TYPE_DETAILLES = 1;
+    public static final int TYPE_GLOBAUX = 2;
+    public static final int TYPE_PROCESSUS = 3;
+
+    private FormatBinaire() {
+    }
+
+    /**
+     * Code un entier signé en zigzag.
+     * @param valeur : l'entier signé
+     * @return l'entier non signé correspondant
+     */
+    public static int zigzag(int valeur) {
+        return (valeur << 1) ^ (valeur >> 31);
+    }
+
+    /**
+     * Décode un entier codé en zigzag.
+     * @param valeur : l'entier non signé
+     * @return l'entier signé correspondant
+     */
+    public static int dezigzag(int valeur) {
+        return (valeur >>> 1) ^ -(valeur & 1);
+    }
+}
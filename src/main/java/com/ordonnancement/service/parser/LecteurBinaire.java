@@ -0,0 +1,210 @@
+package com.ordonnancement.service.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Lecteur de fichier au format binaire des résultats (voir {@link FormatBinaire}).
+ * Le fichier est lu par blocs à travers un FileChannel, et les varints sont décodés
+ * directement dans le tampon.
+ * @author ROMA Quentin
+ */
+public class LecteurBinaire implements Closeable {
+
+    private static final int TAILLE_BLOC = 64 * 1024; //Taille d'un bloc de lecture
+    private static final int TAILLE_MAX_VARINT = 5; //Un int tient sur 5 groupes de 7 bits
+
+    private final FileChannel canal; //Le canal de lecture du fichier
+    private final String cheminFichier; //Pour les messages d'erreur
+    private byte[] tampon = new byte[TAILLE_BLOC]; //Les octets lus
+    private int position = 0; //Prochain octet à consommer
+    private int limite = 0; //Fin des octets lus
+    private boolean finFichier = false; //Vrai quand tout le fichier a été lu
+
+    /**
+     * Ouvre le fichier en lecture
+     * @param cheminFichier : le chemin du fichier binaire
+     * @throws IOException si le fichier ne peut pas être ouvert
+     */
+    public LecteurBinaire(String cheminFichier) throws IOException {
+        this.canal = FileChannel.open(Path.of(cheminFichier), StandardOpenOption.READ);
+        this.cheminFichier = cheminFichier;
+    }
+
+    /**
+     * Lit et vérifie l'en-tête du fichier.
+     * @param typeAttendu : le type de fichier attendu ({@link FormatBinaire#TYPE_DETAILLES}, {@link FormatBinaire#TYPE_GLOBAUX} ou {@link FormatBinaire#TYPE_PROCESSUS})
+     * @throws IOException en cas d'erreur de lecture
+     * @throws FileParsingException si le fichier n'est pas un fichier binaire de résultats du type attendu
+     */
+    public void lireEnTete(int typeAttendu) throws IOException {
+        for (byte attendu : FormatBinaire.SIGNATURE) {
+            if (!disponible(1) || tampon[position++] != attendu) {
+                throw new FileParsingException("Le fichier n'est pas un fichier binaire de résultats : " + cheminFichier);
+            }
+        }
+        int version = lireOctet();
+        if (version != FormatBinaire.VERSION) {
+            throw new FileParsingException("Version " + version + " du format binaire non supportée : " + cheminFichier);
+        }
+        int type = lireOctet();
+        if (type != typeAttendu) {
+            throw new FileParsingException("Type de fichier binaire inattendu (" + type + " au lieu de " + typeAttendu + ") : " + cheminFichier);
+        }
+    }
+
+    /**
+     * Lit un dictionnaire d'identifiants.
+     * @return les identifiants, dans l'ordre de leurs indices
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public String[] lireDictionnaire() throws IOException {
+        int taille = lireTaille();
+        String[] identifiants = new String[taille];
+        for (int i = 0; i < taille; i++) {
+            int longueur = lireTaille();
+            if (!disponible(longueur)) {
+                throw tronque();
+            }
+            identifiants[i] = new String(tampon, position, longueur, StandardCharsets.UTF_8);
+            position += longueur;
+        }
+        return identifiants;
+    }
+
+    /**
+     * Lit un entier non signé (varint).
+     * @return l'entier
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public int lireVarint() throws IOException {
+        if (limite - position < TAILLE_MAX_VARINT && !disponible(TAILLE_MAX_VARINT)) {
+            return lireVarintLent(); //Fin du fichier : moins de 5 octets restants
+        }
+        byte[] t = tampon;
+        int p = position;
+        int octet = t[p++];
+        int valeur = octet & 0x7F;
+        int decalage = 7;
+        while (octet < 0) { //Bit de poids fort à 1 : il reste un groupe
+            if (decalage > 28) {
+                throw new FileParsingException("Entier trop grand dans le fichier binaire : " + cheminFichier);
+            }
+            octet = t[p++];
+            valeur |= (octet & 0x7F) << decalage;
+            decalage += 7;
+        }
+        position = p;
+        return valeur;
+    }
+
+    /**
+     * Lit un entier signé (codé en zigzag).
+     * @return l'entier
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public int lireZigzag() throws IOException {
+        return FormatBinaire.dezigzag(lireVarint());
+    }
+
+    /**
+     * Lit une taille (nombre d'éléments ou d'octets), qui doit être positive.
+     * @return la taille
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public int lireTaille() throws IOException {
+        int taille = lireVarint();
+        if (taille < 0) {
+            throw new FileParsingException("Taille invalide dans le fichier binaire : " + cheminFichier);
+        }
+        return taille;
+    }
+
+    /**
+     * Vérifie que tout le fichier a été lu.
+     * @throws IOException en cas d'erreur de lecture
+     * @throws FileParsingException s'il reste des octets après les enregistrements
+     */
+    public void verifierFin() throws IOException {
+        if (disponible(1)) {
+            throw new FileParsingException("Données inattendues après les enregistrements : " + cheminFichier);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /**
+     * Lit un octet non signé.
+     */
+    private int lireOctet() throws IOException {
+        if (!disponible(1)) {
+            throw tronque();
+        }
+        return tampon[position++] & 0xFF;
+    }
+
+    /**
+     * Lit un varint octet par octet, en vérifiant la fin du fichier.
+     */
+    private int lireVarintLent() throws IOException {
+        int valeur = 0;
+        for (int decalage = 0; decalage <= 28; decalage += 7) {
+            int octet = lireOctet();
+            valeur |= (octet & 0x7F) << decalage;
+            if (octet < 0x80) {
+                return valeur;
+            }
+        }
+        throw new FileParsingException("Entier trop grand dans le fichier binaire : " + cheminFichier);
+    }
+
+    /**
+     * Indique si au moins n octets sont disponibles, en lisant la suite du fichier si besoin.
+     * @param n : le nombre d'octets nécessaires
+     * @return false si le fichier se termine avant
+     */
+    private boolean disponible(int n) throws IOException {
+        while (limite - position < n && !finFichier) {
+            remplir(n);
+        }
+        return limite - position >= n;
+    }
+
+    /**
+     * Lit un bloc du fichier à la suite des octets pas encore consommés.
+     * @param n : le nombre d'octets qui doivent pouvoir tenir dans le tampon
+     */
+    private void remplir(int n) throws IOException {
+        int restants = limite - position;
+        if (position > 0) { //Décalage des octets pas encore consommés au début du tampon
+            System.arraycopy(tampon, position, tampon, 0, restants);
+            position = 0;
+            limite = restants;
+        }
+        if (tampon.length - limite < Math.max(n - restants, TAILLE_BLOC / 2)) { //Identifiant plus long que le tampon
+            tampon = Arrays.copyOf(tampon, Math.max(tampon.length * 2, n + TAILLE_BLOC));
+        }
+        int lus = canal.read(ByteBuffer.wrap(tampon, limite, tampon.length - limite));
+        if (lus < 0) {
+            finFichier = true;
+        } else {
+            limite += lus;
+        }
+    }
+
+    /**
+     * @return l'exception signalant un fichier incomplet
+     */
+    private FileParsingException tronque() {
+        return new FileParsingException("Fichier binaire tronqué : " + cheminFichier);
+    }
+}
@@ -0,0 +1,250 @@
+package com.ordonnancement.service.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Lecteur de fichier CSV en flux, directement sur les octets.
+ * Le fichier est lu par blocs à travers un FileChannel ; chaque ligne est exposée
+ * comme un intervalle [debutLigne, finLigne[ du tampon, sans créer de String.
+ * Les champs sont décodés directement depuis les octets (entiers, identifiants).
+ * @author ROMA Quentin
+ */
+public class LecteurCsvOctets implements Closeable {
+
+    private static final int TAILLE_BLOC = 64 * 1024; //Taille d'un bloc de lecture
+
+    private final FileChannel canal; //Le canal de lecture du fichier
+    private byte[] tampon = new byte[TAILLE_BLOC]; //Les octets lus
+    private int position = 0; //Début des octets pas encore consommés
+    private int limite = 0; //Fin des octets lus
+    private boolean finFichier = false; //Vrai quand tout le fichier a été lu
+
+    private int debutLigne; //Début de la ligne courante dans le tampon
+    private int finLigne; //Fin (exclue, sans \r\n) de la ligne courante dans le tampon
+
+    /**
+     * Ouvre le fichier en lecture
+     * @param cheminFichier : le chemin du fichier CSV
+     * @throws IOException si le fichier ne peut pas être ouvert
+     */
+    public LecteurCsvOctets(String cheminFichier) throws IOException {
+        this.canal = FileChannel.open(Path.of(cheminFichier), StandardOpenOption.READ);
+    }
+
+    /**
+     * Passe à la ligne suivante.
+     * @return false s'il n'y a plus de ligne
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public boolean ligneSuivante() throws IOException {
+        int indexFin = chercherFinLigne(position);
+        while (indexFin < 0 && !finFichier) { //Ligne incomplète dans le tampon : lire la suite
+            int dejaParcouru = limite - position;
+            remplir();
+            indexFin = chercherFinLigne(position + dejaParcouru);
+        }
+        if (indexFin < 0) { //Dernière ligne sans retour à la ligne
+            if (position >= limite) {
+                return false;
+            }
+            indexFin = limite;
+        }
+
+        debutLigne = position;
+        finLigne = indexFin;
+        position = Math.min(indexFin + 1, limite);
+        if (finLigne > debutLigne && tampon[finLigne - 1] == '\r') { //Fin de ligne Windows
+            finLigne--;
+        }
+        return true;
+    }
+
+    /**
+     * Lit la ligne suivante sous forme de String (utilisé pour l'en-tête).
+     * @return la ligne, ou null s'il n'y a plus de ligne
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public String lireLigneTexte() throws IOException {
+        if (!ligneSuivante()) {
+            return null;
+        }
+        return ligneCourante();
+    }
+
+    /**
+     * @return la ligne courante sous forme de String (utilisé pour les messages d'erreur)
+     */
+    public String ligneCourante() {
+        return new String(tampon, debutLigne, finLigne - debutLigne, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return le tampon contenant la ligne courante
+     */
+    public byte[] getTampon() {
+        return tampon;
+    }
+
+    /**
+     * @return l'indice du premier octet de la ligne courante
+     */
+    public int getDebutLigne() {
+        return debutLigne;
+    }
+
+    /**
+     * @return l'indice suivant le dernier octet de la ligne courante
+     */
+    public int getFinLigne() {
+        return finLigne;
+    }
+
+    /**
+     * Indique si la ligne courante ne contient que des espaces.
+     * @return true si la ligne est vide
+     */
+    public boolean ligneVide() {
+        return debutSansEspaces(tampon, debutLigne, finLigne) == finLigne;
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /**
+     * Cherche le prochain '\n' dans les octets lus.
+     * @param depuis : l'indice de départ de la recherche
+     * @return l'indice du '\n', ou -1 s'il n'y en a pas
+     */
+    private int chercherFinLigne(int depuis) {
+        for (int i = depuis; i < limite; i++) {
+            if (tampon[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Lit un nouveau bloc du fichier. Les octets non consommés sont ramenés au début du tampon,
+     * qui est agrandi si une ligne ne tient pas dedans.
+     * @throws IOException en cas d'erreur de lecture
+     */
+    private void remplir() throws IOException {
+        int restant = limite - position;
+        if (position > 0) { //Compactage
+            System.arraycopy(tampon, position, tampon, 0, restant);
+            position = 0;
+            limite = restant;
+        }
+        if (limite == tampon.length) { //Ligne plus longue que le tampon
+            tampon = Arrays.copyOf(tampon, tampon.length * 2);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(tampon, limite, tampon.length - limite);
+        int lus = canal.read(buffer);
+        if (lus < 0) {
+            finFichier = true;
+        } else {
+            limite += lus;
+        }
+    }
+
+    // ===================== Décodage des champs =====================
+
+    /**
+     * Renvoie l'indice du premier octet qui n'est pas un espace (équivalent de trim()).
+     * @param octets : le tampon
+     * @param debut : début de l'intervalle
+     * @param fin : fin (exclue) de l'intervalle
+     * @return l'indice du premier octet non blanc, ou fin
+     */
+    public static int debutSansEspaces(byte[] octets, int debut, int fin) {
+        while (debut < fin && (octets[debut] & 0xFF) <= ' ') {
+            debut++;
+        }
+        return debut;
+    }
+
+    /**
+     * Renvoie l'indice suivant le dernier octet qui n'est pas un espace (équivalent de trim()).
+     * @param octets : le tampon
+     * @param debut : début de l'intervalle
+     * @param fin : fin (exclue) de l'intervalle
+     * @return l'indice suivant le dernier octet non blanc, ou debut
+     */
+    public static int finSansEspaces(byte[] octets, int debut, int fin) {
+        while (fin > debut && (octets[fin - 1] & 0xFF) <= ' ') {
+            fin--;
+        }
+        return fin;
+    }
+
+    /**
+     * Cherche la prochaine virgule.
+     * @param octets : le tampon
+     * @param debut : début de la recherche
+     * @param fin : fin (exclue) de la recherche
+     * @return l'indice de la virgule, ou -1
+     */
+    public static int chercherVirgule(byte[] octets, int debut, int fin) {
+        for (int i = debut; i < fin; i++) {
+            if (octets[i] == ',') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Décode un entier directement depuis les octets (espaces ignorés autour, comme trim() + Integer.parseInt).
+     * @param octets : le tampon
+     * @param debut : début du champ
+     * @param fin : fin (exclue) du champ
+     * @return l'entier décodé
+     * @throws NumberFormatException si le champ n'est pas un entier valide
+     */
+    public static int lireEntier(byte[] octets, int debut, int fin) {
+        debut = debutSansEspaces(octets, debut, fin);
+        fin = finSansEspaces(octets, debut, fin);
+        if (debut == fin) {
+            throw new NumberFormatException("Champ numérique vide");
+        }
+
+        boolean negatif = false;
+        if (octets[debut] == '-' || octets[debut] == '+') {
+            negatif = octets[debut] == '-';
+            debut++;
+            if (debut == fin) {
+                throw new NumberFormatException("Signe sans chiffre");
+            }
+        }
+
+        long valeur = 0;
+        for (int i = debut; i < fin; i++) {
+            int chiffre = octets[i] - '0';
+            if (chiffre < 0 || chiffre > 9) {
+                throw new NumberFormatException("Caractère non numérique : " + (char) octets[i]);
+            }
+            valeur = valeur * 10 + chiffre;
+            if (valeur > (long) Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException("Entier trop grand");
+            }
+        }
+        if (negatif) {
+            valeur = -valeur;
+        }
+        if (valeur > Integer.MAX_VALUE || valeur < Integer.MIN_VALUE) {
+            throw new NumberFormatException("Entier trop grand");
+        }
+        return (int) valeur;
+    }
+
+}
@@ -11,6 +11,9 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.ordonnancement.model.AlgoConfiguration;
 import com.ordonnancement.model.FileConfiguration;
+import com.ordonnancement.model.FormatResultats;
+import com.ordonnancement.model.ModeSimulation;
+import com.ordonnancement.model.TypeMoteur;
 import com.ordonnancement.service.parser.FileParsingException;
 
 /**
@@ -77,10 +80,31 @@ public class ConfigParser {
                 quantum = quantumNode.getAsInt();
             }
 
-            listeAlgorithmes.add(new AlgoConfiguration(nomAlgorithme, fichierDet, fichierGlob, quantum));
+            //Format optionnel : CSV par défaut pour les anciens fichiers de configuration
+            FormatResultats format = FormatResultats.CSV;
+            JsonElement formatNode = algoObj.get("formatResultats");
+            if (formatNode != null && !formatNode.isJsonNull()) {
+                format = FormatResultats.valueOf(formatNode.getAsString().trim().toUpperCase());
+            }
+
+            listeAlgorithmes.add(new AlgoConfiguration(nomAlgorithme, fichierDet, fichierGlob, quantum, format));
+        }
+
+        //Moteur optionnel : python par défaut pour les anciens fichiers de configuration
+        TypeMoteur moteur = TypeMoteur.PYTHON;
+        JsonElement moteurNode = root.get("moteur");
+        if (moteurNode != null && !moteurNode.isJsonNull()) {
+            moteur = TypeMoteur.valueOf(moteurNode.getAsString().trim().toUpperCase());
+        }
+
+        //Mode de simulation optionnel : par unité de temps par défaut
+        ModeSimulation modeSimulation = ModeSimulation.TICK;
+        JsonElement modeNode = root.get("modeSimulation");
+        if (modeNode != null && !modeNode.isJsonNull()) {
+            modeSimulation = ModeSimulation.valueOf(modeNode.getAsString().trim().toUpperCase());
         }
 
-        return new FileConfiguration(fichierProcessus, fichierMetriques, fichierRessources, listeAlgorithmes);
+        return new FileConfiguration(fichierProcessus, fichierMetriques, fichierRessources, listeAlgorithmes, moteur, modeSimulation);
 
     } catch (IllegalArgumentException e) {
         throw new FileParsingException(
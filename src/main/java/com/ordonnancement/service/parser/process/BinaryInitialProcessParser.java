@@ -0,0 +1,61 @@
+package com.ordonnancement.service.parser.process;
+
+import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.parser.FileParsingException;
+import com.ordonnancement.service.parser.FormatBinaire;
+import com.ordonnancement.service.parser.LecteurBinaire;
+import com.ordonnancement.service.validation.FileValidator;
+import com.ordonnancement.util.ParallelUtils;
+
+/**
+ * Cette classe lit un fichier de processus initiaux au format binaire (voir {@link FormatBinaire})
+ * écrit par {@link BinaryInitialProcessWriter}.
+ * @author ROMA Quentin
+ */
+public class BinaryInitialProcessParser {
+
+    private static final int MASQUE_VERIFICATION_ANNULATION = 0xFFFF; //Vérification de l'annulation toutes les 65536 processus
+
+    /**
+     * Parse le fichier binaire des processus initiaux.
+     *
+     * @param cheminFichier : chemin vers le fichier binaire
+     * @return la liste des processus, dans l'ordre du fichier
+     * @throws FileParsingException si le fichier est introuvable ou mal formé
+     * @throws CancellationException si le thread est interrompu pendant la lecture
+     */
+    public List<Process> parse(String cheminFichier) {
+        FileValidator.verifierCheminFichier(cheminFichier); //Vérification de l'existance du fichier
+        try (LecteurBinaire lecteur = new LecteurBinaire(cheminFichier)) {
+            lecteur.lireEnTete(FormatBinaire.TYPE_PROCESSUS);
+            String[] identifiants = lecteur.lireDictionnaire();
+            List<Process> listeProcessus = new ArrayList<>(identifiants.length);
+            for (int i = 0; i < identifiants.length; i++) {
+                if ((i & MASQUE_VERIFICATION_ANNULATION) == 0) { //Lecture interrompue si l'exécution est annulée
+                    ParallelUtils.verifierAnnulation("Lecture annulée : " + cheminFichier);
+                }
+                int dateSoumission = lecteur.lireZigzag();
+                int tempsExecution = lecteur.lireZigzag();
+                int requiredRam = lecteur.lireZigzag();
+                int deadline = dateSoumission + lecteur.lireZigzag();
+                int priority = lecteur.lireZigzag();
+                listeProcessus.add(new Process(identifiants[i], dateSoumission, tempsExecution, requiredRam, deadline, priority));
+            }
+            lecteur.verifierFin();
+            return listeProcessus;
+
+        } catch (ClosedByInterruptException e) { //Lecture du canal interrompue par une annulation
+            CancellationException annulation = new CancellationException("Lecture annulée : " + cheminFichier);
+            annulation.initCause(e);
+            throw annulation;
+        } catch (IOException e) {
+            throw new FileParsingException("Impossible de lire le fichier : " + cheminFichier, e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ordonnancement.service.parser.process;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.parser.EcrivainBinaire;
+import com.ordonnancement.service.parser.FormatBinaire;
+
+/**
+ * Cette classe écrit la liste des processus initiaux au format binaire (voir {@link FormatBinaire}),
+ * relue par {@link BinaryInitialProcessParser} sans passer par le CSV.
+ * @author ROMA Quentin
+ */
+public class BinaryInitialProcessWriter {
+
+    /**
+     * Écrit le fichier binaire des processus initiaux.
+     *
+     * @param listeProcessus : la liste des processus, dans l'ordre du fichier initial
+     * @param cheminFichier : le fichier à écrire (remplacé s'il existe)
+     * @throws IOException si l'écriture échoue
+     */
+    public void ecrire(List<Process> listeProcessus, String cheminFichier) throws IOException {
+        List<String> identifiants = new ArrayList<>(listeProcessus.size());
+        for (Process p : listeProcessus) {
+            identifiants.add(p.getId());
+        }
+        try (EcrivainBinaire ecrivain = new EcrivainBinaire(Files.newOutputStream(Path.of(cheminFichier)))) {
+            ecrivain.ecrireEnTete(FormatBinaire.TYPE_PROCESSUS);
+            ecrivain.ecrireDictionnaire(identifiants);
+            for (Process p : listeProcessus) {
+                ecrivain.ecrireZigzag(p.getDateSoumission());
+                ecrivain.ecrireZigzag(p.getTempsExecution());
+                ecrivain.ecrireZigzag(p.getRequiredRam());
+                ecrivain.ecrireZigzag(p.getDeadline() - p.getDateSoumission());
+                ecrivain.ecrireZigzag(p.getPriority());
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.ordonnancement.service.parser.process;
+
+import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+import com.ordonnancement.model.AllocationStore;
+import com.ordonnancement.model.ExecutionInfo;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.parser.FileParsingException;
+import com.ordonnancement.service.parser.FormatBinaire;
+import com.ordonnancement.service.parser.LecteurBinaire;
+import com.ordonnancement.service.validation.FileValidator;
+import com.ordonnancement.util.ParallelUtils;
+
+/**
+ * Cette classe lit les fichiers de résultats au format binaire (voir {@link FormatBinaire})
+ * et met à jour les Process existants, exactement comme {@link GlobalResultProcessParser}
+ * et {@link DetailedResultProcessParser} pour les fichiers CSV.
+ *
+ * Les identifiants des processus et des processeurs ne sont lus qu'une fois, dans les dictionnaires
+ * du fichier : chaque enregistrement ne contient que des entiers, sans aucun découpage de texte.
+ * @author ROMA Quentin
+ */
+public class BinaryResultProcessParser {
+
+    private static final long MASQUE_VERIFICATION_ANNULATION = 0xFFFF; //Vérification de l'annulation toutes les 65536 enregistrements
+
+    private List<Process> listeProcessus;
+
+    /**
+     * Constructeur
+     * @param listeProcessus : la liste des processus
+     */
+    public BinaryResultProcessParser(List<Process> listeProcessus) {
+        this.listeProcessus = listeProcessus;
+    }
+
+    /**
+     * Parse le fichier binaire des résultats globaux d'un algorithme et met à jour
+     * chaque Process avec ses dates de début et de fin et la RAM utilisée.
+     *
+     * @param cheminFichier : chemin vers le fichier binaire
+     * @param nomAlgorithme : le nom de l'algorithme ayant réalisé l'ordonnancement
+     * @return la liste des Process mise à jour
+     * @throws FileParsingException si le fichier est mal formé ou si un processus
+     *                              du fichier n'existe pas dans la liste initiale
+     * @throws java.util.concurrent.CancellationException si le thread est interrompu pendant la lecture
+     */
+    public List<Process> parseGlobaux(String cheminFichier, String nomAlgorithme) {
+        FileValidator.verifierCheminFichier(cheminFichier); //Vérification de l'existance du fichier
+        try (LecteurBinaire lecteur = new LecteurBinaire(cheminFichier)) {
+            lecteur.lireEnTete(FormatBinaire.TYPE_GLOBAUX);
+            Process[] processus = retrouverProcessus(lecteur.lireDictionnaire());
+
+            int nombre = lecteur.lireTaille();
+            for (int i = 0; i < nombre; i++) {
+                if ((i & MASQUE_VERIFICATION_ANNULATION) == 0) { //Lecture interrompue si l'exécution est annulée
+                    ParallelUtils.verifierAnnulation("Lecture annulée : " + cheminFichier);
+                }
+                Process p = element(processus, lecteur.lireVarint(), "processus");
+                int dateSoumission = lecteur.lireZigzag();
+                int dateDebut = dateSoumission + lecteur.lireZigzag();
+                int dateFin = dateDebut + lecteur.lireZigzag();
+                lecteur.lireZigzag(); //requiredRam : déjà connue par le Process
+                int usedRam = lecteur.lireZigzag();
+                p.addExecution(nomAlgorithme, new ExecutionInfo(dateDebut, dateFin, usedRam));
+            }
+            lecteur.verifierFin();
+
+            return listeProcessus;
+
+        } catch (ClosedByInterruptException e) { //Lecture du canal interrompue par une annulation
+            throw annulation(cheminFichier, e);
+        } catch (IOException e) {
+            throw new FileParsingException("Impossible de lire le fichier : " + cheminFichier, e);
+        }
+    }
+
+    /**
+     * Parse le fichier binaire des résultats détaillés d'un algorithme et
+     * met à jour chaque Process avec ses Allocations correspondantes.
+     *
+     * @param cheminFichier : chemin vers le fichier binaire
+     * @param nomAlgorithme : le nom de l'algorithme ayant réalisé l'ordonnancement
+     * @return la liste des Process mise à jour avec les allocations
+     * @throws FileParsingException si le fichier est mal formé ou si un processus
+     *                              du fichier n'existe pas dans la liste initiale
+     * @throws java.util.concurrent.CancellationException si le thread est interrompu pendant la lecture
+     */
+    public List<Process> parseDetailles(String cheminFichier, String nomAlgorithme) {
+        FileValidator.verifierCheminFichier(cheminFichier); //Vérification de l'existance du fichier
+        try (LecteurBinaire lecteur = new LecteurBinaire(cheminFichier)) {
+            lecteur.lireEnTete(FormatBinaire.TYPE_DETAILLES);
+            Process[] processus = retrouverProcessus(lecteur.lireDictionnaire());
+            String[] processeurs = lecteur.lireDictionnaire(); //Une seule String par processeur
+
+            int nombre = lecteur.lireTaille();
+            AllocationStore store = new AllocationStore(nombre); //Taille connue : pas d'agrandissement
+            int dateDebut = 0;
+            for (int i = 0; i < nombre; i++) {
+                if ((i & MASQUE_VERIFICATION_ANNULATION) == 0) { //Lecture interrompue si l'exécution est annulée
+                    ParallelUtils.verifierAnnulation("Lecture annulée : " + cheminFichier);
+                }
+                dateDebut += lecteur.lireZigzag();
+                int dateFin = dateDebut + lecteur.lireZigzag();
+                Process p = element(processus, lecteur.lireVarint(), "processus");
+                String idProcesseur = element(processeurs, lecteur.lireVarint(), "processeur");
+                store.ajouter(p, idProcesseur, dateDebut, dateFin);
+            }
+            lecteur.verifierFin();
+
+            store.attacher(nomAlgorithme); //Chaque Process reçoit la vue de ses allocations
+            return listeProcessus;
+
+        } catch (ClosedByInterruptException e) { //Lecture du canal interrompue par une annulation
+            throw annulation(cheminFichier, e);
+        } catch (IOException e) {
+            throw new FileParsingException("Impossible de lire le fichier : " + cheminFichier, e);
+        }
+    }
+
+    /**
+     * Associe chaque identifiant du dictionnaire du fichier au Process correspondant.
+     *
+     * @param identifiants : le dictionnaire des processus du fichier
+     * @return les Process, dans l'ordre des indices du dictionnaire
+     * @throws FileParsingException si un identifiant n'existe pas dans la liste initiale
+     */
+    private Process[] retrouverProcessus(String[] identifiants) {
+        Map<String, Process> mapProcessus = new HashMap<>();
+        for (Process p : listeProcessus) {
+            mapProcessus.put(p.getId(), p);
+        }
+        Process[] processus = new Process[identifiants.length];
+        for (int i = 0; i < identifiants.length; i++) {
+            processus[i] = mapProcessus.get(identifiants[i]);
+            if (processus[i] == null) {
+                throw new FileParsingException(
+                        "Incohérence détectée : le processus " + identifiants[i]
+                                + " dans les résultats binaires n'existe pas dans la liste initiale.");
+            }
+        }
+        return processus;
+    }
+
+    /**
+     * Renvoie l'élément d'un dictionnaire à partir de son indice lu dans un enregistrement.
+     *
+     * @param dictionnaire : le dictionnaire
+     * @param indice : l'indice lu
+     * @param nature : la nature de l'élément (pour le message d'erreur)
+     * @return l'élément
+     * @throws FileParsingException si l'indice est hors du dictionnaire
+     */
+    private static <T> T element(T[] dictionnaire, int indice, String nature) {
+        if (indice < 0 || indice >= dictionnaire.length) {
+            throw new FileParsingException("Indice de " + nature + " invalide dans le fichier binaire : " + indice);
+        }
+        return dictionnaire[indice];
+    }
+
+    /**
+     * Convertit l'interruption de la lecture en annulation.
+     */
+    private static CancellationException annulation(String cheminFichier, ClosedByInterruptException e) {
+        CancellationException annulation = new CancellationException("Lecture annulée : " + cheminFichier);
+        annulation.initCause(e);
+        return annulation;
+    }
+}
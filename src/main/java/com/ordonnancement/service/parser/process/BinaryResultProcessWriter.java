@@ -0,0 +1,116 @@
+package com.ordonnancement.service.parser.process;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ordonnancement.model.AllocationStore;
+import com.ordonnancement.model.ExecutionInfo;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.parser.EcrivainBinaire;
+import com.ordonnancement.service.parser.FormatBinaire;
+
+/**
+ * Cette classe écrit les résultats d'un algorithme au format binaire (voir {@link FormatBinaire}),
+ * à partir des Process déjà ordonnancés : même contenu que les fichiers écrits par python,
+ * relus par {@link BinaryResultProcessParser}.
+ * @author ROMA Quentin
+ */
+public class BinaryResultProcessWriter {
+
+    private List<Process> listeProcessus;
+
+    /**
+     * Constructeur
+     * @param listeProcessus : la liste des processus ordonnancés
+     */
+    public BinaryResultProcessWriter(List<Process> listeProcessus) {
+        this.listeProcessus = listeProcessus;
+    }
+
+    /**
+     * Écrit le fichier binaire des résultats globaux d'un algorithme.
+     * Les processus sans exécution pour cet algorithme sont ignorés.
+     *
+     * @param cheminFichier : le fichier à écrire (remplacé s'il existe)
+     * @param nomAlgorithme : le nom de l'algorithme
+     * @throws IOException si l'écriture échoue
+     */
+    public void ecrireGlobaux(String cheminFichier, String nomAlgorithme) throws IOException {
+        List<Process> executes = new ArrayList<>();
+        List<String> identifiants = new ArrayList<>();
+        for (Process p : listeProcessus) {
+            if (p.getExecutionInfo(nomAlgorithme) != null) {
+                executes.add(p);
+                identifiants.add(p.getId());
+            }
+        }
+        try (EcrivainBinaire ecrivain = new EcrivainBinaire(Files.newOutputStream(Path.of(cheminFichier)))) {
+            ecrivain.ecrireEnTete(FormatBinaire.TYPE_GLOBAUX);
+            ecrivain.ecrireDictionnaire(identifiants);
+            ecrivain.ecrireVarint(executes.size());
+            for (int i = 0; i < executes.size(); i++) {
+                Process p = executes.get(i);
+                ExecutionInfo info = p.getExecutionInfo(nomAlgorithme);
+                ecrivain.ecrireVarint(i);
+                ecrivain.ecrireZigzag(p.getDateSoumission());
+                ecrivain.ecrireZigzag(info.getDateDebut() - p.getDateSoumission());
+                ecrivain.ecrireZigzag(info.getDateFin() - info.getDateDebut());
+                ecrivain.ecrireZigzag(p.getRequiredRam());
+                ecrivain.ecrireZigzag(info.getUsedRam());
+            }
+        }
+    }
+
+    /**
+     * Écrit le fichier binaire des résultats détaillés (allocations) d'un algorithme.
+     *
+     * @param cheminFichier : le fichier à écrire (remplacé s'il existe)
+     * @param nomAlgorithme : le nom de l'algorithme
+     * @throws IOException si l'écriture échoue
+     */
+    public void ecrireDetailles(String cheminFichier, String nomAlgorithme) throws IOException {
+        AllocationStore store = AllocationStore.depuis(listeProcessus, nomAlgorithme);
+        int taille = store.taille();
+
+        //Dictionnaires dans l'ordre de première apparition
+        Map<Process, Integer> indicesProcessus = new IdentityHashMap<>();
+        Map<String, Integer> indicesProcesseurs = new HashMap<>();
+        List<String> processus = new ArrayList<>();
+        List<String> processeurs = new ArrayList<>();
+        int[] colonneProcessus = new int[taille];
+        int[] colonneProcesseurs = new int[taille];
+        for (int i = 0; i < taille; i++) {
+            Process p = store.getProcessus(i);
+            colonneProcessus[i] = indicesProcessus.computeIfAbsent(p, cle -> {
+                processus.add(cle.getId());
+                return processus.size() - 1;
+            });
+            colonneProcesseurs[i] = indicesProcesseurs.computeIfAbsent(store.getProcesseur(i), cle -> {
+                processeurs.add(cle);
+                return processeurs.size() - 1;
+            });
+        }
+
+        try (EcrivainBinaire ecrivain = new EcrivainBinaire(Files.newOutputStream(Path.of(cheminFichier)))) {
+            ecrivain.ecrireEnTete(FormatBinaire.TYPE_DETAILLES);
+            ecrivain.ecrireDictionnaire(processus);
+            ecrivain.ecrireDictionnaire(processeurs);
+            ecrivain.ecrireVarint(taille);
+            int debutPrecedent = 0;
+            for (int i = 0; i < taille; i++) {
+                int debut = store.getDateDebut(i);
+                ecrivain.ecrireZigzag(debut - debutPrecedent);
+                ecrivain.ecrireZigzag(store.getDateFin(i) - debut);
+                ecrivain.ecrireVarint(colonneProcessus[i]);
+                ecrivain.ecrireVarint(colonneProcesseurs[i]);
+                debutPrecedent = debut;
+            }
+        }
+    }
+}
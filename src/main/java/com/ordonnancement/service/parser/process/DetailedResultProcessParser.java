@@ -1,18 +1,18 @@
 package com.ordonnancement.service.parser.process;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CancellationException;
 
-import com.ordonnancement.model.Allocation;
+import com.ordonnancement.model.AllocationStore;
 import com.ordonnancement.model.Process;
+import com.ordonnancement.service.parser.DictionnaireOctets;
 import com.ordonnancement.service.parser.FileParsingException;
+import com.ordonnancement.service.parser.LecteurCsvOctets;
 import com.ordonnancement.service.validation.FileValidator;
-import com.ordonnancement.service.validation.ProcessValidator;
+import com.ordonnancement.util.ParallelUtils;
 
 /**
  * Cette classe lit un fichier CSV contenant les exécutions de chaque processus
@@ -33,6 +33,8 @@ import com.ordonnancement.service.validation.ProcessValidator;
  */
 public class DetailedResultProcessParser {
 
+    private static final long MASQUE_VERIFICATION_ANNULATION = 0xFFFF; //Vérification de l'annulation toutes les 65536 lignes
+
     private List<Process> listeProcessus;
 
     /**
@@ -47,26 +49,34 @@ public class DetailedResultProcessParser {
     /**
      * Parse le fichier CSV décrivant les résultats détaillés d'un algorithme et
      * met à jour chaque Process avec ses Allocations correspondantes.
+     * Le fichier est lu en flux, et les champs sont décodés directement depuis les octets
+     * (sans split ni String intermédiaires) : adapté aux fichiers de plusieurs millions de lignes.
      *
      * @param cheminFichier chemin vers le fichier CSV
      * @param nomAlgorithme : le nom de l'algorithme ayant réalisé l'ordonnancement
      * @return la liste des Process mise à jour avec les allocations
      * @throws FileParsingException si le fichier est vide, mal formé, ou si un
      *                              processus du CSV n'existe pas dans la liste initiale
+     * @throws java.util.concurrent.CancellationException si le thread est interrompu pendant la lecture
      */
     
     public List<Process> parse(String cheminFichier, String nomAlgorithme) {
         FileValidator.verifierCheminFichier(cheminFichier); //Vérification de l'existance du fichier
-        try (BufferedReader reader = new BufferedReader(new FileReader(cheminFichier))) {
+        long nombreLignes = 0; //Nombre de lignes d'allocation lues
+        try (LecteurCsvOctets lecteur = new LecteurCsvOctets(cheminFichier)) {
 
-            // Création d'une map pour retrouver rapidement les processus par leur ID
-            Map<String, Process> mapProcessus = new HashMap<>();
+            // Création d'une table pour retrouver rapidement les processus depuis les octets de leur ID
+            DictionnaireOctets<Process> tableProcessus = new DictionnaireOctets<>(listeProcessus.size());
             for (Process p : listeProcessus) {
-                mapProcessus.put(p.getId(), p);
+                tableProcessus.ajouter(p.getId(), p);
             }
+            // Identifiants de processeurs partagés : une seule String par processeur
+            DictionnaireOctets<String> processeurs = new DictionnaireOctets<>(16);
+            // Stockage en colonnes de toutes les allocations de l'algorithme
+            AllocationStore store = new AllocationStore();
 
             // Lecture de la première ligne (en-tête)
-            String ligne = reader.readLine();
+            String ligne = lecteur.lireLigneTexte();
             if (ligne == null) {
                 throw new FileParsingException("Fichier CSV vide : " + cheminFichier);
             }
@@ -75,14 +85,22 @@ public class DetailedResultProcessParser {
             checkHeader(ligne);
 
             // Lecture des lignes de données
-            while ((ligne = reader.readLine()) != null) {
-                if (ligne.trim().isEmpty()) continue; // Ignorer les lignes vides
-                parseLine(ligne, mapProcessus, nomAlgorithme);      // Conversion et ajout au Process correspondant
+            while (lecteur.ligneSuivante()) {
+                if ((nombreLignes & MASQUE_VERIFICATION_ANNULATION) == 0) { //Lecture interrompue si l'exécution est annulée
+                    ParallelUtils.verifierAnnulation("Lecture annulée : " + cheminFichier);
+                }
+                if (lecteur.ligneVide()) continue; // Ignorer les lignes vides
+                parseLine(lecteur, tableProcessus, processeurs, store, nomAlgorithme);      // Conversion et ajout au store
+                nombreLignes++;
             }
 
-            ProcessValidator.valider(listeProcessus); //Validation de la cohérence des processus parsés
+            store.attacher(nomAlgorithme); //Chaque Process reçoit la vue de ses allocations
             return listeProcessus;
 
+        } catch (ClosedByInterruptException e) { //Lecture du canal interrompue par une annulation
+            CancellationException annulation = new CancellationException("Lecture annulée : " + cheminFichier);
+            annulation.initCause(e);
+            throw annulation;
         } catch (IOException e) {
             throw new FileParsingException("Impossible de lire le fichier : " + cheminFichier, e);
         } catch (NumberFormatException e) {
@@ -114,44 +132,68 @@ public class DetailedResultProcessParser {
     }
 
     /**
-     * Convertit une ligne du CSV en Allocation et met à jour le Process correspondant.
+     * Convertit la ligne courante du CSV en allocation et l'ajoute au store de l'algorithme.
+     * Les champs sont lus directement dans les octets de la ligne.
      *
-     * @param ligne du CSV contenant les valeurs des colonnes
-     * @param mapProcessus map des Process pour retrouver le Process par son ID
+     * @param lecteur : le lecteur positionné sur la ligne à convertir
+     * @param tableProcessus : table des Process pour retrouver le Process par son ID
+     * @param processeurs : table des identifiants de processeurs déjà rencontrés
+     * @param store : le store des allocations de l'algorithme
      * @param nomAlgorithme : le nom de l'algorithme ayant réalisé l'ordonnancement
      * @throws FileParsingException si la ligne contient moins de 4 colonnes ou si le Process est introuvable
      */
-    private void parseLine(String ligne, Map<String, Process> mapProcessus, String nomAlgorithme) {
-        String[] valeurs = ligne.split(",");
-        if (valeurs.length < 4) {
-            throw new FileParsingException("Ligne CSV incomplète : " + ligne +" dans le fichier des résultats détailés de "+ nomAlgorithme);
+    private void parseLine(LecteurCsvOctets lecteur, DictionnaireOctets<Process> tableProcessus,
+            DictionnaireOctets<String> processeurs, AllocationStore store, String nomAlgorithme) {
+        byte[] octets = lecteur.getTampon();
+        int debut = lecteur.getDebutLigne();
+        int fin = lecteur.getFinLigne();
+
+        // Positions des 3 premières virgules
+        int v1 = LecteurCsvOctets.chercherVirgule(octets, debut, fin);
+        int v2 = v1 < 0 ? -1 : LecteurCsvOctets.chercherVirgule(octets, v1 + 1, fin);
+        int v3 = v2 < 0 ? -1 : LecteurCsvOctets.chercherVirgule(octets, v2 + 1, fin);
+        int v4 = v3 < 0 ? -1 : LecteurCsvOctets.chercherVirgule(octets, v3 + 1, fin);
+        int finProcesseur = v4 < 0 ? fin : v4;
+        if (v3 < 0 || colonnesFinalesVides(octets, v3 + 1, fin)) { //Même règle que split(",") : moins de 4 colonnes
+            throw new FileParsingException("Ligne CSV incomplète : " + lecteur.ligneCourante() +" dans le fichier des résultats détailés de "+ nomAlgorithme);
         }
 
-        String idProcessus = valeurs[0].trim();
-        int dateDebut = Integer.parseInt(valeurs[1].trim());
-        int dateFin = Integer.parseInt(valeurs[2].trim());
-        String idProcesseur = valeurs[3].trim();
+        int dateDebut = LecteurCsvOctets.lireEntier(octets, v1 + 1, v2);
+        int dateFin = LecteurCsvOctets.lireEntier(octets, v2 + 1, v3);
 
         // Récupération du Process correspondant
-        Process p = mapProcessus.get(idProcessus);
+        int debutId = LecteurCsvOctets.debutSansEspaces(octets, debut, v1);
+        int finId = LecteurCsvOctets.finSansEspaces(octets, debutId, v1);
+        Process p = tableProcessus.chercher(octets, debutId, finId);
         if (p == null) {
             throw new FileParsingException(
-                    "Incohérence détectée : le processus " + idProcessus
+                    "Incohérence détectée : le processus " + new String(octets, debutId, finId - debutId, StandardCharsets.UTF_8)
                             + " dans les résultats CSV n'existe pas dans la liste initiale.");
         }
-        
-    
-        // Création de l'allocation pour cette ligne
-        Allocation a = new Allocation(p,idProcesseur, dateDebut, dateFin);
 
+        // Identifiant du processeur, partagé entre toutes les lignes
+        int debutCpu = LecteurCsvOctets.debutSansEspaces(octets, v3 + 1, finProcesseur);
+        int finCpu = LecteurCsvOctets.finSansEspaces(octets, debutCpu, finProcesseur);
+        String idProcesseur = processeurs.interner(octets, debutCpu, finCpu);
+    
+        // Ajout de l'allocation de cette ligne au store
+        store.ajouter(p, idProcesseur, dateDebut, dateFin);
+    }
 
-        // Récupérer la liste actuelle pour l'algorithme
-        List<Allocation> listeAlloc = p.getAllocations(nomAlgorithme);
-        if (listeAlloc == null) { //Si la liste est nulle, alors on la crée
-            listeAlloc = new ArrayList<>();
-            p.setAllocations(nomAlgorithme, listeAlloc); //On défini cette liste comme la liste des allocations de ce processus pour cet algo
+    /**
+     * Indique si toutes les colonnes à partir de la 4ème sont vides (split(",") les ignorerait).
+     *
+     * @param octets : le tampon
+     * @param debut : début de la 4ème colonne
+     * @param fin : fin de la ligne
+     * @return true s'il n'y a que des virgules (ou rien) après la 3ème virgule
+     */
+    private static boolean colonnesFinalesVides(byte[] octets, int debut, int fin) {
+        for (int i = debut; i < fin; i++) {
+            if (octets[i] != ',') {
+                return false;
+            }
         }
-
-        listeAlloc.add(a); //Ajout de l'allocation à la liste
+        return true;
     }
 }
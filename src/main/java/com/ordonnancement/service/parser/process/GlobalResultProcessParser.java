@@ -11,7 +11,7 @@ import com.ordonnancement.model.ExecutionInfo;
 import com.ordonnancement.model.Process;
 import com.ordonnancement.service.parser.FileParsingException;
 import com.ordonnancement.service.validation.FileValidator;
-import com.ordonnancement.service.validation.ProcessValidator;
+import com.ordonnancement.util.ParallelUtils;
 
 /**
  * Cette classe lit un fichier CSV contenant les résultats globaux de l'ordonnancement.
@@ -69,12 +69,15 @@ public class GlobalResultProcessParser {
             checkHeader(ligne);
 
             // Lecture des lignes de données
+            long numeroLigne = 0;
             while ((ligne = reader.readLine()) != null) {
+                if ((++numeroLigne & 0xFFFF) == 0) { //Lecture interrompue si l'exécution est annulée
+                    ParallelUtils.verifierAnnulation("Lecture annulée : " + cheminFichier);
+                }
                 if (ligne.trim().isEmpty()) continue; // Ignorer les lignes vides
                 parseLine(ligne, mapProcessus, nomAlgorithme); // Conversion et mise à jour du Process
             }
             
-            ProcessValidator.valider(listeProcessus); //Validation de la cohérence des processus parsés
             return listeProcessus;
 
         } catch (IOException e) {
@@ -0,0 +1,100 @@
+package com.ordonnancement.service.parser.ressources;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.ordonnancement.model.Ressources;
+import com.ordonnancement.service.parser.FileParsingException;
+import com.ordonnancement.service.validation.FileValidator;
+
+/**
+ * Classe permettant de lire le fichier JSON des ressources disponibles.
+ * @author ROMA Quentin
+ *
+ * Format attendu :
+ *
+ * {
+ *   "nombreTotalProcesseurs": 2,
+ *   "ramTotale": 2048,
+ *   "processeurs": [ {"idProcesseur": "CPU1"}, {"idProcesseur": "CPU2"} ]
+ * }
+ */
+public class RessourcesParser {
+
+    /**
+     * Parse le fichier JSON des ressources en un objet Ressources.
+     *
+     * @param cheminFichierJson chemin du fichier JSON
+     * @return les ressources disponibles
+     * @throws FileParsingException si le fichier est introuvable, illisible ou incohérent
+     */
+    public static Ressources parse(String cheminFichierJson) throws FileParsingException {
+        FileValidator.verifierCheminFichier(cheminFichierJson); //Vérification de l'existance du fichier
+        JsonObject root;
+
+        try (FileReader reader = new FileReader(cheminFichierJson)) {
+            root = new Gson().fromJson(reader, JsonObject.class);
+        } catch (IOException e) {
+            throw new FileParsingException("Impossible de lire le fichier des ressources : " + cheminFichierJson, e);
+        } catch (Exception e) {
+            throw new FileParsingException("Fichier des ressources invalide : " + e.getMessage(), e);
+        }
+
+        if (root == null) {
+            throw new FileParsingException("Le fichier des ressources est vide : " + cheminFichierJson);
+        }
+
+        try {
+            int nombreProcesseurs = getRequiredInt(root, "nombreTotalProcesseurs");
+            int ramTotale = getRequiredInt(root, "ramTotale");
+
+            JsonArray processeursNode = root.getAsJsonArray("processeurs");
+            if (processeursNode == null) {
+                throw new IllegalArgumentException("Le champ \"processeurs\" est obligatoire.");
+            }
+
+            List<String> processeurs = new ArrayList<>();
+            Set<String> idsVus = new HashSet<>(); //Pour vérifier l'unicité des ids
+            for (JsonElement elem : processeursNode) {
+                JsonElement idNode = elem.getAsJsonObject().get("idProcesseur");
+                if (idNode == null || idNode.isJsonNull() || idNode.getAsString().isBlank()) {
+                    throw new IllegalArgumentException("Un processeur n'a pas d'idProcesseur.");
+                }
+                String id = idNode.getAsString().trim();
+                if (!idsVus.add(id)) {
+                    throw new IllegalArgumentException("Doublon d'idProcesseur détecté (" + id + ")");
+                }
+                processeurs.add(id);
+            }
+
+            if (processeurs.size() != nombreProcesseurs) { //Si le nombre de processeurs est incohérent
+                throw new IllegalArgumentException("Le nombre total de CPU est différent du nombre réel de CPU.");
+            }
+
+            return new Ressources(processeurs, ramTotale);
+
+        } catch (IllegalArgumentException | IllegalStateException | ClassCastException e) {
+            throw new FileParsingException("Erreur dans le fichier des ressources : " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Récupère un champ entier obligatoire d'un JsonObject.
+     */
+    private static int getRequiredInt(JsonObject obj, String key) {
+        JsonElement element = obj.get(key);
+        if (element == null || element.isJsonNull()) {
+            throw new IllegalArgumentException("Le champ \"" + key + "\" est obligatoire.");
+        }
+        return element.getAsInt();
+    }
+
+}
@@ -0,0 +1,213 @@
+package com.ordonnancement.service.processus;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import com.ordonnancement.model.ExecutionInfo;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.util.IndexPrefixes;
+
+/**
+ * Table des processus en colonnes, pour parcourir les résultats de millions de processus :
+ * chaque champ (données du processus, puis début, fin, attente et respect de la deadline par algorithme)
+ * est un tableau d'entiers, et les lignes affichées ne sont que des positions dans ces tableaux.
+ *
+ * La construction, le filtrage et le tri sont faits hors du thread JavaFX ; une fois construite,
+ * la table n'est plus modifiée et peut être lue depuis plusieurs threads.
+ * @author ROMA Quentin
+ */
+public class TableauProcessus {
+
+    /**
+     * Valeur d'un champ d'algorithme quand le processus n'a pas été exécuté par l'algorithme.
+     */
+    public static final int ABSENT = -1;
+
+    /**
+     * Les champs de la table.
+     */
+    public enum Champ {
+        ID(false),
+        SOUMISSION(false),
+        TEMPS_EXECUTION(false),
+        RAM(false),
+        DEADLINE(false),
+        PRIORITE(false),
+        DEBUT(true),
+        FIN(true),
+        ATTENTE(true),
+        DEADLINE_RESPECTEE(true); //1 si la deadline est respectée, 0 sinon
+
+        private final boolean parAlgorithme;
+
+        Champ(boolean parAlgorithme) {
+            this.parAlgorithme = parAlgorithme;
+        }
+
+        /**
+         * Indique si le champ a une valeur par algorithme.
+         * @return true pour les résultats d'un algorithme, false pour les données du processus
+         */
+        public boolean isParAlgorithme() {
+            return parAlgorithme;
+        }
+    }
+
+    private final List<Process> processus;
+    private final IndexPrefixes index; //Recherche par préfixe d'id et tri par id
+    private final int[] soumission;
+    private final int[] tempsExecution;
+    private final int[] ram;
+    private final int[] deadline;
+    private final int[] priorite;
+    private final Map<String, int[]> debuts = new LinkedHashMap<>(); //Par algorithme, dans l'ordre donné
+    private final Map<String, int[]> fins = new LinkedHashMap<>();
+
+    /**
+     * Construit la table.
+     *
+     * @param processus : les processus (la liste n'est pas copiée)
+     * @param algorithmes : les algorithmes dont les résultats sont mis en colonnes
+     */
+    public TableauProcessus(List<Process> processus, List<String> algorithmes) {
+        int n = processus.size();
+        this.processus = processus;
+        this.soumission = new int[n];
+        this.tempsExecution = new int[n];
+        this.ram = new int[n];
+        this.deadline = new int[n];
+        this.priorite = new int[n];
+        String[] ids = new String[n];
+        for (String algo : algorithmes) {
+            debuts.put(algo, new int[n]);
+            fins.put(algo, new int[n]);
+        }
+        IntStream.range(0, n).parallel().forEach(i -> {
+            Process p = processus.get(i);
+            ids[i] = p.getId();
+            soumission[i] = p.getDateSoumission();
+            tempsExecution[i] = p.getTempsExecution();
+            ram[i] = p.getRequiredRam();
+            deadline[i] = p.getDeadline();
+            priorite[i] = p.getPriority();
+            for (String algo : algorithmes) {
+                ExecutionInfo execution = p.getExecutionInfo(algo);
+                debuts.get(algo)[i] = execution == null ? ABSENT : execution.getDateDebut();
+                fins.get(algo)[i] = execution == null ? ABSENT : execution.getDateFin();
+            }
+        });
+        this.index = new IndexPrefixes(ids);
+    }
+
+    /**
+     * Renvoie le nombre de processus de la table.
+     *
+     * @return le nombre de lignes
+     */
+    public int getNombreLignes() {
+        return processus.size();
+    }
+
+    /**
+     * Renvoie les algorithmes mis en colonnes.
+     *
+     * @return les noms des algorithmes
+     */
+    public List<String> getAlgorithmes() {
+        return List.copyOf(debuts.keySet());
+    }
+
+    /**
+     * Renvoie le processus d'une ligne.
+     *
+     * @param ligne : la position du processus
+     * @return le processus
+     */
+    public Process getProcessus(int ligne) {
+        return processus.get(ligne);
+    }
+
+    /**
+     * Renvoie la valeur d'un champ numérique (pour {@link Champ#ID}, le rang de l'id dans l'ordre alphabétique).
+     *
+     * @param champ : le champ
+     * @param algo : l'algorithme (ignoré pour les données du processus)
+     * @param ligne : la position du processus
+     * @return la valeur, ou {@link #ABSENT} si le processus n'a pas été exécuté par l'algorithme
+     * @throws IllegalArgumentException si l'algorithme n'est pas dans la table
+     */
+    public int getValeur(Champ champ, String algo, int ligne) {
+        if (!champ.isParAlgorithme()) {
+            return switch (champ) {
+                case ID -> index.getRang(ligne);
+                case SOUMISSION -> soumission[ligne];
+                case TEMPS_EXECUTION -> tempsExecution[ligne];
+                case RAM -> ram[ligne];
+                case DEADLINE -> deadline[ligne];
+                default -> priorite[ligne];
+            };
+        }
+        int fin = colonne(fins, algo)[ligne];
+        if (fin == ABSENT) {
+            return ABSENT;
+        }
+        return switch (champ) {
+            case DEBUT -> colonne(debuts, algo)[ligne];
+            case FIN -> fin;
+            case ATTENTE -> Math.max(0, colonne(debuts, algo)[ligne] - soumission[ligne]); //Même définition que les métriques
+            default -> fin <= deadline[ligne] ? 1 : 0;
+        };
+    }
+
+    /**
+     * Renvoie les lignes dont l'id commence par un préfixe et qui vérifient un filtre.
+     * Le filtre est évalué en parallèle.
+     *
+     * @param prefixeId : le préfixe des id recherchés (vide : tous les processus)
+     * @param filtre : le filtre sur les lignes (null : aucun filtre)
+     * @return les lignes retenues, dans l'ordre des processus
+     */
+    public int[] filtrer(String prefixeId, IntPredicate filtre) {
+        int[] lignes = index.rechercher(prefixeId);
+        if (filtre == null) {
+            return lignes;
+        }
+        return Arrays.stream(lignes).parallel().filter(filtre).toArray();
+    }
+
+    /**
+     * Trie des lignes selon un champ. À valeur égale, l'ordre des processus est conservé.
+     *
+     * @param lignes : les lignes à trier (non modifiées)
+     * @param champ : le champ de tri
+     * @param algo : l'algorithme du champ (ignoré pour les données du processus)
+     * @param croissant : true pour l'ordre croissant
+     * @return les lignes triées
+     */
+    public int[] trier(int[] lignes, Champ champ, String algo, boolean croissant) {
+        long[] cles = new long[lignes.length];
+        Arrays.parallelSetAll(cles, i -> {
+            long valeur = getValeur(champ, algo, lignes[i]);
+            return ((croissant ? valeur : -valeur) << 32) | lignes[i]; //Valeur dans les bits forts, ligne dans les bits faibles
+        });
+        Arrays.parallelSort(cles);
+        int[] triees = new int[lignes.length];
+        Arrays.setAll(triees, i -> (int) cles[i]);
+        return triees;
+    }
+
+    /**
+     * Renvoie la colonne d'un algorithme.
+     */
+    private static int[] colonne(Map<String, int[]> colonnes, String algo) {
+        int[] colonne = colonnes.get(algo);
+        if (colonne == null) {
+            throw new IllegalArgumentException("Algorithme absent de la table des processus : " + algo);
+        }
+        return colonne;
+    }
+}
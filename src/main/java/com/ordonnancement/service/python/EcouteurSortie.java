@@ -0,0 +1,33 @@
+package com.ordonnancement.service.python;
+
+/**
+ * Interface permettant de recevoir en direct les lignes écrites par le script python.
+ * Les lignes sont transmises depuis les threads de lecture des flux (pas depuis le thread JavaFX) :
+ * l'écouteur doit être rapide et thread-safe pour ne pas ralentir le script.
+ * @author ROMA Quentin
+ */
+@FunctionalInterface
+public interface EcouteurSortie {
+
+    /**
+     * Écouteur qui ignore les lignes reçues.
+     */
+    public static final EcouteurSortie AUCUN = (flux, ligne) -> { };
+
+    /**
+     * Les flux de sortie du script.
+     */
+    public enum Flux {
+        SORTIE, //Sortie standard
+        ERREUR  //Sortie d'erreur
+    }
+
+    /**
+     * Reçoit une ligne écrite par le script.
+     *
+     * @param flux : le flux sur lequel la ligne a été écrite
+     * @param ligne : la ligne, sans le retour à la ligne
+     */
+    public void recevoirLigne(Flux flux, String ligne);
+
+}
@@ -2,8 +2,15 @@ package com.ordonnancement.service.python;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ordonnancement.util.TamponLignes;
 
 /**
  * Classe permettant de lancer le script python
@@ -12,49 +19,149 @@ import java.nio.file.Path;
 
 public class PythonLauncher {
 
+    /**
+     * Nombre de lignes conservées pour chaque flux (les plus récentes) :
+     * la sortie d'erreur est reprise dans le message de PythonException.
+     */
+    public static final int CAPACITE_TAMPON = 200;
+
+    //Scripts python en cours d'exécution, arrêtés si l'application java s'arrête
+    private static final Set<Process> PROCESSUS_ACTIFS = ConcurrentHashMap.newKeySet();
+
+    static {
+        //Un seul hook pour toute l'application (et non un par exécution, qui ne serait jamais retiré)
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> PROCESSUS_ACTIFS.forEach(PythonLauncher::arreter),
+                "python-arret"));
+    }
+
     /**
      * Exécute un script Python avec un fichier de configuration en paramètre.
      *
      * @param cheminScript chemin du script Python
      * @param cheminConfig fichier de configuration JSON à passer en argument
+     * @throws PythonException si le script ne peut pas être lancé ou se termine en erreur
+     * @throws CancellationException si le thread appelant est interrompu : le script est alors arrêté
      */
     public static void runPythonScript(Path cheminScript, String cheminConfig){
+        runPythonScript(cheminScript, cheminConfig, EcouteurSortie.AUCUN);
+    }
+
+    /**
+     * Exécute un script Python avec un fichier de configuration en paramètre,
+     * en transmettant chaque ligne écrite par le script à l'écouteur.
+     * Les sorties standard et d'erreur sont lues en parallèle, chacune dans un thread virtuel :
+     * le script ne peut pas rester bloqué sur un tube plein.
+     * Seules les {@value #CAPACITE_TAMPON} dernières lignes de chaque flux sont conservées en mémoire.
+     *
+     * @param cheminScript chemin du script Python
+     * @param cheminConfig fichier de configuration JSON à passer en argument
+     * @param ecouteur : l'écouteur qui reçoit les lignes en direct
+     * @throws PythonException si le script ne peut pas être lancé ou se termine en erreur
+     * @throws CancellationException si le thread appelant est interrompu : le script est alors arrêté
+     */
+    public static void runPythonScript(Path cheminScript, String cheminConfig, EcouteurSortie ecouteur){
 
         String commande[] = {"python", "-X", "utf8", cheminScript.toString(), cheminConfig}; //Commande à exécuter pour lancer le script python;
         ProcessBuilder builder = new ProcessBuilder(commande); //Construction de la commande
-        
+
+        Process process;
         try {
             //Démarrage du processus
-            Process process = builder.start();
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> process.destroy())); //Arreter le python si on arrete l'app java
-
-
-            // Variable pour stocker les erreurs
-            StringBuilder erreurs = new StringBuilder(); //Stringbuilder pour stocker les lignes d'erreurs de manière plus performante
+            process = builder.start();
+        } catch (IOException e) {
+            throw new PythonException("Impossible d’exécuter le script Python : " + cheminScript, e);
+        }
+        suivre(process); //Arreter le python si on arrete l'app java
 
-            //Tentative de lecture des erreurs
-            try (BufferedReader readerErr = new BufferedReader(new InputStreamReader(process.getErrorStream()))) { //process.getErrorStream() pour lire la sortie d'erreur du processus
-                String ligneErreur; //Stocke une ligne d'erreur
+        TamponLignes sortie = new TamponLignes(CAPACITE_TAMPON);
+        TamponLignes erreurs = new TamponLignes(CAPACITE_TAMPON);
+        try {
+            //Lecture des deux flux en parallèle : le thread appelant reste interruptible pendant l'attente
+            Thread lecteurSortie = Thread.ofVirtual().name("python-stdout")
+                    .start(() -> lireFlux(process.getInputStream(), EcouteurSortie.Flux.SORTIE, sortie, ecouteur));
+            Thread lecteurErreurs = Thread.ofVirtual().name("python-stderr")
+                    .start(() -> lireFlux(process.getErrorStream(), EcouteurSortie.Flux.ERREUR, erreurs, ecouteur));
 
-                while ((ligneErreur = readerErr.readLine()) != null) { //Tant qu'il reste des erreurs à lire
-                    erreurs.append(ligneErreur); //Stocker les différentes erreurs
-                }
+            int codeRetour;
+            try {
+                codeRetour = process.waitFor(); //Attente de la fin du script
+                //Attente de la lecture complète des flux
+                lecteurSortie.join();
+                lecteurErreurs.join();
+            } catch (InterruptedException e) { //Annulation : on arrête le script et ses éventuels sous-processus
+                arreter(process);
+                Thread.currentThread().interrupt();
+                CancellationException annulation = new CancellationException("Exécution du script Python annulée.");
+                annulation.initCause(e);
+                throw annulation;
             }
-
-            int codeRetour = process.waitFor(); //Attente de la fin du script
             if (codeRetour != 0) { //Si il a rencontré une erreur
-                throw new PythonException("Le script Python a rencontré une erreur\n" + erreurs);
+                //Sans message d'erreur, la fin de la sortie standard aide à comprendre où le script s'est arrêté
+                String details = erreurs.getTotal() > 0 ? erreurs.getTexte() : sortie.getTexte();
+                throw new PythonException("Le script Python a rencontré une erreur (code " + codeRetour + ")\n" + details);
             }
+        } finally {
+            oublier(process);
+        }
+    }
+
+    /**
+     * Lit un flux du script ligne par ligne jusqu'à sa fermeture.
+     * Une exception de l'écouteur ne doit pas interrompre la lecture (le script se bloquerait) :
+     * l'écouteur est alors ignoré pour la suite.
+     *
+     * @param flux : le flux à lire
+     * @param type : le type de flux (sortie ou erreur)
+     * @param tampon : le tampon qui conserve les dernières lignes
+     * @param ecouteur : l'écouteur qui reçoit chaque ligne
+     */
+    private static void lireFlux(InputStream flux, EcouteurSortie.Flux type, TamponLignes tampon, EcouteurSortie ecouteur) {
+        //Le script est lancé avec -X utf8 : ses sorties sont encodées en UTF-8
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(flux, StandardCharsets.UTF_8))) {
+            EcouteurSortie ecouteurActif = ecouteur;
+            String ligne; //Stocke une ligne lue
 
+            while ((ligne = reader.readLine()) != null) { //Tant qu'il reste des lignes à lire
+                tampon.ajouter(ligne);
+                if (ecouteurActif != null) {
+                    try {
+                        ecouteurActif.recevoirLigne(type, ligne);
+                    } catch (RuntimeException e) {
+                        ecouteurActif = null;
+                    }
+                }
+            }
         } catch (IOException e) {
-            throw new PythonException("Impossible d’exécuter le script Python : " + cheminScript, e);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new PythonException("Exécution du script Python interrompue.", e);
+            //Flux fermé (processus arrêté) : les lignes déjà lues sont conservées
         }
+    }
+
+    /**
+     * Enregistre un processus python à arrêter si l'application java s'arrête.
+     *
+     * @param process : le processus python
+     */
+    static void suivre(Process process) {
+        PROCESSUS_ACTIFS.add(process);
+    }
 
-        
+    /**
+     * Retire un processus python terminé des processus à arrêter.
+     *
+     * @param process : le processus python
+     */
+    static void oublier(Process process) {
+        PROCESSUS_ACTIFS.remove(process);
     }
 
+    /**
+     * Arrête le script et ses éventuels sous-processus (workers python).
+     *
+     * @param process : le processus python
+     */
+    static void arreter(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
 
 }
@@ -0,0 +1,191 @@
+package com.ordonnancement.service.python;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import com.google.gson.JsonObject;
+import com.ordonnancement.util.TamponLignes;
+
+/**
+ * Script python lancé une seule fois en mode serveur (python appProcess.py --serveur),
+ * auquel on envoie les demandes d'exécution les unes après les autres :
+ * le démarrage de l'interpréteur et l'import des modules ne sont payés qu'à la première exécution.
+ *
+ * Protocole : une ligne JSON par demande sur l'entrée standard du script ({"config": "chemin"}),
+ * et des lignes étiquetées en réponse sur sa sortie standard :
+ * "L texte" (sortie), "E texte" (erreur) et "F code" (fin de la demande).
+ *
+ * Le script est relancé automatiquement à la demande suivante s'il s'est arrêté (plantage, annulation).
+ * @author ROMA Quentin
+ */
+public class PythonWorker {
+
+    private static final Map<Path, PythonWorker> WORKERS = new ConcurrentHashMap<>(); //Un worker par script
+    private static final String FIN_FLUX = new String("fin"); //Marque la fermeture de la sortie du script (comparée par référence : ne peut pas être confondue avec une ligne lue)
+    private static final long ATTENTE_ERREURS_MS = 500; //Attente maximale de la lecture des erreurs après un plantage
+
+    private final Path cheminScript; //Chemin du script python
+    private Process process; //Processus python en cours (null s'il n'est pas lancé)
+    private BufferedWriter demandes; //Entrée standard du script
+    private BlockingQueue<String> reponses; //Lignes de la sortie standard du script, lues par un thread dédié
+    private TamponLignes erreursProcessus; //Dernières lignes de la vraie sortie d'erreur (plantage de l'interpréteur)
+    private Thread lecteurErreurs; //Thread qui lit la vraie sortie d'erreur
+
+    /**
+     * Constructeur
+     * @param cheminScript : le chemin du script python
+     */
+    private PythonWorker(Path cheminScript) {
+        this.cheminScript = cheminScript;
+    }
+
+    /**
+     * Renvoie le worker du script, créé à la première demande.
+     * Le processus python n'est lancé qu'à la première exécution.
+     *
+     * @param cheminScript : le chemin du script python
+     * @return le worker partagé pour ce script
+     */
+    public static PythonWorker getInstance(Path cheminScript) {
+        return WORKERS.computeIfAbsent(cheminScript.toAbsolutePath().normalize(), PythonWorker::new);
+    }
+
+    /**
+     * Exécute le script sur un fichier de configuration, dans le processus python déjà lancé
+     * (ou dans un nouveau processus s'il n'est pas lancé ou s'est arrêté).
+     * Les exécutions sont faites les unes après les autres.
+     *
+     * @param cheminConfig : le fichier de configuration JSON à exécuter
+     * @param ecouteur : l'écouteur qui reçoit les lignes écrites par le script
+     * @throws PythonException si le script se termine en erreur ou s'arrête pendant l'exécution
+     * @throws CancellationException si le thread appelant est interrompu : le script est alors arrêté
+     */
+    public synchronized void executer(String cheminConfig, EcouteurSortie ecouteur) {
+        if (process == null || !process.isAlive()) {
+            demarrer();
+        }
+        TamponLignes erreurs = new TamponLignes(PythonLauncher.CAPACITE_TAMPON);
+        TamponLignes sortie = new TamponLignes(PythonLauncher.CAPACITE_TAMPON);
+        try {
+            JsonObject demande = new JsonObject();
+            demande.addProperty("config", cheminConfig);
+            demandes.write(demande + "\n"); //Une demande par ligne
+            demandes.flush();
+
+            while (true) {
+                String ligne = reponses.take();
+                if (ligne == FIN_FLUX) { //Le script s'est arrêté pendant la demande
+                    lecteurErreurs.join(ATTENTE_ERREURS_MS); //Lecture de la trace d'erreur de l'interpréteur
+                    arreter();
+                    throw new PythonException("Le script Python s'est arrêté pendant l'exécution\n"
+                            + erreursProcessus.getTexte());
+                }
+                String texte = ligne.length() > 2 ? ligne.substring(2) : "";
+                switch (ligne.isEmpty() ? ' ' : ligne.charAt(0)) {
+                    case 'F' -> {
+                        int code = Integer.parseInt(texte.strip());
+                        if (code != 0) {
+                            String details = erreurs.getTotal() > 0 ? erreurs.getTexte() : sortie.getTexte();
+                            throw new PythonException("Le script Python a rencontré une erreur (code " + code + ")\n" + details);
+                        }
+                        return;
+                    }
+                    case 'E' -> transmettre(EcouteurSortie.Flux.ERREUR, texte, erreurs, ecouteur);
+                    case 'L' -> transmettre(EcouteurSortie.Flux.SORTIE, texte, sortie, ecouteur);
+                    default -> transmettre(EcouteurSortie.Flux.SORTIE, ligne, sortie, ecouteur); //Ligne non étiquetée (sous-processus)
+                }
+            }
+        } catch (IOException e) { //Entrée standard fermée : le script s'est arrêté
+            arreter();
+            throw new PythonException("Impossible d'envoyer la demande au script Python : " + cheminScript, e);
+        } catch (InterruptedException e) { //Annulation : la demande en cours ne peut pas être interrompue côté python
+            arreter();
+            Thread.currentThread().interrupt();
+            CancellationException annulation = new CancellationException("Exécution du script Python annulée.");
+            annulation.initCause(e);
+            throw annulation;
+        }
+    }
+
+    /**
+     * Arrête le processus python (et ses sous-processus) s'il est lancé.
+     * Il sera relancé à la prochaine exécution.
+     */
+    public synchronized void arreter() {
+        if (process != null) {
+            PythonLauncher.arreter(process);
+            PythonLauncher.oublier(process);
+            process = null;
+        }
+    }
+
+    /**
+     * Lance le script en mode serveur et les threads de lecture de ses sorties.
+     *
+     * @throws PythonException si le script ne peut pas être lancé
+     */
+    private void demarrer() {
+        arreter(); //Processus précédent arrêté (plantage)
+        String commande[] = {"python", "-X", "utf8", cheminScript.toString(), "--serveur"};
+        Process nouveau;
+        try {
+            nouveau = new ProcessBuilder(commande).start();
+        } catch (IOException e) {
+            throw new PythonException("Impossible d’exécuter le script Python : " + cheminScript, e);
+        }
+        PythonLauncher.suivre(nouveau); //Arreter le python si on arrete l'app java
+
+        BlockingQueue<String> file = new LinkedBlockingQueue<>();
+        TamponLignes erreursNouveau = new TamponLignes(PythonLauncher.CAPACITE_TAMPON);
+        Thread.ofVirtual().name("python-worker-stdout").start(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(nouveau.getInputStream(), StandardCharsets.UTF_8))) {
+                String ligne;
+                while ((ligne = reader.readLine()) != null) {
+                    file.add(ligne);
+                }
+            } catch (IOException e) {
+                //Flux fermé (processus arrêté)
+            }
+            file.add(FIN_FLUX);
+        });
+        Thread lecteur = Thread.ofVirtual().name("python-worker-stderr").start(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(nouveau.getErrorStream(), StandardCharsets.UTF_8))) {
+                String ligne;
+                while ((ligne = reader.readLine()) != null) {
+                    erreursNouveau.ajouter(ligne);
+                }
+            } catch (IOException e) {
+                //Flux fermé (processus arrêté)
+            }
+        });
+
+        process = nouveau;
+        demandes = new BufferedWriter(new OutputStreamWriter(nouveau.getOutputStream(), StandardCharsets.UTF_8));
+        reponses = file;
+        erreursProcessus = erreursNouveau;
+        lecteurErreurs = lecteur;
+    }
+
+    /**
+     * Conserve une ligne reçue et la transmet à l'écouteur.
+     * Une exception de l'écouteur est ignorée : la demande doit être lue jusqu'à sa fin.
+     */
+    private static void transmettre(EcouteurSortie.Flux flux, String ligne, TamponLignes tampon, EcouteurSortie ecouteur) {
+        tampon.ajouter(ligne);
+        try {
+            ecouteur.recevoirLigne(flux, ligne);
+        } catch (RuntimeException e) {
+            //L'écouteur ne doit pas bloquer l'exécution
+        }
+    }
+}
@@ -1,122 +1,429 @@
 package com.ordonnancement.service.runner;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import com.ordonnancement.model.AlgoConfiguration;
+import com.ordonnancement.model.ChargementDetails;
 import com.ordonnancement.model.FileConfiguration;
 import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.PointBalayage;
 import com.ordonnancement.model.Process;
 import com.ordonnancement.model.Resultats;
+import com.ordonnancement.model.Ressources;
+import com.ordonnancement.model.TypeMoteur;
 import com.ordonnancement.service.AppState;
-import com.ordonnancement.service.parser.metrics.MetricsParser;
-import com.ordonnancement.service.parser.process.DetailedResultProcessParser;
-import com.ordonnancement.service.parser.process.GlobalResultProcessParser;
+import com.ordonnancement.service.SuiviExecution;
+import com.ordonnancement.service.cache.CacheResultats;
+import com.ordonnancement.service.configuration.ConfigurationWriter;
+import com.ordonnancement.service.configuration.ConfigurationWriterException;
+import com.ordonnancement.service.engine.BalayageParametres;
+import com.ordonnancement.service.engine.JavaSchedulingEngine;
+import com.ordonnancement.service.engine.PythonSchedulingEngine;
+import com.ordonnancement.service.engine.SchedulingEngine;
+import com.ordonnancement.service.historique.HistoriqueExecutions;
 import com.ordonnancement.service.parser.process.InitialProcessParser;
-import com.ordonnancement.service.python.PythonLauncher;
+import com.ordonnancement.service.parser.ressources.RessourcesParser;
+import com.ordonnancement.util.ParallelUtils;
 
 import javafx.application.Platform;
+import javafx.concurrent.Task;
 
 
 /**
  * Classe permettant de lancer la création du fichier de configuration, lancer
- * python, récupérer les résultats et les stocker
+ * le moteur d'ordonnancement (python ou java), récupérer les résultats et les stocker.
+ * Les résultats de chaque algorithme sont conservés dans un cache sur disque ({@link CacheResultats}) :
+ * un algorithme déjà exécuté sur les mêmes fichiers d'entrée n'est pas exécuté à nouveau.
+ * Les résultats détaillés des algorithmes exécutés ne sont pas lus pendant l'exécution :
+ * leur chargement démarre en arrière-plan une fois les résultats enregistrés ({@link Resultats#chargerDetails()})
+ * Une fois tous les résultats détaillés chargés, l'exécution est enregistrée dans l'historique ({@link HistoriqueExecutions}).
  * @author ROMA Quentin
  */
 public class Runner {
 
+    private static final CacheResultats CACHE = new CacheResultats(CacheResultats.DOSSIER_PAR_DEFAUT, CacheResultats.TAILLE_MAX_PAR_DEFAUT);
+    private static final HistoriqueExecutions HISTORIQUE = new HistoriqueExecutions(HistoriqueExecutions.DOSSIER_PAR_DEFAUT, HistoriqueExecutions.NOMBRE_MAX_PAR_DEFAUT);
+    private static volatile Resultats derniersResultats; //Résultats de la dernière exécution, dont les détails sont peut-être en cours de chargement
+
     /**
      * Exécute Runner de manière asynchrone pour ne pas bloquer JavaFX.
+     * L'exécution est portée par une Task JavaFX : son avancement (message et progression de la phase en cours)
+     * peut être lié à l'interface, et {@link Task#cancel()} arrête le moteur (le script python est tué)
+     * ainsi que la lecture des résultats en cours.
      *
      * @param fileConfig Configuration du fichier
      * @param destinationConfigJson Chemin du fichier JSON de config à créer
      * @param callback : L'action à exécuter après l'excecution du runner.
      * @param onException : action appelée en cas d'exception, également exécutée sur le thread JavaFX
+     * @return la tâche en cours d'exécution
      */
-    public static void runAsync(FileConfiguration fileConfig,
+    public static Task<Resultats> runAsync(FileConfiguration fileConfig,
             String destinationConfigJson, Runnable callBack, Consumer<Exception> onException) {
 
-        Thread thread = new Thread(() -> {
-            try {
-                // Exécution synchrone du Runner
-                Resultats resultats = run(fileConfig, destinationConfigJson);
-                AppState.getInstance().setResultats(resultats); //Enregistre les résultats dans le singleton
-                
-                //On lance le callback quand on peut
-                Platform.runLater(() -> {callBack.run(); }
-                );
-
-            } catch (Exception e) { //Si une exception survient
-                if (onException != null) {
-                    // Callback exception sur le thread JavaFX
-                    Platform.runLater(() -> onException.accept(e)); //Faire remonter exécution
-                }
+        Task<Resultats> tache = creerTache(fileConfig, destinationConfigJson);
+        //Les handlers de la Task sont appelés sur le thread JavaFX
+        tache.setOnSucceeded(event -> {
+            AppState.getInstance().setResultats(tache.getValue()); //Enregistre les résultats dans le singleton
+            tache.getValue().chargerDetails(); //Résultats détaillés lus en arrière-plan pendant l'affichage du résumé
+            callBack.run();
+        });
+        tache.setOnFailed(event -> {
+            if (onException != null) { //Faire remonter l'exception
+                Throwable erreur = tache.getException();
+                onException.accept(erreur instanceof Exception e ? e : new RuntimeException(erreur));
+            }
+        });
+
+        Thread thread = new Thread(tache, "ordonnancement-runner");
+        thread.setDaemon(true);
+        thread.start();
+        return tache;
+    }
+
+    /**
+     * Lance un balayage de paramètre de manière asynchrone pour ne pas bloquer JavaFX.
+     * Les variantes sont simulées par le moteur Java sur la liste de processus fournie (déjà lue),
+     * seul le fichier des ressources de la configuration est relu.
+     * Comme pour {@link #runAsync}, l'avancement est porté par la Task et {@link Task#cancel()} arrête le balayage.
+     *
+     * @param fileConfig : la configuration (fichier des ressources)
+     * @param balayage : le balayage à exécuter
+     * @param processus : la liste des processus initiaux
+     * @param surPoint : action appelée sur le thread JavaFX à la fin de chaque variante
+     * @param callBack : action appelée sur le thread JavaFX avec tous les résultats, par valeur croissante
+     * @param onException : action appelée en cas d'exception, également exécutée sur le thread JavaFX
+     * @return la tâche en cours d'exécution
+     */
+    public static Task<List<PointBalayage>> balayerAsync(FileConfiguration fileConfig, BalayageParametres balayage,
+            List<Process> processus, Consumer<PointBalayage> surPoint, Consumer<List<PointBalayage>> callBack,
+            Consumer<Exception> onException) {
+
+        Task<List<PointBalayage>> tache = new Task<>() {
+            @Override
+            protected List<PointBalayage> call() {
+                Ressources ressources = RessourcesParser.parse(fileConfig.getFichierRessourcesDisponibles());
+                return balayage.executer(processus, ressources,
+                        point -> Platform.runLater(() -> {
+                            if (!isCancelled()) {
+                                surPoint.accept(point);
+                            }
+                        }),
+                        (phase, fait, total) -> {
+                            updateMessage(phase);
+                            updateProgress(fait, total);
+                        });
+            }
+        };
+        tache.setOnSucceeded(event -> callBack.accept(tache.getValue()));
+        tache.setOnFailed(event -> {
+            if (onException != null) {
+                Throwable erreur = tache.getException();
+                onException.accept(erreur instanceof Exception e ? e : new RuntimeException(erreur));
             }
         });
 
+        Thread thread = new Thread(tache, "ordonnancement-balayage");
         thread.setDaemon(true);
         thread.start();
+        return tache;
+    }
+
+    /**
+     * Crée la tâche qui réalise les différentes étapes de l'exécution, sans la lancer.
+     * Chaque phase met à jour le message de la tâche et sa progression
+     * (progression indéterminée lorsque la durée de la phase est inconnue, comme l'exécution du script python).
+     * Les lignes de journal (sortie du script python) sont ajoutées au message de la phase en cours.
+     *
+     * @param fileConfiguration : Les paramètres du fichier de config
+     * @param destinationFichierConfig : La destination du fichier de configuration à utiliser
+     * @return la tâche à exécuter
+     */
+    public static Task<Resultats> creerTache(FileConfiguration fileConfiguration, String destinationFichierConfig) {
+        return new Task<>() {
+            private volatile String phaseEnCours = ""; //Phase affichée devant les lignes de journal
+
+            @Override
+            protected Resultats call() throws Exception {
+                return Runner.run(fileConfiguration, destinationFichierConfig, new SuiviExecution() {
+                    @Override
+                    public void avancer(String phase, long fait, long total) {
+                        phaseEnCours = phase;
+                        updateMessage(phase);
+                        if (total > 0) {
+                            updateProgress(fait, total);
+                        } else {
+                            updateProgress(-1, 1); //Progression indéterminée
+                        }
+                    }
+
+                    @Override
+                    public void journaliser(String ligne) {
+                        if (!ligne.isBlank()) { //Dernière ligne du journal affichée à la suite de la phase
+                            updateMessage(phaseEnCours + " : " + ligne.strip());
+                        }
+                    }
+                });
+            }
+        };
     }
 
     /**
-     * Réalise les différentes étapes : lance
-     * Python - parse les fichiers résultats - retourne les résultats obtenus
-     * après l'exxécution de python
+     * Réalise les différentes étapes : parse les processus initiaux et les ressources -
+     * charge depuis le cache les algorithmes déjà exécutés sur les mêmes entrées -
+     * lance le moteur d'ordonnancement choisi dans la configuration pour les autres algorithmes
+     * et enregistre leurs résultats dans le cache - retourne les résultats obtenus
      *
      * @param fileConfiguration : Les paramètres du fichier de config
      * @param destinationFichierConfig: La destination du fichier de
      * configuration à utiliser
+     * @param suivi : le suivi qui reçoit l'avancement de chaque phase
      * @return Resultats : les résultats obtenus
      * @throws RunnerException Si une erreur de lancement survient
+     * @throws CancellationException Si le thread est interrompu (annulation)
      */
-    private static Resultats run(FileConfiguration fileConfiguration, String destinationFichierConfig) throws RunnerException {
-
-       
-        Path cheminAppPython = getCheminAppPython();
-
-        //Lancement python, execution script 
-        PythonLauncher.runPythonScript(cheminAppPython, destinationFichierConfig);
-
-        //Après exécution python : 
-        List<AlgoConfiguration> listeAlgos = fileConfiguration.getListeAlgorithmes(); //On récupère les liste des algorithmes qui ont été exécutés
+    private static Resultats run(FileConfiguration fileConfiguration, String destinationFichierConfig, SuiviExecution suivi) throws RunnerException {
 
+        attendreChargementsPrecedents(suivi);
+        suivi.avancer("Lecture des processus initiaux", 0, 2);
         //Créer le parser de fichier pour les processus initiaux
         InitialProcessParser parserFichierProcessus = new InitialProcessParser();
         //Parser le fichier et récupérer la liste des processus
         List<Process> processusInitiaux = parserFichierProcessus.parse(fileConfiguration.getFichierProcessus());
-        //Créer le parser de fichier pour les résultats globaux
-        GlobalResultProcessParser parserFichierResultGlobaux = new GlobalResultProcessParser(processusInitiaux);
-        //Créer le parser de fichier pour les résultats détaillés
-        DetailedResultProcessParser parserFichierResultDetailed = new DetailedResultProcessParser(processusInitiaux);
-
-        //Pour chaque algorithme d'ordonnancement executé
-        for (AlgoConfiguration algo : listeAlgos) {
-            //Récupération des fichiers de résultats pour chaque algorithme
-            String resultDetailed = algo.getFichierResultatsDetailles();
-            String resultGlobal = algo.getFichierResultatsGlobaux();
-
-            //Parse le fichier des résultats globaux et met à jour la liste des processus
-            parserFichierResultGlobaux.parse(resultGlobal, algo.getNomAlgorithme());
-            //Parse le fichier des résultats détaillés et met à jour la liste des processus
-            parserFichierResultDetailed.parse(resultDetailed, algo.getNomAlgorithme());
+        suivi.avancer("Lecture des ressources", 1, 2);
+        //Parser le fichier des ressources disponibles
+        Ressources ressources = RessourcesParser.parse(fileConfiguration.getFichierRessourcesDisponibles());
+        ParallelUtils.verifierAnnulation("Exécution annulée");
+
+        //Les algorithmes déjà exécutés sur les mêmes entrées sont lus dans le cache
+        List<AlgoConfiguration> algos = fileConfiguration.getListeAlgorithmes();
+        Map<String, String> cles = calculerCles(fileConfiguration);
+        Map<String, Metrics> metriquesParAlgo = new HashMap<>();
+        Set<String> algorithmesEnCache = new HashSet<>();
+        List<AlgoConfiguration> algosAExecuter = new ArrayList<>();
+        for (AlgoConfiguration algo : algos) {
+            String cle = cles.get(algo.getNomAlgorithme());
+            Metrics metriques = cle == null ? null : CACHE.charger(cle, processusInitiaux, algo.getNomAlgorithme());
+            if (metriques != null) {
+                suivi.avancer("Résultats lus dans le cache : " + algo.getNomAlgorithme(), algorithmesEnCache.size() + 1, algos.size());
+                metriquesParAlgo.put(algo.getNomAlgorithme(), metriques);
+                algorithmesEnCache.add(algo.getNomAlgorithme());
+            } else {
+                algosAExecuter.add(algo);
+            }
+        }
+
+        //Exécution des autres algorithmes par le moteur choisi, met à jour la liste des processus
+        List<ChargementDetails> chargementsDetails = new ArrayList<>();
+        for (String nomAlgorithme : algorithmesEnCache) { //Résultats du cache : déjà entièrement chargés
+            chargementsDetails.add(ChargementDetails.termine(nomAlgorithme));
+        }
+        if (!algosAExecuter.isEmpty()) {
+            Resultats resultatsMoteur = executerMoteur(fileConfiguration, algosAExecuter, destinationFichierConfig,
+                    processusInitiaux, ressources, suivi);
+            for (AlgoConfiguration algo : algosAExecuter) {
+                Metrics metriques = chercherMetriques(resultatsMoteur.getListeMetrics(), algo.getNomAlgorithme());
+                if (metriques == null) {
+                    continue;
+                }
+                metriquesParAlgo.put(algo.getNomAlgorithme(), metriques);
+                ChargementDetails chargement = resultatsMoteur.getChargementDetails(algo.getNomAlgorithme());
+                chargementsDetails.add(chargement);
+                String cle = cles.get(algo.getNomAlgorithme());
+                if (cle != null) { //Enregistré dans le cache dès que les résultats détaillés sont chargés
+                    chargement.futur().thenRun(() -> enregistrerDansCache(cle, processusInitiaux, metriques));
+                }
+            }
         }
 
-        //Créer le parser des métriques
-        MetricsParser parserMetrics = new MetricsParser();
-        //Parser le fichier des métriques et récupérer la liste des métriques
-        List<Metrics> listeMetriques = parserMetrics.parse(fileConfiguration.getFichierMetriquesGlobales());
+        //Métriques dans l'ordre des algorithmes de la configuration
+        List<Metrics> listeMetriques = new ArrayList<>();
+        for (AlgoConfiguration algo : algos) {
+            Metrics metriques = metriquesParAlgo.get(algo.getNomAlgorithme());
+            if (metriques != null) {
+                listeMetriques.add(metriques);
+            }
+        }
 
         if (processusInitiaux.isEmpty() || listeMetriques.isEmpty()) { //Si aucun processus / metriques récupérés
             throw new RunnerException("Vous n'avez exécuté aucun processus !");
         }
-        //On return les résultats obtenus après l'exécution du script python
-        return new Resultats(processusInitiaux, listeMetriques);
+        //On return les résultats obtenus après l'ordonnancement
+        Resultats resultats = new Resultats(processusInitiaux, listeMetriques, algorithmesEnCache, chargementsDetails, fileConfiguration);
+        derniersResultats = resultats;
+        CompletableFuture.allOf(chargementsDetails.stream().map(ChargementDetails::futur).toArray(CompletableFuture[]::new))
+                .thenRunAsync(() -> enregistrerDansHistorique(fileConfiguration, resultats));
+        return resultats;
+    }
+
+    /**
+     * Renvoie l'historique dans lequel les exécutions sont enregistrées.
+     *
+     * @return l'historique des exécutions
+     */
+    public static HistoriqueExecutions getHistorique() {
+        return HISTORIQUE;
+    }
 
-        //TO DO : Stocker gloabalement ces résultats dans un SINGLETON : ResultatsManager pour pouvoir y
-        //accéder depuis n'importe où dans l'app.
+    /**
+     * Attend la fin des chargements de résultats détaillés de l'exécution précédente :
+     * le moteur python va remplacer les fichiers qu'ils lisent.
+     *
+     * @param suivi : le suivi qui reçoit l'avancement
+     * @throws CancellationException Si le thread est interrompu pendant l'attente
+     */
+    private static void attendreChargementsPrecedents(SuiviExecution suivi) {
+        Resultats precedents = derniersResultats;
+        if (precedents == null || precedents.isDetailsCharges()) {
+            return;
+        }
+        suivi.avancer("Fin du chargement des résultats précédents", 0, 0);
+        try {
+            precedents.attendreDetails();
+        } catch (CancellationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            //Résultats précédents invalides : l'erreur est signalée par les vues qui les affichent
+        }
+    }
+
+    /**
+     * Enregistre les résultats d'un algorithme dans le cache.
+     *
+     * @param cle : la clé de l'algorithme
+     * @param processus : les processus ordonnancés, avec les résultats détaillés de l'algorithme
+     * @param metriques : les métriques de l'algorithme
+     */
+    private static void enregistrerDansCache(String cle, List<Process> processus, Metrics metriques) {
+        try {
+            CACHE.enregistrer(cle, processus, metriques);
+        } catch (UncheckedIOException e) {
+            //Cache non inscriptible : les résultats restent valides, ils seront simplement recalculés
+        }
+    }
+
+    /**
+     * Enregistre une exécution dans l'historique.
+     *
+     * @param fileConfiguration : la configuration exécutée
+     * @param resultats : les résultats de l'exécution, avec les résultats détaillés de tous les algorithmes
+     */
+    private static void enregistrerDansHistorique(FileConfiguration fileConfiguration, Resultats resultats) {
+        try {
+            HISTORIQUE.enregistrer(fileConfiguration, resultats);
+        } catch (UncheckedIOException e) {
+            //Historique non inscriptible : l'exécution reste affichée, elle ne pourra simplement pas être rouverte
+        }
+    }
+
+    /**
+     * Exécute une partie des algorithmes de la configuration avec le moteur choisi.
+     * Si certains algorithmes ont été lus dans le cache, python reçoit un fichier de configuration
+     * temporaire ne contenant que les algorithmes à exécuter.
+     *
+     * @param fileConfiguration : Les paramètres du fichier de config
+     * @param algosAExecuter : les algorithmes à exécuter
+     * @param destinationFichierConfig : La destination du fichier de configuration complet
+     * @param processus : la liste des processus initiaux
+     * @param ressources : les ressources disponibles
+     * @param suivi : le suivi qui reçoit l'avancement
+     * @return les résultats des algorithmes exécutés (résultats détaillés chargés à la demande)
+     * @throws RunnerException Si le script python est introuvable ou si la configuration temporaire ne peut pas être écrite
+     */
+    private static Resultats executerMoteur(FileConfiguration fileConfiguration, List<AlgoConfiguration> algosAExecuter,
+            String destinationFichierConfig, List<Process> processus, Ressources ressources, SuiviExecution suivi) throws RunnerException {
+        if (algosAExecuter.size() == fileConfiguration.getListeAlgorithmes().size()) {
+            SchedulingEngine moteur = getMoteur(fileConfiguration, destinationFichierConfig);
+            return moteur.ordonnancerDetailsDifferes(fileConfiguration, processus, ressources, suivi);
+        }
+
+        FileConfiguration configurationPartielle = new FileConfiguration(fileConfiguration.getFichierProcessus(),
+                fileConfiguration.getFichierMetriquesGlobales(), fileConfiguration.getFichierRessourcesDisponibles(),
+                algosAExecuter, fileConfiguration.getMoteur(), fileConfiguration.getModeSimulation());
+        Path fichierTemporaire = null;
+        try {
+            String destination = destinationFichierConfig;
+            if (fileConfiguration.getMoteur() == TypeMoteur.PYTHON) { //Python relit la configuration : elle doit être écrite
+                fichierTemporaire = Files.createTempFile("configuration", ".json");
+                destination = fichierTemporaire.toString();
+                new ConfigurationWriter().writeConfiguration(configurationPartielle, destination);
+            }
+            SchedulingEngine moteur = getMoteur(configurationPartielle, destination);
+            return moteur.ordonnancerDetailsDifferes(configurationPartielle, processus, ressources, suivi);
+        } catch (IOException | ConfigurationWriterException e) {
+            throw new RunnerException("Impossible d'écrire la configuration des algorithmes à exécuter : " + e.getMessage());
+        } finally {
+            if (fichierTemporaire != null) {
+                try {
+                    Files.deleteIfExists(fichierTemporaire);
+                } catch (IOException e) {
+                    //Fichier temporaire : supprimé par le système s'il reste
+                }
+            }
+        }
+    }
+
+    /**
+     * Calcule la clé de cache de chaque algorithme de la configuration.
+     *
+     * @param fileConfiguration : Les paramètres du fichier de config
+     * @return la clé de chaque algorithme, par nom (vide si les fichiers d'entrée ne peuvent pas être lus)
+     */
+    private static Map<String, String> calculerCles(FileConfiguration fileConfiguration) {
+        Map<String, String> cles = new HashMap<>();
+        try {
+            String empreinte = CacheResultats.empreinteEntrees(fileConfiguration);
+            for (AlgoConfiguration algo : fileConfiguration.getListeAlgorithmes()) {
+                cles.put(algo.getNomAlgorithme(), CacheResultats.cle(empreinte, algo));
+            }
+        } catch (UncheckedIOException e) {
+            //Entrées illisibles : pas de cache, tous les algorithmes sont exécutés
+        }
+        return cles;
+    }
+
+    /**
+     * Cherche les métriques d'un algorithme (python écrit les noms des algorithmes en majuscules).
+     *
+     * @param listeMetriques : les métriques renvoyées par le moteur
+     * @param nomAlgorithme : le nom de l'algorithme dans la configuration
+     * @return les métriques de l'algorithme, ou null si elles sont absentes
+     */
+    private static Metrics chercherMetriques(List<Metrics> listeMetriques, String nomAlgorithme) {
+        for (Metrics m : listeMetriques) {
+            if (m.getNomAlgorithme().trim().equalsIgnoreCase(nomAlgorithme.trim())) {
+                return m;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Crée le moteur d'ordonnancement demandé dans la configuration
+     *
+     * @param fileConfiguration : Les paramètres du fichier de config
+     * @param destinationFichierConfig : La destination du fichier de configuration (utilisé par python)
+     * @return le moteur d'ordonnancement
+     * @throws RunnerException Si le script python est introuvable
+     */
+    private static SchedulingEngine getMoteur(FileConfiguration fileConfiguration, String destinationFichierConfig) throws RunnerException {
+        if (fileConfiguration.getMoteur() == TypeMoteur.JAVA) {
+            return new JavaSchedulingEngine();
+        }
+        //Le script python reste lancé entre deux exécutions : pas de démarrage de l'interpréteur à chaque lancement
+        return new PythonSchedulingEngine(getCheminAppPython(), destinationFichierConfig, true);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.ordonnancement.service.validation;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -10,7 +11,8 @@ import com.ordonnancement.service.parser.FileParsingException;
 import com.ordonnancement.util.ProcessUtils;
 
 /**
- * Classe permetant une vérification minimale des executions réalisées par un processus
+ * Classe permetant une vérification minimale des executions réalisées par un processus.
+ * Les incohérences peuvent être levées (valider) ou collectées dans une liste (verifier).
  * @author ROMA Quentin
  */
 public class ExecutionValidator {
@@ -19,80 +21,128 @@ public class ExecutionValidator {
      * Permet de vérifier si les Allocations et ExecutionsInfo d'un Process sont cohérentes
      *
      * @param p : Le Process
-     * 
-     * processeur)
+     * @throws FileParsingException : à la première incohérence trouvée
      */
     public static void valider(Process p) {
-
+        List<String> erreurs = new ArrayList<>();
         for (Map.Entry<String, ExecutionInfo> entry : p.getAllExecutions().entrySet()) { //pour chaque execution sur un algo
-            
-            String algo = entry.getKey();
-            ExecutionInfo execution = entry.getValue();
+            validerExecution(p, entry.getKey(), entry.getValue(), erreurs);
+        }
+        lancerPremiere(erreurs);
+    }
 
+    /**
+     * Permet de vérifier si l'Allocation et l'ExecutionInfo d'un Process pour un seul algorithme sont cohérentes.
+     * Les résultats des autres algorithmes ne sont pas lus (ils peuvent être en cours de construction).
+     *
+     * @param p : Le Process
+     * @param algo : Le nom de l'algorithme à vérifier
+     * @throws FileParsingException : à la première incohérence trouvée
+     */
+    public static void valider(Process p, String algo) {
+        List<String> erreurs = new ArrayList<>();
+        verifier(p, algo, erreurs);
+        lancerPremiere(erreurs);
+    }
 
-            //Vérification des dates de début et de fin de l'execution
-           
-            if (execution.getDateDebut() > execution.getDateFin()) {
-                throw new FileParsingException("Le processus " + p.getId() + " a une date de début supérieure à la date de fin");
-            }
-            if((execution.getDateFin() - execution.getDateDebut()) < p.getTempsExecution()){
-                throw new FileParsingException("Le processus " + p.getId() + " a une date de début  : "+execution.getDateDebut() +" et de fin "+execution.getDateFin()+ " inchohérente. "+
-                "Ce n'est pas assez pour un temps d'execution de total "+p.getTempsExecution());
+    /**
+     * Vérifie l'Allocation et l'ExecutionInfo d'un Process pour un seul algorithme,
+     * en ajoutant chaque incohérence trouvée à la liste des erreurs au lieu de lever une exception.
+     *
+     * @param p : Le Process
+     * @param algo : Le nom de l'algorithme à vérifier
+     * @param erreurs : la liste qui reçoit les messages d'erreur
+     */
+    public static void verifier(Process p, String algo, List<String> erreurs) {
+        ExecutionInfo execution = p.getExecutionInfo(algo);
+        if (execution != null) {
+            validerExecution(p, algo, execution, erreurs);
+        }
+    }
 
-            }
+    /**
+     * Lève la première erreur de la liste, s'il y en a une.
+     *
+     * @param erreurs : les messages d'erreur
+     * @throws FileParsingException : si la liste n'est pas vide
+     */
+    private static void lancerPremiere(List<String> erreurs) {
+        if (!erreurs.isEmpty()) {
+            throw new FileParsingException(erreurs.get(0));
+        }
+    }
+
+    /**
+     * Vérifie l'execution d'un Process pour un algorithme
+     *
+     * @param p : Le Process
+     * @param algo : Le nom de l'algorithme
+     * @param execution : L'execution du processus pour cet algorithme
+     * @param erreurs : la liste qui reçoit les messages d'erreur
+     */
+    private static void validerExecution(Process p, String algo, ExecutionInfo execution, List<String> erreurs) {
+
+        //Vérification des dates de début et de fin de l'execution
+       
+        if (execution.getDateDebut() > execution.getDateFin()) {
+            erreurs.add("Le processus " + p.getId() + " a une date de début supérieure à la date de fin");
+        }
+        if((execution.getDateFin() - execution.getDateDebut()) < p.getTempsExecution()){
+            erreurs.add("Le processus " + p.getId() + " a une date de début  : "+execution.getDateDebut() +" et de fin "+execution.getDateFin()+ " inchohérente. "+
+            "Ce n'est pas assez pour un temps d'execution de total "+p.getTempsExecution());
+
+        }
 
-           
-            List<Allocation> listeAllocations = ProcessUtils.getAllocations(p,algo); //Récupérer la liste des assignation processeur pour le processus
-            if (!listeAllocations.isEmpty()) { //Si les assignations sont présentes dans la liste
-                int tempsTotalExecution = 0;
-                //Vérification de la cohérence de chaque Schedule du processus
-                for (Allocation a : listeAllocations) {
-
-                    tempsTotalExecution += a.getDateFinExecution() - a.getDateDebutExecution(); //On fait la somme des différents temps d'allocation du processus
-                    if (a.getDateDebutExecution() < execution.getDateDebut()) {
-                        throw new FileParsingException("Le processus " + p.getId()
-                                + " a une date de début d'exécution d'une assignation(" + a.getDateDebutExecution()
-                                + ") antérieure à sa date de début globale (" + execution.getDateDebut() + ")");
-                    }
-
-                    if (a.getDateFinExecution() > execution.getDateFin()) {
-                        throw new FileParsingException("Le processus " + p.getId()
-                                + " a une date de fin d'exécution d'une assignation (" + a.getDateFinExecution()
-                                + ") postérieure à sa date de fin globale (" + execution.getDateFin() + ")");
-                    }
-
-                    if (a.getDateDebutExecution() > execution.getDateFin()) {
-                        throw new FileParsingException("Le processus " + p.getId()
-                                + " a une date de début d'exécution d'une assignation (" + a.getDateDebutExecution()
-                                + ") postérieure à sa date de fin globale (" + execution.getDateFin() + ")");
-                    }
-                    if (a.getDateFinExecution() < execution.getDateDebut()) {
-                        throw new FileParsingException("Le processus " + p.getId()
-                                + " a une date de fin d'exécution d'une assignation (" + a.getDateFinExecution()
-                                + ") antérieure à sa date de début globale (" + execution.getDateDebut() + ")");
-                    }
-
-                    if (a.getDateDebutExecution() < 0) {
-                        throw new FileParsingException("Le processus " + p.getId() + " a une date de début d'assignation du processus à un processeur inférieure à 0");
-
-                    }
-
-                    if (a.getDateFinExecution() < 0) {
-                        throw new FileParsingException("Le processus " + p.getId() + " a une date de fin d'assignation du processus à un processeur inférieure à 0");
-
-                    }
+       
+        List<Allocation> listeAllocations = ProcessUtils.getAllocations(p,algo); //Récupérer la liste des assignation processeur pour le processus
+        if (!listeAllocations.isEmpty()) { //Si les assignations sont présentes dans la liste
+            int tempsTotalExecution = 0;
+            //Vérification de la cohérence de chaque Schedule du processus
+            for (Allocation a : listeAllocations) {
+
+                tempsTotalExecution += a.getDateFinExecution() - a.getDateDebutExecution(); //On fait la somme des différents temps d'allocation du processus
+                if (a.getDateDebutExecution() < execution.getDateDebut()) {
+                    erreurs.add("Le processus " + p.getId()
+                            + " a une date de début d'exécution d'une assignation(" + a.getDateDebutExecution()
+                            + ") antérieure à sa date de début globale (" + execution.getDateDebut() + ")");
+                }
+
+                if (a.getDateFinExecution() > execution.getDateFin()) {
+                    erreurs.add("Le processus " + p.getId()
+                            + " a une date de fin d'exécution d'une assignation (" + a.getDateFinExecution()
+                            + ") postérieure à sa date de fin globale (" + execution.getDateFin() + ")");
+                }
+
+                if (a.getDateDebutExecution() > execution.getDateFin()) {
+                    erreurs.add("Le processus " + p.getId()
+                            + " a une date de début d'exécution d'une assignation (" + a.getDateDebutExecution()
+                            + ") postérieure à sa date de fin globale (" + execution.getDateFin() + ")");
+                }
+                if (a.getDateFinExecution() < execution.getDateDebut()) {
+                    erreurs.add("Le processus " + p.getId()
+                            + " a une date de fin d'exécution d'une assignation (" + a.getDateFinExecution()
+                            + ") antérieure à sa date de début globale (" + execution.getDateDebut() + ")");
+                }
+
+                if (a.getDateDebutExecution() < 0) {
+                    erreurs.add("Le processus " + p.getId() + " a une date de début d'assignation du processus à un processeur inférieure à 0");
 
                 }
 
-                // Vérification du temps total d'exécution
-                if (tempsTotalExecution != p.getTempsExecution()) {
-                    throw new FileParsingException("Le processus " + p.getId()
-                            + " a un temps total d'exécution (" + tempsTotalExecution
-                            + ") différent du temps prévu (" + p.getTempsExecution() + ")");
+                if (a.getDateFinExecution() < 0) {
+                    erreurs.add("Le processus " + p.getId() + " a une date de fin d'assignation du processus à un processeur inférieure à 0");
+
                 }
 
             }
 
+            // Vérification du temps total d'exécution
+            if (tempsTotalExecution != p.getTempsExecution()) {
+                erreurs.add("Le processus " + p.getId()
+                        + " a un temps total d'exécution (" + tempsTotalExecution
+                        + ") différent du temps prévu (" + p.getTempsExecution() + ")");
+            }
+
         }
 
     }
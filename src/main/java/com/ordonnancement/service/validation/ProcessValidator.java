@@ -23,24 +23,33 @@ public class ProcessValidator {
         Set<String> ids = new HashSet<>(); //Un ensemble pour stocker les ID des processus
 
         for (Process p : processus) {
-            if (!ids.add(p.getId())) { //Si le processus est déjà présent
-                throw new FileParsingException("Doublon détecté : le processus " + p.getId() + " est déclaré plusieurs fois.");
-            }
-            if (p.getTempsExecution() <= 0) {
-                throw new FileParsingException("Le temps d'exécution du processus " + p.getId() + " doit être > 0");
-            }
-            if (p.getRequiredRam() <= 0) {
-                throw new FileParsingException("La RAM requise du processus " + p.getId() + " doit être > 0");
-            }
-            if (p.getDeadline() < p.getDateSoumission()) {
-                throw new FileParsingException("Le processus " + p.getId() + " a une deadline avant sa soumission.");
-            }
-            if (p.getPriority() < 0) {
-                throw new FileParsingException("Le processus " + p.getId() + " a une priorité <= 0");
-            }
-           
+            validerDonnees(p, ids);
             ExecutionValidator.valider(p); //Vérifier les assignations du processus
-            
+        }
+    }
+
+    /**
+     * Vérifie les données initiales d'un processus
+     *
+     * @param p : le processus à vérifier
+     * @param ids : les ID des processus déjà vérifiés
+     * @throws FileParsingException : Si le processus est incohérent
+     */
+    private static void validerDonnees(Process p, Set<String> ids) {
+        if (!ids.add(p.getId())) { //Si le processus est déjà présent
+            throw new FileParsingException("Doublon détecté : le processus " + p.getId() + " est déclaré plusieurs fois.");
+        }
+        if (p.getTempsExecution() <= 0) {
+            throw new FileParsingException("Le temps d'exécution du processus " + p.getId() + " doit être > 0");
+        }
+        if (p.getRequiredRam() <= 0) {
+            throw new FileParsingException("La RAM requise du processus " + p.getId() + " doit être > 0");
+        }
+        if (p.getDeadline() < p.getDateSoumission()) {
+            throw new FileParsingException("Le processus " + p.getId() + " a une deadline avant sa soumission.");
+        }
+        if (p.getPriority() < 0) {
+            throw new FileParsingException("Le processus " + p.getId() + " a une priorité <= 0");
         }
     }
 }
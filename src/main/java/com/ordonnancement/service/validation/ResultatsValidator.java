@@ -0,0 +1,136 @@
+package com.ordonnancement.service.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.parser.FileParsingException;
+
+/**
+ * Étape de validation des résultats d'un algorithme, à exécuter une seule fois
+ * lorsque ses résultats globaux et détaillés sont entièrement chargés.
+ *
+ * Seules les exécutions et allocations de cet algorithme sont vérifiées (les données initiales
+ * des processus sont vérifiées à la lecture du fichier des processus). Les processus sont répartis
+ * entre les threads du pool fork-join par découpages successifs de la liste, et toutes les incohérences
+ * sont collectées au lieu de s'arrêter à la première.
+ * @author ROMA Quentin
+ */
+public class ResultatsValidator {
+
+    private static final int SEUIL_DECOUPAGE = 2048; //Nombre de processus en dessous duquel une tâche n'est plus découpée
+    private static final int ERREURS_CONSERVEES = 20; //Nombre de messages gardés (et affichés) par validation
+
+    /**
+     * Vérifie les résultats d'un algorithme pour tous les processus.
+     *
+     * @param processus : la liste des processus
+     * @param nomAlgo : le nom de l'algorithme dont les résultats viennent d'être chargés
+     * @throws FileParsingException : si au moins une incohérence est trouvée (le message liste les premières)
+     * @throws CancellationException : si le thread appelant est interrompu pendant la validation
+     */
+    public static void valider(List<Process> processus, String nomAlgo) {
+        Bilan bilan = verifier(processus, nomAlgo);
+        if (bilan.nombre > 0) {
+            StringBuilder message = new StringBuilder();
+            message.append(bilan.nombre).append(" incohérence(s) dans les résultats de ").append(nomAlgo).append(" :");
+            for (String erreur : bilan.messages) {
+                message.append("\n- ").append(erreur);
+            }
+            if (bilan.nombre > bilan.messages.size()) {
+                message.append("\n(et ").append(bilan.nombre - bilan.messages.size()).append(" autre(s))");
+            }
+            throw new FileParsingException(message.toString());
+        }
+    }
+
+    /**
+     * Vérifie les résultats d'un algorithme et renvoie les incohérences trouvées.
+     *
+     * @param processus : la liste des processus
+     * @param nomAlgo : le nom de l'algorithme
+     * @return les premiers messages d'erreur (dans l'ordre des processus), vide si les résultats sont cohérents
+     * @throws CancellationException : si le thread appelant est interrompu pendant la validation
+     */
+    public static List<String> listerErreurs(List<Process> processus, String nomAlgo) {
+        return verifier(processus, nomAlgo).messages;
+    }
+
+    /**
+     * Lance la vérification dans le pool fork-join commun.
+     */
+    private static Bilan verifier(List<Process> processus, String nomAlgo) {
+        List<Process> liste = processus instanceof RandomAccess ? processus : new ArrayList<>(processus); //Découpage par indices
+        return ForkJoinPool.commonPool().invoke(new Verification(liste, nomAlgo, 0, liste.size(), Thread.currentThread()));
+    }
+
+    /**
+     * Incohérences trouvées sur une partie des processus.
+     */
+    private static class Bilan {
+        private final List<String> messages = new ArrayList<>(); //Les premiers messages, au plus ERREURS_CONSERVEES
+        private long nombre = 0; //Nombre total d'incohérences
+
+        /**
+         * Ajoute les incohérences d'un autre bilan (qui porte sur les processus suivants).
+         */
+        private Bilan fusionner(Bilan suivant) {
+            for (String erreur : suivant.messages) {
+                if (messages.size() == ERREURS_CONSERVEES) {
+                    break;
+                }
+                messages.add(erreur);
+            }
+            nombre += suivant.nombre;
+            return this;
+        }
+    }
+
+    /**
+     * Vérifie les processus d'indices [debut, fin[, en découpant la plage en deux tant qu'elle est grande.
+     */
+    private static class Verification extends RecursiveTask<Bilan> {
+        private final List<Process> processus;
+        private final String nomAlgo;
+        private final int debut;
+        private final int fin;
+        private final Thread appelant; //Thread qui a demandé la validation : son interruption annule la validation
+
+        Verification(List<Process> processus, String nomAlgo, int debut, int fin, Thread appelant) {
+            this.processus = processus;
+            this.nomAlgo = nomAlgo;
+            this.debut = debut;
+            this.fin = fin;
+            this.appelant = appelant;
+        }
+
+        @Override
+        protected Bilan compute() {
+            if (fin - debut <= SEUIL_DECOUPAGE) {
+                if (appelant.isInterrupted()) {
+                    throw new CancellationException("Validation annulée : " + nomAlgo);
+                }
+                Bilan bilan = new Bilan();
+                List<String> erreurs = new ArrayList<>();
+                for (int i = debut; i < fin; i++) {
+                    ExecutionValidator.verifier(processus.get(i), nomAlgo, erreurs);
+                    bilan.nombre += erreurs.size();
+                    for (int k = 0; k < erreurs.size() && bilan.messages.size() < ERREURS_CONSERVEES; k++) {
+                        bilan.messages.add(erreurs.get(k));
+                    }
+                    erreurs.clear();
+                }
+                return bilan;
+            }
+            int milieu = (debut + fin) >>> 1;
+            Verification gauche = new Verification(processus, nomAlgo, debut, milieu, appelant);
+            gauche.fork();
+            Bilan droite = new Verification(processus, nomAlgo, milieu, fin, appelant).compute();
+            return gauche.join().fusionner(droite);
+        }
+    }
+}
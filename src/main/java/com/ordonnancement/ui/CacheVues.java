@@ -0,0 +1,195 @@
+package com.ordonnancement.ui;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.ordonnancement.service.AppState;
+import com.ordonnancement.util.CacheParGeneration;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+
+/**
+ * Cache des vues de l'application : une vue (fxml + controleur) n'est construite qu'une fois
+ * par génération de résultats, puis réaffichée telle quelle à chaque navigation.
+ * Les vues d'une génération précédente sont abandonnées dès que {@link AppState} reçoit de nouveaux résultats
+ * (voir {@link CacheParGeneration}).
+ *
+ * Le préchargement se fait en deux temps : les fichiers fxml sont lus et les classes qu'ils utilisent chargées
+ * dans un thread en arrière-plan au démarrage, puis les vues sont construites sur le thread JavaFX,
+ * une par impulsion, dès que de nouveaux résultats sont disponibles.
+ * Toutes les méthodes, sauf {@link #prechargerRessources()}, doivent être appelées sur le thread JavaFX.
+ * @author ROMA Quentin
+ */
+public class CacheVues {
+
+    private static final Pattern IMPORT = Pattern.compile("<\\?import\\s+([\\w.]+)\\s*\\?>"); //Import d'une classe (pas de *)
+    private static final Pattern CONTROLEUR = Pattern.compile("fx:controller\\s*=\\s*\"([\\w.]+)\"");
+
+    private final Map<String, Consumer<Object>> preparations = new LinkedHashMap<>(); //Vues mises en cache, dans l'ordre de préchargement
+    private final Map<String, byte[]> sources = new ConcurrentHashMap<>(); //Contenu des fichiers fxml déjà lus
+    private final CacheParGeneration<String, VueChargee> vues = //Vues construites, par fichier fxml
+            new CacheParGeneration<>(AppState.getInstance()::getGenerationResultats, this::construire);
+
+    /**
+     * Une vue construite : sa racine et son controleur.
+     */
+    public static final class VueChargee {
+
+        private final Parent racine;
+        private final Object controleur;
+
+        private VueChargee(Parent racine, Object controleur) {
+            this.racine = racine;
+            this.controleur = controleur;
+        }
+
+        /**
+         * Renvoie la racine de la vue.
+         * @return la racine
+         */
+        public Parent getRacine() {
+            return racine;
+        }
+
+        /**
+         * Renvoie le controleur de la vue.
+         * @param <C> le type du controleur
+         * @return le controleur
+         */
+        @SuppressWarnings("unchecked")
+        public <C> C getControleur() {
+            return (C) controleur;
+        }
+    }
+
+    /**
+     * Déclare une vue à mettre en cache.
+     *
+     * @param fxml : le chemin du fichier fxml dans les ressources
+     * @param typeControleur : le type du controleur de la vue
+     * @param preparation : l'action appelée sur le controleur après chaque construction de la vue
+     *                      (transmission des résultats...)
+     */
+    public <C> void declarer(String fxml, Class<C> typeControleur, Consumer<C> preparation) {
+        preparations.put(fxml, controleur -> preparation.accept(typeControleur.cast(controleur)));
+    }
+
+    /**
+     * Renvoie une vue déclarée, construite si elle n'est pas en cache ou si elle affiche
+     * des résultats d'une génération précédente.
+     *
+     * @param fxml : le chemin du fichier fxml de la vue
+     * @return la vue
+     * @throws IOException si le fichier fxml ne peut pas être chargé
+     * @throws IllegalArgumentException si la vue n'a pas été déclarée
+     */
+    public VueChargee obtenir(String fxml) throws IOException {
+        if (!preparations.containsKey(fxml)) {
+            throw new IllegalArgumentException("Vue non déclarée dans le cache : " + fxml);
+        }
+        return vues.obtenir(fxml);
+    }
+
+    /**
+     * Abandonne toutes les vues construites.
+     */
+    public void invalider() {
+        vues.invalider();
+    }
+
+    /**
+     * Lit les fichiers fxml des vues déclarées et charge les classes qu'ils utilisent (controleur et composants),
+     * dans un thread en arrière-plan : la première construction de chaque vue n'a plus à le faire.
+     * Les classes sont chargées sans être initialisées, l'initialisation reste faite par le thread JavaFX.
+     */
+    public void prechargerRessources() {
+        List<String> fichiers = List.copyOf(preparations.keySet());
+        Thread thread = new Thread(() -> {
+            for (String fxml : fichiers) {
+                try {
+                    String contenu = new String(lireSource(fxml), StandardCharsets.UTF_8);
+                    chargerClasses(IMPORT.matcher(contenu));
+                    chargerClasses(CONTROLEUR.matcher(contenu));
+                } catch (IOException | UncheckedIOException e) {
+                    //Préchargement facultatif : l'erreur sera signalée à l'affichage de la vue
+                }
+            }
+        }, "ordonnancement-prechargement");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Construit à l'avance les vues déclarées qui ne sont pas à jour, une par impulsion du thread JavaFX
+     * pour ne pas bloquer l'interface. Le préchargement s'arrête si les résultats changent entre temps.
+     */
+    public void prechargerVues() {
+        vues.precharger(preparations.keySet(), Platform::runLater); //Erreurs signalées à l'affichage de la vue
+    }
+
+    /**
+     * Construit une vue déclarée depuis son fichier fxml (lu une seule fois).
+     *
+     * @param fxml : le chemin du fichier fxml
+     * @return la vue construite
+     */
+    private VueChargee construire(String fxml) throws IOException {
+        FXMLLoader loader = new FXMLLoader(getClass().getResource(fxml)); //L'emplacement résout les chemins relatifs du fxml
+        Parent racine;
+        try (InputStream source = new ByteArrayInputStream(lireSource(fxml))) {
+            racine = loader.load(source);
+        }
+        Object controleur = loader.getController();
+        preparations.get(fxml).accept(controleur);
+        return new VueChargee(racine, controleur);
+    }
+
+    /**
+     * Renvoie le contenu d'un fichier fxml, lu au premier appel.
+     *
+     * @param fxml : le chemin du fichier fxml
+     * @return le contenu du fichier
+     */
+    private byte[] lireSource(String fxml) throws IOException {
+        byte[] contenu = sources.get(fxml);
+        if (contenu == null) {
+            URL url = getClass().getResource(fxml);
+            if (url == null) {
+                throw new IOException("Vue introuvable : " + fxml);
+            }
+            try (InputStream entree = url.openStream()) {
+                contenu = entree.readAllBytes();
+            }
+            sources.put(fxml, contenu);
+        }
+        return contenu;
+    }
+
+    /**
+     * Charge (sans les initialiser) les classes trouvées par un motif.
+     *
+     * @param noms : le motif dont le premier groupe est un nom de classe
+     */
+    private void chargerClasses(Matcher noms) {
+        while (noms.find()) {
+            try {
+                Class.forName(noms.group(1), false, getClass().getClassLoader());
+            } catch (ClassNotFoundException | LinkageError e) {
+                //Import d'un paquetage ou classe absente : ignoré
+            }
+        }
+    }
+}
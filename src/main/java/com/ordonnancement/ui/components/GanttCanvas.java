@@ -0,0 +1,478 @@
+package com.ordonnancement.ui.components;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.ordonnancement.model.IndexIntervalles;
+import com.ordonnancement.model.gantt.IGanttTask;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Objet graphique permettant de dessiner un Gantt sur un Canvas.
+ * Contrairement à GanttPane (un nœud JavaFX par tache et par graduation), seul le
+ * viewport visible est dessiné : le coût d'un dessin dépend de la taille de l'écran,
+ * pas du nombre de taches.
+ *
+ * Navigation : molette = défilement vertical (horizontal avec Shift), Ctrl + molette = zoom,
+ * glisser = déplacement, double-clic = tout afficher.
+ * Lorsque les taches sont plus étroites que quelques pixels, chaque colonne de pixels
+ * est dessinée avec la couleur de la première tache qu'elle recouvre (niveau de détail agrégé).
+ * @author ROMA Quentin
+ */
+public class GanttCanvas extends Region {
+
+    private static final double LARGEUR_LABELS = 80; //Largeur de la colonne des catégories
+    private static final double HAUTEUR_ECHELLE = 24; //Hauteur de l'échelle de temps
+    private static final double HAUTEUR_LIGNE = 60; //Hauteur d'une ligne de catégorie
+    private static final double HAUTEUR_MAX = 600; //Hauteur préférée maximale du composant
+    private static final double ESPACE_MIN_GRADUATIONS = 60; //Espace minimal en pixels entre deux graduations
+    private static final double SEUIL_DETAIL = 2; //En dessous de ce nombre de pixels par unité, les taches sont agrégées par pixel
+    private static final double ZOOM_MAX = 200; //Nombre maximal de pixels par unité de temps
+    private static final double LARGEUR_PREF_MAX = 1200; //Largeur préférée maximale (le composant s'étire ensuite avec son parent)
+
+    private final Canvas canvas = new Canvas();
+    private final Tooltip infoBulle = new Tooltip();
+
+    //Données du gantt, par catégorie
+    private final List<String> categories = new ArrayList<>();
+    private final List<DonneesCategorie> donnees = new ArrayList<>(); //Données des catégories affichées (même ordre que categories)
+    private final Map<String, DonneesCategorie> donneesParCategorie = new HashMap<>(); //Données de toutes les catégories des taches
+    private List<IGanttTask> tachesPreparees; //Liste de taches dont les données ont été préparées
+    private final List<String> ids = new ArrayList<>(); //Identifiants de taches (triés), l'indice sert d'id couleur
+    private final List<Color> couleurs = new ArrayList<>(); //Couleur de chaque identifiant
+    private int dateFinMax;
+
+    //Viewport
+    private double pixelsParUnite = 50; //Zoom : nombre de pixels pour une unité de temps
+    private double tempsOrigine = 0; //Date affichée au bord gauche de la zone des taches
+    private double decalageY = 0; //Décalage vertical des lignes (en pixels)
+    private double sourisX; //Dernière position de la souris lors d'un glisser
+    private double sourisY;
+
+    public GanttCanvas() {
+        getChildren().add(canvas);
+        Tooltip.install(this, infoBulle);
+        setOnScroll(this::gererMolette);
+        setOnMousePressed(e -> {
+            sourisX = e.getX();
+            sourisY = e.getY();
+        });
+        setOnMouseDragged(this::gererGlisser);
+        setOnMouseMoved(this::mettreAJourInfoBulle);
+        setOnMouseClicked(e -> {
+            if (e.getButton() == MouseButton.PRIMARY && e.getClickCount() == 2) {
+                ajusterALaFenetre();
+            }
+        });
+    }
+
+    /**
+     * Prépare les données du gantt et le dessine.
+     * Si la liste de taches est la même que lors du dessin précédent, les données préparées
+     * sont réutilisées et seul le viewport est redessiné (zoom et position conservés).
+     *
+     * @param listeTask : la liste des tâches du gantt a afficher en X
+     * @param dateFinMax Temps maximal à afficher sur l'échelle de temps.
+     * @param listeCategories : liste des catégories à afficher en Y
+     */
+    public void dessinerGantt(List<IGanttTask> listeTask, int dateFinMax, List<String> listeCategories) {
+        boolean memeGantt = listeTask == tachesPreparees && dateFinMax == this.dateFinMax;
+        if (listeTask != tachesPreparees) {
+            initialiserDonnees(listeTask);
+            tachesPreparees = listeTask;
+        }
+        this.dateFinMax = dateFinMax;
+        categories.clear();
+        categories.addAll(listeCategories);
+        Collections.sort(categories); //Même ordre que GanttPane
+        donnees.clear();
+        for (String categorie : categories) {
+            donnees.add(donneesParCategorie.getOrDefault(categorie, DonneesCategorie.VIDE));
+        }
+
+        setPrefHeight(Math.min(HAUTEUR_ECHELLE + categories.size() * HAUTEUR_LIGNE + 1, HAUTEUR_MAX));
+        if (memeGantt) {
+            redessiner();
+        } else if (getWidth() > LARGEUR_LABELS) {
+            decalageY = 0;
+            ajusterALaFenetre();
+        } else {
+            decalageY = 0;
+            pixelsParUnite = -1; //Ajustement au premier dimensionnement
+        }
+    }
+
+    /**
+     * Zoom et position permettant de voir tout le gantt en largeur.
+     */
+    public void ajusterALaFenetre() {
+        pixelsParUnite = zoomMin();
+        tempsOrigine = 0;
+        redessiner();
+    }
+
+    /**
+     * Permet d'effacer le gantt
+     */
+    public void clear() {
+        categories.clear();
+        donnees.clear();
+        donneesParCategorie.clear();
+        tachesPreparees = null;
+        redessiner();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double w = getWidth();
+        double h = getHeight();
+        if (canvas.getWidth() != w || canvas.getHeight() != h) {
+            canvas.setWidth(w);
+            canvas.setHeight(h);
+            if (pixelsParUnite < 0) {
+                pixelsParUnite = zoomMin();
+            }
+            redessiner();
+        }
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        return Math.min(LARGEUR_LABELS + (dateFinMax + 1) * 50, LARGEUR_PREF_MAX);
+    }
+
+    /**
+     * Regroupe les taches de toutes les catégories dans des tableaux d'entiers,
+     * indexés par un index d'intervalles, et attribue les couleurs.
+     *
+     * @param listeTask : les taches du gantt
+     */
+    private void initialiserDonnees(List<IGanttTask> listeTask) {
+        Map<String, Integer> positionCategories = new HashMap<>();
+        List<String> categoriesLues = new ArrayList<>();
+        //Une seule lecture de la liste (qui peut être une vue sur un store) : id, catégorie, dates
+        TreeMap<String, Integer> idsTries = new TreeMap<>(); //Trie les identifiants comme GanttPane
+        List<String> idsLus = new ArrayList<>();
+        Map<String, Integer> codesLus = new HashMap<>();
+        List<TableauEntiers> colonnes = new ArrayList<>(); //debuts, fins, code id : 3 colonnes par catégorie
+        for (IGanttTask t : listeTask) {
+            Integer code = codesLus.get(t.getId()); //Toutes les taches comptent pour les couleurs, comme dans GanttPane
+            if (code == null) {
+                code = idsLus.size();
+                idsLus.add(t.getId());
+                codesLus.put(t.getId(), code);
+                idsTries.put(t.getId(), 0);
+            }
+            Integer c = positionCategories.get(t.getCategorie());
+            if (c == null) { //Nouvelle catégorie : 3 nouvelles colonnes
+                c = categoriesLues.size();
+                categoriesLues.add(t.getCategorie());
+                positionCategories.put(t.getCategorie(), c);
+                colonnes.add(new TableauEntiers());
+                colonnes.add(new TableauEntiers());
+                colonnes.add(new TableauEntiers());
+            }
+            colonnes.get(3 * c).ajouter(t.getDateDebut());
+            colonnes.get(3 * c + 1).ajouter(t.getDateFin());
+            colonnes.get(3 * c + 2).ajouter(code);
+        }
+
+        //Couleurs attribuées dans l'ordre trié des identifiants
+        ids.clear();
+        couleurs.clear();
+        for (String id : idsTries.keySet()) {
+            idsTries.put(id, ids.size());
+            ids.add(id);
+            couleurs.add(Color.hsb(couleurs.size() * 137 % 360, 0.6, 0.8));
+        }
+        int[] recodage = new int[idsLus.size()];
+        for (int i = 0; i < recodage.length; i++) {
+            recodage[i] = idsTries.get(idsLus.get(i));
+        }
+
+        donneesParCategorie.clear();
+        for (int c = 0; c < categoriesLues.size(); c++) {
+            int[] debuts = colonnes.get(3 * c).valeurs();
+            int[] fins = colonnes.get(3 * c + 1).valeurs();
+            int[] codes = colonnes.get(3 * c + 2).valeurs();
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = recodage[codes[i]];
+            }
+            donneesParCategorie.put(categoriesLues.get(c), new DonneesCategorie(debuts, fins, codes));
+        }
+    }
+
+    /**
+     * Dessine le viewport visible : échelle de temps, catégories et taches.
+     */
+    private void redessiner() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double w = canvas.getWidth();
+        double h = canvas.getHeight();
+        gc.clearRect(0, 0, w, h);
+        if (w <= LARGEUR_LABELS || categories.isEmpty() || pixelsParUnite <= 0) {
+            return;
+        }
+        limiterViewport();
+        double largeurZone = w - LARGEUR_LABELS;
+        int t0 = (int) Math.floor(tempsOrigine);
+        int t1 = (int) Math.ceil(tempsOrigine + largeurZone / pixelsParUnite);
+
+        //Lignes de catégories visibles uniquement
+        int premiereLigne = (int) Math.floor(decalageY / HAUTEUR_LIGNE);
+        int derniereLigne = Math.min(categories.size() - 1,
+                (int) Math.floor((decalageY + h - HAUTEUR_ECHELLE) / HAUTEUR_LIGNE));
+
+        gc.save();
+        gc.beginPath();
+        gc.rect(0, HAUTEUR_ECHELLE, w, h - HAUTEUR_ECHELLE);
+        gc.clip();
+        for (int c = premiereLigne; c <= derniereLigne; c++) {
+            double y = HAUTEUR_ECHELLE + c * HAUTEUR_LIGNE - decalageY;
+            gc.setStroke(Color.LIGHTGRAY);
+            gc.setLineWidth(1);
+            gc.strokeRect(LARGEUR_LABELS + 0.5, y + 0.5, largeurZone - 1, HAUTEUR_LIGNE - 1);
+            if (pixelsParUnite >= SEUIL_DETAIL) {
+                dessinerTaches(gc, donnees.get(c), y, t0, t1, largeurZone);
+            } else {
+                dessinerAgrege(gc, donnees.get(c), y, largeurZone);
+            }
+            //Label de la catégorie (dessiné après pour rester au-dessus)
+            gc.setFill(Color.WHITE);
+            gc.fillRect(0, y, LARGEUR_LABELS, HAUTEUR_LIGNE);
+            gc.setFill(Color.BLACK);
+            gc.setFont(Font.font(null, FontWeight.BOLD, 12));
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.setTextBaseline(VPos.CENTER);
+            gc.fillText(categories.get(c), LARGEUR_LABELS / 2, y + HAUTEUR_LIGNE / 2, LARGEUR_LABELS - 10);
+        }
+        gc.restore();
+        dessinerEchelle(gc, t0, t1, largeurZone);
+    }
+
+    /**
+     * Dessine une à une les taches d'une catégorie visibles dans [t0, t1].
+     */
+    private void dessinerTaches(GraphicsContext gc, DonneesCategorie d, double y, int t0, int t1, double largeurZone) {
+        gc.setFont(Font.font(null, FontWeight.BOLD, 14));
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        d.index.parcourir(t0, t1, i -> {
+            double x = LARGEUR_LABELS + (d.debuts[i] - tempsOrigine) * pixelsParUnite;
+            double largeur = (d.fins[i] - d.debuts[i]) * pixelsParUnite;
+            //Limiter le rectangle à la zone visible (évite des coordonnées démesurées)
+            double xVisible = Math.max(x, LARGEUR_LABELS - 1);
+            double finVisible = Math.min(x + largeur, LARGEUR_LABELS + largeurZone + 1);
+            gc.setFill(couleurs.get(d.codes[i]));
+            gc.fillRect(xVisible, y + 1, finVisible - xVisible, HAUTEUR_LIGNE - 2);
+            gc.setStroke(Color.BLACK);
+            gc.strokeRect(x, y + 1, largeur, HAUTEUR_LIGNE - 2);
+            String id = ids.get(d.codes[i]);
+            if (finVisible - xVisible > id.length() * 9 + 4) { //Texte seulement s'il tient dans la tache
+                gc.setFill(Color.BLACK);
+                gc.fillText(id, (xVisible + finVisible) / 2, y + HAUTEUR_LIGNE / 2);
+            }
+        });
+    }
+
+    /**
+     * Dessine une catégorie au niveau de détail agrégé : pour chaque colonne de pixels,
+     * la première tache recouvrant la colonne est recherchée dans l'index (O(log n)),
+     * et les colonnes consécutives de même couleur sont fusionnées en un seul rectangle.
+     */
+    private void dessinerAgrege(GraphicsContext gc, DonneesCategorie d, double y, double largeurZone) {
+        int largeurPixels = (int) Math.ceil(largeurZone);
+        int debutBloc = 0;
+        int codeBloc = -1;
+        for (int px = 0; px <= largeurPixels; px++) {
+            int code = -1;
+            if (px < largeurPixels) {
+                int ta = (int) Math.floor(tempsOrigine + px / pixelsParUnite);
+                int tb = (int) Math.ceil(tempsOrigine + (px + 1) / pixelsParUnite) - 1;
+                int i = d.index.premier(ta, Math.max(ta, tb));
+                code = i < 0 ? -1 : d.codes[i];
+            }
+            if (code != codeBloc) {
+                if (codeBloc >= 0) {
+                    gc.setFill(couleurs.get(codeBloc));
+                    gc.fillRect(LARGEUR_LABELS + debutBloc, y + 1, px - debutBloc, HAUTEUR_LIGNE - 2);
+                }
+                debutBloc = px;
+                codeBloc = code;
+            }
+        }
+    }
+
+    /**
+     * Dessine l'échelle de temps : une graduation tous les 1, 2 ou 5 × 10^k unités,
+     * choisie pour garder un espace lisible entre deux graduations.
+     */
+    private void dessinerEchelle(GraphicsContext gc, int t0, int t1, double largeurZone) {
+        gc.setFill(Color.WHITE);
+        gc.fillRect(0, 0, canvas.getWidth(), HAUTEUR_ECHELLE);
+        long pas = pasGraduations();
+        gc.setStroke(Color.LIGHTGRAY);
+        gc.setFill(Color.BLACK);
+        gc.setFont(Font.font(10));
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setTextBaseline(VPos.CENTER);
+        for (long t = (t0 / pas) * pas; t <= t1; t += pas) {
+            double x = LARGEUR_LABELS + (t - tempsOrigine) * pixelsParUnite;
+            if (x < LARGEUR_LABELS || x > LARGEUR_LABELS + largeurZone) {
+                continue;
+            }
+            gc.strokeLine(x + 0.5, 0, x + 0.5, HAUTEUR_ECHELLE);
+            gc.fillText(String.valueOf(t), x + 3, HAUTEUR_ECHELLE / 2);
+        }
+    }
+
+    /**
+     * Calcule le pas des graduations de l'échelle de temps.
+     * @return le pas, en unités de temps
+     */
+    private long pasGraduations() {
+        long puissance = 1;
+        while (true) {
+            for (int facteur : new int[]{1, 2, 5}) {
+                long pas = facteur * puissance;
+                if (pas * pixelsParUnite >= ESPACE_MIN_GRADUATIONS) {
+                    return pas;
+                }
+            }
+            puissance *= 10;
+        }
+    }
+
+    /**
+     * Molette : défilement vertical, horizontal avec Shift, zoom centré sur la souris avec Ctrl.
+     */
+    private void gererMolette(ScrollEvent e) {
+        if (e.isControlDown()) {
+            double tempsSouris = tempsOrigine + (e.getX() - LARGEUR_LABELS) / pixelsParUnite;
+            double facteur = e.getDeltaY() > 0 ? 1.25 : 0.8;
+            pixelsParUnite = Math.max(zoomMin(), Math.min(ZOOM_MAX, pixelsParUnite * facteur));
+            tempsOrigine = tempsSouris - (e.getX() - LARGEUR_LABELS) / pixelsParUnite;
+        } else if (e.isShiftDown() || !debordeVerticalement()) {
+            double delta = e.getDeltaX() != 0 ? e.getDeltaX() : e.getDeltaY();
+            tempsOrigine -= delta / pixelsParUnite;
+        } else {
+            decalageY -= e.getDeltaY();
+        }
+        redessiner();
+        e.consume();
+    }
+
+    /**
+     * Glisser : déplacement du viewport.
+     */
+    private void gererGlisser(MouseEvent e) {
+        tempsOrigine -= (e.getX() - sourisX) / pixelsParUnite;
+        decalageY -= e.getY() - sourisY;
+        sourisX = e.getX();
+        sourisY = e.getY();
+        redessiner();
+    }
+
+    /**
+     * Met à jour l'info-bulle avec la tache survolée (recherche dans l'index de la catégorie).
+     */
+    private void mettreAJourInfoBulle(MouseEvent e) {
+        int c = (int) Math.floor((e.getY() - HAUTEUR_ECHELLE + decalageY) / HAUTEUR_LIGNE);
+        if (e.getX() < LARGEUR_LABELS || e.getY() < HAUTEUR_ECHELLE || c < 0 || c >= categories.size()) {
+            infoBulle.setText("");
+            return;
+        }
+        int date = (int) Math.floor(tempsOrigine + (e.getX() - LARGEUR_LABELS) / pixelsParUnite);
+        DonneesCategorie d = donnees.get(c);
+        int i = d.index.premier(date, date);
+        if (i < 0) {
+            infoBulle.setText(categories.get(c) + " : libre à t=" + date);
+        } else {
+            infoBulle.setText(ids.get(d.codes[i]) + " : " + d.debuts[i] + " → " + d.fins[i]);
+        }
+    }
+
+    /**
+     * Empêche le viewport de sortir du gantt.
+     */
+    private void limiterViewport() {
+        double largeurZone = canvas.getWidth() - LARGEUR_LABELS;
+        double tempsMax = Math.max(0, dateFinMax + 1 - largeurZone / pixelsParUnite);
+        tempsOrigine = Math.max(0, Math.min(tempsOrigine, tempsMax));
+        double hauteurLignes = categories.size() * HAUTEUR_LIGNE;
+        double decalageMax = Math.max(0, hauteurLignes - (canvas.getHeight() - HAUTEUR_ECHELLE));
+        decalageY = Math.max(0, Math.min(decalageY, decalageMax));
+    }
+
+    /**
+     * Zoom permettant d'afficher tout le gantt en largeur.
+     * @return le nombre de pixels par unité de temps
+     */
+    private double zoomMin() {
+        double largeurZone = Math.max(1, getWidth() - LARGEUR_LABELS);
+        return Math.min(ZOOM_MAX, largeurZone / (dateFinMax + 1));
+    }
+
+    /**
+     * Indique si les lignes dépassent la hauteur du composant.
+     * @return true si un défilement vertical est possible
+     */
+    private boolean debordeVerticalement() {
+        return categories.size() * HAUTEUR_LIGNE > canvas.getHeight() - HAUTEUR_ECHELLE;
+    }
+
+    /**
+     * Taches d'une catégorie, en colonnes, avec leur index d'intervalles.
+     */
+    private static class DonneesCategorie {
+        private static final DonneesCategorie VIDE = new DonneesCategorie(new int[0], new int[0], new int[0]);
+
+        private final int[] debuts;
+        private final int[] fins;
+        private final int[] codes; //Indice de l'identifiant (et de la couleur) de chaque tache
+        private final IndexIntervalles index;
+
+        private DonneesCategorie(int[] debuts, int[] fins, int[] codes) {
+            this.debuts = debuts;
+            this.fins = fins;
+            this.codes = codes;
+            this.index = new IndexIntervalles(debuts, fins, debuts.length);
+        }
+    }
+
+    /**
+     * Tableau d'entiers extensible (évite les Integer d'une ArrayList).
+     */
+    private static class TableauEntiers {
+        private int[] valeurs = new int[16];
+        private int taille = 0;
+
+        private void ajouter(int valeur) {
+            if (taille == valeurs.length) {
+                valeurs = Arrays.copyOf(valeurs, taille * 2);
+            }
+            valeurs[taille++] = valeur;
+        }
+
+        private int[] valeurs() {
+            return Arrays.copyOf(valeurs, taille);
+        }
+    }
+}
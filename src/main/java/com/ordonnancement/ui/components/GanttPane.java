@@ -8,11 +8,13 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
+import com.ordonnancement.model.IndexIntervalles;
 import com.ordonnancement.model.gantt.IGanttTask;
 
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
@@ -31,42 +33,78 @@ public class GanttPane extends BorderPane {
     private final double espacesGraduationsX = 50; //Espace entre chaque éléments en X
     private final Map<String, Integer> idCouleurs; //Map pour référencer l'identifiant de chaque tache avec un id de couleur
     private final Map<String, List<IGanttTask>> tachesParCategorie = new HashMap<>(); //Map pour regrouper les catégories et leurs taches
+    private final Map<String, IndexIntervalles> indexParCategorie = new HashMap<>(); //Index d'intervalles des taches de chaque catégorie
     private int nextColor = 0; //Indice de la couleur suivante
 
+    //Cache du dessin : réutilisé tant que la liste de taches reste la même
+    private List<IGanttTask> tachesDessinees; //Liste de taches du dernier dessin
+    private int dateFinMaxDessinee = -1; //Date de fin max de l'échelle dessinée
+    private final Map<String, HBox> lignesParCategorie = new HashMap<>(); //Lignes déjà créées, par catégorie
+    private final Map<String, Pane> zonesParCategorie = new HashMap<>(); //Zone des taches de chaque ligne créée
+    private final VBox lignesCategories = new VBox(5); //Vertical box pour empiler les catégories
+
     public GanttPane(){
         idCouleurs = new HashMap<>();
     }
 
     /**
-     * Classe permettant de dessiner un diagramme de gantt
+     * Classe permettant de dessiner un diagramme de gantt.
+     * Si la liste de taches est la même que lors du dessin précédent, le dessin est mis à jour
+     * de manière incrémentale : seules les lignes des catégories ajoutées sont créées,
+     * les lignes déjà créées sont réutilisées (afficher/masquer un CPU ne redessine pas tout le gantt).
      *
      * @param listeTask : la liste des tâches du gantt a afficher en X
      * @param dateFinMax Temps maximal à afficher sur l'échelle de temps.
      * @param listeCategories : liste des catégories à afficher en Y
      */
     public void dessinerGanttProcessor(List<IGanttTask> listeTask, int dateFinMax, List<String> listeCategories) {
-        this.getChildren().clear(); //Effacer tout
-        
-        initialiserMapCategories(listeTask); //On initialise un map qui associe à chaque catégorie sa liste de IGantTask (pour les récupérer plus facilement)
-        initialiserCouleurs(listeTask); //On initialise le dico des couleurs pour chaque tache
-
-        Collections.sort(listeCategories); //Trier la liste des catégories dans l'ordre (éléments affichés en Y)
-        //Créer vertical box pour empiler les catégories 
-        VBox lignesCategories = new VBox(5);
-        for (String categorie : listeCategories) { //Pour chaque catégorie
-            List<IGanttTask> tachesCategorie = tachesParCategorie.getOrDefault(categorie, Collections.emptyList()); //Récupérer les taches de la catégorie (si la catégorie existe pas, on crée une liste vide)
-            HBox ligne = creerLigneTachesCategorie(categorie, tachesCategorie, dateFinMax); //Générer la ligne avec les taches
-            lignesCategories.getChildren().add(ligne); //On ajoute la ligne des taches de cette cétagorie
+        if (listeTask != tachesDessinees) { //Nouvelles taches : tout recalculer
+            viderCache();
+            tachesDessinees = listeTask;
+            initialiserMapCategories(listeTask); //On initialise un map qui associe à chaque catégorie sa liste de IGantTask (pour les récupérer plus facilement)
+            initialiserCouleurs(listeTask); //On initialise le dico des couleurs pour chaque tache
         }
 
-        //Horizontal box qui stocke les labels des dates
-        HBox echelleTemps = creerEchelleTemps(dateFinMax);
-        echelleTemps.setPadding(new Insets(0, 0, 0, 80)); //Marge a gauche pour faire commencer graduation au bon endroit 
+        if (dateFinMax != dateFinMaxDessinee) { //L'échelle change : nouvelle échelle et largeur des lignes existantes
+            dateFinMaxDessinee = dateFinMax;
+            //Horizontal box qui stocke les labels des dates
+            HBox echelleTemps = creerEchelleTemps(dateFinMax);
+            echelleTemps.setPadding(new Insets(0, 0, 0, 80)); //Marge a gauche pour faire commencer graduation au bon endroit 
+            this.setTop(echelleTemps); //L'échelle temps en haut du border pane
+            for (Pane zoneTaches : zonesParCategorie.values()) {
+                zoneTaches.setPrefWidth((dateFinMax + 1) * espacesGraduationsX);
+            }
+        }
 
-        this.setTop(echelleTemps); //L'échelle temps en haut du border pane
+        List<String> categories = new ArrayList<>(listeCategories);
+        Collections.sort(categories); //Trier la liste des catégories dans l'ordre (éléments affichés en Y)
+        List<HBox> lignes = new ArrayList<>();
+        for (String categorie : categories) { //Pour chaque catégorie
+            HBox ligne = lignesParCategorie.get(categorie);
+            if (ligne == null) { //Ligne jamais affichée : on la crée
+                List<IGanttTask> tachesCategorie = tachesParCategorie.getOrDefault(categorie, Collections.emptyList()); //Récupérer les taches de la catégorie (si la catégorie existe pas, on crée une liste vide)
+                ligne = creerLigneTachesCategorie(categorie, tachesCategorie, dateFinMax); //Générer la ligne avec les taches
+                lignesParCategorie.put(categorie, ligne);
+            }
+            lignes.add(ligne);
+        }
+        lignesCategories.getChildren().setAll(lignes); //Seules les lignes des catégories sélectionnées sont affichées
         this.setCenter(lignesCategories); //On ajoute ces lignes au centre du border pane        
 
     }
+
+    /**
+     * Oublie le dessin précédent (lignes, taches par catégorie, index).
+     */
+    private void viderCache() {
+        tachesDessinees = null;
+        dateFinMaxDessinee = -1;
+        tachesParCategorie.clear();
+        indexParCategorie.clear();
+        lignesParCategorie.clear();
+        zonesParCategorie.clear();
+        lignesCategories.getChildren().clear();
+    }
     
     /**
      * Crée une ligne de Gantt pour une catégorie donnée.
@@ -103,11 +141,54 @@ public class GanttPane extends BorderPane {
             StackPane tache = creerTache(t); //Récupérer la tache 
             zoneTaches.getChildren().add(tache); //Ajouter la tache créée dans le pane
         }
+        installerInfoBulle(categorie, zoneTaches);
+        zonesParCategorie.put(categorie, zoneTaches);
         //Ajouter le label de la catégorie en face du pane contenant toutes les taches
         ligne.getChildren().addAll(labelCategorie,zoneTaches); 
         return ligne;
     }
 
+    /**
+     * Renvoie les taches d'une catégorie qui chevauchent la fenêtre de temps [t0, t1].
+     * La recherche passe par l'index d'intervalles de la catégorie (O(log n + k)).
+     *
+     * @param categorie : la catégorie
+     * @param t0 : début de la fenêtre
+     * @param t1 : fin de la fenêtre
+     * @return les taches visibles, par date de début croissante
+     */
+    public List<IGanttTask> getTaches(String categorie, int t0, int t1) {
+        List<IGanttTask> taches = tachesParCategorie.getOrDefault(categorie, Collections.emptyList());
+        IndexIntervalles index = indexParCategorie.get(categorie);
+        List<IGanttTask> resultat = new ArrayList<>();
+        if (index != null) {
+            index.parcourir(t0, t1, i -> resultat.add(taches.get(i)));
+        }
+        return resultat;
+    }
+
+    /**
+     * Installe une info-bulle sur la zone des taches d'une catégorie :
+     * la tache survolée est retrouvée via l'index d'intervalles.
+     *
+     * @param categorie : la catégorie de la ligne
+     * @param zoneTaches : la zone contenant les taches
+     */
+    private void installerInfoBulle(String categorie, Pane zoneTaches) {
+        Tooltip infoBulle = new Tooltip();
+        Tooltip.install(zoneTaches, infoBulle);
+        zoneTaches.setOnMouseMoved(event -> {
+            int date = (int) Math.floor(event.getX() / espacesGraduationsX); //Date survolée
+            List<IGanttTask> taches = getTaches(categorie, date, date);
+            if (taches.isEmpty()) {
+                infoBulle.setText(categorie + " : libre à t=" + date);
+            } else {
+                IGanttTask t = taches.get(0);
+                infoBulle.setText(t.getId() + " : " + t.getDateDebut() + " → " + t.getDateFin());
+            }
+        });
+    }
+
 
 
     /**
@@ -183,7 +264,17 @@ public class GanttPane extends BorderPane {
             }
             liste.add(tache); //On ajoute la tache dans la liste
         }
-        
+        //Construction de l'index d'intervalles de chaque catégorie (éléments = position dans la liste)
+        for (Map.Entry<String, List<IGanttTask>> entree : tachesParCategorie.entrySet()) {
+            List<IGanttTask> taches = entree.getValue();
+            int[] debuts = new int[taches.size()];
+            int[] fins = new int[taches.size()];
+            for (int i = 0; i < taches.size(); i++) {
+                debuts[i] = taches.get(i).getDateDebut();
+                fins[i] = taches.get(i).getDateFin();
+            }
+            indexParCategorie.put(entree.getKey(), new IndexIntervalles(debuts, fins, taches.size()));
+        }
         
     }
 
@@ -208,6 +299,7 @@ public class GanttPane extends BorderPane {
      * Permet d'effacer le gantt
      */
     public void clear() {
+        viderCache();
         this.setTop(null);
         this.setBottom(null);
         this.setLeft(null);
@@ -15,8 +15,12 @@ import javafx.scene.control.TitledPane;
  */
 public class GanttPresenter extends TitledPane{
 
+    private static final int SEUIL_TACHES_CANVAS = 2000; //Au-delà de ce nombre de taches, le gantt est dessiné sur un Canvas
+    private static final int SEUIL_DUREE_CANVAS = 500; //Au-delà de cette date de fin, le gantt est dessiné sur un Canvas
+
     private final GanttPane ganttPane;
     private final ScrollPane scrollPane;
+    private GanttCanvas ganttCanvas; //Créé au premier gantt volumineux
 
     public GanttPresenter(){
         scrollPane = new ScrollPane();
@@ -37,13 +41,28 @@ public class GanttPresenter extends TitledPane{
     }
 
     /**
-     * Permet de lancer l'affichage du gantt dans le presenter
+     * Permet de lancer l'affichage du gantt dans le presenter.
+     * Les petits gantts sont dessinés avec un GanttPane (un nœud par tache),
+     * les gantts volumineux avec un GanttCanvas (seul le viewport visible est dessiné).
      * @param tachesGantt : Les taches à afficher
      * @param dateFinMax : La date de fin max des taches
      * @param listeCategories : La liste des catégories
      */
     public void presentGantt(List<IGanttTask> tachesGantt,int dateFinMax, List<String> listeCategories ){
-        ganttPane.dessinerGanttProcessor(tachesGantt, dateFinMax, listeCategories);
+        if (tachesGantt.size() > SEUIL_TACHES_CANVAS || dateFinMax > SEUIL_DUREE_CANVAS) {
+            if (ganttCanvas == null) {
+                ganttCanvas = new GanttCanvas();
+            }
+            ganttPane.clear();
+            ganttCanvas.dessinerGantt(tachesGantt, dateFinMax, listeCategories);
+            this.setContent(ganttCanvas);
+        } else {
+            if (ganttCanvas != null) {
+                ganttCanvas.clear();
+            }
+            ganttPane.dessinerGanttProcessor(tachesGantt, dateFinMax, listeCategories);
+            this.setContent(scrollPane);
+        }
         
     
     
@@ -1,9 +1,14 @@
 package com.ordonnancement.ui.controller;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import com.ordonnancement.model.Resultats;
+
 import com.ordonnancement.service.AppState;
 import com.ordonnancement.ui.Alert.AlertUtils;
+import com.ordonnancement.ui.CacheVues;
+import com.ordonnancement.ui.CacheVues.VueChargee;
 
 import javafx.application.Platform;
 import javafx.fxml.FXML;
@@ -19,6 +24,8 @@ import javafx.stage.Stage;
  * Contrôleur principal de l'application.
  * Gère la fenêtre principale et la navigation entre les différentes
  * fonctionnalités.
+ * Les vues des résultats (processus, gantts, métriques) sont gardées en cache tant que les résultats
+ * ne changent pas : naviguer entre elles ne reconstruit pas les gantts et les graphiques.
  * @author ROMA Quentin
  * @author Allemane Axel
  * @author Olivencia Eliot
@@ -27,6 +34,12 @@ import javafx.stage.Stage;
  */
 public class AppMainFrameController {
 
+    private static final String VUE_GANTT_CPU = "/fxml/GanttProcessorView.fxml";
+    private static final String VUE_GANTT_PROCESSUS = "/fxml/GanttProcessusView.fxml";
+    private static final String VUE_METRIQUES = "/fxml/MetricView.fxml";
+    private static final String VUE_PROCESSUS = "/fxml/ProcessView.fxml";
+    private static final String VUE_OCCUPATION = "/fxml/OccupationView.fxml";
+
     // Charger éléments de la vue FXML
     @FXML
     StackPane mainContentPane; // Conteneur principal
@@ -35,6 +48,8 @@ public class AppMainFrameController {
     @FXML
     MenuItem configMenu;
     @FXML
+    MenuItem historiqueMenu;
+    @FXML
     Menu processMenu;
     @FXML
     Menu ganttMenu;
@@ -47,6 +62,8 @@ public class AppMainFrameController {
     @FXML
     MenuItem ganttProcessMenu;
     @FXML
+    MenuItem occupationMenu;
+    @FXML
     private MenuItem btnQuitter;
     //////
 
@@ -56,7 +73,31 @@ public class AppMainFrameController {
     ConfigController configController;
     HomeController homeController;
     ProcessController processController;
-    
+
+    private final CacheVues cacheVues = new CacheVues(); //Vues des résultats déjà construites
+
+    /**
+     * Déclare les vues des résultats mises en cache et lance leur préchargement.
+     * Les vues sont reconstruites (en arrière-plan de l'interface) à chaque nouveau jeu de résultats.
+     */
+    @FXML
+    private void initialize() {
+        cacheVues.declarer(VUE_PROCESSUS, ProcessController.class, controleur -> { });
+        cacheVues.declarer(VUE_GANTT_CPU, GanttProcessorController.class, controleur -> { });
+        cacheVues.declarer(VUE_GANTT_PROCESSUS, GanttProcessusController.class, controleur -> { });
+        cacheVues.declarer(VUE_OCCUPATION, OccupationController.class, controleur -> { });
+        cacheVues.declarer(VUE_METRIQUES, MetricController.class, controleur -> {
+            List<Resultats> resultats = new ArrayList<>(); //L'exécution affichée puis les exécutions comparées
+            resultats.add(AppState.getInstance().getResultats());
+            resultats.addAll(AppState.getInstance().getResultatsCompares());
+            controleur.setResultats(resultats);
+        });
+        AppState.getInstance().generationResultatsProperty().addListener((obs, ancienne, nouvelle) -> {
+            cacheVues.invalider(); //Libère les vues des anciens résultats
+            cacheVues.prechargerVues();
+        });
+        cacheVues.prechargerRessources();
+    }
 
     /**
      * Affiche la page d'accueil
@@ -92,10 +133,9 @@ public class AppMainFrameController {
     @FXML
     public void doAfficherGanttCPU() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/GanttProcessorView.fxml")); // Préparer le chargement du FXML
-            BorderPane ganttProcessor = loader.load(); // Charger le fxml
-            mainContentPane.getChildren().setAll(ganttProcessor); // Mettre le border pane dans le stackpane
-            ganttProcessorController = loader.getController(); // Récupérer le controleur de la vue
+            VueChargee vue = cacheVues.obtenir(VUE_GANTT_CPU); // Vue en cache, construite si besoin
+            mainContentPane.getChildren().setAll(vue.getRacine()); // Mettre le border pane dans le stackpane
+            ganttProcessorController = vue.getControleur(); // Récupérer le controleur de la vue
 
         } catch (Exception e) {
 
@@ -126,9 +166,8 @@ public class AppMainFrameController {
     @FXML
     public void doAfficherGanttProcessus() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/GanttProcessusView.fxml"));
-            BorderPane ganttProcessus = loader.load();
-            mainContentPane.getChildren().setAll(ganttProcessus);
+            VueChargee vue = cacheVues.obtenir(VUE_GANTT_PROCESSUS);
+            mainContentPane.getChildren().setAll(vue.getRacine());
         } catch (Exception e) {
             Throwable root = e;
             while (root.getCause() != null) {
@@ -146,6 +185,24 @@ public class AppMainFrameController {
         }
     }
 
+    /**
+     * Affiche l'occupation des processeurs et de la RAM au cours du temps
+     * 
+     * @author ROMA Quentin
+     */
+    @FXML
+    public void doAfficherOccupation() {
+        try {
+            VueChargee vue = cacheVues.obtenir(VUE_OCCUPATION);
+            mainContentPane.getChildren().setAll(vue.getRacine());
+        } catch (Exception e) {
+            AlertUtils.showError(
+                    "Erreur",
+                    "Erreur affichage de l'occupation :\n" + e.getMessage(),
+                    (Stage) mainContentPane.getScene().getWindow());
+        }
+    }
+
     /**
      * Affiche les graphiques de comparaison des algorithme d'ordonnacement
      * 
@@ -154,18 +211,15 @@ public class AppMainFrameController {
     @FXML
     public void doAfficherComparaisonAlgos() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/MetricView.fxml"));
-            BorderPane comparaisonPane = loader.load();
+            VueChargee vue = cacheVues.obtenir(VUE_METRIQUES); // Résultats transmis au controleur à la construction
+            BorderPane comparaisonPane = (BorderPane) vue.getRacine();
 
             comparaisonPane.prefWidthProperty().bind(mainContentPane.widthProperty());
             comparaisonPane.prefHeightProperty().bind(mainContentPane.heightProperty());
 
             mainContentPane.getChildren().setAll(comparaisonPane);
 
-            comparaisonController = loader.getController();
-
-            comparaisonController.setResultats(
-                    List.of(AppState.getInstance().getResultats()));
+            comparaisonController = vue.getControleur();
 
         } catch (Exception e) {
         }
@@ -179,10 +233,9 @@ public class AppMainFrameController {
     @FXML
     public void doAfficherProcessus() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/ProcessView.fxml"));
-            BorderPane processPane = loader.load();
-            mainContentPane.getChildren().setAll(processPane);
-            processController = loader.getController();
+            VueChargee vue = cacheVues.obtenir(VUE_PROCESSUS);
+            mainContentPane.getChildren().setAll(vue.getRacine());
+            processController = vue.getControleur();
 
         } catch (Exception e) {
             AlertUtils.showError(
@@ -212,6 +265,21 @@ public class AppMainFrameController {
     }
 
 
+    /**
+     * Affiche l'historique des exécutions
+     * 
+     * @author ROMA Quentin
+     */
+    @FXML
+    public void doAfficherHistorique() {
+        try {
+            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/HistoriqueView.fxml"));
+            BorderPane historique = loader.load();
+            mainContentPane.getChildren().setAll(historique);
+        } catch (Exception e) {
+            AlertUtils.showError("Erreur", "Impossible d'ouvrir l'historique :\n" + e.getMessage(), (Stage) mainContentPane.getScene().getWindow());
+        }
+    }
 
     /**
      * Permet de quitter l'application JavaFX
@@ -8,6 +8,9 @@ import com.ordonnancement.config.ConfigurationManager;
 import com.ordonnancement.config.DefaultPaths;
 import com.ordonnancement.model.AlgoConfiguration;
 import com.ordonnancement.model.FileConfiguration;
+import com.ordonnancement.model.FormatResultats;
+import com.ordonnancement.model.ModeSimulation;
+import com.ordonnancement.model.TypeMoteur;
 import com.ordonnancement.service.configuration.ConfigurationWriter;
 import com.ordonnancement.service.configuration.ConfigurationWriterException;
 import com.ordonnancement.ui.Alert.AlertUtils;
@@ -51,6 +54,12 @@ public class ConfigController {
     @FXML
     private TextField tfQuantum;
     @FXML
+    private CheckBox cbMoteurJava;
+    @FXML
+    private CheckBox cbEvenementiel;
+    @FXML
+    private CheckBox cbBinaire;
+    @FXML
     private Label labQuantum;
     @FXML
     private TitledPane tpResultats;
@@ -192,12 +201,13 @@ public class ConfigController {
     private void doValider() {
         Window owner = getOwnerWindow();
         List<AlgoConfiguration> algos = new ArrayList<>();
+        FormatResultats format = cbBinaire.isSelected() ? FormatResultats.BINAIRE : FormatResultats.CSV;
         try {
             if (cbFifo.isSelected()) {
-                algos.add(new AlgoConfiguration("FIFO", fifoDet.getText(), fifoGlob.getText(), null));
+                algos.add(new AlgoConfiguration("FIFO", fifoDet.getText(), fifoGlob.getText(), null, format));
             }
             if (cbPriorite.isSelected()) {
-                algos.add(new AlgoConfiguration("PRIORITE", prioriteDet.getText(), prioriteGlob.getText(), null));
+                algos.add(new AlgoConfiguration("PRIORITE", prioriteDet.getText(), prioriteGlob.getText(), null, format));
             }
             if (cbRR.isSelected()) {
                 if (tfQuantum.getText() == null || tfQuantum.getText().isBlank()) {
@@ -214,7 +224,7 @@ public class ConfigController {
                     AlertUtils.showError("Erreur", "Le quantum doit être un entier naturel non nul !", owner);
                     return;
                 }
-                algos.add(new AlgoConfiguration("ROUND ROBIN", rrDet.getText(), rrGlob.getText(), q));
+                algos.add(new AlgoConfiguration("ROUND ROBIN", rrDet.getText(), rrGlob.getText(), q, format));
             }
         } catch (IllegalArgumentException iae) {
             AlertUtils.showError("Erreur", "Erreur de configuration d'un algorithme : " + iae.getMessage(), owner);
@@ -240,7 +250,9 @@ public class ConfigController {
                     labelProcessPath.getText(),
                     metriquesLabel.getText(),
                     labelRessourcesPath.getText(),
-                    algos
+                    algos,
+                    cbMoteurJava.isSelected() ? TypeMoteur.JAVA : TypeMoteur.PYTHON,
+                    cbEvenementiel.isSelected() ? ModeSimulation.EVENEMENTIEL : ModeSimulation.TICK
             );
         } catch (IllegalArgumentException e) {
             AlertUtils.showError("Erreur", "Configuration invalide : " + e.getMessage(), owner);
@@ -449,6 +461,11 @@ public class ConfigController {
 
             }
 
+            cbMoteurJava.setSelected(conf.getMoteur() == TypeMoteur.JAVA);
+            cbEvenementiel.setSelected(conf.getModeSimulation() == ModeSimulation.EVENEMENTIEL);
+            cbBinaire.setSelected(conf.getListeAlgorithmes() != null && conf.getListeAlgorithmes().stream()
+                    .anyMatch(a -> a.getFormatResultats() == FormatResultats.BINAIRE));
+
             if (conf.getListeAlgorithmes() != null) {
                 for (AlgoConfiguration a : conf.getListeAlgorithmes()) {
                     switch (a.getNomAlgorithme().toUpperCase()) {
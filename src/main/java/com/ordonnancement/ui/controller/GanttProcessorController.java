@@ -1,15 +1,23 @@
 package com.ordonnancement.ui.controller;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Resultats;
 import com.ordonnancement.model.gantt.IGanttTask;
 import com.ordonnancement.service.AppState;
 import com.ordonnancement.service.gantt.GanttProcessorService;
 import com.ordonnancement.ui.components.GanttPresenter;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.FXCollections;
@@ -25,7 +33,8 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
 /**
- * Controleur pour l'affichage du diagramme de gantt par processeur
+ * Controleur pour l'affichage du diagramme de gantt par processeur.
+ * Les exécutions comparées (ouvertes depuis l'historique) sont affichées sous l'exécution courante.
  * @author ROMA Quentin
  */
 public class GanttProcessorController extends Application {
@@ -41,10 +50,11 @@ public class GanttProcessorController extends Application {
 
     ///////
     private List<GanttPresenter> listeGanttPresenters;
+    private Map<GanttPresenter, GanttProcessorService> servicesGantts; //Le service qui fournit les taches de chaque gantt
+    private Map<GanttPresenter, String> algosGantts; //L'algorithme dessiné par chaque gantt
     private List<Process> listeProcessus; //La liste de tous les processus ordonnancés
     private ObservableList<String> listeCpusDisponibles; //Liste de tous les cpus utilisés dans l'algo d'ordonnancement courant
     private ObservableList<String> listeCpusSelectionnes; //La liste de tous les cpus actuellement sélectionnés dans la list view des cpus
-    private GanttProcessorService ganttService;
 
     @Override
     public void start(Stage stage) throws Exception {
@@ -64,13 +74,30 @@ public class GanttProcessorController extends Application {
         
         try {
             
-            this.listeProcessus = AppState.getInstance().getResultats().getListeProcessus();
-            this.ganttService = new GanttProcessorService(listeProcessus);
-            setupListView();
-            setupListeCpus();
-            setupAllGanttPresenter(ganttService.getNomAlgosDisponibles());
-            drawAllGantts();
-            
+            Resultats resultats = AppState.getInstance().getResultats();
+            List<Resultats> resultatsCompares = AppState.getInstance().getResultatsCompares();
+            this.listeProcessus = resultats.getListeProcessus();
+            if (resultats.isDetailsCharges() && resultatsCompares.isEmpty()) {
+                afficherResultats(new GanttProcessorService(resultats), List.of());
+            } else { //Allocations encore en cours de lecture : les gantts sont dessinés à la fin du chargement
+                afficherMessage("Chargement des résultats détaillés...");
+                cacherElements();
+                CompletableFuture<GanttProcessorService> chargement = GanttProcessorService.charger(resultats);
+                List<CompletableFuture<GanttProcessorService>> chargementsCompares = new ArrayList<>();
+                for (Resultats compare : resultatsCompares) {
+                    chargementsCompares.add(GanttProcessorService.charger(compare));
+                }
+                List<CompletableFuture<GanttProcessorService>> tousLesChargements = new ArrayList<>(chargementsCompares);
+                tousLesChargements.add(chargement);
+                CompletableFuture.allOf(tousLesChargements.toArray(CompletableFuture[]::new)).whenComplete((rien, erreur) -> Platform.runLater(() -> {
+                    if (erreur != null) {
+                        Throwable cause = erreur instanceof CompletionException && erreur.getCause() != null ? erreur.getCause() : erreur;
+                        afficherMessage("Impossible de charger les résultats détaillés :\n" + cause.getMessage());
+                    } else {
+                        afficherResultats(chargement.join(), chargementsCompares.stream().map(CompletableFuture::join).toList());
+                    }
+                }));
+            }
             
         }catch(IllegalStateException e){
             afficherMessage("Aucun résultat disponible.\nLancez d'abord un ordonnancement ou rafraichir la page.");
@@ -79,13 +106,37 @@ public class GanttProcessorController extends Application {
 
     }
 
+    /**
+     * Met en place la liste des CPUs et dessine les gantts de tous les algorithmes.
+     *
+     * @param service Le service, préparé avec les résultats détaillés de tous les algorithmes
+     * @param servicesCompares Les services des exécutions comparées, dans l'ordre de la comparaison
+     */
+    private void afficherResultats(GanttProcessorService service, List<GanttProcessorService> servicesCompares) {
+        this.listViewCpu.setVisible(true);
+        labelCpu.setVisible(true);
+        setupListView();
+        listeGanttPresenters = new ArrayList<>();
+        servicesGantts = new HashMap<>();
+        algosGantts = new HashMap<>();
+        vBoxGantts.setAlignment(Pos.TOP_LEFT);
+        Set<String> cpus = new LinkedHashSet<>(service.getAllCpus()); //Union des CPUs de toutes les exécutions
+        setupAllGanttPresenter(service, "");
+        for (int i = 0; i < servicesCompares.size(); i++) {
+            GanttProcessorService serviceCompare = servicesCompares.get(i);
+            setupAllGanttPresenter(serviceCompare, " (scénario " + (i + 2) + ")"); //Scénario 1 : l'exécution courante, comme dans les métriques
+            cpus.addAll(serviceCompare.getAllCpus());
+        }
+        setupListeCpus(new ArrayList<>(cpus));
+        drawAllGantts();
+    }
+
     /**
      * Met à jour les listes de CPUs disponibles et sélectionnés.
      *
      * @param cpus Liste des CPUs à afficher et sélectionner
      */
-    private void setupListeCpus() {
-        List<String> cpus = ganttService.getAllCpus();
+    private void setupListeCpus(List<String> cpus) {
         //Rénitialiser le contenu des listes
         listeCpusDisponibles.clear();
         listeCpusSelectionnes.clear();
@@ -121,15 +172,16 @@ public class GanttProcessorController extends Application {
     /**
      * Permet de mettre en place un GanttPresenter pour chaque
      * algo d'ordonnancement exécuté
-     * @param listeAlgos
+     * @param service Le service de l'exécution
+     * @param suffixe Le suffixe ajouté au titre des gantts (vide pour l'exécution courante)
      */
-    private void setupAllGanttPresenter(List<String> listeAlgos){
-        listeGanttPresenters = new ArrayList<>();
-        vBoxGantts.setAlignment(Pos.TOP_LEFT);
-        for(String a : listeAlgos){
-            GanttPresenter presenter = new GanttPresenter(a); //Créer le gantt presenter de l'algo
+    private void setupAllGanttPresenter(GanttProcessorService service, String suffixe){
+        for(String a : service.getNomAlgosDisponibles()){
+            GanttPresenter presenter = new GanttPresenter(a + suffixe); //Créer le gantt presenter de l'algo
             vBoxGantts.getChildren().add(presenter); //Ajout du presenter dans la vbox
             listeGanttPresenters.add(presenter); //Ajout à l'array list
+            servicesGantts.put(presenter, service);
+            algosGantts.put(presenter, a);
             if(listeGanttPresenters.size() > 1){ //Si ce ne sont pas les premiers, on les fermes
                 presenter.setExpanded(false);
             }
@@ -147,7 +199,8 @@ public class GanttProcessorController extends Application {
         } 
         else{
             for(GanttPresenter presenter : listeGanttPresenters){
-                String nomAlgo = presenter.getText(); //Récupérer le nom de l'algo
+                String nomAlgo = algosGantts.get(presenter); //Récupérer le nom de l'algo
+                GanttProcessorService ganttService = servicesGantts.get(presenter); //Et le service de son exécution
                 ganttService.changerAlgo(nomAlgo); //Changer d'algo dans le service
                 List<IGanttTask> tachesGantt = ganttService.getTachesGantt(); //Récupérer les différentes taches de l'algo
                 int dateFinMax = ganttService.getDateFinMax(); //Récupérer la date de fin max des taches
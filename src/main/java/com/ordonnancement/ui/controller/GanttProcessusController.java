@@ -4,20 +4,24 @@ package com.ordonnancement.ui.controller;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
 
-import com.ordonnancement.config.ConfigurationManager;
-import com.ordonnancement.model.AlgoConfiguration;
 import com.ordonnancement.model.Allocation;
 import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Resultats;
 import com.ordonnancement.model.gantt.IGanttTask;
 import com.ordonnancement.model.gantt.impl.ProcessusTask;
 import com.ordonnancement.service.AppState;
 import com.ordonnancement.ui.components.GanttPresenter;
 import com.ordonnancement.util.ProcessUtils;
 
+import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.FXCollections;
@@ -51,7 +55,9 @@ public class GanttProcessusController {
     ///////
     private List<GanttPresenter> listeGanttPresenters;
     private VBox vBoxGantts;
+    private Resultats resultats; // Les résultats dessinés
     private List<Process> listeProcessus; // La liste de tous les processus ordonnancés
+    private final Map<String, TachesAlgo> cacheTaches = new HashMap<>(); // Taches déjà préparées, par algo
 
     // Liste de tous les processus (ID) utilisés dans l'algo d'ordonnancement
     // courant
@@ -67,7 +73,8 @@ public class GanttProcessusController {
     @FXML
     private void initialize() {
         try {
-            this.listeProcessus = AppState.getInstance().getResultats().getListeProcessus();
+            this.resultats = AppState.getInstance().getResultats();
+            this.listeProcessus = resultats.getListeProcessus();
 
             if (labelAlgo != null) {
                 labelAlgo.setVisible(false);
@@ -77,14 +84,20 @@ public class GanttProcessusController {
             setupListView();
             setupGanttContainer();
 
-            List<String> algos = getAvailableAlgos();
-            setupAllGanttPresenter(algos);
-
-            // Initialiser la liste des processus disponibles (union de tous les processus
-            // de tous les algos)
-            updateListeProcessusGlobal(algos);
-
-            drawAllGantts();
+            if (resultats.isDetailsCharges()) {
+                afficherResultats();
+            } else { // Allocations encore en cours de lecture : les gantts sont dessinés à la fin du chargement
+                afficherMessage("Chargement des résultats détaillés...");
+                resultats.chargerDetails().whenComplete((processus, erreur) -> Platform.runLater(() -> {
+                    if (erreur != null) {
+                        Throwable cause = erreur instanceof CompletionException && erreur.getCause() != null ? erreur.getCause() : erreur;
+                        afficherMessage("Impossible de charger les résultats détaillés :\n" + cause.getMessage());
+                        cacherElements();
+                    } else {
+                        afficherResultats();
+                    }
+                }));
+            }
 
         } catch (IllegalStateException e) {
             afficherMessage("Aucun résultat disponible.\nLancez d'abord un ordonnancement.");
@@ -92,6 +105,21 @@ public class GanttProcessusController {
         }
     }
 
+    /**
+     * Met en place un gantt par algo et la liste des processus, puis dessine les gantts.
+     * Les résultats détaillés de tous les algos doivent être chargés.
+     */
+    private void afficherResultats() {
+        List<String> algos = ProcessUtils.getNomAlgos(resultats); // Les algos de l'exécution dessinée, pas ceux de la configuration courante
+        setupAllGanttPresenter(algos);
+
+        // Initialiser la liste des processus disponibles (union de tous les processus
+        // de tous les algos)
+        updateListeProcessusGlobal(algos);
+
+        drawAllGantts();
+    }
+
     /**
      * Configure la ListView des Processus avec des CheckBox. Chaque
      * sélection/déselection met à jour la liste des processus sélectionnés et
@@ -115,18 +143,6 @@ public class GanttProcessusController {
         }));
     }
 
-    /**
-     * Récupère la liste des noms des algorithmes disponibles.
-     */
-    private List<String> getAvailableAlgos() {
-        List<AlgoConfiguration> algos = ConfigurationManager.getInstance().getFileConfiguration().getListeAlgorithmes();
-        List<String> nomAlgos = new ArrayList<>();
-        for (AlgoConfiguration algo : algos) {
-            nomAlgos.add(algo.getNomAlgorithme());
-        }
-        return nomAlgos;
-    }
-
     /**
      * Met à jour les listes de Processus disponibles et sélectionnés pour tous les
      * algos.
@@ -206,7 +222,9 @@ public class GanttProcessusController {
     }
 
     /**
-     * Permet de lancer le dessin des gantts sur les différents gantt presenters
+     * Permet de lancer le dessin des gantts sur les différents gantt presenters.
+     * Les taches de chaque algo sont préparées une seule fois pour tous les processus :
+     * cocher/décocher un processus ne change que la liste des catégories affichées.
      */
     public void drawAllGantts() {
         if (listeProcessusSelectionnes.isEmpty()) {
@@ -215,63 +233,76 @@ public class GanttProcessusController {
         }
 
         afficherGantt();
+        Set<String> selection = new HashSet<>(listeProcessusSelectionnes);
 
         for (GanttPresenter presenter : listeGanttPresenters) {
             String nomAlgo = presenter.getText();
-            List<IGanttTask> tachesGantt = new ArrayList<>();
+            TachesAlgo taches = cacheTaches.computeIfAbsent(nomAlgo, this::preparerTaches);
             List<String> processusAffichesPourCetAlgo = new ArrayList<>(); // Liste filtrée pour cet algo
             int dateFinMax = 0;
 
-            // Parcourir chaque processus pour récupérer ses allocations et calculer les
-            // attentes
-            for (Process p : listeProcessus) {
-                String idProcess = p.getId();
-
-                // Si le processus n'est pas sélectionné, on passe
-                if (!listeProcessusSelectionnes.contains(idProcess)) {
-                    continue;
+            // Seuls les processus sélectionnés ayant des allocations dans cet algo sont affichés
+            for (Map.Entry<String, Integer> entree : taches.dateFinParProcessus.entrySet()) {
+                if (selection.contains(entree.getKey())) {
+                    processusAffichesPourCetAlgo.add(entree.getKey());
+                    dateFinMax = Math.max(dateFinMax, entree.getValue());
                 }
+            }
 
-                List<Allocation> allocations = ProcessUtils.getAllocations(p, nomAlgo);
-
-                // Si aucune allocation pour ce processus dans cet algo, on ne l'affiche pas
-                // (filtre "inutiles")
-                if (allocations == null || allocations.isEmpty()) {
-                    continue;
-                }
+            // On passe la liste filtrée (processusAffichesPourCetAlgo) au lieu de la liste
+            // globale
+            presenter.presentGantt(taches.taches, dateFinMax, processusAffichesPourCetAlgo);
+        }
+    }
 
-                // Si on a des allocations, on ajoute ce processus à la liste des catégories à
-                // afficher pour cet algo
-                processusAffichesPourCetAlgo.add(idProcess);
+    /**
+     * Prépare les taches du gantt d'un algo pour tous les processus :
+     * allocations et attentes, avec la date de fin de chaque processus affichable.
+     *
+     * @param nomAlgo : le nom de l'algo
+     * @return les taches préparées
+     */
+    private TachesAlgo preparerTaches(String nomAlgo) {
+        TachesAlgo taches = new TachesAlgo();
+
+        // Parcourir chaque processus pour récupérer ses allocations et calculer les
+        // attentes
+        for (Process p : listeProcessus) {
+            String idProcess = p.getId();
+            List<Allocation> allocations = ProcessUtils.getAllocations(p, nomAlgo);
+
+            // Si aucune allocation pour ce processus dans cet algo, on ne l'affiche pas
+            // (filtre "inutiles")
+            if (allocations == null || allocations.isEmpty()) {
+                continue;
+            }
 
-                // Trier les allocations par date de début pour calculer les trous (attentes)
-                allocations.sort(Comparator.comparingInt(Allocation::getDateDebutExecution));
+            // Trier les allocations par date de début pour calculer les trous (attentes)
+            // (sur une copie : la liste du Process est une vue en lecture seule du store)
+            allocations = new ArrayList<>(allocations);
+            allocations.sort(Comparator.comparingInt(Allocation::getDateDebutExecution));
 
-                int currentTime = p.getDateSoumission();
+            int currentTime = p.getDateSoumission();
+            int dateFin = 0;
 
-                for (Allocation a : allocations) {
-                    // Ajouter une tâche d'attente s'il y a un trou entre le temps courant et le
-                    // début de l'allocation
-                    if (a.getDateDebutExecution() > currentTime) {
-                        tachesGantt.add(
-                                new ProcessusTask("EN ATTENTE", idProcess, currentTime, a.getDateDebutExecution()));
-                    }
+            for (Allocation a : allocations) {
+                // Ajouter une tâche d'attente s'il y a un trou entre le temps courant et le
+                // début de l'allocation
+                if (a.getDateDebutExecution() > currentTime) {
+                    taches.taches.add(
+                            new ProcessusTask("EN ATTENTE", idProcess, currentTime, a.getDateDebutExecution()));
+                }
 
-                    // Ajouter la tâche d'exécution (allocation)
-                    tachesGantt.add(new ProcessusTask(a, idProcess));
+                // Ajouter la tâche d'exécution (allocation)
+                taches.taches.add(new ProcessusTask(a, idProcess));
 
-                    // Mettre à jour le temps courant et la date de fin max
-                    currentTime = a.getDateFinExecution();
-                    if (a.getDateFinExecution() > dateFinMax) {
-                        dateFinMax = a.getDateFinExecution();
-                    }
-                }
+                // Mettre à jour le temps courant et la date de fin du processus
+                currentTime = a.getDateFinExecution();
+                dateFin = Math.max(dateFin, a.getDateFinExecution());
             }
-
-            // On passe la liste filtrée (processusAffichesPourCetAlgo) au lieu de la liste
-            // globale
-            presenter.presentGantt(tachesGantt, dateFinMax, processusAffichesPourCetAlgo);
+            taches.dateFinParProcessus.put(idProcess, dateFin);
         }
+        return taches;
     }
 
     /**
@@ -283,4 +314,12 @@ public class GanttProcessusController {
             this.labelAlgo.setVisible(false);
         this.labelProcessus.setVisible(false);
     }
-}
\ No newline at end of file
+
+    /**
+     * Taches du gantt préparées pour un algo.
+     */
+    private static class TachesAlgo {
+        private final List<IGanttTask> taches = new ArrayList<>(); //Taches de tous les processus
+        private final Map<String, Integer> dateFinParProcessus = new LinkedHashMap<>(); //Processus ayant des allocations -> date de fin
+    }
+}
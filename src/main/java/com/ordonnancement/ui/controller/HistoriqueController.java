@@ -0,0 +1,163 @@
+package com.ordonnancement.ui.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import com.ordonnancement.model.ExecutionArchivee;
+import com.ordonnancement.model.Resultats;
+import com.ordonnancement.service.AppState;
+import com.ordonnancement.service.historique.HistoriqueExecutions;
+import com.ordonnancement.service.runner.Runner;
+import com.ordonnancement.ui.Alert.AlertUtils;
+
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.SelectionMode;
+
+/**
+ * Controleur de l'historique des exécutions.
+ * Permet de rouvrir une exécution précédente (elle devient l'exécution affichée par toutes les vues)
+ * ou de la comparer à l'exécution affichée dans les vues des métriques et du Gantt CPU.
+ * @author ROMA Quentin
+ */
+public class HistoriqueController {
+
+    @FXML
+    private ListView<ExecutionArchivee> listViewExecutions;
+    @FXML
+    private Button btnOuvrir;
+    @FXML
+    private Button btnComparer;
+    @FXML
+    private Button btnSupprimer;
+    @FXML
+    private Label labelMessage;
+
+    private final HistoriqueExecutions historique = Runner.getHistorique();
+
+    /**
+     * Initialise la liste des exécutions enregistrées.
+     */
+    @FXML
+    private void initialize() {
+        listViewExecutions.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        listViewExecutions.setPlaceholder(new Label("Aucune exécution enregistrée."));
+        listViewExecutions.getSelectionModel().getSelectedItems().addListener(
+                (javafx.collections.ListChangeListener<ExecutionArchivee>) changement -> rafraichirBoutons());
+        rafraichirListe();
+    }
+
+    /**
+     * Rouvre l'exécution sélectionnée : elle remplace les résultats affichés.
+     */
+    @FXML
+    private void doOuvrir() {
+        List<ExecutionArchivee> selection = new ArrayList<>(listViewExecutions.getSelectionModel().getSelectedItems());
+        if (selection.size() != 1) {
+            return;
+        }
+        ouvrir(selection, resultats -> {
+            Resultats ouvert = resultats.get(0);
+            AppState.getInstance().setResultats(ouvert);
+            AppState.getInstance().setResultatsCompares(List.of());
+            AppState.getInstance().setExecutionTerminee(true);
+            ouvert.chargerDetails(); //Résultats détaillés lus en arrière-plan
+            labelMessage.setText("Exécution ouverte.");
+        });
+    }
+
+    /**
+     * Compare les exécutions sélectionnées à l'exécution affichée.
+     */
+    @FXML
+    private void doComparer() {
+        List<ExecutionArchivee> selection = new ArrayList<>(listViewExecutions.getSelectionModel().getSelectedItems());
+        if (selection.isEmpty()) {
+            return;
+        }
+        ouvrir(selection, resultats -> {
+            AppState.getInstance().setResultatsCompares(resultats);
+            labelMessage.setText(resultats.size() + " exécution(s) comparée(s) : voir les métriques et le Gantt CPU.");
+        });
+    }
+
+    /**
+     * Retire les exécutions comparées des vues.
+     */
+    @FXML
+    private void doArreterComparaison() {
+        AppState.getInstance().setResultatsCompares(List.of());
+        labelMessage.setText("Comparaison arrêtée.");
+    }
+
+    /**
+     * Supprime les exécutions sélectionnées de l'historique, après confirmation.
+     */
+    @FXML
+    private void doSupprimer() {
+        List<ExecutionArchivee> selection = new ArrayList<>(listViewExecutions.getSelectionModel().getSelectedItems());
+        if (selection.isEmpty()) {
+            return;
+        }
+        boolean confirmer = AlertUtils.showConfirmation("Suppression",
+                "Supprimer " + selection.size() + " exécution(s) de l'historique ?", listViewExecutions.getScene().getWindow());
+        if (confirmer) {
+            for (ExecutionArchivee execution : selection) {
+                historique.supprimer(execution);
+            }
+            rafraichirListe();
+        }
+    }
+
+    /**
+     * Rouvre des exécutions en arrière-plan, puis appelle l'action sur le thread JavaFX.
+     *
+     * @param executions : les exécutions à rouvrir
+     * @param action : l'action qui reçoit les résultats, dans l'ordre des exécutions
+     */
+    private void ouvrir(List<ExecutionArchivee> executions, Consumer<List<Resultats>> action) {
+        labelMessage.setText("Ouverture...");
+        listViewExecutions.setDisable(true);
+        CompletableFuture.supplyAsync(() -> {
+            List<Resultats> resultats = new ArrayList<>();
+            for (ExecutionArchivee execution : executions) {
+                resultats.add(historique.ouvrir(execution));
+            }
+            return resultats;
+        }).whenComplete((resultats, erreur) -> Platform.runLater(() -> {
+            listViewExecutions.setDisable(false);
+            if (erreur != null) {
+                Throwable cause = erreur instanceof CompletionException && erreur.getCause() != null ? erreur.getCause() : erreur;
+                labelMessage.setText("");
+                AlertUtils.showError("Erreur", cause.getMessage(), listViewExecutions.getScene().getWindow());
+                rafraichirListe();
+                return;
+            }
+            action.accept(resultats);
+        }));
+    }
+
+    /**
+     * Recharge la liste des exécutions de l'historique.
+     */
+    private void rafraichirListe() {
+        listViewExecutions.getItems().setAll(historique.lister());
+        rafraichirBoutons();
+    }
+
+    /**
+     * Active les boutons selon la sélection : une seule exécution peut être ouverte, plusieurs comparées.
+     */
+    private void rafraichirBoutons() {
+        int nombre = listViewExecutions.getSelectionModel().getSelectedItems().size();
+        btnOuvrir.setDisable(nombre != 1);
+        btnComparer.setDisable(nombre == 0);
+        btnSupprimer.setDisable(nombre == 0);
+    }
+}
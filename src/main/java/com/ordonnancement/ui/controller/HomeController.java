@@ -9,8 +9,12 @@ import com.ordonnancement.service.parser.FileParsingException;
 import com.ordonnancement.service.runner.Runner;
 import com.ordonnancement.ui.Alert.AlertUtils;
 
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
 
 /**
  * Controleur pour l'affichage du menu principal
@@ -30,6 +34,15 @@ public class HomeController {
     private Button btnGanttProcessus;
     @FXML
     private Button btnComparaisonAlgos;
+    @FXML
+    private VBox boxAvancement;
+    @FXML
+    private Label labelPhase;
+    @FXML
+    private ProgressBar progressExecution;
+    @FXML
+    private Button btnAnnuler;
+    private Task<Resultats> tacheEnCours; //Exécution en cours (null si aucune)
     private AppMainFrameController appMainFrameController;
     
     /**
@@ -65,18 +78,25 @@ public class HomeController {
             FileConfiguration configuration = ConfigurationManager.getInstance().getFileConfiguration(); //On récup l'objet
             AppState.getInstance().setExecutionTerminee(false); //pour faire réagir les boutons avec le binding
             //Lancer l'execution / écriture fichier config + récup des résultats de python
-            Runner.runAsync(configuration,
+            tacheEnCours = Runner.runAsync(configuration,
                     fichierConfig,
                     () -> {
+                        terminerExecution();
                         afficherResumeExecution();
                         AppState.getInstance().setExecutionTerminee(true);
 
                     },
                     e -> { //Si une exception arrive lors de l'execution
+                            terminerExecution();
                             AlertUtils.showError("Erreur", e.getMessage(), btnStart.getParent().getScene().getWindow());
                             
                         
                         });
+            tacheEnCours.setOnCancelled(event -> {
+                terminerExecution();
+                AlertUtils.showInfo("Exécution annulée", "L'ordonnancement a été annulé.", btnStart.getParent().getScene().getWindow());
+            });
+            afficherAvancement(tacheEnCours);
                 
         }catch(FileParsingException e){
             AlertUtils.showError("Erreur de configuration", e.getMessage(),btnStart.getParent().getScene().getWindow());
@@ -91,9 +111,44 @@ public class HomeController {
 
 
 
+    /**
+     * Annule l'exécution en cours : le moteur est arrêté et la lecture des résultats interrompue.
+     */
+    @FXML
+    private void doAnnulerExecution() {
+        if (tacheEnCours != null) {
+            tacheEnCours.cancel();
+        }
+    }
+
+    /**
+     * Affiche la phase et la progression de l'exécution en cours.
+     * @param tache : la tâche d'exécution
+     */
+    private void afficherAvancement(Task<Resultats> tache) {
+        labelPhase.textProperty().bind(tache.messageProperty());
+        progressExecution.progressProperty().bind(tache.progressProperty());
+        boxAvancement.setVisible(true);
+        boxAvancement.setManaged(true);
+        btnStart.setDisable(true); //Une seule exécution à la fois
+    }
+
+    /**
+     * Masque l'avancement une fois l'exécution terminée (succès, erreur ou annulation).
+     */
+    private void terminerExecution() {
+        tacheEnCours = null;
+        labelPhase.textProperty().unbind();
+        progressExecution.progressProperty().unbind();
+        boxAvancement.setVisible(false);
+        boxAvancement.setManaged(false);
+        btnStart.setDisable(false);
+    }
+
     /**
      * Affiche une fenêtre d'information indiquant que l'exécution est terminée.
-     * Affiche également la liste des algorithmes exécutés et le nombre de processus ordonnancés.
+     * Affiche également la liste des algorithmes exécutés (en signalant ceux dont les résultats
+     * ont été lus dans le cache) et le nombre de processus ordonnancés.
      */
     private void afficherResumeExecution() {
         Resultats resultats = AppState.getInstance().getResultats();
@@ -104,7 +159,11 @@ public class HomeController {
         // Algorithmes exécutés
         sb.append("Algorithmes exécutés :\n");
         for (AlgoConfiguration algo : ConfigurationManager.getInstance().getFileConfiguration().getListeAlgorithmes()) {
-            sb.append("   • ").append(algo.getNomAlgorithme()).append("\n");
+            sb.append("   • ").append(algo.getNomAlgorithme());
+            if (resultats.isEnCache(algo.getNomAlgorithme())) { //Indicateur : pas réexécuté, résultats lus dans le cache
+                sb.append("  ⚡ résultats en cache");
+            }
+            sb.append("\n");
         }
         // Statistiques
         sb.append("\nNombre de processus ordonnancés : ")
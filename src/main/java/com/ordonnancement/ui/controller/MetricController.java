@@ -2,21 +2,39 @@ package com.ordonnancement.ui.controller;
 
 import com.ordonnancement.config.ConfigurationManager;
 import com.ordonnancement.model.AlgoConfiguration;
+import com.ordonnancement.model.Distribution;
+import com.ordonnancement.model.FileConfiguration;
+import com.ordonnancement.model.MetriquesDetaillees;
 import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.ParametreBalayage;
+import com.ordonnancement.model.PointBalayage;
 import com.ordonnancement.model.Resultats;
 import com.ordonnancement.service.AppState;
+import com.ordonnancement.service.engine.BalayageParametres;
+import com.ordonnancement.service.engine.SchedulingEngineException;
+import com.ordonnancement.service.metriques.CalculateurMetriques;
+import com.ordonnancement.service.runner.Runner;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.geometry.Pos;
 import javafx.scene.chart.BarChart;
 import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
+import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.VBox;
 
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Contrôleur responsable de l'affichage et de la comparaison
@@ -27,6 +45,14 @@ import java.util.*;
  *      Makespan (temps total d’exécution)
  *      Temps d’attente moyen
  *      Temps de réponse moyen
+ *
+ * Sous chaque graphique, les métriques détaillées de l'algorithme sélectionné (calculées en Java
+ * une fois ses résultats détaillés chargés) : distribution des temps d'attente et de séjour,
+ * utilisation de chaque processeur, deadlines manquées, changements de contexte et débit.
+ *
+ * En bas de la vue, un balayage du quantum de Round Robin : l'algorithme est simulé en Java
+ * pour chaque quantum demandé et la métrique choisie est tracée en fonction du quantum,
+ * point par point à mesure que les simulations se terminent.
  * 
  * Il permet de comparer les résultats de plusieurs algorithmes
  * grâce aux comboboxes et s’appuie sur les données stockées dans AppState.
@@ -53,9 +79,44 @@ public class MetricController implements Initializable {
     @FXML private Label labelAlgoDroite;
     @FXML private Label labelAlgoGauche;
 
+    // --- Métriques détaillées ---
+    @FXML private VBox vBoxDetailsGauche;
+    @FXML private BarChart<String, Number> barChartQuantilesGauche;
+    @FXML private BarChart<String, Number> barChartUtilisationGauche;
+    @FXML private Label labelDetailsGauche;
+
+    @FXML private VBox vBoxDetailsDroite;
+    @FXML private BarChart<String, Number> barChartQuantilesDroite;
+    @FXML private BarChart<String, Number> barChartUtilisationDroite;
+    @FXML private Label labelDetailsDroite;
+
+    // --- Balayage du quantum ---
+    @FXML private VBox vBoxBalayage;
+    @FXML private TextField tfBalayage;
+    @FXML private ComboBox<String> comboMetriqueBalayage;
+    @FXML private Button btnBalayage;
+    @FXML private Label labelBalayage;
+    @FXML private LineChart<Number, Number> lineChartBalayage;
+    @FXML private NumberAxis yAxisBalayage;
+
+    // Métriques que l'on peut tracer en fonction du paramètre balayé
+    private static final Map<String, ToDoubleFunction<PointBalayage>> METRIQUES_BALAYAGE = new LinkedHashMap<>();
+    static {
+        METRIQUES_BALAYAGE.put("Temps d'attente moyen", p -> p.getMetriques().getTempsAttenteMoyen());
+        METRIQUES_BALAYAGE.put("Temps de réponse moyen", p -> p.getMetriques().getTempsReponseMoyen());
+        METRIQUES_BALAYAGE.put("Temps d'attente p99", p -> p.getMetriquesDetaillees().getAttente().getP99());
+        METRIQUES_BALAYAGE.put("Temps de séjour p99", p -> p.getMetriquesDetaillees().getSejour().getP99());
+        METRIQUES_BALAYAGE.put("Deadlines manquées (%)", p -> p.getMetriquesDetaillees().getTauxDeadlinesManquees() * 100);
+        METRIQUES_BALAYAGE.put("Changements de contexte", p -> p.getMetriquesDetaillees().getChangementsContexte());
+        METRIQUES_BALAYAGE.put("Makespan", p -> p.getMetriques().getMakespan());
+    }
+
     // --- Données internes ---
     private final Map<String, List<Metrics>> metricsParAlgorithme = new HashMap<>();
     private List<Resultats> listeResultats = new ArrayList<>();
+    private final Map<String, CompletableFuture<MetriquesDetaillees>> metriquesDetaillees = new HashMap<>(); //Calculs lancés, par algo
+    private final TreeMap<Integer, PointBalayage> pointsBalayage = new TreeMap<>(); //Résultats du balayage, par quantum
+    private Task<List<PointBalayage>> tacheBalayage; //Balayage en cours, null sinon
 
     /**
      * Méthode appelée automatiquement à l’initialisation du contrôleur FXML.
@@ -80,6 +141,11 @@ public class MetricController implements Initializable {
             // Construction de la map (clé = algo, valeur = liste des métriques)
             construireMapMetricsParAlgo();
 
+            // Choix de la métrique tracée lors d'un balayage
+            comboMetriqueBalayage.getItems().setAll(METRIQUES_BALAYAGE.keySet());
+            comboMetriqueBalayage.getSelectionModel().selectFirst();
+            comboMetriqueBalayage.valueProperty().addListener((obs, oldVal, newVal) -> tracerBalayage());
+
             // Récupération et tri alphabétique des noms d'algorithmes
             List<String> algosTrouvés = new ArrayList<>(metricsParAlgorithme.keySet());
             Collections.sort(algosTrouvés);
@@ -133,6 +199,7 @@ public class MetricController implements Initializable {
     public void setResultats(List<Resultats> resultats) {
         // Copie défensive de la liste pour éviter les effets de bord
         this.listeResultats = (resultats == null) ? new ArrayList<>() : new ArrayList<>(resultats);
+        metriquesDetaillees.clear();
         construireMapMetricsParAlgo();
 
         // Recalcule la liste des algorithmes disponibles
@@ -180,6 +247,7 @@ public class MetricController implements Initializable {
     private void rafraichirGraphiqueGauche() {
         // Recharge le graphique avec les données du nouvel algo sélectionné
         remplirGraphique(barChartGauche, comboAlgoGauche.getValue());
+        remplirDetails(barChartQuantilesGauche, barChartUtilisationGauche, labelDetailsGauche, comboAlgoGauche);
     }
 
     /**
@@ -188,6 +256,7 @@ public class MetricController implements Initializable {
     private void rafraichirGraphiqueDroite() {
         // Recharge le graphique avec les données du nouvel algo sélectionné
         remplirGraphique(barChartDroite, comboAlgoDroite.getValue());
+        remplirDetails(barChartQuantilesDroite, barChartUtilisationDroite, labelDetailsDroite, comboAlgoDroite);
     }
 
     /**
@@ -235,6 +304,211 @@ public class MetricController implements Initializable {
         chart.setAnimated(false);  // Désactive l’animation pour une mise à jour instantanée
     }
 
+    /**
+     * Remplit les graphiques des métriques détaillées de l'algorithme sélectionné dans une combobox.
+     * Les métriques sont calculées en arrière-plan, une fois les résultats détaillés de l'algorithme chargés :
+     * les graphiques sont remplis à la fin du calcul si l'algorithme est toujours sélectionné.
+     *
+     * @param chartQuantiles  Le graphique des distributions des temps
+     * @param chartUtilisation Le graphique de l'utilisation des processeurs
+     * @param label           Le label du résumé (deadlines, changements de contexte, débit)
+     * @param combo           La combobox de l'algorithme
+     */
+    private void remplirDetails(BarChart<String, Number> chartQuantiles, BarChart<String, Number> chartUtilisation,
+            Label label, ComboBox<String> combo) {
+        chartQuantiles.getData().clear();
+        chartUtilisation.getData().clear();
+        String nomAlgoDemande = combo.getValue();
+        String nomAlgo = nomAlgoDemande == null ? null : trouverNomAlgoConfiguration(nomAlgoDemande);
+        if (nomAlgo == null || listeResultats.isEmpty()) {
+            label.setText("");
+            return;
+        }
+
+        label.setText("Calcul des métriques détaillées...");
+        Resultats resultats = listeResultats.get(0);
+        metriquesDetaillees.computeIfAbsent(nomAlgo, nom -> resultats.chargerDetails(nom)
+                .thenApplyAsync(processus -> CalculateurMetriques.calculer(processus, nom)))
+                .whenComplete((metriques, erreur) -> Platform.runLater(() -> {
+                    if (!nomAlgoDemande.equals(combo.getValue())) return; // Un autre algo a été sélectionné entre temps
+                    if (erreur != null) {
+                        Throwable cause = erreur instanceof CompletionException && erreur.getCause() != null ? erreur.getCause() : erreur;
+                        label.setText("Métriques détaillées indisponibles : " + cause.getMessage());
+                        return;
+                    }
+                    afficherDetails(chartQuantiles, chartUtilisation, label, metriques);
+                }));
+    }
+
+    /**
+     * Affiche les métriques détaillées d'un algorithme.
+     *
+     * @param chartQuantiles  Le graphique des distributions des temps
+     * @param chartUtilisation Le graphique de l'utilisation des processeurs
+     * @param label           Le label du résumé
+     * @param metriques       Les métriques détaillées
+     */
+    private void afficherDetails(BarChart<String, Number> chartQuantiles, BarChart<String, Number> chartUtilisation,
+            Label label, MetriquesDetaillees metriques) {
+        // Distributions : une série par grandeur, une catégorie par statistique
+        chartQuantiles.getData().clear();
+        chartQuantiles.getData().add(serieDistribution("Temps d'attente", metriques.getAttente()));
+        chartQuantiles.getData().add(serieDistribution("Temps de séjour", metriques.getSejour()));
+        chartQuantiles.setAnimated(false);
+
+        // Utilisation de chaque processeur, en pourcentage
+        XYChart.Series<String, Number> serieUtilisation = new XYChart.Series<>();
+        serieUtilisation.setName("Utilisation");
+        for (Map.Entry<String, Double> entree : metriques.getUtilisationParProcesseur().entrySet()) {
+            serieUtilisation.getData().add(new XYChart.Data<>(entree.getKey(), entree.getValue() * 100));
+        }
+        chartUtilisation.getData().clear();
+        chartUtilisation.getData().add(serieUtilisation);
+        chartUtilisation.setAnimated(false);
+
+        Distribution ralentissement = metriques.getRalentissement();
+        label.setText(String.format(Locale.FRANCE,
+                "Deadlines manquées : %d / %d (%.1f %%)%n"
+                + "Ralentissement : médiane %.2f, p99 %.2f, max %.2f%n"
+                + "Changements de contexte : %d%n"
+                + "Débit : %.3f processus par unité de temps",
+                metriques.getDeadlinesManquees(), metriques.getNombreProcessus(), metriques.getTauxDeadlinesManquees() * 100,
+                ralentissement.getP50(), ralentissement.getP99(), ralentissement.getMax(),
+                metriques.getChangementsContexte(), metriques.getDebit()));
+    }
+
+    /**
+     * Crée la série d'un graphique de distribution : moyenne, médiane, p90, p99 et maximum.
+     *
+     * @param nom          Le nom de la série
+     * @param distribution La distribution à afficher
+     * @return la série
+     */
+    private XYChart.Series<String, Number> serieDistribution(String nom, Distribution distribution) {
+        XYChart.Series<String, Number> serie = new XYChart.Series<>();
+        serie.setName(nom);
+        serie.getData().add(new XYChart.Data<>("Moyenne", distribution.getMoyenne()));
+        serie.getData().add(new XYChart.Data<>("p50", distribution.getP50()));
+        serie.getData().add(new XYChart.Data<>("p90", distribution.getP90()));
+        serie.getData().add(new XYChart.Data<>("p99", distribution.getP99()));
+        serie.getData().add(new XYChart.Data<>("Max", distribution.getMax()));
+        return serie;
+    }
+
+    /**
+     * Lance le balayage du quantum saisi, ou annule le balayage en cours.
+     * Le Round Robin de la configuration des résultats affichés (celle de l'exécution rouverte depuis l'historique,
+     * et non la configuration courante) est simulé pour chaque quantum sur leurs processus ;
+     * chaque point est ajouté à la courbe dès que sa simulation est terminée.
+     */
+    @FXML
+    private void lancerBalayage() {
+        if (tacheBalayage != null) { // Balayage en cours : le bouton sert à l'annuler
+            tacheBalayage.cancel();
+            return;
+        }
+        FileConfiguration configuration = listeResultats.isEmpty() ? null : listeResultats.get(0).getConfiguration();
+        AlgoConfiguration roundRobin = null;
+        if (configuration != null) {
+            for (AlgoConfiguration algo : configuration.getListeAlgorithmes()) {
+                if (algo.getNomAlgorithme().trim().equalsIgnoreCase("ROUND ROBIN")) {
+                    roundRobin = algo;
+                }
+            }
+        }
+        if (roundRobin == null) {
+            labelBalayage.setText("Round Robin doit faire partie de la configuration exécutée.");
+            return;
+        }
+
+        BalayageParametres balayage;
+        try {
+            balayage = new BalayageParametres(roundRobin, ParametreBalayage.QUANTUM,
+                    BalayageParametres.parserValeurs(tfBalayage.getText()), configuration.getModeSimulation());
+        } catch (SchedulingEngineException e) {
+            labelBalayage.setText(e.getMessage());
+            return;
+        }
+
+        pointsBalayage.clear();
+        tracerBalayage();
+        tacheBalayage = Runner.balayerAsync(configuration, balayage, listeResultats.get(0).getListeProcessus(),
+                point -> {
+                    pointsBalayage.put(point.getValeur(), point);
+                    tracerBalayage();
+                },
+                points -> {
+                    terminerBalayage();
+                    labelBalayage.setText(points.size() + " quantum(s) simulé(s).");
+                },
+                e -> {
+                    terminerBalayage();
+                    labelBalayage.setText("Erreur : " + e.getMessage());
+                });
+        tacheBalayage.setOnCancelled(event -> {
+            terminerBalayage();
+            labelBalayage.setText("Balayage annulé.");
+        });
+        labelBalayage.textProperty().bind(tacheBalayage.messageProperty());
+        btnBalayage.setText("Annuler");
+        tfBalayage.setDisable(true);
+    }
+
+    /**
+     * Remet les contrôles du balayage dans leur état initial à la fin d'un balayage.
+     */
+    private void terminerBalayage() {
+        labelBalayage.textProperty().unbind();
+        tacheBalayage = null;
+        btnBalayage.setText("Lancer le balayage");
+        tfBalayage.setDisable(false);
+    }
+
+    /**
+     * Trace la métrique sélectionnée en fonction du quantum, pour les points déjà obtenus.
+     */
+    private void tracerBalayage() {
+        String nomMetrique = comboMetriqueBalayage.getValue();
+        lineChartBalayage.getData().clear();
+        if (nomMetrique == null) return;
+
+        ToDoubleFunction<PointBalayage> metrique = METRIQUES_BALAYAGE.get(nomMetrique);
+        XYChart.Series<Number, Number> serie = new XYChart.Series<>();
+        serie.setName(nomMetrique);
+        for (PointBalayage point : pointsBalayage.values()) { // Par quantum croissant
+            serie.getData().add(new XYChart.Data<>(point.getValeur(), metrique.applyAsDouble(point)));
+        }
+        lineChartBalayage.getData().add(serie);
+        yAxisBalayage.setLabel(nomMetrique);
+    }
+
+    /**
+     * Retrouve le nom d'un algorithme tel qu'il est écrit dans la configuration
+     * (les clés des métriques sont en majuscules, les résultats des processus utilisent le nom de la configuration).
+     *
+     * @param cle Le nom de l'algorithme en majuscules
+     * @return le nom de l'algorithme dans la configuration, ou null s'il n'y figure pas
+     */
+    private String trouverNomAlgoConfiguration(String cle) {
+        if (!listeResultats.isEmpty()) { //Une exécution rouverte depuis l'historique a sa propre configuration
+            for (String nom : listeResultats.get(0).getNomsAlgorithmes()) {
+                if (nom.trim().equalsIgnoreCase(cle.trim())) {
+                    return nom;
+                }
+            }
+        }
+        try {
+            for (AlgoConfiguration algo : ConfigurationManager.getInstance().getFileConfiguration().getListeAlgorithmes()) {
+                if (algo.getNomAlgorithme().trim().equalsIgnoreCase(cle.trim())) {
+                    return algo.getNomAlgorithme();
+                }
+            }
+        } catch (Exception e) {
+            // Pas de configuration chargée
+        }
+        return null;
+    }
+
     /**
      * Affiche un message dans la zone prévue à cet effet.
      *
@@ -263,6 +537,9 @@ public class MetricController implements Initializable {
         // Masque les labels s’ils existent
         if (labelAlgoDroite != null) labelAlgoDroite.setVisible(false);
         if (labelAlgoGauche != null) labelAlgoGauche.setVisible(false);
+        vBoxDetailsGauche.setVisible(false);
+        vBoxDetailsDroite.setVisible(false);
+        vBoxBalayage.setVisible(false);
 
         // Affiche uniquement le message d’information
         messageLabel.setVisible(true);
@@ -277,10 +554,14 @@ public class MetricController implements Initializable {
         comboAlgoGauche.setVisible(true);
         if (labelAlgoGauche != null) labelAlgoGauche.setVisible(true);
 
+        vBoxDetailsGauche.setVisible(true);
+
         // Désactive le graphique de droite
         barChartDroite.setVisible(false);
         comboAlgoDroite.setVisible(false);
         if (labelAlgoDroite != null) labelAlgoDroite.setVisible(false);
+        vBoxDetailsDroite.setVisible(false);
+        vBoxBalayage.setVisible(true);
 
         messageLabel.setVisible(false);
     }
@@ -297,6 +578,9 @@ public class MetricController implements Initializable {
         barChartDroite.setVisible(true);
         comboAlgoDroite.setVisible(true);
         if (labelAlgoDroite != null) labelAlgoDroite.setVisible(true);
+        vBoxDetailsGauche.setVisible(true);
+        vBoxDetailsDroite.setVisible(true);
+        vBoxBalayage.setVisible(true);
 
         messageLabel.setVisible(false);
     }
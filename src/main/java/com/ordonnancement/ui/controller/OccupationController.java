@@ -0,0 +1,152 @@
+package com.ordonnancement.ui.controller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.ordonnancement.model.Chronologie;
+import com.ordonnancement.model.Occupation;
+import com.ordonnancement.model.Resultats;
+import com.ordonnancement.service.AppState;
+import com.ordonnancement.service.gantt.OccupationService;
+import com.ordonnancement.util.ProcessUtils;
+
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+
+/**
+ * Controleur de la vue de l'occupation des ressources au cours du temps :
+ * processeurs occupés, utilisation de chaque processeur et RAM utilisée, pour un algorithme.
+ *
+ * Les chronologies sont calculées en arrière-plan (une fois par algorithme) puis réduites
+ * à un nombre fixe de points : le coût d'affichage ne dépend pas du nombre d'allocations.
+ * @author ROMA Quentin
+ */
+public class OccupationController {
+
+    private static final int NOMBRE_POINTS = 400; //Points par courbe
+
+    @FXML
+    private ComboBox<String> comboAlgo;
+    @FXML
+    private Label labelResume;
+    @FXML
+    private ScrollPane scrollCharts;
+    @FXML
+    private LineChart<Number, Number> chartProcesseurs;
+    @FXML
+    private LineChart<Number, Number> chartUtilisation;
+    @FXML
+    private LineChart<Number, Number> chartRam;
+    @FXML
+    private Label message;
+
+    private Resultats resultats;
+    private final Map<String, CompletableFuture<Occupation>> occupations = new HashMap<>(); //Occupations déjà calculées, par algorithme
+
+    /**
+     * Initialise la liste des algorithmes et affiche l'occupation du premier.
+     */
+    @FXML
+    private void initialize() {
+        try {
+            this.resultats = AppState.getInstance().getResultats();
+        } catch (IllegalStateException e) {
+            afficherMessage("Aucun résultat disponible.\nLancez d'abord un ordonnancement.");
+            comboAlgo.setDisable(true);
+            return;
+        }
+        List<String> algorithmes = ProcessUtils.getNomAlgos(resultats);
+        comboAlgo.getItems().setAll(algorithmes);
+        comboAlgo.valueProperty().addListener((obs, ancien, nouveau) -> afficherAlgo(nouveau));
+        if (!algorithmes.isEmpty()) {
+            comboAlgo.setValue(algorithmes.get(0));
+        }
+    }
+
+    /**
+     * Affiche l'occupation d'un algorithme, calculée en arrière-plan au premier affichage.
+     *
+     * @param nomAlgo Le nom de l'algorithme
+     */
+    private void afficherAlgo(String nomAlgo) {
+        if (nomAlgo == null) {
+            return;
+        }
+        afficherMessage("Calcul de l'occupation...");
+        labelResume.setText("");
+        occupations.computeIfAbsent(nomAlgo, nom -> resultats.chargerDetails(nom)
+                .thenApplyAsync(processus -> OccupationService.calculer(processus, nom)))
+                .whenComplete((occupation, erreur) -> Platform.runLater(() -> {
+                    if (!nomAlgo.equals(comboAlgo.getValue())) return; // Un autre algo a été sélectionné entre temps
+                    if (erreur != null) {
+                        Throwable cause = erreur instanceof CompletionException && erreur.getCause() != null ? erreur.getCause() : erreur;
+                        afficherMessage("Occupation indisponible :\n" + cause.getMessage());
+                        return;
+                    }
+                    afficherOccupation(occupation);
+                }));
+    }
+
+    /**
+     * Dessine les courbes d'une occupation.
+     *
+     * @param occupation L'occupation à afficher
+     */
+    private void afficherOccupation(Occupation occupation) {
+        int fin = occupation.getDateFin();
+        chartProcesseurs.getData().setAll(List.of(serie("Processeurs occupés", occupation.getProcesseursOccupes(), fin, 1)));
+        List<XYChart.Series<Number, Number>> seriesProcesseurs = new ArrayList<>();
+        for (Map.Entry<String, Chronologie> entree : occupation.getOccupationParProcesseur().entrySet()) {
+            seriesProcesseurs.add(serie(entree.getKey(), entree.getValue(), fin, 100)); //En pourcentage
+        }
+        chartUtilisation.getData().setAll(seriesProcesseurs);
+        chartRam.getData().setAll(List.of(serie("RAM utilisée", occupation.getRamUtilisee(), fin, 1)));
+
+        Chronologie occupes = occupation.getProcesseursOccupes();
+        Chronologie ram = occupation.getRamUtilisee();
+        labelResume.setText(String.format("Processeurs occupés : %.2f en moyenne, %d au maximum  —  RAM : %.0f en moyenne, %d au maximum",
+                occupes.moyenne(0, fin), occupes.getMax(), ram.moyenne(0, fin), ram.getMax()));
+        scrollCharts.setVisible(true);
+        message.setVisible(false);
+    }
+
+    /**
+     * Crée la série d'une chronologie, réduite à {@link #NOMBRE_POINTS} moyennes sur [0, fin).
+     *
+     * @param nom Le nom de la série
+     * @param chronologie La chronologie
+     * @param fin La fin de l'intervalle affiché
+     * @param facteur Le facteur appliqué aux valeurs
+     * @return la série
+     */
+    private XYChart.Series<Number, Number> serie(String nom, Chronologie chronologie, int fin, double facteur) {
+        XYChart.Series<Number, Number> serie = new XYChart.Series<>();
+        serie.setName(nom);
+        List<XYChart.Data<Number, Number>> points = new ArrayList<>();
+        for (double[] point : chronologie.echantillonner(0, fin, NOMBRE_POINTS)) {
+            points.add(new XYChart.Data<>(point[0], point[1] * facteur));
+        }
+        serie.getData().setAll(points);
+        return serie;
+    }
+
+    /**
+     * Affiche un message à la place des graphiques.
+     *
+     * @param texte Le message
+     */
+    private void afficherMessage(String texte) {
+        message.setText(texte);
+        message.setVisible(true);
+        scrollCharts.setVisible(false);
+    }
+}
@@ -1,34 +1,61 @@
 package com.ordonnancement.ui.controller;
 
+import java.util.AbstractList;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntPredicate;
 
 import com.ordonnancement.model.Allocation;
-import com.ordonnancement.model.ExecutionInfo;
 import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Resultats;
 import com.ordonnancement.service.AppState;
+import com.ordonnancement.service.processus.TableauProcessus;
+import com.ordonnancement.service.processus.TableauProcessus.Champ;
 import com.ordonnancement.ui.Alert.AlertUtils;
+import com.ordonnancement.util.ProcessUtils;
 
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.geometry.Insets;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
-import javafx.scene.layout.HBox;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
 import javafx.scene.layout.VBox;
 
 /**
  * Contrôleur pour l'affichage de la liste des processus et de leurs détails.
- * Affiche une ListView des processus à gauche et les détails du processus sélectionné à droite.
- * 
+ * Affiche une table des processus à gauche (triable par colonne, avec les résultats de chaque algorithme)
+ * et les détails du processus sélectionné à droite.
+ *
+ * La table ne contient que des numéros de lignes d'un {@link TableauProcessus} : la recherche par id,
+ * les filtres et les tris sont calculés hors du thread JavaFX, qui n'affiche que les lignes visibles.
+ *
  * @author : Nino Ribeiro--Vaur
+ * @author ROMA Quentin
  */
 public class ProcessController {
+
+    private static final String FILTRE_TOUS = "Tous les processus";
+    private static final String PREFIXE_FILTRE_DEADLINE = "Deadline manquée : ";
+
     @FXML
     private VBox detailsPane;
     @FXML
-    private ListView<Process> listViewProcessus;
+    private TableView<Integer> tableProcessus;
+    @FXML
+    private TextField champRecherche;
+    @FXML
+    private ComboBox<String> comboFiltre;
+    @FXML
+    private Label labelNombre;
     @FXML
     private Label labelTitre;
     @FXML
@@ -46,22 +73,45 @@ public class ProcessController {
     @FXML
     private Label labelPriority;
     @FXML
-    private VBox executionInfoContainer;
+    private ComboBox<String> comboAlgoAllocations;
+    @FXML
+    private Label labelAllocations;
+    @FXML
+    private ListView<Allocation> listViewAllocations;
 
-    private ObservableList<Process> listeProcessusObservable;
-    private List<Process> listeProcessus;
+    private Resultats resultats;
+    private TableauProcessus tableau; //null tant que la table n'est pas construite
+    private Process processusAffiche; //Le processus dont les détails sont affichés
+    private String requeteAppliquee = ""; //Recherche, filtre et tri des lignes affichées (ou en cours de calcul)
+    private long numeroRequete = 0; //Numéro de la dernière requête : les résultats des précédentes sont ignorés
 
     /**
      * Initialise le contrôleur et configure les composants graphiques.
-     * 
+     * La table des processus est construite en arrière-plan.
+     *
      * @author : Nino Ribeiro--Vaur
      */
     @FXML
     private void initialize() {
         try {
-            this.listeProcessus = AppState.getInstance().getResultats().getListeProcessus();
-            setupListView();
+            this.resultats = AppState.getInstance().getResultats();
+            List<Process> listeProcessus = resultats.getListeProcessus();
+            List<String> algorithmes = ProcessUtils.getNomAlgos(resultats); //Les algorithmes de l'exécution affichée
+            setupTable(algorithmes);
             setupSelectionListener();
+            setupAllocations(algorithmes);
+            labelNombre.setText("Indexation des processus...");
+            CompletableFuture.supplyAsync(() -> new TableauProcessus(listeProcessus, algorithmes))
+                    .whenComplete((table, erreur) -> Platform.runLater(() -> {
+                        if (erreur != null) {
+                            Throwable cause = erreur instanceof CompletionException && erreur.getCause() != null ? erreur.getCause() : erreur;
+                            afficherMessageErreur("Erreur lors du chargement des processus :\n" + cause.getMessage());
+                            return;
+                        }
+                        this.tableau = table;
+                        setupFiltres(algorithmes);
+                        rafraichirLignes();
+                    }));
         } catch (IllegalStateException e) {
             afficherMessageErreur("Aucun résultat disponible.\nLancez d'abord un ordonnancement.");
         } catch (Exception e) {
@@ -69,58 +119,223 @@ public class ProcessController {
                     "Erreur",
                     "Erreur lors du chargement des processus :\n" + e.getMessage(),
                     null);
-            
+
         }
     }
 
     /**
-     * Configure la ListView avec la liste des processus.
-     * 
-     * @author : Nino Ribeiro--Vaur
+     * Crée les colonnes de la table : les données des processus, puis une colonne groupée par algorithme.
+     * Le tri est calculé en arrière-plan par la politique de tri de la table.
+     *
+     * @param algorithmes Les algorithmes exécutés
      */
-    private void setupListView() {
-        listeProcessusObservable = FXCollections.observableArrayList(listeProcessus);
-        listViewProcessus.setItems(listeProcessusObservable);
-        
-        // Personnaliser l'affichage des processus dans la ListView
-        listViewProcessus.setCellFactory(param -> new javafx.scene.control.ListCell<Process>() {
-            @Override
-            protected void updateItem(Process process, boolean empty) {
-                super.updateItem(process, empty);
-                if (empty || process == null) {
-                    setText(null);
-                } else {
-                    setText("Processus " + process.getId());
+    private void setupTable(List<String> algorithmes) {
+        tableProcessus.setPlaceholder(new Label("Aucun processus."));
+        tableProcessus.getColumns().add(creerColonne("ID", Champ.ID, null));
+        tableProcessus.getColumns().add(creerColonne("Soumission", Champ.SOUMISSION, null));
+        tableProcessus.getColumns().add(creerColonne("Exécution", Champ.TEMPS_EXECUTION, null));
+        tableProcessus.getColumns().add(creerColonne("RAM", Champ.RAM, null));
+        tableProcessus.getColumns().add(creerColonne("Deadline", Champ.DEADLINE, null));
+        tableProcessus.getColumns().add(creerColonne("Priorité", Champ.PRIORITE, null));
+        for (String algo : algorithmes) {
+            TableColumn<Integer, String> colonneAlgo = new TableColumn<>(algo);
+            colonneAlgo.setSortable(false);
+            colonneAlgo.getColumns().add(creerColonne("Début", Champ.DEBUT, algo));
+            colonneAlgo.getColumns().add(creerColonne("Fin", Champ.FIN, algo));
+            colonneAlgo.getColumns().add(creerColonne("Attente", Champ.ATTENTE, algo));
+            colonneAlgo.getColumns().add(creerColonne("Deadline OK", Champ.DEADLINE_RESPECTEE, algo));
+            tableProcessus.getColumns().add(colonneAlgo);
+        }
+        tableProcessus.setSortPolicy(table -> {
+            rafraichirLignes();
+            return true; //Les lignes triées sont mises en place à la fin du calcul
+        });
+    }
+
+    /**
+     * Crée une colonne de la table. La valeur d'une cellule est lue dans le tableau à l'affichage.
+     *
+     * @param titre Le titre de la colonne
+     * @param champ Le champ affiché
+     * @param algo L'algorithme du champ (null pour les données du processus)
+     * @return la colonne
+     */
+    private TableColumn<Integer, String> creerColonne(String titre, Champ champ, String algo) {
+        TableColumn<Integer, String> colonne = new TableColumn<>(titre);
+        colonne.setUserData(champ);
+        colonne.setCellValueFactory(cellule -> new ReadOnlyObjectWrapper<>(formater(champ, algo, cellule.getValue())));
+        colonne.setId(algo == null ? champ.name() : algo + "|" + champ.name()); //Identifie la colonne pour le tri
+        return colonne;
+    }
+
+    /**
+     * Renvoie le texte d'une cellule.
+     *
+     * @param champ Le champ affiché
+     * @param algo L'algorithme du champ
+     * @param ligne La ligne du processus
+     * @return le texte de la cellule (vide si le processus n'a pas été exécuté par l'algorithme)
+     */
+    private String formater(Champ champ, String algo, int ligne) {
+        if (champ == Champ.ID) {
+            return tableau.getProcessus(ligne).getId();
+        }
+        int valeur = tableau.getValeur(champ, algo, ligne);
+        if (champ.isParAlgorithme() && valeur == TableauProcessus.ABSENT) {
+            return "";
+        }
+        if (champ == Champ.DEADLINE_RESPECTEE) {
+            return valeur == 1 ? "oui" : "non";
+        }
+        return String.valueOf(valeur);
+    }
+
+    /**
+     * Met en place la recherche par id et les filtres, une fois la table construite.
+     *
+     * @param algorithmes Les algorithmes exécutés
+     */
+    private void setupFiltres(List<String> algorithmes) {
+        comboFiltre.getItems().add(FILTRE_TOUS);
+        for (String algo : algorithmes) {
+            comboFiltre.getItems().add(PREFIXE_FILTRE_DEADLINE + algo);
+        }
+        comboFiltre.setValue(FILTRE_TOUS);
+        comboFiltre.valueProperty().addListener((obs, ancien, nouveau) -> rafraichirLignes());
+        champRecherche.textProperty().addListener((obs, ancien, nouveau) -> rafraichirLignes());
+    }
+
+    /**
+     * Recalcule en arrière-plan les lignes affichées selon la recherche, le filtre et le tri courants.
+     * Rien n'est fait si ces critères n'ont pas changé depuis le dernier calcul.
+     */
+    private void rafraichirLignes() {
+        if (tableau == null) {
+            return;
+        }
+        String prefixe = champRecherche.getText() == null ? "" : champRecherche.getText().trim();
+        String filtre = comboFiltre.getValue() == null ? FILTRE_TOUS : comboFiltre.getValue();
+        TableColumn<Integer, ?> colonneTri = tableProcessus.getSortOrder().isEmpty() ? null : tableProcessus.getSortOrder().get(0);
+        String requete = prefixe + "\n" + filtre + "\n"
+                + (colonneTri == null ? "" : colonneTri.getId() + " " + colonneTri.getSortType());
+        if (requete.equals(requeteAppliquee)) {
+            return;
+        }
+        requeteAppliquee = requete;
+        long numero = ++numeroRequete;
+        TableauProcessus table = tableau;
+        IntPredicate predicat = creerFiltre(filtre);
+        Champ champTri = colonneTri == null ? null : (Champ) colonneTri.getUserData();
+        String algoTri = colonneTri == null ? null : algoDeColonne(colonneTri);
+        boolean croissant = colonneTri == null || colonneTri.getSortType() == TableColumn.SortType.ASCENDING;
+        labelNombre.setText("Recherche...");
+        CompletableFuture.supplyAsync(() -> {
+            int[] lignes = table.filtrer(prefixe, predicat);
+            return champTri == null ? lignes : table.trier(lignes, champTri, algoTri, croissant);
+        }).whenComplete((lignes, erreur) -> Platform.runLater(() -> {
+            if (numero != numeroRequete) {
+                return; //Remplacée par une requête plus récente
+            }
+            if (erreur != null) {
+                labelNombre.setText("Recherche impossible : " + erreur.getMessage());
+                return;
+            }
+            afficherLignes(lignes);
+        }));
+    }
+
+    /**
+     * Crée le filtre des lignes correspondant au choix de la liste des filtres.
+     *
+     * @param filtre Le filtre choisi
+     * @return le filtre, ou null pour tous les processus
+     */
+    private IntPredicate creerFiltre(String filtre) {
+        if (!filtre.startsWith(PREFIXE_FILTRE_DEADLINE)) {
+            return null;
+        }
+        String algo = filtre.substring(PREFIXE_FILTRE_DEADLINE.length());
+        TableauProcessus table = tableau;
+        return ligne -> table.getValeur(Champ.DEADLINE_RESPECTEE, algo, ligne) == 0;
+    }
+
+    /**
+     * Renvoie l'algorithme d'une colonne (null pour les données du processus).
+     */
+    private static String algoDeColonne(TableColumn<Integer, ?> colonne) {
+        return colonne.getParentColumn() == null ? null : colonne.getParentColumn().getText();
+    }
+
+    /**
+     * Affiche des lignes dans la table, en gardant le processus sélectionné s'il en fait partie.
+     *
+     * @param lignes Les lignes à afficher
+     */
+    private void afficherLignes(int[] lignes) {
+        Integer selection = tableProcessus.getSelectionModel().getSelectedItem();
+        tableProcessus.setItems(FXCollections.observableList(new ListeLignes(lignes)));
+        labelNombre.setText(lignes.length + " processus sur " + tableau.getNombreLignes());
+        if (selection != null) {
+            for (int i = 0; i < lignes.length; i++) {
+                if (lignes[i] == selection) {
+                    tableProcessus.getSelectionModel().select(i);
+                    return;
                 }
             }
-        });
+        } else if (lignes.length > 0 && processusAffiche == null) {
+            tableProcessus.getSelectionModel().select(0);
+        }
     }
 
     /**
      * Configure l'écouteur de sélection pour afficher les détails du processus sélectionné.
-     * 
+     *
      * @author : Nino Ribeiro--Vaur
      */
     private void setupSelectionListener() {
-        listViewProcessus.getSelectionModel().selectedItemProperty().addListener(
+        tableProcessus.getSelectionModel().selectedItemProperty().addListener(
                 (observable, oldValue, newValue) -> {
                     if (newValue != null) {
-                        afficherDetailsProcessus(newValue);
+                        afficherDetailsProcessus(tableau.getProcessus(newValue));
                     } else {
                         masquerDetails();
                     }
                 });
-                listViewProcessus.getSelectionModel().select(0);
+    }
+
+    /**
+     * Configure la liste des allocations processeur du processus sélectionné.
+     *
+     * @param algorithmes Les algorithmes exécutés
+     */
+    private void setupAllocations(List<String> algorithmes) {
+        comboAlgoAllocations.getItems().setAll(algorithmes);
+        if (!algorithmes.isEmpty()) {
+            comboAlgoAllocations.setValue(algorithmes.get(0));
+        }
+        comboAlgoAllocations.valueProperty().addListener((obs, ancien, nouveau) -> afficherAllocations());
+        listViewAllocations.setCellFactory(liste -> new ListCell<Allocation>() {
+            @Override
+            protected void updateItem(Allocation alloc, boolean empty) {
+                super.updateItem(alloc, empty);
+                if (empty || alloc == null) {
+                    setText(null);
+                } else {
+                    setText("• " + alloc.getProcessor() + " : [" + alloc.getDateDebutExecution() + " - " + alloc.getDateFinExecution() + "]");
+                }
+            }
+        });
     }
 
     /**
      * Affiche les détails du processus sélectionné.
-     * 
+     *
      * @param process Le processus dont on veut afficher les détails
-     * 
+     *
      * @author : Nino Ribeiro--Vaur
      */
     private void afficherDetailsProcessus(Process process) {
+        processusAffiche = process;
         // Afficher les informations générales
         labelId.setText(process.getId());
         labelDateSoumission.setText(String.valueOf(process.getDateSoumission()));
@@ -129,8 +344,8 @@ public class ProcessController {
         labelDeadline.setText(String.valueOf(process.getDeadline()));
         labelPriority.setText(String.valueOf(process.getPriority()));
 
-        // Afficher les informations d'exécution par algorithme
-        afficherInformationsExecution(process);
+        // Afficher les allocations de l'algorithme choisi (les autres résultats sont dans la table)
+        afficherAllocations();
 
         // Afficher la zone de détails
         labelTitre.setVisible(false);
@@ -138,112 +353,49 @@ public class ProcessController {
     }
 
     /**
-     * Affiche les informations d'exécution du processus pour chaque algorithme.
-     * 
-     * @param process Le processus dont on veut afficher les informations d'exécution
-     * 
-     * @author : Nino Ribeiro--Vaur
+     * Affiche les allocations processeur du processus affiché pour l'algorithme choisi.
+     * La liste affiche directement les allocations du processus, sans les copier.
      */
-    private void afficherInformationsExecution(Process process) {
-        executionInfoContainer.getChildren().clear();
-
-        Map<String, ExecutionInfo> executions = process.getAllExecutions();
-        Map<String, List<Allocation>> allocations = process.getAllAllocations();
-
-        if (executions.isEmpty() && allocations.isEmpty()) {
-            Label labelAucuneInfo = new Label("Aucune information d'exécution disponible.");
-            labelAucuneInfo.setStyle("-fx-text-fill: gray;");
-            executionInfoContainer.getChildren().add(labelAucuneInfo);
+    private void afficherAllocations() {
+        Process process = processusAffiche;
+        String algo = comboAlgoAllocations.getValue();
+        if (process == null || algo == null) {
+            listViewAllocations.setItems(FXCollections.emptyObservableList());
             return;
         }
-
-        // Parcourir tous les algorithmes disponibles
-        for (String nomAlgo : executions.keySet()) {
-            VBox algoBox = new VBox(5);
-            algoBox.setStyle("-fx-border-color: #cccccc; -fx-border-width: 1; -fx-border-radius: 5; -fx-padding: 10;");
-            
-            Label labelAlgo = new Label("Algorithme : " + nomAlgo);
-            labelAlgo.setStyle("-fx-font-size: 13px; -fx-font-weight: bold;");
-            algoBox.getChildren().add(labelAlgo);
-
-            // Informations d'exécution
-            ExecutionInfo execInfo = executions.get(nomAlgo);
-            if (execInfo != null) {
-                VBox execBox = new VBox(3);
-                execBox.setPadding(new Insets(5, 0, 0, 10));
-                
-                HBox hboxDebut = new HBox(10);
-                hboxDebut.getChildren().addAll(
-                    new Label("Date de début :"),
-                    new Label(String.valueOf(execInfo.getDateDebut()))
-                );
-                
-                HBox hboxFin = new HBox(10);
-                hboxFin.getChildren().addAll(
-                    new Label("Date de fin :"),
-                    new Label(String.valueOf(execInfo.getDateFin()))
-                );
-                
-                HBox hboxRam = new HBox(10);
-                hboxRam.getChildren().addAll(
-                    new Label("RAM utilisée :"),
-                    new Label(String.valueOf(execInfo.getUsedRam()))
-                );
-                
-                execBox.getChildren().addAll(hboxDebut, hboxFin, hboxRam);
-                algoBox.getChildren().add(execBox);
-            }
-
-            // Allocations
-            List<Allocation> allocs = allocations.get(nomAlgo);
-            if (allocs != null && !allocs.isEmpty()) {
-                VBox allocBox = new VBox(3);
-                allocBox.setPadding(new Insets(5, 0, 0, 10));
-                
-                Label labelAllocs = new Label("Allocations processeur (" + allocs.size() + ") :");
-                labelAllocs.setStyle("-fx-font-weight: bold;");
-                allocBox.getChildren().add(labelAllocs);
-                
-                Label labelFormatExample = new Label("Format : CPUX : [début - fin]");
-                labelFormatExample.setStyle("-fx-font-size: 11px; -fx-text-fill: #666666; -fx-font-style: italic;");
-                allocBox.getChildren().add(labelFormatExample);
-                
-                for (Allocation alloc : allocs) {
-                    HBox hboxAlloc = new HBox(10);
-                    hboxAlloc.setPadding(new Insets(2, 0, 0, 10));
-                    hboxAlloc.getChildren().addAll(
-                        new Label("• " + alloc.getProcessor() + " : [" + 
-                                 alloc.getDateDebutExecution() + " - " + 
-                                 alloc.getDateFinExecution() + "]")
-                    );
-                    allocBox.getChildren().add(hboxAlloc);
+        if (!resultats.getChargementDetails(algo).isTermine()) { // Résultats détaillés pas encore lus
+            labelAllocations.setText("chargement...");
+            listViewAllocations.setItems(FXCollections.emptyObservableList());
+            resultats.chargerDetails(algo).whenComplete((liste, erreur) -> Platform.runLater(() -> {
+                if (erreur != null) {
+                    labelAllocations.setText("indisponibles (erreur de lecture des résultats détaillés).");
+                } else if (processusAffiche == process && Objects.equals(comboAlgoAllocations.getValue(), algo)) { // Toujours affiché : mise à jour
+                    afficherAllocations();
                 }
-                
-                algoBox.getChildren().add(allocBox);
-            }
-
-            executionInfoContainer.getChildren().add(algoBox);
+            }));
+            return;
         }
-        
-        
-
+        List<Allocation> allocs = ProcessUtils.getAllocations(process, algo);
+        labelAllocations.setText(allocs.size() + " allocation(s) — format : CPUX : [début - fin]");
+        listViewAllocations.setItems(FXCollections.observableList(allocs));
     }
 
     /**
      * Masque la zone de détails et affiche le message par défaut.
-     * 
+     *
      * @author : Nino Ribeiro--Vaur
      */
     private void masquerDetails() {
+        processusAffiche = null;
         labelTitre.setVisible(true);
         detailsContent.setVisible(false);
     }
 
     /**
      * Affiche un message d'erreur dans la zone de détails.
-     * 
+     *
      * @param message Le message d'erreur à afficher
-     * 
+     *
      * @author : Nino Ribeiro--Vaur
      */
     private void afficherMessageErreur(String message) {
@@ -251,7 +403,29 @@ public class ProcessController {
         labelTitre.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: red;");
         labelTitre.setVisible(true);
         detailsContent.setVisible(false);
-        listViewProcessus.setVisible(false);
+        tableProcessus.setVisible(false);
     }
-}
 
+    /**
+     * Vue en liste, non modifiable, d'un tableau de numéros de lignes : la table n'a pas
+     * une copie des lignes en objets, les numéros ne sont convertis que pour les cellules affichées.
+     */
+    private static final class ListeLignes extends AbstractList<Integer> implements RandomAccess {
+
+        private final int[] lignes;
+
+        private ListeLignes(int[] lignes) {
+            this.lignes = lignes;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return lignes[index];
+        }
+
+        @Override
+        public int size() {
+            return lignes.length;
+        }
+    }
+}
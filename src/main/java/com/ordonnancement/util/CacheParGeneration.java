@@ -0,0 +1,128 @@
+package com.ordonnancement.util;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache de valeurs construites une seule fois par génération (par exemple la génération des résultats de AppState) :
+ * une valeur construite pour une génération précédente est reconstruite à sa prochaine demande.
+ * La génération courante est lue à chaque demande.
+ *
+ * Le cache n'est pas thread-safe : il doit être utilisé depuis un seul thread,
+ * celui de l'exécuteur du préchargement (le thread JavaFX pour les vues).
+ * @param <K> le type des clés
+ * @param <V> le type des valeurs
+ * @author ROMA Quentin
+ */
+public class CacheParGeneration<K, V> {
+
+    /**
+     * Construit la valeur d'une clé.
+     * @param <K> le type des clés
+     * @param <V> le type des valeurs
+     */
+    @FunctionalInterface
+    public interface Constructeur<K, V> {
+
+        /**
+         * Construit la valeur d'une clé.
+         *
+         * @param cle : la clé
+         * @return la valeur construite
+         * @throws IOException si la valeur ne peut pas être construite
+         */
+        public V construire(K cle) throws IOException;
+    }
+
+    /**
+     * Une valeur et la génération pour laquelle elle a été construite.
+     */
+    private static final class Entree<V> {
+        private final V valeur;
+        private final long generation;
+
+        private Entree(V valeur, long generation) {
+            this.valeur = valeur;
+            this.generation = generation;
+        }
+    }
+
+    private final LongSupplier generation; //Donne la génération courante
+    private final Constructeur<K, V> constructeur;
+    private final Map<K, Entree<V>> valeurs = new HashMap<>(); //Valeurs construites, par clé
+
+    /**
+     * Constructeur
+     * @param generation : donne la génération courante
+     * @param constructeur : construit la valeur d'une clé
+     */
+    public CacheParGeneration(LongSupplier generation, Constructeur<K, V> constructeur) {
+        this.generation = generation;
+        this.constructeur = constructeur;
+    }
+
+    /**
+     * Renvoie la valeur d'une clé, construite si elle n'est pas en cache
+     * ou si elle a été construite pour une génération précédente.
+     *
+     * @param cle : la clé
+     * @return la valeur
+     * @throws IOException si la valeur ne peut pas être construite
+     */
+    public V obtenir(K cle) throws IOException {
+        long courante = generation.getAsLong();
+        Entree<V> entree = valeurs.get(cle);
+        if (entree == null || entree.generation != courante) {
+            entree = new Entree<>(constructeur.construire(cle), courante);
+            valeurs.put(cle, entree);
+        }
+        return entree.valeur;
+    }
+
+    /**
+     * Abandonne toutes les valeurs construites.
+     */
+    public void invalider() {
+        valeurs.clear();
+    }
+
+    /**
+     * Construit à l'avance les valeurs des clés qui ne sont pas à jour, une par tâche confiée à l'exécuteur
+     * (une impulsion du thread JavaFX par exemple). Le préchargement s'arrête si la génération change entre temps :
+     * il est remplacé par celui de la nouvelle génération.
+     * Une erreur de construction est ignorée : elle sera signalée à la prochaine demande de la valeur.
+     *
+     * @param cles : les clés à précharger, dans l'ordre
+     * @param impulsions : l'exécuteur des tâches de préchargement
+     */
+    public void precharger(Collection<K> cles, Executor impulsions) {
+        prechargerSuivante(List.copyOf(cles).iterator(), generation.getAsLong(), impulsions);
+    }
+
+    /**
+     * Construit la prochaine valeur à précharger puis planifie la suivante.
+     *
+     * @param cles : les clés restant à précharger
+     * @param generationDepart : la génération au lancement du préchargement
+     * @param impulsions : l'exécuteur des tâches de préchargement
+     */
+    private void prechargerSuivante(Iterator<K> cles, long generationDepart, Executor impulsions) {
+        impulsions.execute(() -> {
+            if (!cles.hasNext() || generation.getAsLong() != generationDepart) {
+                return; //Terminé, ou remplacé par le préchargement de la nouvelle génération
+            }
+            try {
+                obtenir(cles.next());
+            } catch (IOException | RuntimeException e) {
+                //Préchargement facultatif
+            }
+            prechargerSuivante(cles, generationDepart, impulsions);
+        });
+    }
+}
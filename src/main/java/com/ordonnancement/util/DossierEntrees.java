@@ -0,0 +1,126 @@
+package com.ordonnancement.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Dossier dont chaque sous-dossier est une entrée (entrée du cache des résultats, exécution de l'historique...).
+ *
+ * Une entrée est écrite dans un dossier temporaire puis renommée : elle n'est jamais visible à moitié écrite.
+ * Les dossiers temporaires ont un point dans leur nom (les noms des entrées n'en ont pas) :
+ * ceux laissés par un arrêt brutal sont ignorés par {@link #listerEntrees()}.
+ * @author ROMA Quentin
+ */
+public class DossierEntrees {
+
+    /**
+     * Écrit le contenu d'une entrée dans son dossier temporaire.
+     */
+    @FunctionalInterface
+    public interface Ecriture {
+
+        /**
+         * Écrit le contenu d'une entrée.
+         *
+         * @param temporaire : le dossier temporaire de l'entrée
+         * @return true pour enregistrer l'entrée, false pour l'abandonner
+         * @throws IOException si l'écriture échoue (l'entrée est abandonnée)
+         */
+        public boolean ecrire(Path temporaire) throws IOException;
+    }
+
+    private final Path dossier; //Dossier contenant un sous-dossier par entrée
+
+    /**
+     * Constructeur
+     * @param dossier : le dossier des entrées (créé à la première écriture)
+     */
+    public DossierEntrees(Path dossier) {
+        this.dossier = dossier;
+    }
+
+    /**
+     * Écrit une entrée dans un dossier temporaire puis la renomme, en remplaçant l'entrée de même nom si elle existe.
+     * Le dossier temporaire est supprimé si l'écriture échoue ou est abandonnée.
+     *
+     * @param nom : le nom de l'entrée (sans point)
+     * @param ecriture : l'écriture du contenu de l'entrée
+     * @return true si l'entrée a été enregistrée, false si l'écriture l'a abandonnée
+     * @throws IOException si l'écriture ou le renommage échoue
+     */
+    public boolean ecrire(String nom, Ecriture ecriture) throws IOException {
+        Path entree = dossier.resolve(nom);
+        Path temporaire = null;
+        try {
+            Files.createDirectories(dossier);
+            temporaire = Files.createTempDirectory(dossier, nom + ".");
+            if (!ecriture.ecrire(temporaire)) {
+                return false;
+            }
+            supprimer(entree); //Ancienne version de l'entrée
+            try {
+                Files.move(temporaire, entree, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaire, entree);
+            }
+            temporaire = null;
+            return true;
+        } finally {
+            if (temporaire != null) {
+                supprimer(temporaire);
+            }
+        }
+    }
+
+    /**
+     * Liste les dossiers des entrées (les dossiers temporaires, dont le nom contient un point, sont ignorés).
+     *
+     * @return les dossiers des entrées (vide si le dossier n'existe pas)
+     * @throws UncheckedIOException si le dossier ne peut pas être lu
+     */
+    public List<Path> listerEntrees() {
+        List<Path> entrees = new ArrayList<>();
+        if (!Files.isDirectory(dossier)) {
+            return entrees;
+        }
+        try (DirectoryStream<Path> contenu = Files.newDirectoryStream(dossier)) {
+            for (Path entree : contenu) {
+                if (Files.isDirectory(entree) && !entree.getFileName().toString().contains(".")) {
+                    entrees.add(entree);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible de lire le dossier : " + dossier, e);
+        }
+        return entrees;
+    }
+
+    /**
+     * Supprime une entrée et tout son contenu, si elle existe.
+     * Une entrée en cours d'utilisation peut n'être supprimée qu'en partie : elle est alors illisible,
+     * et doit être traitée comme absente par celui qui la relit.
+     *
+     * @param entree : le dossier de l'entrée
+     */
+    public static void supprimer(Path entree) {
+        if (!Files.exists(entree)) {
+            return;
+        }
+        try (Stream<Path> fichiers = Files.walk(entree)) {
+            for (Path f : (Iterable<Path>) fichiers.sorted(Comparator.reverseOrder())::iterator) { //Contenu avant dossiers
+                Files.deleteIfExists(f);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            //Fichiers en cours d'utilisation ou déjà supprimés
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.ordonnancement.util;
+
+import java.util.Arrays;
+
+/**
+ * Index d'admission d'une file d'attente sous contrainte de mémoire : les éléments (par exemple les indices
+ * des processus) sont rangés à des positions qui suivent l'ordre de la politique d'ordonnancement,
+ * chacun avec son besoin (la RAM qu'il lui faut pour être élu).
+ *
+ * Un arbre de segments garde le besoin minimal de chaque intervalle de positions : le premier élément,
+ * dans l'ordre de la file, dont le besoin tient dans la RAM disponible est trouvé en O(log n),
+ * sans parcourir les processus trop gros qui le précèdent.
+ * Les positions ne servent qu'à ordonner les éléments : l'ajout en fin de file réutilise les positions
+ * libérées en tassant la file (même ordre) quand le tableau est plein. Une file remplie par {@link #placer}
+ * et une file remplie par {@link #ajouterEnFin} ne doivent pas être mélangées.
+ * @author ROMA Quentin
+ */
+public class IndexAdmission {
+
+    private static final int ABSENT = -1; //Position d'un élément absent, élément d'une position libre
+    private static final int AUCUN_BESOIN = Integer.MAX_VALUE; //Besoin d'une position libre : jamais admissible
+
+    private int feuilles; //Nombre de positions (puissance de 2)
+    private int[] arbre; //Besoin minimal de chaque noeud ; les positions sont les feuilles [feuilles, 2 * feuilles)
+    private int[] elements; //L'élément rangé à chaque position (ABSENT si libre)
+    private int[] positions; //La position de chaque élément (ABSENT s'il n'est pas dans l'index)
+    private int fin = 0; //Première position après le dernier élément rangé
+    private int taille = 0; //Nombre d'éléments dans l'index
+
+    /**
+     * Constructeur
+     * @param capacite : le nombre de positions et d'éléments attendus, il augmente si nécessaire
+     */
+    public IndexAdmission(int capacite) {
+        this.feuilles = Integer.highestOneBit(Math.max(1, capacite - 1)) << 1;
+        this.arbre = new int[2 * feuilles];
+        Arrays.fill(arbre, AUCUN_BESOIN);
+        this.elements = new int[feuilles];
+        Arrays.fill(elements, ABSENT);
+        this.positions = new int[Math.max(1, capacite)];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    /**
+     * Range un élément à une position donnée (quand l'ordre de la politique est connu à l'avance).
+     *
+     * @param element : l'élément (positif ou nul)
+     * @param position : sa position dans l'ordre de la file
+     * @param besoin : son besoin
+     * @throws IllegalArgumentException si l'élément est déjà dans l'index ou si la position est occupée
+     */
+    public void placer(int element, int position, int besoin) {
+        if (element < 0 || position < 0) {
+            throw new IllegalArgumentException("Élément et position doivent être positifs ou nuls : " + element + ", " + position);
+        }
+        agrandirElements(element);
+        if (positions[element] != ABSENT) {
+            throw new IllegalArgumentException("L'élément " + element + " est déjà dans l'index.");
+        }
+        while (position >= feuilles) {
+            agrandirArbre();
+        }
+        if (elements[position] != ABSENT) {
+            throw new IllegalArgumentException("La position " + position + " est déjà occupée.");
+        }
+        elements[position] = element;
+        positions[element] = position;
+        fin = Math.max(fin, position + 1);
+        taille++;
+        mettreAJour(position, besoin);
+    }
+
+    /**
+     * Ajoute un élément après tous les autres.
+     *
+     * @param element : l'élément (positif ou nul)
+     * @param besoin : son besoin
+     * @throws IllegalArgumentException si l'élément est déjà dans l'index
+     */
+    public void ajouterEnFin(int element, int besoin) {
+        if (fin == feuilles) {
+            if (taille <= feuilles / 2) {
+                tasser(); //Au moins la moitié des positions sont libres
+            } else {
+                agrandirArbre();
+            }
+        }
+        placer(element, fin, besoin);
+    }
+
+    /**
+     * Retire un élément.
+     *
+     * @param element : l'élément
+     * @throws IllegalArgumentException si l'élément n'est pas dans l'index
+     */
+    public void retirer(int element) {
+        int position = position(element);
+        elements[position] = ABSENT;
+        positions[element] = ABSENT;
+        mettreAJour(position, AUCUN_BESOIN);
+        if (--taille == 0) {
+            fin = 0; //File vide : les ajouts repartent du début
+        }
+    }
+
+    /**
+     * Modifie le besoin d'un élément (par exemple 0 une fois sa RAM réservée).
+     *
+     * @param element : l'élément
+     * @param besoin : son nouveau besoin
+     * @throws IllegalArgumentException si l'élément n'est pas dans l'index
+     */
+    public void modifierBesoin(int element, int besoin) {
+        mettreAJour(position(element), besoin);
+    }
+
+    /**
+     * Renvoie le premier élément, dans l'ordre de la file, dont le besoin ne dépasse pas la quantité disponible.
+     * Descente dans l'arbre : à chaque noeud, on va à gauche si le minimum de la moitié gauche est admissible.
+     *
+     * @param disponible : la quantité disponible (la RAM restante)
+     * @return l'élément, ou -1 si aucun n'est admissible
+     */
+    public int premierAdmissible(int disponible) {
+        if (arbre[1] > disponible) {
+            return ABSENT;
+        }
+        int noeud = 1;
+        while (noeud < feuilles) {
+            noeud = arbre[2 * noeud] <= disponible ? 2 * noeud : 2 * noeud + 1;
+        }
+        return elements[noeud - feuilles];
+    }
+
+    /**
+     * Même résultat que {@link #premierAdmissible(int)}, par un parcours des positions dans l'ordre de la file.
+     * Sert de référence pour les tests et les benchmarks.
+     *
+     * @param disponible : la quantité disponible
+     * @return l'élément, ou -1 si aucun n'est admissible
+     */
+    public int premierAdmissibleParParcours(int disponible) {
+        for (int position = 0; position < fin; position++) {
+            if (elements[position] != ABSENT && arbre[feuilles + position] <= disponible) {
+                return elements[position];
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Indique si un élément est dans l'index.
+     *
+     * @param element : l'élément
+     * @return true s'il est dans l'index
+     */
+    public boolean contient(int element) {
+        return element >= 0 && element < positions.length && positions[element] != ABSENT;
+    }
+
+    /**
+     * Renvoie le nombre d'éléments dans l'index.
+     *
+     * @return le nombre d'éléments
+     */
+    public int taille() {
+        return taille;
+    }
+
+    /**
+     * Indique si l'index est vide.
+     *
+     * @return true si l'index est vide
+     */
+    public boolean estVide() {
+        return taille == 0;
+    }
+
+    /**
+     * Renvoie la position d'un élément.
+     */
+    private int position(int element) {
+        if (!contient(element)) {
+            throw new IllegalArgumentException("L'élément " + element + " n'est pas dans l'index.");
+        }
+        return positions[element];
+    }
+
+    /**
+     * Fixe le besoin d'une position et met à jour les minimums de ses ancêtres.
+     */
+    private void mettreAJour(int position, int besoin) {
+        int noeud = feuilles + position;
+        arbre[noeud] = besoin;
+        for (noeud >>>= 1; noeud > 0; noeud >>>= 1) {
+            int min = Math.min(arbre[2 * noeud], arbre[2 * noeud + 1]);
+            if (arbre[noeud] == min) {
+                break; //Les ancêtres sont déjà à jour
+            }
+            arbre[noeud] = min;
+        }
+    }
+
+    /**
+     * Range les éléments aux premières positions, dans le même ordre, et reconstruit l'arbre.
+     */
+    private void tasser() {
+        int[] besoins = Arrays.copyOfRange(arbre, feuilles, feuilles + fin);
+        int[] anciens = Arrays.copyOf(elements, fin);
+        Arrays.fill(elements, ABSENT);
+        Arrays.fill(arbre, feuilles, 2 * feuilles, AUCUN_BESOIN);
+        int rang = 0;
+        for (int position = 0; position < anciens.length; position++) {
+            if (anciens[position] != ABSENT) {
+                elements[rang] = anciens[position];
+                arbre[feuilles + rang] = besoins[position];
+                positions[anciens[position]] = rang++;
+            }
+        }
+        fin = rang;
+        reconstruireNoeuds();
+    }
+
+    /**
+     * Double le nombre de positions, sans déplacer les éléments.
+     */
+    private void agrandirArbre() {
+        int anciennes = feuilles;
+        int[] besoins = Arrays.copyOfRange(arbre, anciennes, 2 * anciennes);
+        feuilles = anciennes * 2;
+        arbre = new int[2 * feuilles];
+        Arrays.fill(arbre, AUCUN_BESOIN);
+        System.arraycopy(besoins, 0, arbre, feuilles, anciennes);
+        elements = Arrays.copyOf(elements, feuilles);
+        Arrays.fill(elements, anciennes, feuilles, ABSENT);
+        reconstruireNoeuds();
+    }
+
+    /**
+     * Recalcule les minimums de tous les noeuds internes à partir des feuilles.
+     */
+    private void reconstruireNoeuds() {
+        for (int noeud = feuilles - 1; noeud > 0; noeud--) {
+            arbre[noeud] = Math.min(arbre[2 * noeud], arbre[2 * noeud + 1]);
+        }
+    }
+
+    /**
+     * Agrandit la table des positions pour pouvoir contenir un élément.
+     */
+    private void agrandirElements(int element) {
+        if (element < positions.length) {
+            return;
+        }
+        int ancienne = positions.length;
+        positions = Arrays.copyOf(positions, Math.max(element + 1, ancienne * 2));
+        Arrays.fill(positions, ancienne, positions.length, ABSENT);
+    }
+}
@@ -0,0 +1,109 @@
+package com.ordonnancement.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Index de recherche par préfixe sur des identifiants (par exemple les id des processus).
+ *
+ * Les identifiants sont triés une fois à la construction : tous ceux qui commencent par un préfixe
+ * sont alors contigus, et la recherche se fait par deux recherches dichotomiques.
+ * C'est l'équivalent d'un trie, parcouru jusqu'au noeud du préfixe, mais sans un objet par noeud :
+ * l'index ne coûte que deux tableaux d'entiers, même pour des millions d'identifiants.
+ * @author ROMA Quentin
+ */
+public class IndexPrefixes {
+
+    private final String[] identifiants; //Les identifiants, dans l'ordre d'origine
+    private final int[] ordre; //Les positions d'origine, triées par identifiant
+    private final int[] rangs; //Le rang de chaque position dans l'ordre des identifiants
+
+    /**
+     * Constructeur
+     * @param identifiants : les identifiants, indexés par leur position (le tableau n'est pas copié)
+     */
+    public IndexPrefixes(String[] identifiants) {
+        this.identifiants = identifiants;
+        Integer[] positions = new Integer[identifiants.length];
+        Arrays.setAll(positions, i -> i);
+        Arrays.parallelSort(positions, Comparator.comparing((Integer i) -> identifiants[i]).thenComparingInt(i -> i));
+        this.ordre = new int[identifiants.length];
+        this.rangs = new int[identifiants.length];
+        for (int rang = 0; rang < positions.length; rang++) {
+            ordre[rang] = positions[rang];
+            rangs[positions[rang]] = rang;
+        }
+    }
+
+    /**
+     * Renvoie les positions des identifiants qui commencent par un préfixe.
+     *
+     * @param prefixe : le préfixe recherché (vide : tous les identifiants)
+     * @return les positions, croissantes
+     */
+    public int[] rechercher(String prefixe) {
+        if (prefixe.isEmpty()) {
+            return IntStream.range(0, identifiants.length).toArray();
+        }
+        int debut = premierRangSuperieurOuEgal(prefixe); //Premier identifiant qui peut commencer par le préfixe
+        int fin = premierRangSansPrefixe(prefixe, debut);
+        int[] positions = Arrays.copyOfRange(ordre, debut, fin);
+        Arrays.sort(positions); //Ordre d'origine
+        return positions;
+    }
+
+    /**
+     * Renvoie le rang d'une position dans l'ordre croissant des identifiants (pour trier par identifiant).
+     *
+     * @param position : la position de l'identifiant
+     * @return son rang
+     */
+    public int getRang(int position) {
+        return rangs[position];
+    }
+
+    /**
+     * Renvoie le nombre d'identifiants indexés.
+     *
+     * @return le nombre d'identifiants
+     */
+    public int getNombre() {
+        return identifiants.length;
+    }
+
+    /**
+     * Renvoie le premier rang dont l'identifiant est supérieur ou égal à une valeur.
+     */
+    private int premierRangSuperieurOuEgal(String valeur) {
+        int bas = 0;
+        int haut = ordre.length;
+        while (bas < haut) {
+            int milieu = (bas + haut) >>> 1;
+            if (identifiants[ordre[milieu]].compareTo(valeur) < 0) {
+                bas = milieu + 1;
+            } else {
+                haut = milieu;
+            }
+        }
+        return bas;
+    }
+
+    /**
+     * Renvoie le premier rang, à partir du rang donné, dont l'identifiant ne commence pas par le préfixe.
+     * Les identifiants qui commencent par le préfixe sont contigus à partir du rang donné.
+     */
+    private int premierRangSansPrefixe(String prefixe, int depuis) {
+        int bas = depuis;
+        int haut = ordre.length;
+        while (bas < haut) {
+            int milieu = (bas + haut) >>> 1;
+            if (identifiants[ordre[milieu]].startsWith(prefixe)) {
+                bas = milieu + 1;
+            } else {
+                haut = milieu;
+            }
+        }
+        return bas;
+    }
+}
@@ -0,0 +1,106 @@
+package com.ordonnancement.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Classe utilitaire permettant d'exécuter des tâches indépendantes en parallèle
+ * (par exemple une tâche par algorithme d'ordonnancement).
+ * @author ROMA Quentin
+ */
+public class ParallelUtils {
+
+    /**
+     * Exécute les tâches en parallèle (au plus une par coeur) et attend qu'elles soient toutes terminées.
+     * Une seule tâche est exécutée directement dans le thread appelant.
+     *
+     * @param <T> le type de résultat des tâches
+     * @param taches : les tâches à exécuter
+     * @return les résultats, dans le même ordre que les tâches
+     * @throws RuntimeException l'exception levée par la première tâche en échec (dans l'ordre des tâches)
+     * @throws CancellationException si le thread appelant est interrompu (les tâches en cours sont alors interrompues)
+     */
+    public static <T> List<T> executer(List<Callable<T>> taches) {
+        List<T> resultats = new ArrayList<>();
+        if (taches.size() <= 1) { //Pas besoin de threads pour une seule tâche
+            for (Callable<T> tache : taches) {
+                resultats.add(appeler(tache));
+            }
+            return resultats;
+        }
+
+        int nbThreads = Math.min(taches.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(nbThreads, r -> {
+            Thread thread = new Thread(r, "ordonnancement-worker");
+            thread.setDaemon(true); //Ne bloque pas la fermeture de l'application
+            return thread;
+        });
+        try {
+            List<Future<T>> futures = executor.invokeAll(taches); //Attend la fin de toutes les tâches
+            for (Future<T> future : futures) {
+                resultats.add(future.get());
+            }
+            return resultats;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            CancellationException annulation = new CancellationException("Exécution parallèle interrompue");
+            annulation.initCause(e);
+            throw annulation;
+        } catch (ExecutionException e) {
+            throw relancer(e.getCause());
+        } finally {
+            executor.shutdownNow(); //Interrompt les tâches encore en cours (annulation)
+        }
+    }
+
+    /**
+     * Vérifie si le thread courant a été interrompu (demande d'annulation).
+     * À appeler régulièrement dans les boucles longues (parsing, simulation).
+     *
+     * @param message : le message de l'exception
+     * @throws CancellationException si le thread courant a été interrompu
+     */
+    public static void verifierAnnulation(String message) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException(message);
+        }
+    }
+
+    /**
+     * Appelle une tâche dans le thread courant.
+     *
+     * @param tache : la tâche
+     * @return le résultat de la tâche
+     */
+    private static <T> T appeler(Callable<T> tache) {
+        try {
+            return tache.call();
+        } catch (Exception e) {
+            throw relancer(e);
+        }
+    }
+
+    /**
+     * Relance l'exception d'une tâche sans changer son type si c'est une RuntimeException
+     * (pour conserver les messages d'erreur affichés à l'utilisateur).
+     *
+     * @param cause : l'exception levée par la tâche
+     * @return l'exception à lancer
+     */
+    private static RuntimeException relancer(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause.getMessage(), cause);
+    }
+
+}
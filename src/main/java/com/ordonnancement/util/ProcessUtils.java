@@ -4,14 +4,14 @@ package com.ordonnancement.util;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import com.ordonnancement.model.Allocation;
+import com.ordonnancement.model.AllocationStore;
 import com.ordonnancement.model.ExecutionInfo;
 import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Resultats;
 /**
  * Classe utilitaire permettant de récupérer plus facilement des éléments d'un processus
  * @author ROMA Quentin
@@ -77,6 +77,20 @@ public class ProcessUtils {
         return nomAlgos;
     }
 
+    /**
+     * Récupère les noms des algorithmes d'une exécution, d'après ses résultats et non d'après la
+     * configuration courante (une exécution rouverte depuis l'historique a ses propres algorithmes).
+     * @param resultats : Les résultats de l'exécution
+     * @return la liste des noms d'algorithmes, dans l'ordre de la configuration de l'exécution
+     */
+    public static List<String> getNomAlgos(Resultats resultats){
+        List<String> nomAlgos = new ArrayList<>(resultats.getNomsAlgorithmes());
+        if (nomAlgos.isEmpty() && !resultats.getListeProcessus().isEmpty()) { //Résultats sans chargement différé
+            nomAlgos.addAll(getNomAlgos(resultats.getListeProcessus().get(0)));
+        }
+        return nomAlgos;
+    }
+
     /**
      * Permet de récupérer les allocations de tous les processus
      * sur un algorithme d'ordonnancement précis
@@ -93,6 +107,36 @@ public class ProcessUtils {
         return listeComplete;
     }
 
+    /**
+     * Permet de récupérer le store en colonnes des allocations de tous les processus
+     * sur un algorithme d'ordonnancement précis.
+     * Si les allocations des processus sont des vues d'un même store (résultats parsés ou simulés),
+     * ce store est renvoyé directement ; sinon un store est construit à partir des listes.
+     * @param listeProcessus : tous les processus
+     * @param nomAlgo : Le nom de l'algo d'ordonnancement
+     * @return le store des allocations
+     */
+    public static AllocationStore getAllocationStore(List<Process> listeProcessus, String nomAlgo){
+        AllocationStore storeCommun = null;
+        int nbProcessus = 0;
+        for(Process p : listeProcessus){
+            List<Allocation> allocs = p.getAllocations(nomAlgo);
+            if(allocs == null){
+                continue;
+            }
+            if(!(allocs instanceof AllocationStore.VueProcessus vue)
+                    || (storeCommun != null && vue.getStore() != storeCommun)){ //Listes classiques ou stores différents
+                return AllocationStore.depuis(listeProcessus, nomAlgo);
+            }
+            storeCommun = vue.getStore();
+            nbProcessus++;
+        }
+        if(storeCommun == null || storeCommun.nombreProcessus() != nbProcessus){ //Aucun store, ou store partagé avec d'autres processus
+            return AllocationStore.depuis(listeProcessus, nomAlgo);
+        }
+        return storeCommun;
+    }
+
      /** Permet de récupérer la liste de tous les CPUs ayant exécuté des processus sur un algo donné
      * @param listeProcessus : tous les processus
      * @param nomAlgo : Le nom de l'algo sur lequel les exécutions ont eu lieu
@@ -100,15 +144,8 @@ public class ProcessUtils {
      */
     public static List<String> getAllCpus(List<Process> listeProcessus, String nomAlgo){
 
-        Set<String> ensembleCpu = new HashSet<>();
-        for(Process p : listeProcessus){ //Pour chaque processus
-            for(Allocation al : ProcessUtils.getAllocations(p, nomAlgo)){ //Récupération de l'alloc réalisée sur l'algo
-                        
-            ensembleCpu.add(al.getProcessor()); //Ajout de l'id cpu à l'ensemble
-            }
-
-        }
-        List<String> cpus = new ArrayList<>(ensembleCpu);
+        AllocationStore store = getAllocationStore(listeProcessus, nomAlgo); //Les CPUs sont déjà dédoublonnés par le dictionnaire du store
+        List<String> cpus = new ArrayList<>(store.getProcesseurs());
         Collections.sort(cpus); //Trie croissant
         return cpus;
 
@@ -0,0 +1,176 @@
+package com.ordonnancement.util;
+
+/**
+ * Résumé d'une distribution de valeurs positives permettant d'estimer ses quantiles (médiane, p90, p99...)
+ * sans conserver les valeurs : la mémoire utilisée ne dépend pas du nombre de valeurs ajoutées.
+ *
+ * Les valeurs sont comptées dans des classes de largeur géométrique (principe de DDSketch) :
+ * la classe i contient les valeurs de ]γ^(i-1), γ^i], avec γ = (1 + α) / (1 - α).
+ * Tout quantile estimé est à moins de α (erreur relative) d'une valeur réellement observée
+ * au rang demandé. Le minimum, le maximum et la moyenne sont exacts.
+ * Deux résumés de même précision peuvent être fusionnés (calcul en parallèle).
+ * @author ROMA Quentin
+ */
+public class SketchQuantiles {
+
+    private static final double VALEUR_MIN_INDEXEE = 1e-9; //Valeurs plus petites comptées comme nulles
+    private static final int CAPACITE_INITIALE = 128;
+
+    private final double precisionRelative;
+    private final double logGamma;
+    private long[] compteurs = new long[0]; //Nombre de valeurs par classe
+    private int premiereClasse = 0; //Indice de la classe de compteurs[0]
+    private long nombreZeros = 0; //Valeurs nulles (ou inférieures à VALEUR_MIN_INDEXEE)
+    private long nombre = 0;
+    private double somme = 0;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Constructeur
+     * @param precisionRelative : l'erreur relative maximale des quantiles estimés (par exemple 0.01 pour 1 %)
+     * @throws IllegalArgumentException si la précision n'est pas dans ]0, 1[
+     */
+    public SketchQuantiles(double precisionRelative) {
+        if (!(precisionRelative > 0 && precisionRelative < 1)) {
+            throw new IllegalArgumentException("La précision relative doit être comprise entre 0 et 1 : " + precisionRelative);
+        }
+        this.precisionRelative = precisionRelative;
+        this.logGamma = Math.log((1 + precisionRelative) / (1 - precisionRelative));
+    }
+
+    /**
+     * Ajoute une valeur.
+     * @param valeur : la valeur (positive ou nulle)
+     * @throws IllegalArgumentException si la valeur est négative ou n'est pas un nombre
+     */
+    public void ajouter(double valeur) {
+        if (!(valeur >= 0) || Double.isInfinite(valeur)) {
+            throw new IllegalArgumentException("Seules les valeurs positives finies peuvent être ajoutées : " + valeur);
+        }
+        nombre++;
+        somme += valeur;
+        min = Math.min(min, valeur);
+        max = Math.max(max, valeur);
+        if (valeur < VALEUR_MIN_INDEXEE) {
+            nombreZeros++;
+            return;
+        }
+        int classe = (int) Math.ceil(Math.log(valeur) / logGamma);
+        reserver(classe, classe);
+        compteurs[classe - premiereClasse]++;
+    }
+
+    /**
+     * Ajoute toutes les valeurs d'un autre résumé.
+     * @param autre : le résumé à fusionner dans celui-ci (non modifié)
+     * @throws IllegalArgumentException si les deux résumés n'ont pas la même précision
+     */
+    public void fusionner(SketchQuantiles autre) {
+        if (autre.precisionRelative != precisionRelative) {
+            throw new IllegalArgumentException("Seuls des résumés de même précision peuvent être fusionnés.");
+        }
+        if (autre.nombre == 0) {
+            return;
+        }
+        if (autre.compteurs.length > 0) {
+            reserver(autre.premiereClasse, autre.premiereClasse + autre.compteurs.length - 1);
+            int decalage = autre.premiereClasse - premiereClasse;
+            for (int i = 0; i < autre.compteurs.length; i++) {
+                compteurs[decalage + i] += autre.compteurs[i];
+            }
+        }
+        nombreZeros += autre.nombreZeros;
+        nombre += autre.nombre;
+        somme += autre.somme;
+        min = Math.min(min, autre.min);
+        max = Math.max(max, autre.max);
+    }
+
+    /**
+     * Estime un quantile.
+     * @param q : le rang du quantile, entre 0 et 1 (0.5 pour la médiane, 0.99 pour p99)
+     * @return la valeur estimée, ou NaN si aucune valeur n'a été ajoutée
+     * @throws IllegalArgumentException si q n'est pas dans [0, 1]
+     */
+    public double quantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Le rang d'un quantile doit être compris entre 0 et 1 : " + q);
+        }
+        if (nombre == 0) {
+            return Double.NaN;
+        }
+        long rang = (long) Math.floor(q * (nombre - 1)); //Rang (à partir de 0) de la valeur cherchée
+        if (rang < nombreZeros) {
+            return min;
+        }
+        long cumul = nombreZeros;
+        for (int i = 0; i < compteurs.length; i++) {
+            cumul += compteurs[i];
+            if (cumul > rang) {
+                double estimation = 2 * Math.exp((premiereClasse + i) * logGamma) / (1 + Math.exp(logGamma)); //Milieu relatif de la classe
+                return Math.max(min, Math.min(max, estimation));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Renvoie le nombre de valeurs ajoutées.
+     * @return le nombre de valeurs
+     */
+    public long getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Renvoie la moyenne exacte des valeurs.
+     * @return la moyenne, ou NaN si aucune valeur n'a été ajoutée
+     */
+    public double getMoyenne() {
+        return nombre == 0 ? Double.NaN : somme / nombre;
+    }
+
+    /**
+     * Renvoie la plus petite valeur ajoutée.
+     * @return le minimum, ou NaN si aucune valeur n'a été ajoutée
+     */
+    public double getMin() {
+        return nombre == 0 ? Double.NaN : min;
+    }
+
+    /**
+     * Renvoie la plus grande valeur ajoutée.
+     * @return le maximum, ou NaN si aucune valeur n'a été ajoutée
+     */
+    public double getMax() {
+        return nombre == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * Agrandit le tableau des compteurs pour qu'il couvre les classes [debut, fin].
+     */
+    private void reserver(int debut, int fin) {
+        if (compteurs.length == 0) {
+            compteurs = new long[Math.max(CAPACITE_INITIALE, fin - debut + 1)];
+            premiereClasse = debut - (compteurs.length - (fin - debut + 1)) / 2; //Marge des deux côtés
+            return;
+        }
+        int derniereClasse = premiereClasse + compteurs.length - 1;
+        if (debut >= premiereClasse && fin <= derniereClasse) {
+            return;
+        }
+        int nouvellePremiere = Math.min(debut, premiereClasse);
+        int nouvelleDerniere = Math.max(fin, derniereClasse);
+        int taille = Math.max(compteurs.length * 2, nouvelleDerniere - nouvellePremiere + 1);
+        int marge = taille - (nouvelleDerniere - nouvellePremiere + 1);
+        //La marge est laissée du côté où le tableau a dû être agrandi
+        if (debut < premiereClasse) {
+            nouvellePremiere -= fin > derniereClasse ? marge / 2 : marge;
+        }
+        long[] nouveaux = new long[taille];
+        System.arraycopy(compteurs, 0, nouveaux, premiereClasse - nouvellePremiere, compteurs.length);
+        compteurs = nouveaux;
+        premiereClasse = nouvellePremiere;
+    }
+}
@@ -0,0 +1,85 @@
+package com.ordonnancement.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tampon circulaire borné qui conserve les dernières lignes reçues
+ * (par exemple la sortie d'un processus externe) : les plus anciennes sont écrasées
+ * lorsque la capacité est atteinte, la mémoire utilisée reste donc constante.
+ * Peut être alimenté et lu depuis plusieurs threads.
+ * @author ROMA Quentin
+ */
+public class TamponLignes {
+
+    private final String[] lignes; //Tableau circulaire des lignes conservées
+    private int prochaine = 0; //Position de la prochaine ligne à écrire
+    private long total = 0; //Nombre total de lignes reçues depuis la création
+
+    /**
+     * Constructeur
+     * @param capacite : le nombre maximum de lignes conservées
+     * @throws IllegalArgumentException si la capacité n'est pas strictement positive
+     */
+    public TamponLignes(int capacite) {
+        if (capacite <= 0) {
+            throw new IllegalArgumentException("La capacité du tampon doit être strictement positive : " + capacite);
+        }
+        this.lignes = new String[capacite];
+    }
+
+    /**
+     * Ajoute une ligne, en écrasant la plus ancienne si le tampon est plein.
+     * @param ligne : la ligne à ajouter
+     */
+    public synchronized void ajouter(String ligne) {
+        lignes[prochaine] = ligne;
+        prochaine = (prochaine + 1) % lignes.length;
+        total++;
+    }
+
+    /**
+     * Renvoie les lignes conservées, de la plus ancienne à la plus récente.
+     * @return une copie des lignes conservées
+     */
+    public synchronized List<String> getLignes() {
+        int taille = (int) Math.min(total, lignes.length);
+        List<String> copie = new ArrayList<>(taille);
+        int debut = total > lignes.length ? prochaine : 0;
+        for (int i = 0; i < taille; i++) {
+            copie.add(lignes[(debut + i) % lignes.length]);
+        }
+        return copie;
+    }
+
+    /**
+     * Renvoie le nombre total de lignes reçues, y compris celles qui ont été écrasées.
+     * @return le nombre de lignes reçues
+     */
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    /**
+     * Renvoie le nombre de lignes reçues qui ne sont plus conservées.
+     * @return le nombre de lignes écrasées
+     */
+    public synchronized long getNombrePerdues() {
+        return Math.max(0, total - lignes.length);
+    }
+
+    /**
+     * Renvoie les lignes conservées séparées par des retours à la ligne,
+     * précédées du nombre de lignes perdues s'il y en a.
+     * @return le texte des lignes conservées
+     */
+    public synchronized String getTexte() {
+        StringBuilder texte = new StringBuilder();
+        long perdues = getNombrePerdues();
+        if (perdues > 0) {
+            texte.append("[... ").append(perdues).append(" lignes précédentes omises]\n");
+        }
+        texte.append(String.join("\n", getLignes()));
+        return texte.toString();
+    }
+}
@@ -0,0 +1,236 @@
+package com.ordonnancement.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Tas binaire minimum indexé : chaque élément est un entier positif (par exemple l'indice d'un processus)
+ * associé à une clé de type long, et le tas connaît la position de chaque élément.
+ *
+ * Insertion, extraction du minimum, suppression et modification de la clé d'un élément quelconque
+ * (pour faire vieillir un processus en attente par exemple) se font en O(log n),
+ * sans objet par élément : le tas ne coûte que trois tableaux.
+ * À clé égale, l'ordre d'extraction n'est pas défini : il faut intégrer l'ordre voulu dans la clé.
+ * @author ROMA Quentin
+ */
+public class TasIndexe {
+
+    private static final int ABSENT = -1; //Position d'un élément qui n'est pas dans le tas
+
+    private int[] tas; //Les éléments, rangés en tas selon leur clé
+    private int[] positions; //La position de chaque élément dans le tas (ABSENT s'il n'y est pas)
+    private long[] cles; //La clé de chaque élément
+    private int taille = 0; //Le nombre d'éléments dans le tas
+
+    /**
+     * Constructeur
+     * @param capacite : la capacité initiale (le plus grand élément attendu + 1), elle augmente si nécessaire
+     */
+    public TasIndexe(int capacite) {
+        int c = Math.max(1, capacite);
+        this.tas = new int[c];
+        this.positions = new int[c];
+        this.cles = new long[c];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    /**
+     * Ajoute un élément.
+     *
+     * @param element : l'élément (positif ou nul)
+     * @param cle : sa clé
+     * @throws IllegalArgumentException si l'élément est négatif ou déjà dans le tas
+     */
+    public void inserer(int element, long cle) {
+        if (element < 0) {
+            throw new IllegalArgumentException("Un élément du tas doit être positif ou nul : " + element);
+        }
+        agrandir(element);
+        if (positions[element] != ABSENT) {
+            throw new IllegalArgumentException("L'élément " + element + " est déjà dans le tas.");
+        }
+        cles[element] = cle;
+        tas[taille] = element;
+        positions[element] = taille;
+        monter(taille++);
+    }
+
+    /**
+     * Renvoie l'élément de plus petite clé, sans le retirer.
+     *
+     * @return l'élément
+     * @throws NoSuchElementException si le tas est vide
+     */
+    public int min() {
+        if (taille == 0) {
+            throw new NoSuchElementException("Le tas est vide.");
+        }
+        return tas[0];
+    }
+
+    /**
+     * Retire et renvoie l'élément de plus petite clé.
+     *
+     * @return l'élément
+     * @throws NoSuchElementException si le tas est vide
+     */
+    public int extraireMin() {
+        int element = min();
+        retirer(element);
+        return element;
+    }
+
+    /**
+     * Retire un élément quelconque.
+     *
+     * @param element : l'élément
+     * @throws NoSuchElementException si l'élément n'est pas dans le tas
+     */
+    public void retirer(int element) {
+        int position = position(element);
+        int dernier = tas[--taille];
+        positions[element] = ABSENT;
+        if (position == taille) {
+            return; //C'était le dernier élément du tas
+        }
+        tas[position] = dernier;
+        positions[dernier] = position;
+        if (!monter(position)) {
+            descendre(position);
+        }
+    }
+
+    /**
+     * Modifie la clé d'un élément (diminution ou augmentation) et rétablit sa place dans le tas.
+     *
+     * @param element : l'élément
+     * @param cle : sa nouvelle clé
+     * @throws NoSuchElementException si l'élément n'est pas dans le tas
+     */
+    public void modifierCle(int element, long cle) {
+        int position = position(element);
+        long ancienne = cles[element];
+        cles[element] = cle;
+        if (cle < ancienne) {
+            monter(position);
+        } else if (cle > ancienne) {
+            descendre(position);
+        }
+    }
+
+    /**
+     * Renvoie la clé d'un élément du tas.
+     *
+     * @param element : l'élément
+     * @return sa clé
+     * @throws NoSuchElementException si l'élément n'est pas dans le tas
+     */
+    public long getCle(int element) {
+        position(element);
+        return cles[element];
+    }
+
+    /**
+     * Indique si un élément est dans le tas.
+     *
+     * @param element : l'élément
+     * @return true s'il est dans le tas
+     */
+    public boolean contient(int element) {
+        return element >= 0 && element < positions.length && positions[element] != ABSENT;
+    }
+
+    /**
+     * Renvoie le nombre d'éléments dans le tas.
+     *
+     * @return le nombre d'éléments
+     */
+    public int taille() {
+        return taille;
+    }
+
+    /**
+     * Indique si le tas est vide.
+     *
+     * @return true si le tas est vide
+     */
+    public boolean estVide() {
+        return taille == 0;
+    }
+
+    /**
+     * Renvoie la position d'un élément dans le tas.
+     */
+    private int position(int element) {
+        if (!contient(element)) {
+            throw new NoSuchElementException("L'élément " + element + " n'est pas dans le tas.");
+        }
+        return positions[element];
+    }
+
+    /**
+     * Fait remonter l'élément d'une position tant que sa clé est plus petite que celle de son parent.
+     * @return true s'il a changé de position
+     */
+    private boolean monter(int position) {
+        int element = tas[position];
+        long cle = cles[element];
+        int depart = position;
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (cles[tas[parent]] <= cle) {
+                break;
+            }
+            placer(tas[parent], position);
+            position = parent;
+        }
+        placer(element, position);
+        return position != depart;
+    }
+
+    /**
+     * Fait descendre l'élément d'une position tant que sa clé est plus grande que celle d'un de ses fils.
+     */
+    private void descendre(int position) {
+        int element = tas[position];
+        long cle = cles[element];
+        while (true) {
+            int fils = 2 * position + 1;
+            if (fils >= taille) {
+                break;
+            }
+            if (fils + 1 < taille && cles[tas[fils + 1]] < cles[tas[fils]]) {
+                fils++; //Le plus petit des deux fils
+            }
+            if (cle <= cles[tas[fils]]) {
+                break;
+            }
+            placer(tas[fils], position);
+            position = fils;
+        }
+        placer(element, position);
+    }
+
+    /**
+     * Range un élément à une position du tas.
+     */
+    private void placer(int element, int position) {
+        tas[position] = element;
+        positions[element] = position;
+    }
+
+    /**
+     * Agrandit les tableaux pour pouvoir contenir un élément.
+     */
+    private void agrandir(int element) {
+        if (element < positions.length) {
+            return;
+        }
+        int capacite = Math.max(element + 1, positions.length * 2);
+        int ancienne = positions.length;
+        tas = Arrays.copyOf(tas, capacite);
+        cles = Arrays.copyOf(cles, capacite);
+        positions = Arrays.copyOf(positions, capacite);
+        Arrays.fill(positions, ancienne, capacite, ABSENT);
+    }
+}
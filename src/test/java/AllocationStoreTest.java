@@ -0,0 +1,91 @@
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.ordonnancement.model.Allocation;
+import com.ordonnancement.model.AllocationStore;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.util.ProcessUtils;
+
+public class AllocationStoreTest {
+
+    @Test
+    void testVuesRegroupeesParProcessus() {
+        // GIVEN : des allocations entrelacées de deux processus
+        Process p1 = new Process("P1", 0, 4, 10, 50, 1);
+        Process p2 = new Process("P2", 0, 3, 10, 50, 1);
+        AllocationStore store = new AllocationStore(1);
+        store.ajouter(p1, "CPU1", 0, 2);
+        store.ajouter(p2, "CPU2", 0, 3);
+        store.ajouter(p1, "CPU2", 3, 5);
+
+        // WHEN : les vues sont attachées aux processus
+        store.attacher("ALGO");
+
+        // THEN : chaque processus voit ses allocations, dans l'ordre d'ajout
+        List<Allocation> allocsP1 = p1.getAllocations("ALGO");
+        assertEquals(2, allocsP1.size());
+        assertEquals("CPU1", allocsP1.get(0).getProcessor());
+        assertEquals(3, allocsP1.get(1).getDateDebutExecution());
+        assertEquals(5, allocsP1.get(1).getDateFinExecution());
+        assertSame(p1, allocsP1.get(1).getProcessus());
+        assertEquals(1, p2.getAllocations("ALGO").size());
+        assertEquals(5, store.getDateFinMax());
+        assertThrows(IndexOutOfBoundsException.class, () -> allocsP1.get(2));
+    }
+
+    @Test
+    void testVueNonModifiable() {
+        // GIVEN : un store attaché
+        Process p = new Process("P1", 0, 2, 10, 50, 1);
+        AllocationStore store = new AllocationStore();
+        store.ajouter(p, "CPU1", 0, 2);
+        store.attacher("ALGO");
+
+        // WHEN / THEN : la vue est en lecture seule
+        assertThrows(UnsupportedOperationException.class,
+                () -> p.getAllocations("ALGO").add(new Allocation(p, "CPU1", 2, 3)));
+    }
+
+    @Test
+    void testGetAllocationStoreReutiliseLeStore() {
+        // GIVEN : deux processus dont les allocations proviennent du même store
+        Process p1 = new Process("P1", 0, 2, 10, 50, 1);
+        Process p2 = new Process("P2", 0, 2, 10, 50, 1);
+        AllocationStore store = new AllocationStore();
+        store.ajouter(p1, "CPU2", 0, 2);
+        store.ajouter(p2, "CPU1", 0, 2);
+        store.attacher("ALGO");
+
+        // WHEN / THEN : le store est renvoyé directement pour la liste complète
+        assertSame(store, ProcessUtils.getAllocationStore(List.of(p1, p2), "ALGO"));
+        assertEquals(List.of("CPU1", "CPU2"), ProcessUtils.getAllCpus(List.of(p1, p2), "ALGO"));
+
+        // WHEN / THEN : un sous-ensemble des processus donne un nouveau store restreint
+        AllocationStore partiel = ProcessUtils.getAllocationStore(List.of(p1), "ALGO");
+        assertNotSame(store, partiel);
+        assertEquals(1, partiel.taille());
+        assertEquals("CPU2", partiel.getProcesseur(0));
+    }
+
+    @Test
+    void testStoreDepuisListesClassiques() {
+        // GIVEN : un processus dont les allocations sont une liste classique
+        Process p = new Process("P1", 0, 10, 4, 50, 1);
+        p.setAllocations("ALGO", List.of(
+                new Allocation(p, "CPU1", 0, 5),
+                new Allocation(p, "CPU1", 5, 10)));
+
+        // WHEN : récupération du store de l'algo
+        AllocationStore store = ProcessUtils.getAllocationStore(List.of(p), "ALGO");
+
+        // THEN : toutes les allocations sont présentes, le processeur n'est encodé qu'une fois
+        assertEquals(2, store.taille());
+        assertEquals(1, store.getProcesseurs().size());
+        assertEquals(10, store.getDateFinMax());
+    }
+}
@@ -0,0 +1,65 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.parser.process.DetailedResultProcessParser;
+import com.ordonnancement.util.ParallelUtils;
+
+public class AnnulationTest {
+
+    @TempDir
+    Path dossier;
+
+    @AfterEach
+    void effacerInterruption() {
+        Thread.interrupted(); //Ne pas laisser le thread de test interrompu
+    }
+
+    @Test
+    void testLectureAnnuleeSiThreadInterrompu() throws IOException {
+        // GIVEN : un fichier de résultats détaillés valide
+        Path fichier = dossier.resolve("detailles.csv");
+        Files.writeString(fichier, "idProcessus,dateDebut,dateFin,idProcesseur\nP1,0,2,CPU1\n");
+        List<Process> processus = List.of(new Process("P1", 0, 2, 10, 50, 1));
+
+        // WHEN : le thread est interrompu (annulation) avant la lecture
+        Thread.currentThread().interrupt();
+
+        // THEN : la lecture est abandonnée
+        assertThrows(CancellationException.class,
+                () -> new DetailedResultProcessParser(processus).parse(fichier.toString(), "FIFO"));
+    }
+
+    @Test
+    void testExecutionParalleleAnnulee() {
+        // GIVEN : des tâches longues qui vérifient l'annulation
+        List<java.util.concurrent.Callable<Integer>> taches = List.of(
+                () -> { Thread.sleep(10_000); return 1; },
+                () -> { Thread.sleep(10_000); return 2; });
+
+        // WHEN : le thread appelant est interrompu pendant l'attente
+        Thread appelant = Thread.currentThread();
+        new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                return;
+            }
+            appelant.interrupt();
+        }).start();
+        long debut = System.nanoTime();
+
+        // THEN : l'exécution s'arrête immédiatement
+        assertThrows(CancellationException.class, () -> ParallelUtils.executer(taches));
+        assertTrue(System.nanoTime() - debut < 5_000_000_000L, "L'annulation doit être immédiate");
+    }
+}
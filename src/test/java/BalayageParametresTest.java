@@ -0,0 +1,78 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ordonnancement.model.AlgoConfiguration;
+import com.ordonnancement.model.FileConfiguration;
+import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.ModeSimulation;
+import com.ordonnancement.model.ParametreBalayage;
+import com.ordonnancement.model.PointBalayage;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Ressources;
+import com.ordonnancement.model.TypeMoteur;
+import com.ordonnancement.service.SuiviExecution;
+import com.ordonnancement.service.engine.BalayageParametres;
+import com.ordonnancement.service.engine.JavaSchedulingEngine;
+import com.ordonnancement.service.engine.SchedulingEngineException;
+import com.ordonnancement.service.parser.process.InitialProcessParser;
+import com.ordonnancement.service.parser.ressources.RessourcesParser;
+
+public class BalayageParametresTest {
+
+    private static final AlgoConfiguration ROUND_ROBIN = new AlgoConfiguration("ROUND ROBIN",
+            "python/Resultats/RoundRobin/rDetailled.csv", "python/Resultats/RoundRobin/rGlobaux.csv", 2);
+
+    @Test
+    void testParserValeurs() {
+        // WHEN / THEN : entiers, plages et plages avec un pas
+        assertEquals(List.of(1, 2, 3, 8, 10, 12), BalayageParametres.parserValeurs("1-3, 8-12:2"));
+        assertEquals(List.of(5), BalayageParametres.parserValeurs(" 5 "));
+        assertThrows(SchedulingEngineException.class, () -> BalayageParametres.parserValeurs("4-2"));
+        assertThrows(SchedulingEngineException.class, () -> BalayageParametres.parserValeurs("1-x"));
+        assertThrows(SchedulingEngineException.class, () -> BalayageParametres.parserValeurs("3:2"));
+        // Un quantum nul est refusé avant de lancer les simulations
+        assertThrows(SchedulingEngineException.class, () -> new BalayageParametres(ROUND_ROBIN,
+                ParametreBalayage.QUANTUM, List.of(0, 1), ModeSimulation.TICK));
+    }
+
+    @Test
+    void testMemesResultatsQuUneExecutionParQuantum() {
+        // GIVEN : les processus d'exemple, lus une seule fois
+        List<Process> processus = new InitialProcessParser().parse("python/Settings/processusInitiaux.csv");
+        Ressources ressources = RessourcesParser.parse("python/Settings/ressources.json");
+        BalayageParametres balayage = new BalayageParametres(ROUND_ROBIN, ParametreBalayage.QUANTUM,
+                List.of(4, 1, 2, 3, 2), ModeSimulation.EVENEMENTIEL);
+
+        // WHEN : le quantum est balayé
+        List<Integer> recus = Collections.synchronizedList(new ArrayList<>());
+        List<PointBalayage> points = balayage.executer(processus, ressources, p -> recus.add(p.getValeur()), SuiviExecution.AUCUN);
+
+        // THEN : un point par quantum, par valeur croissante, chacun signalé à l'écouteur
+        assertEquals(List.of(1, 2, 3, 4), points.stream().map(PointBalayage::getValeur).toList());
+        assertEquals(4, recus.size());
+        // Les résultats des variantes ont été retirés des processus
+        for (Process p : processus) {
+            assertTrue(p.getAllExecutions().isEmpty());
+            assertTrue(p.getAllAllocations().isEmpty());
+        }
+        // Chaque point a les mêmes métriques qu'une exécution normale avec ce quantum
+        for (PointBalayage point : points) {
+            AlgoConfiguration algo = ParametreBalayage.QUANTUM.appliquer(ROUND_ROBIN, point.getValeur());
+            FileConfiguration config = new FileConfiguration("python/Settings/processusInitiaux.csv",
+                    "python/Resultats/Metriques/MetriquesGlobales.csv", "python/Settings/ressources.json",
+                    List.of(algo), TypeMoteur.JAVA, ModeSimulation.EVENEMENTIEL);
+            List<Process> copie = new InitialProcessParser().parse(config.getFichierProcessus());
+            Metrics attendu = new JavaSchedulingEngine().ordonnancer(config, copie, ressources).get(0);
+            assertEquals(attendu.getMakespan(), point.getMetriques().getMakespan());
+            assertEquals(attendu.getTempsAttenteMoyen(), point.getMetriques().getTempsAttenteMoyen(), 1e-9);
+            assertEquals(attendu.getTempsReponseMoyen(), point.getMetriques().getTempsReponseMoyen(), 1e-9);
+            assertEquals(processus.size(), point.getMetriquesDetaillees().getNombreProcessus());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ordonnancement.model.Allocation;
+import com.ordonnancement.model.ExecutionInfo;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.parser.FileParsingException;
+import com.ordonnancement.service.parser.process.BinaryResultProcessParser;
+import com.ordonnancement.service.parser.process.BinaryResultProcessWriter;
+import com.ordonnancement.service.parser.process.DetailedResultProcessParser;
+import com.ordonnancement.service.parser.process.GlobalResultProcessParser;
+import com.ordonnancement.service.parser.process.InitialProcessParser;
+
+public class BinaryResultProcessParserTest {
+
+    private static final String ALGO = "ROUND ROBIN";
+    private static final String FICHIER_PROCESSUS = "python/Settings/processusInitiaux.csv";
+
+    @TempDir
+    Path dossier;
+
+    @Test
+    void testMemesResultatsQueLeCsv() throws IOException {
+        // GIVEN : les résultats de référence de python, lus en CSV puis écrits en binaire
+        List<Process> depuisCsv = new InitialProcessParser().parse(FICHIER_PROCESSUS);
+        new GlobalResultProcessParser(depuisCsv).parse("python/Resultats/RoundRobin/rGlobaux.csv", ALGO);
+        new DetailedResultProcessParser(depuisCsv).parse("python/Resultats/RoundRobin/rDetailled.csv", ALGO);
+        String globaux = dossier.resolve("rGlobaux.bin").toString();
+        String detailles = dossier.resolve("rDetailled.bin").toString();
+        new BinaryResultProcessWriter(depuisCsv).ecrireGlobaux(globaux, ALGO);
+        new BinaryResultProcessWriter(depuisCsv).ecrireDetailles(detailles, ALGO);
+
+        // WHEN : les fichiers binaires sont relus
+        List<Process> depuisBinaire = new InitialProcessParser().parse(FICHIER_PROCESSUS);
+        new BinaryResultProcessParser(depuisBinaire).parseGlobaux(globaux, ALGO);
+        new BinaryResultProcessParser(depuisBinaire).parseDetailles(detailles, ALGO);
+
+        // THEN : chaque processus a les mêmes exécutions et allocations
+        for (int i = 0; i < depuisCsv.size(); i++) {
+            ExecutionInfo attendue = depuisCsv.get(i).getExecutionInfo(ALGO);
+            ExecutionInfo lue = depuisBinaire.get(i).getExecutionInfo(ALGO);
+            assertEquals(attendue.getDateDebut(), lue.getDateDebut());
+            assertEquals(attendue.getDateFin(), lue.getDateFin());
+            assertEquals(attendue.getUsedRam(), lue.getUsedRam());
+            List<Allocation> allocsAttendues = depuisCsv.get(i).getAllocations(ALGO);
+            List<Allocation> allocsLues = depuisBinaire.get(i).getAllocations(ALGO);
+            assertEquals(allocsAttendues.size(), allocsLues.size());
+            for (int k = 0; k < allocsAttendues.size(); k++) {
+                assertEquals(allocsAttendues.get(k).getProcessor(), allocsLues.get(k).getProcessor());
+                assertEquals(allocsAttendues.get(k).getDateDebutExecution(), allocsLues.get(k).getDateDebutExecution());
+                assertEquals(allocsAttendues.get(k).getDateFinExecution(), allocsLues.get(k).getDateFinExecution());
+            }
+        }
+        // Le fichier binaire est plus petit que le CSV
+        assertTrue(Files.size(Path.of(detailles)) < Files.size(Path.of("python/Resultats/RoundRobin/rDetailled.csv")));
+    }
+
+    @Test
+    void testFichiersInvalides() throws IOException {
+        // GIVEN : un fichier binaire valide, écrit pour un processus qui n'est pas dans la liste initiale
+        Process inconnu = new Process("INCONNU", 0, 2, 10, 50, 1);
+        inconnu.addExecution(ALGO, new ExecutionInfo(0, 2, 10));
+        Path globaux = dossier.resolve("g.bin");
+        new BinaryResultProcessWriter(List.of(inconnu)).ecrireGlobaux(globaux.toString(), ALGO);
+        List<Process> processus = new InitialProcessParser().parse(FICHIER_PROCESSUS);
+        BinaryResultProcessParser parser = new BinaryResultProcessParser(processus);
+
+        // WHEN / THEN : processus inconnu, fichier tronqué, mauvais type ou fichier CSV sont refusés
+        assertThrows(FileParsingException.class, () -> parser.parseGlobaux(globaux.toString(), ALGO));
+
+        byte[] octets = Files.readAllBytes(globaux);
+        Path tronque = dossier.resolve("tronque.bin");
+        Files.write(tronque, Arrays.copyOf(octets, octets.length - 1));
+        assertThrows(FileParsingException.class, () -> parser.parseGlobaux(tronque.toString(), ALGO));
+
+        assertThrows(FileParsingException.class, () -> parser.parseDetailles(globaux.toString(), ALGO));
+        assertThrows(FileParsingException.class,
+                () -> parser.parseDetailles("python/Resultats/RoundRobin/rDetailled.csv", ALGO));
+    }
+}
@@ -0,0 +1,107 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ordonnancement.model.Resultats;
+import com.ordonnancement.service.AppState;
+import com.ordonnancement.util.CacheParGeneration;
+
+// Même génération que le cache des vues (CacheVues) : celle des résultats de AppState
+public class CacheParGenerationTest {
+
+    private final List<String> constructions = new ArrayList<>(); //Clés construites, dans l'ordre
+    private final Queue<Runnable> impulsions = new ArrayDeque<>(); //Tâches de préchargement en attente (impulsions JavaFX)
+    private CacheParGeneration<String, Object> cache;
+
+    @BeforeEach
+    void creerCache() {
+        cache = new CacheParGeneration<>(AppState.getInstance()::getGenerationResultats, cle -> {
+            constructions.add(cle);
+            return new Object();
+        });
+    }
+
+    @AfterEach
+    void effacerResultats() {
+        AppState.getInstance().setResultats(null);
+        AppState.getInstance().setResultatsCompares(List.of());
+    }
+
+    @Test
+    void testReutiliseeTantQueLaGenerationNeChangePas() throws Exception {
+        // WHEN
+        Object premiere = cache.obtenir("processus.fxml");
+        Object seconde = cache.obtenir("processus.fxml");
+
+        // THEN
+        assertSame(premiere, seconde);
+        assertEquals(List.of("processus.fxml"), constructions);
+    }
+
+    @Test
+    void testReconstruiteApresNouveauxResultats() throws Exception {
+        // GIVEN
+        Object avant = cache.obtenir("gantt.fxml");
+
+        // WHEN
+        AppState.getInstance().setResultats(new Resultats(List.of(), List.of()));
+
+        // THEN
+        Object apres = cache.obtenir("gantt.fxml");
+        assertNotSame(avant, apres);
+        assertSame(apres, cache.obtenir("gantt.fxml"));
+        assertEquals(2, constructions.size());
+    }
+
+    @Test
+    void testReconstruiteApresNouveauxResultatsCompares() throws Exception {
+        // GIVEN
+        Object avant = cache.obtenir("metriques.fxml");
+
+        // WHEN
+        AppState.getInstance().setResultatsCompares(List.of(new Resultats(List.of(), List.of())));
+
+        // THEN
+        assertNotSame(avant, cache.obtenir("metriques.fxml"));
+        assertEquals(2, constructions.size());
+    }
+
+    @Test
+    void testPrechargementAbandonneSiLesResultatsChangent() {
+        // GIVEN : un préchargement de trois vues, dont la première est construite
+        cache.precharger(List.of("a.fxml", "b.fxml", "c.fxml"), impulsions::add);
+        impulsions.poll().run();
+        assertEquals(List.of("a.fxml"), constructions);
+
+        // WHEN : les résultats changent pendant le préchargement
+        AppState.getInstance().setResultats(new Resultats(List.of(), List.of()));
+        executerImpulsions();
+
+        // THEN : le préchargement périmé s'arrête
+        assertEquals(List.of("a.fxml"), constructions);
+
+        // THEN : celui des nouveaux résultats construit toutes les vues, puis elles sont réutilisées
+        cache.precharger(List.of("a.fxml", "b.fxml", "c.fxml"), impulsions::add);
+        executerImpulsions();
+        assertEquals(List.of("a.fxml", "a.fxml", "b.fxml", "c.fxml"), constructions);
+        cache.precharger(List.of("a.fxml", "b.fxml", "c.fxml"), impulsions::add);
+        executerImpulsions();
+        assertEquals(4, constructions.size());
+    }
+
+    // Exécute les tâches de préchargement, y compris celles qu'elles planifient
+    private void executerImpulsions() {
+        Runnable tache;
+        while ((tache = impulsions.poll()) != null) {
+            tache.run();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ordonnancement.model.AlgoConfiguration;
+import com.ordonnancement.model.FileConfiguration;
+import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.model.TypeMoteur;
+import com.ordonnancement.service.cache.CacheResultats;
+import com.ordonnancement.service.engine.JavaSchedulingEngine;
+import com.ordonnancement.service.parser.process.InitialProcessParser;
+import com.ordonnancement.service.parser.ressources.RessourcesParser;
+
+public class CacheResultatsTest {
+
+    private static final String FICHIER_PROCESSUS = "python/Settings/processusInitiaux.csv";
+    private static final String FICHIER_RESSOURCES = "python/Settings/ressources.json";
+
+    @TempDir
+    Path dossier;
+
+    private FileConfiguration creerConfiguration(String fichierProcessus, AlgoConfiguration algo) {
+        return new FileConfiguration(fichierProcessus, "m.csv", FICHIER_RESSOURCES, List.of(algo), TypeMoteur.JAVA);
+    }
+
+    private List<Process> simuler(FileConfiguration config, List<Metrics> metriques) {
+        List<Process> processus = new InitialProcessParser().parse(config.getFichierProcessus());
+        metriques.addAll(new JavaSchedulingEngine().ordonnancer(config, processus, RessourcesParser.parse(FICHIER_RESSOURCES)));
+        return processus;
+    }
+
+    @Test
+    void testResultatsRelusDepuisLeCache() {
+        // GIVEN : un cache vide et les résultats d'un Round Robin
+        CacheResultats cache = new CacheResultats(dossier.resolve("cache"), 10_000_000);
+        AlgoConfiguration rr = new AlgoConfiguration("ROUND ROBIN", "d.csv", "g.csv", 2);
+        FileConfiguration config = creerConfiguration(FICHIER_PROCESSUS, rr);
+        String cle = CacheResultats.cle(CacheResultats.empreinteEntrees(config), rr);
+        List<Metrics> metriques = new ArrayList<>();
+        List<Process> simules = simuler(config, metriques);
+
+        // WHEN : le premier chargement échoue, les résultats sont enregistrés puis relus
+        List<Process> relus = new InitialProcessParser().parse(FICHIER_PROCESSUS);
+        assertNull(cache.charger(cle, relus, "ROUND ROBIN"));
+        cache.enregistrer(cle, simules, metriques.get(0));
+        Metrics metriquesRelues = cache.charger(cle, relus, "ROUND ROBIN");
+
+        // THEN : mêmes métriques et mêmes allocations
+        assertNotNull(metriquesRelues);
+        assertEquals(metriques.get(0).getMakespan(), metriquesRelues.getMakespan());
+        assertEquals(metriques.get(0).getTempsAttenteMoyen(), metriquesRelues.getTempsAttenteMoyen());
+        for (int i = 0; i < simules.size(); i++) {
+            assertEquals(simules.get(i).getExecutionInfo("ROUND ROBIN").getDateFin(),
+                    relus.get(i).getExecutionInfo("ROUND ROBIN").getDateFin());
+            assertEquals(simules.get(i).getAllocations("ROUND ROBIN").size(), relus.get(i).getAllocations("ROUND ROBIN").size());
+        }
+    }
+
+    @Test
+    void testCleDependDesEntreesEtDuQuantum() throws IOException {
+        // GIVEN : le même algorithme avec un autre quantum, ou un fichier de processus modifié
+        AlgoConfiguration rr2 = new AlgoConfiguration("ROUND ROBIN", "d.csv", "g.csv", 2);
+        AlgoConfiguration rr3 = new AlgoConfiguration("ROUND ROBIN", "autre.csv", "autre.csv", 3);
+        Path copie = dossier.resolve("processus.csv");
+        Files.copy(Path.of(FICHIER_PROCESSUS), copie);
+        String empreinte = CacheResultats.empreinteEntrees(creerConfiguration(copie.toString(), rr2));
+
+        // WHEN / THEN : les chemins des fichiers de résultats n'entrent pas dans la clé, le quantum si
+        assertEquals(empreinte, CacheResultats.empreinteEntrees(creerConfiguration(FICHIER_PROCESSUS, rr2)));
+        assertEquals(CacheResultats.cle(empreinte, rr2),
+                CacheResultats.cle(empreinte, new AlgoConfiguration("ROUND ROBIN", "x.csv", "y.csv", 2)));
+        assertNotEquals(CacheResultats.cle(empreinte, rr2), CacheResultats.cle(empreinte, rr3));
+
+        // WHEN / THEN : modifier le fichier des processus change l'empreinte
+        Files.writeString(copie, "\n", StandardOpenOption.APPEND);
+        assertNotEquals(empreinte, CacheResultats.empreinteEntrees(creerConfiguration(copie.toString(), rr2)));
+    }
+
+    @Test
+    void testEvictionDesEntreesLesMoinsRecentes() throws IOException {
+        // GIVEN : un cache qui ne peut contenir que deux entrées
+        List<Metrics> metriques = new ArrayList<>();
+        AlgoConfiguration fifo = new AlgoConfiguration("FIFO", "d.csv", "g.csv", null);
+        List<Process> simules = simuler(creerConfiguration(FICHIER_PROCESSUS, fifo), metriques);
+        Path dossierCache = dossier.resolve("cache");
+        new CacheResultats(dossierCache, Long.MAX_VALUE).enregistrer("a", simules, metriques.get(0));
+        long tailleEntree = new CacheResultats(dossierCache, Long.MAX_VALUE).getTailleTotale();
+        CacheResultats cache = new CacheResultats(dossierCache, 2 * tailleEntree);
+
+        // WHEN : "a" est relue (la plus récemment utilisée), puis deux autres entrées sont ajoutées
+        cache.enregistrer("b", simules, metriques.get(0));
+        Files.setLastModifiedTime(dossierCache.resolve("b"), FileTime.fromMillis(0));
+        assertNotNull(cache.charger("a", new InitialProcessParser().parse(FICHIER_PROCESSUS), "FIFO"));
+        cache.enregistrer("c", simules, metriques.get(0));
+
+        // THEN : "b", la moins récemment utilisée, a été supprimée
+        assertTrue(cache.getTailleTotale() <= 2 * tailleEntree);
+        assertTrue(Files.isDirectory(dossierCache.resolve("a")));
+        assertTrue(Files.isDirectory(dossierCache.resolve("c")));
+        assertNull(cache.charger("b", new InitialProcessParser().parse(FICHIER_PROCESSUS), "FIFO"));
+    }
+}
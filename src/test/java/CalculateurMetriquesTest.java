@@ -0,0 +1,74 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ordonnancement.model.Allocation;
+import com.ordonnancement.model.ExecutionInfo;
+import com.ordonnancement.model.MetriquesDetaillees;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.metriques.CalculateurMetriques;
+import com.ordonnancement.util.SketchQuantiles;
+
+public class CalculateurMetriquesTest {
+
+    @Test
+    void testQuantilesAUnPourcentPres() {
+        // GIVEN : 200 000 valeurs à queue lourde, réparties entre deux sketches
+        SplittableRandom random = new SplittableRandom(3);
+        double[] valeurs = new double[200_000];
+        SketchQuantiles premier = new SketchQuantiles(0.01);
+        SketchQuantiles second = new SketchQuantiles(0.01);
+        for (int i = 0; i < valeurs.length; i++) {
+            valeurs[i] = 1 / Math.pow(1 - random.nextDouble(), 1 / 1.5);
+            (i % 2 == 0 ? premier : second).ajouter(valeurs[i]);
+        }
+
+        // WHEN : les deux sketches sont fusionnés
+        premier.fusionner(second);
+
+        // THEN : chaque quantile est à 1 % de la valeur exacte
+        Arrays.sort(valeurs);
+        for (double q : new double[] {0.5, 0.9, 0.99, 0.999}) {
+            double exact = valeurs[(int) Math.floor(q * (valeurs.length - 1))];
+            assertEquals(exact, premier.quantile(q), exact * 0.01, "Quantile " + q);
+        }
+        assertEquals(valeurs.length, premier.getNombre());
+        assertEquals(valeurs[valeurs.length - 1], premier.getMax());
+        assertThrows(IllegalArgumentException.class, () -> premier.fusionner(new SketchQuantiles(0.05)));
+    }
+
+    @Test
+    void testMetriquesDetaillees() {
+        // GIVEN : P1 exécuté d'une traite sur CPU1, P2 interrompu puis repris sur CPU2
+        Process p1 = new Process("P1", 0, 4, 64, 10, 1);
+        p1.addExecution("RR", new ExecutionInfo(0, 4, 1));
+        p1.setAllocations("RR", List.of(new Allocation(p1, "CPU1", 0, 2), new Allocation(p1, "CPU1", 2, 4)));
+        Process p2 = new Process("P2", 2, 4, 64, 5, 1);
+        p2.addExecution("RR", new ExecutionInfo(4, 10, 2));
+        p2.setAllocations("RR", List.of(new Allocation(p2, "CPU1", 4, 6), new Allocation(p2, "CPU2", 8, 10)));
+
+        // WHEN
+        MetriquesDetaillees metriques = CalculateurMetriques.calculer(List.of(p1, p2), "RR");
+
+        // THEN : attentes 0 et 2, séjours 4 et 8, une deadline manquée (P2)
+        assertEquals(2, metriques.getNombreProcessus());
+        assertEquals(1.0, metriques.getAttente().getMoyenne(), 1e-9);
+        assertEquals(2.0, metriques.getAttente().getMax(), 1e-9);
+        assertEquals(8.0, metriques.getSejour().getMax(), 1e-9);
+        assertEquals(2.0, metriques.getRalentissement().getMax(), 1e-9);
+        assertEquals(1, metriques.getDeadlinesManquees());
+        assertEquals(0.5, metriques.getTauxDeadlinesManquees(), 1e-9);
+        // CPU1 occupé 6 unités sur 10, CPU2 2 unités ; 3 changements de contexte (P1, P2 sur CPU1, P2 sur CPU2)
+        assertEquals(List.of("CPU1", "CPU2"), List.copyOf(metriques.getUtilisationParProcesseur().keySet()));
+        assertEquals(0.6, metriques.getUtilisationParProcesseur().get("CPU1"), 1e-9);
+        assertEquals(0.2, metriques.getUtilisationParProcesseur().get("CPU2"), 1e-9);
+        assertEquals(3, metriques.getChangementsContexte());
+        assertEquals(10, metriques.getMakespan());
+        assertTrue(Math.abs(metriques.getDebit() - 0.2) < 1e-9);
+    }
+}
@@ -0,0 +1,56 @@
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ordonnancement.model.ChargementDetails;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Resultats;
+import com.ordonnancement.service.parser.FileParsingException;
+
+public class ChargementDetailsTest {
+
+    @Test
+    void testChargementUniqueEnArrierePlan() throws Exception {
+        // GIVEN : des résultats dont les détails de FIFO ne sont pas chargés
+        AtomicInteger nbChargements = new AtomicInteger();
+        List<Process> processus = List.of(new Process("P1", 0, 2, 10, 50, 1));
+        ChargementDetails fifo = new ChargementDetails("FIFO", nbChargements::incrementAndGet);
+        Resultats resultats = new Resultats(processus, List.of(), Set.of(), List.of(fifo, ChargementDetails.termine("SJF")));
+        assertFalse(resultats.isDetailsCharges());
+        assertTrue(resultats.getChargementDetails("SJF").isTermine());
+
+        // WHEN : le chargement est demandé plusieurs fois, en arrière-plan puis de manière bloquante
+        List<Process> charges = resultats.chargerDetails("FIFO").get(5, TimeUnit.SECONDS);
+        resultats.chargerDetails().get(5, TimeUnit.SECONDS);
+        resultats.attendreDetails();
+
+        // THEN : les processus sont renvoyés et le chargement n'a été fait qu'une fois
+        assertSame(processus, charges);
+        assertEquals(1, nbChargements.get());
+        assertTrue(resultats.isDetailsCharges());
+    }
+
+    @Test
+    void testErreurDeChargement() {
+        // GIVEN : un chargement qui échoue
+        ChargementDetails chargement = new ChargementDetails("FIFO", () -> {
+            throw new FileParsingException("Fichier invalide");
+        });
+
+        // WHEN / THEN : l'attente bloquante relance l'erreur, le futur échoue avec la même erreur
+        assertThrows(FileParsingException.class, chargement::attendre);
+        CompletionException erreur = assertThrows(CompletionException.class, () -> chargement.demarrer().join());
+        assertInstanceOf(FileParsingException.class, erreur.getCause());
+        assertFalse(chargement.isTermine());
+    }
+}
@@ -0,0 +1,78 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ordonnancement.util.DossierEntrees;
+
+public class DossierEntreesTest {
+
+    @TempDir
+    Path dossier;
+
+    @Test
+    void testEcritureRemplaceLEntreeExistante() throws IOException {
+        // GIVEN
+        DossierEntrees entrees = new DossierEntrees(dossier.resolve("entrees"));
+        entrees.ecrire("a", temporaire -> {
+            Files.writeString(temporaire.resolve("ancien.txt"), "1");
+            return true;
+        });
+
+        // WHEN
+        boolean enregistree = entrees.ecrire("a", temporaire -> {
+            Files.writeString(temporaire.resolve("nouveau.txt"), "2");
+            return true;
+        });
+
+        // THEN : seule la nouvelle version reste
+        assertTrue(enregistree);
+        assertEquals(List.of(dossier.resolve("entrees").resolve("a")), entrees.listerEntrees());
+        try (var fichiers = Files.list(dossier.resolve("entrees").resolve("a"))) {
+            assertEquals(List.of("nouveau.txt"), fichiers.map(f -> f.getFileName().toString()).toList());
+        }
+    }
+
+    @Test
+    void testEcritureAbandonneeOuEnErreur() throws IOException {
+        // GIVEN
+        DossierEntrees entrees = new DossierEntrees(dossier);
+
+        // WHEN : une écriture abandonnée, puis une écriture en erreur
+        assertFalse(entrees.ecrire("a", temporaire -> false));
+        assertThrows(IOException.class, () -> entrees.ecrire("b", temporaire -> {
+            throw new IOException("disque plein");
+        }));
+
+        // THEN : aucune entrée ni aucun dossier temporaire ne reste
+        try (var contenu = Files.list(dossier)) {
+            assertEquals(0, contenu.count());
+        }
+    }
+
+    @Test
+    void testListeEtSuppression() throws IOException {
+        // GIVEN : une entrée avec un sous-dossier, et un dossier temporaire laissé par un arrêt brutal
+        Path entree = dossier.resolve("a");
+        Files.createDirectories(entree.resolve("sous-dossier"));
+        Files.writeString(entree.resolve("sous-dossier").resolve("f.bin"), "x");
+        Files.createDirectories(dossier.resolve("b.12345"));
+        DossierEntrees entrees = new DossierEntrees(dossier);
+
+        // WHEN / THEN : le dossier temporaire est ignoré
+        assertEquals(List.of(entree), entrees.listerEntrees());
+
+        // WHEN / THEN : l'entrée est supprimée avec tout son contenu
+        DossierEntrees.supprimer(entree);
+        assertFalse(Files.exists(entree));
+        assertEquals(List.of(), entrees.listerEntrees());
+        assertEquals(List.of(), new DossierEntrees(dossier.resolve("absent")).listerEntrees());
+    }
+}
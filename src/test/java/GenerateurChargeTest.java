@@ -0,0 +1,112 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Ressources;
+import com.ordonnancement.service.generation.GenerateurCharge;
+import com.ordonnancement.service.generation.GenerationException;
+import com.ordonnancement.service.generation.Melange;
+import com.ordonnancement.service.generation.ParametresCharge;
+import com.ordonnancement.service.parser.process.InitialProcessParser;
+import com.ordonnancement.service.parser.ressources.RessourcesParser;
+import com.ordonnancement.service.validation.ProcessValidator;
+
+public class GenerateurChargeTest {
+
+    @TempDir
+    Path dossier;
+
+    @Test
+    void testMemeGraineMemesOctets() throws IOException {
+        // GIVEN : deux générateurs avec la même graine
+        ParametresCharge parametres = new ParametresCharge();
+        parametres.setNombreProcessus(5000);
+        parametres.setLoiArrivee(ParametresCharge.LoiArrivee.RAFALES);
+        parametres.setLoiDuree(ParametresCharge.LoiDuree.PARETO);
+
+        // WHEN : les processus sont écrits deux fois
+        ByteArrayOutputStream premier = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        new GenerateurCharge(parametres).ecrireProcessus(premier);
+        new GenerateurCharge(parametres).ecrireProcessus(second);
+
+        // THEN : les fichiers sont identiques
+        assertArrayEquals(premier.toByteArray(), second.toByteArray());
+
+        // WHEN / THEN : une autre graine donne un autre fichier
+        parametres.setGraine(7);
+        ByteArrayOutputStream autre = new ByteArrayOutputStream();
+        new GenerateurCharge(parametres).ecrireProcessus(autre);
+        assertFalse(java.util.Arrays.equals(premier.toByteArray(), autre.toByteArray()));
+    }
+
+    @Test
+    void testFichiersAcceptesParLesParsers() {
+        // GIVEN : une charge en rafales avec une queue lourde et 6 processeurs
+        ParametresCharge parametres = new ParametresCharge();
+        parametres.setNombreProcessus(20_000);
+        parametres.setLoiArrivee(ParametresCharge.LoiArrivee.RAFALES);
+        parametres.setTauxArrivee(4);
+        parametres.setLoiDuree(ParametresCharge.LoiDuree.PARETO);
+        parametres.setNombreProcesseurs(6);
+
+        // WHEN : les fichiers sont générés puis relus
+        new GenerateurCharge(parametres).generer(dossier);
+        List<Process> processus = new InitialProcessParser().parse(dossier.resolve("processusInitiaux.csv").toString());
+        Ressources ressources = RessourcesParser.parse(dossier.resolve("ressources.json").toString());
+
+        // THEN : les processus sont valides, soumis dans l'ordre et tiennent dans la RAM
+        assertEquals(20_000, processus.size());
+        ProcessValidator.valider(processus);
+        assertEquals(6, ressources.getProcesseurs().size());
+        int soumissionPrecedente = 0;
+        for (Process p : processus) {
+            assertTrue(p.getDateSoumission() >= soumissionPrecedente);
+            assertTrue(p.getRequiredRam() <= ressources.getRamTotale());
+            soumissionPrecedente = p.getDateSoumission();
+        }
+        // Débit moyen proche du taux demandé (4 processus par unité de temps)
+        double taux = processus.size() / (double) soumissionPrecedente;
+        assertTrue(taux > 3 && taux < 5, "Taux d'arrivée observé : " + taux);
+    }
+
+    @Test
+    void testMelangeRespecteLesPoids() {
+        // GIVEN : un mélange 1:1, 2:3 et une valeur de poids nul
+        Melange melange = Melange.parse("1:1,5:0,2:3");
+        SplittableRandom random = new SplittableRandom(1);
+
+        // WHEN : 100 000 tirages
+        int[] compteurs = new int[6];
+        for (int i = 0; i < 100_000; i++) {
+            compteurs[melange.tirer(random)]++;
+        }
+
+        // THEN : environ un quart de 1, trois quarts de 2, jamais 5
+        assertEquals(0, compteurs[5]);
+        assertEquals(25_000, compteurs[1], 1_000);
+        assertThrows(GenerationException.class, () -> Melange.parse("512:x"));
+    }
+
+    @Test
+    void testRamTotaleInsuffisante() {
+        // GIVEN : une RAM totale inférieure à la plus grande RAM demandée
+        ParametresCharge parametres = new ParametresCharge();
+        parametres.setRam(Melange.parse("1024,4096"));
+        parametres.setRamTotale(2048);
+
+        // WHEN / THEN : la génération est refusée
+        assertThrows(GenerationException.class, () -> new GenerateurCharge(parametres));
+    }
+}
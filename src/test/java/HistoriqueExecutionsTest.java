@@ -0,0 +1,136 @@
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ordonnancement.config.ConfigurationManager;
+import com.ordonnancement.model.AlgoConfiguration;
+import com.ordonnancement.model.ExecutionArchivee;
+import com.ordonnancement.model.FileConfiguration;
+import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Resultats;
+import com.ordonnancement.model.TypeMoteur;
+import com.ordonnancement.service.engine.JavaSchedulingEngine;
+import com.ordonnancement.service.gantt.GanttProcessorService;
+import com.ordonnancement.service.historique.HistoriqueException;
+import com.ordonnancement.service.historique.HistoriqueExecutions;
+import com.ordonnancement.service.parser.process.InitialProcessParser;
+import com.ordonnancement.service.parser.ressources.RessourcesParser;
+
+public class HistoriqueExecutionsTest {
+
+    private static final String FICHIER_PROCESSUS = "python/Settings/processusInitiaux.csv";
+    private static final String FICHIER_RESSOURCES = "python/Settings/ressources.json";
+
+    @TempDir
+    Path dossier;
+
+    private final FileConfiguration config = new FileConfiguration(FICHIER_PROCESSUS, "m.csv", FICHIER_RESSOURCES,
+            List.of(new AlgoConfiguration("FIFO", "d1.csv", "g1.csv", null),
+                    new AlgoConfiguration("ROUND ROBIN", "d2.csv", "g2.csv", 2)),
+            TypeMoteur.JAVA);
+
+    private Resultats simuler() {
+        List<Process> processus = new InitialProcessParser().parse(FICHIER_PROCESSUS);
+        List<Metrics> metriques = new JavaSchedulingEngine().ordonnancer(config, processus, RessourcesParser.parse(FICHIER_RESSOURCES));
+        return new Resultats(processus, metriques);
+    }
+
+    @Test
+    void testExecutionRouverteDepuisLHistorique() {
+        // GIVEN : une exécution enregistrée dans l'historique
+        Resultats simules = simuler();
+        new HistoriqueExecutions(dossier, 5).enregistrer(config, simules);
+
+        // WHEN : un nouvel historique (nouvelle session) liste puis rouvre l'exécution
+        HistoriqueExecutions historique = new HistoriqueExecutions(dossier, 5);
+        List<ExecutionArchivee> executions = historique.lister();
+        Resultats relus = historique.ouvrir(executions.get(0));
+
+        // THEN : les détails ne sont lus qu'à la demande
+        assertEquals(1, executions.size());
+        assertEquals(simules.getListeProcessus().size(), executions.get(0).getNombreProcessus());
+        assertFalse(relus.isDetailsCharges());
+        relus.attendreDetails();
+
+        // THEN : mêmes processus, mêmes métriques et mêmes allocations
+        assertEquals(simules.getListeMetrics().size(), relus.getListeMetrics().size());
+        for (int i = 0; i < simules.getListeMetrics().size(); i++) {
+            assertEquals(simules.getListeMetrics().get(i).getMakespan(), relus.getListeMetrics().get(i).getMakespan());
+            assertEquals(simules.getListeMetrics().get(i).getTempsAttenteMoyen(), relus.getListeMetrics().get(i).getTempsAttenteMoyen());
+        }
+        for (int i = 0; i < simules.getListeProcessus().size(); i++) {
+            Process simule = simules.getListeProcessus().get(i);
+            Process relu = relus.getListeProcessus().get(i);
+            assertEquals(simule.getId(), relu.getId());
+            assertEquals(simule.getDateSoumission(), relu.getDateSoumission());
+            assertEquals(simule.getDeadline(), relu.getDeadline());
+            assertEquals(simule.getRequiredRam(), relu.getRequiredRam());
+            for (String algo : List.of("FIFO", "ROUND ROBIN")) {
+                assertEquals(simule.getExecutionInfo(algo).getDateFin(), relu.getExecutionInfo(algo).getDateFin());
+                assertEquals(simule.getAllocations(algo).size(), relu.getAllocations(algo).size());
+            }
+        }
+    }
+
+    @Test
+    void testAnciennesExecutionsSupprimees() {
+        // GIVEN : un historique limité à deux exécutions
+        HistoriqueExecutions historique = new HistoriqueExecutions(dossier, 2);
+        Resultats resultats = simuler();
+        List<ExecutionArchivee> enregistrees = new ArrayList<>();
+
+        // WHEN : trois exécutions sont enregistrées
+        for (int i = 0; i < 3; i++) {
+            enregistrees.add(historique.enregistrer(config, resultats));
+        }
+
+        // THEN : seules les deux plus récentes sont conservées, la plus récente en premier
+        List<ExecutionArchivee> executions = new HistoriqueExecutions(dossier, 2).lister();
+        assertEquals(List.of(enregistrees.get(2).getId(), enregistrees.get(1).getId()),
+                executions.stream().map(ExecutionArchivee::getId).toList());
+        assertThrows(HistoriqueException.class, () -> historique.ouvrir(enregistrees.get(0)));
+        assertTrue(executions.get(0).getLibelle().contains("ROUND ROBIN (q=2)"));
+    }
+
+    @Test
+    void testGanttDUneExecutionRouverteSansLaConfigurationCourante() {
+        // GIVEN : une exécution FIFO + ROUND ROBIN rouverte depuis l'historique
+        HistoriqueExecutions historique = new HistoriqueExecutions(dossier, 5);
+        historique.enregistrer(config, simuler());
+        Resultats relus = historique.ouvrir(historique.lister().get(0));
+        FileConfiguration autreConfig = new FileConfiguration(FICHIER_PROCESSUS, "m.csv", FICHIER_RESSOURCES,
+                List.of(new AlgoConfiguration("PRIORITE", "d3.csv", "g3.csv", null)), TypeMoteur.JAVA);
+
+        try {
+            for (FileConfiguration courante : new FileConfiguration[] {null, autreConfig}) {
+                // WHEN : aucune configuration chargée (nouvelle session), puis une configuration avec d'autres algorithmes
+                ConfigurationManager.getInstance().setFileConfiguration(courante);
+                GanttProcessorService service = GanttProcessorService.charger(relus).join();
+
+                // THEN : les gantts sont ceux des algorithmes de l'exécution rouverte
+                assertEquals(List.of("FIFO", "ROUND ROBIN"), service.getNomAlgosDisponibles());
+                for (String algo : service.getNomAlgosDisponibles()) {
+                    service.changerAlgo(algo);
+                    assertFalse(service.getTachesGantt().isEmpty(), algo);
+                }
+                assertFalse(service.getAllCpus().isEmpty());
+
+                // THEN : les résultats gardent la configuration de l'exécution (utilisée par le balayage du quantum)
+                FileConfiguration archivee = relus.getConfiguration();
+                assertEquals(FICHIER_RESSOURCES, archivee.getFichierRessourcesDisponibles());
+                assertEquals("ROUND ROBIN", archivee.getListeAlgorithmes().get(1).getNomAlgorithme());
+                assertEquals(2, archivee.getListeAlgorithmes().get(1).getQuantum());
+            }
+        } finally {
+            ConfigurationManager.getInstance().setFileConfiguration(null);
+        }
+    }
+}
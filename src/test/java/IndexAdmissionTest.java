@@ -0,0 +1,91 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ordonnancement.model.Allocation;
+import com.ordonnancement.model.ModeSimulation;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Ressources;
+import com.ordonnancement.service.engine.simulation.Simulation;
+import com.ordonnancement.service.engine.simulation.SimulationPriorite;
+import com.ordonnancement.service.engine.simulation.SimulationRoundRobin;
+import com.ordonnancement.util.IndexAdmission;
+
+public class IndexAdmissionTest {
+
+    @Test
+    void testIndexEtParcoursDonnentLeMemePremierAdmissible() {
+        // GIVEN : une file alimentée en fin et vidée au hasard (tassements et agrandissements)
+        SplittableRandom random = new SplittableRandom(7);
+        IndexAdmission index = new IndexAdmission(4);
+        List<Integer> presents = new ArrayList<>();
+        int prochain = 0;
+
+        for (int i = 0; i < 20_000; i++) {
+            // WHEN : ajout, retrait ou modification du besoin
+            int operation = random.nextInt(10);
+            if (operation < 5 || presents.isEmpty()) {
+                index.ajouterEnFin(prochain, random.nextInt(1000));
+                presents.add(prochain++);
+            } else if (operation < 9) {
+                index.retirer(presents.remove(random.nextInt(presents.size())));
+            } else {
+                index.modifierBesoin(presents.get(random.nextInt(presents.size())), 0);
+            }
+
+            // THEN : même réponse que le parcours de la file, dans l'ordre d'ajout
+            int disponible = random.nextInt(1000);
+            assertEquals(index.premierAdmissibleParParcours(disponible), index.premierAdmissible(disponible));
+            assertEquals(presents.size(), index.taille());
+        }
+        assertTrue(index.premierAdmissible(-1) < 0);
+    }
+
+    @Test
+    void testSimulationsIdentiquesAvecEtSansIndex() {
+        // GIVEN : 2000 processus pour 16 CPU et peu de RAM (la plupart des processus ne tiennent pas)
+        SplittableRandom random = new SplittableRandom(11);
+        List<String> processeurs = new ArrayList<>();
+        for (int i = 1; i <= 16; i++) {
+            processeurs.add("CPU" + i);
+        }
+        Ressources ressources = new Ressources(processeurs, 4096);
+        List<Process> parIndex = new ArrayList<>();
+        List<Process> parParcours = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int soumission = random.nextInt(500);
+            int duree = 1 + random.nextInt(12);
+            int ram = 64 * (1 + random.nextInt(40));
+            int priorite = random.nextInt(5);
+            parIndex.add(new Process("P" + i, soumission, duree, ram, soumission + 100, priorite));
+            parParcours.add(new Process("P" + i, soumission, duree, ram, soumission + 100, priorite));
+        }
+
+        for (ModeSimulation mode : ModeSimulation.values()) {
+            for (int algo = 0; algo < 2; algo++) {
+                // WHEN : même simulation avec l'index et avec le parcours de la file
+                String cle = "ALGO" + algo + mode;
+                Simulation avecIndex = algo == 0 ? new SimulationPriorite(ressources) : new SimulationRoundRobin(ressources, 3);
+                Simulation sansIndex = algo == 0 ? new SimulationPriorite(ressources) : new SimulationRoundRobin(ressources, 3);
+                sansIndex.setAdmissionIndexee(false);
+                assertEquals(sansIndex.executer(parParcours, cle, mode).getMakespan(), avecIndex.executer(parIndex, cle, mode).getMakespan());
+
+                // THEN : mêmes allocations, processus par processus
+                for (int i = 0; i < parIndex.size(); i++) {
+                    List<Allocation> attendues = parParcours.get(i).getAllocations(cle);
+                    List<Allocation> obtenues = parIndex.get(i).getAllocations(cle);
+                    assertEquals(attendues.size(), obtenues.size(), cle + " " + i);
+                    for (int j = 0; j < obtenues.size(); j++) {
+                        assertEquals(attendues.get(j).getProcessor(), obtenues.get(j).getProcessor());
+                        assertEquals(attendues.get(j).getDateDebutExecution(), obtenues.get(j).getDateDebutExecution());
+                        assertEquals(attendues.get(j).getDateFinExecution(), obtenues.get(j).getDateFinExecution());
+                    }
+                }
+            }
+        }
+    }
+}
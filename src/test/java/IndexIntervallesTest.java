@@ -0,0 +1,81 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.ordonnancement.model.AllocationStore;
+import com.ordonnancement.model.IndexIntervalles;
+import com.ordonnancement.model.Process;
+
+public class IndexIntervallesTest {
+
+    @Test
+    void testChercherCommeParcoursComplet() {
+        // GIVEN : des intervalles aléatoires qui se chevauchent
+        Random random = new Random(42);
+        int n = 500;
+        int[] debuts = new int[n];
+        int[] fins = new int[n];
+        for (int i = 0; i < n; i++) {
+            debuts[i] = random.nextInt(1000);
+            fins[i] = debuts[i] + 1 + random.nextInt(30);
+        }
+        IndexIntervalles index = new IndexIntervalles(debuts, fins, n);
+
+        for (int essai = 0; essai < 200; essai++) {
+            int t0 = random.nextInt(1100) - 50;
+            int t1 = t0 + random.nextInt(60);
+
+            // WHEN : recherche dans l'index
+            int[] trouves = index.chercher(t0, t1);
+
+            // THEN : mêmes éléments qu'un parcours complet, triés par date de début
+            List<Integer> attendus = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                if (debuts[i] <= t1 && fins[i] > t0) {
+                    attendus.add(i);
+                }
+            }
+            attendus.sort((a, b) -> debuts[a] != debuts[b] ? Integer.compare(debuts[a], debuts[b]) : Integer.compare(a, b));
+            assertArrayEquals(attendus.stream().mapToInt(Integer::intValue).toArray(), trouves);
+            assertEquals(attendus.isEmpty() ? -1 : attendus.get(0), index.premier(t0, t1));
+        }
+    }
+
+    @Test
+    void testRechercheALaDate() {
+        // GIVEN : deux intervalles contigus [0, 2) et [2, 5)
+        IndexIntervalles index = new IndexIntervalles(new int[]{2, 0}, new int[]{5, 2}, 2);
+
+        // WHEN / THEN : à t=2, seul le second est actif
+        assertArrayEquals(new int[]{0}, index.chercher(2, 2));
+        assertArrayEquals(new int[]{1}, index.chercher(1, 1));
+        assertArrayEquals(new int[]{}, index.chercher(5, 7));
+        assertArrayEquals(new int[]{}, index.chercher(3, 1));
+    }
+
+    @Test
+    void testIndexDuStoreParProcesseurEtProcessus() {
+        // GIVEN : un store avec deux CPU
+        Process p1 = new Process("P1", 0, 4, 10, 50, 1);
+        Process p2 = new Process("P2", 0, 6, 10, 50, 1);
+        AllocationStore store = new AllocationStore();
+        store.ajouter(p1, "CPU1", 0, 2);
+        store.ajouter(p2, "CPU2", 0, 6);
+        store.ajouter(p1, "CPU1", 4, 6);
+
+        // WHEN : recherche sur la fenêtre [3, 4]
+        int[] cpu1 = store.getIndexProcesseur("CPU1").chercher(3, 4);
+        int[] tous = store.chercher(3, 4);
+
+        // THEN : seules les allocations actives dans la fenêtre sont renvoyées
+        assertEquals(1, cpu1.length);
+        assertEquals(4, store.getDateDebut(cpu1[0]));
+        assertEquals(2, tous.length);
+        assertEquals(2, store.getIndexProcessus(p1).taille());
+        assertEquals(0, store.getIndexProcesseur("CPU9").taille());
+    }
+}
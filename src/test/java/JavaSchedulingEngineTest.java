@@ -0,0 +1,123 @@
+
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.ordonnancement.model.AlgoConfiguration;
+import com.ordonnancement.model.Allocation;
+import com.ordonnancement.model.ExecutionInfo;
+import com.ordonnancement.model.FileConfiguration;
+import com.ordonnancement.model.Metrics;
+import com.ordonnancement.model.ModeSimulation;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.model.Ressources;
+import com.ordonnancement.model.TypeMoteur;
+import com.ordonnancement.service.engine.JavaSchedulingEngine;
+import com.ordonnancement.service.engine.SchedulingEngineException;
+import com.ordonnancement.service.parser.metrics.MetricsParser;
+import com.ordonnancement.service.parser.process.DetailedResultProcessParser;
+import com.ordonnancement.service.parser.process.GlobalResultProcessParser;
+import com.ordonnancement.service.parser.process.InitialProcessParser;
+import com.ordonnancement.service.parser.ressources.RessourcesParser;
+
+/**
+ * Compare les résultats du moteur Java avec les résultats de référence produits par python
+ * sur les fichiers d'exemple (python/Settings et python/Resultats).
+ */
+public class JavaSchedulingEngineTest {
+
+    private static final List<AlgoConfiguration> ALGOS = List.of(
+            new AlgoConfiguration("FIFO", "python/Resultats/Fifo/rDetailled.csv", "python/Resultats/Fifo/rGlobaux.csv", null),
+            new AlgoConfiguration("PRIORITE", "python/Resultats/Priorite/rDetailled.csv", "python/Resultats/Priorite/rGlobaux.csv", null),
+            new AlgoConfiguration("ROUND ROBIN", "python/Resultats/RoundRobin/rDetailled.csv", "python/Resultats/RoundRobin/rGlobaux.csv", 2)
+    );
+
+    private FileConfiguration creerConfiguration(List<AlgoConfiguration> algos) {
+        return creerConfiguration(algos, ModeSimulation.TICK);
+    }
+
+    private FileConfiguration creerConfiguration(List<AlgoConfiguration> algos, ModeSimulation mode) {
+        return new FileConfiguration("python/Settings/processusInitiaux.csv",
+                "python/Resultats/Metriques/MetriquesGlobales.csv",
+                "python/Settings/ressources.json", algos, TypeMoteur.JAVA, mode);
+    }
+
+    @Test
+    void testResultatsIdentiquesAPython() {
+        verifierResultatsIdentiquesAPython(ModeSimulation.TICK);
+    }
+
+    @Test
+    void testResultatsEvenementielIdentiquesAPython() {
+        verifierResultatsIdentiquesAPython(ModeSimulation.EVENEMENTIEL);
+    }
+
+    private void verifierResultatsIdentiquesAPython(ModeSimulation mode) {
+        // GIVEN : les processus d'exemple et les résultats de référence python
+        FileConfiguration config = creerConfiguration(ALGOS, mode);
+        List<Process> processusJava = new InitialProcessParser().parse(config.getFichierProcessus());
+        List<Process> processusPython = new InitialProcessParser().parse(config.getFichierProcessus());
+        Ressources ressources = RessourcesParser.parse(config.getFichierRessourcesDisponibles());
+        for (AlgoConfiguration algo : ALGOS) {
+            new GlobalResultProcessParser(processusPython).parse(algo.getFichierResultatsGlobaux(), algo.getNomAlgorithme());
+            new DetailedResultProcessParser(processusPython).parse(algo.getFichierResultatsDetailles(), algo.getNomAlgorithme());
+        }
+        List<Metrics> metriquesPython = new MetricsParser().parse(config.getFichierMetriquesGlobales());
+
+        // WHEN : on ordonnance avec le moteur Java
+        List<Metrics> metriquesJava = new JavaSchedulingEngine().ordonnancer(config, processusJava, ressources);
+
+        // THEN : mêmes exécutions, mêmes allocations et mêmes métriques
+        for (int i = 0; i < processusJava.size(); i++) {
+            Process pJava = processusJava.get(i);
+            Process pPython = processusPython.get(i);
+            for (AlgoConfiguration algo : ALGOS) {
+                String nom = algo.getNomAlgorithme();
+                ExecutionInfo eJava = pJava.getExecutionInfo(nom);
+                ExecutionInfo ePython = pPython.getExecutionInfo(nom);
+                assertEquals(ePython.getDateDebut(), eJava.getDateDebut(), pJava.getId() + " " + nom);
+                assertEquals(ePython.getDateFin(), eJava.getDateFin(), pJava.getId() + " " + nom);
+                assertEquals(ePython.getUsedRam(), eJava.getUsedRam(), pJava.getId() + " " + nom);
+
+                List<Allocation> aJava = pJava.getAllocations(nom);
+                List<Allocation> aPython = pPython.getAllocations(nom);
+                assertEquals(aPython.size(), aJava.size(), pJava.getId() + " " + nom);
+                for (int j = 0; j < aJava.size(); j++) {
+                    assertEquals(aPython.get(j).getProcessor(), aJava.get(j).getProcessor());
+                    assertEquals(aPython.get(j).getDateDebutExecution(), aJava.get(j).getDateDebutExecution());
+                    assertEquals(aPython.get(j).getDateFinExecution(), aJava.get(j).getDateFinExecution());
+                }
+            }
+        }
+
+        assertEquals(metriquesPython.size(), metriquesJava.size());
+        for (int i = 0; i < metriquesJava.size(); i++) {
+            assertEquals(metriquesPython.get(i).getNomAlgorithme(), metriquesJava.get(i).getNomAlgorithme());
+            assertEquals(metriquesPython.get(i).getTempsAttenteMoyen(), metriquesJava.get(i).getTempsAttenteMoyen(), 1e-9);
+            assertEquals(metriquesPython.get(i).getTempsReponseMoyen(), metriquesJava.get(i).getTempsReponseMoyen(), 1e-9);
+            assertEquals(metriquesPython.get(i).getMakespan(), metriquesJava.get(i).getMakespan());
+        }
+    }
+
+    @Test
+    void testAlgorithmeInconnu() {
+        FileConfiguration config = creerConfiguration(List.of(new AlgoConfiguration("SJF", "det.csv", "glob.csv", null)));
+        List<Process> processus = List.of(new Process("P1", 0, 2, 10, 10, 1));
+
+        assertThrows(SchedulingEngineException.class,
+                () -> new JavaSchedulingEngine().ordonnancer(config, processus, new Ressources(List.of("CPU1"), 100)));
+    }
+
+    @Test
+    void testRamInsuffisante() {
+        FileConfiguration config = creerConfiguration(List.of(ALGOS.get(0)));
+        List<Process> processus = List.of(new Process("P1", 0, 2, 500, 10, 1)); // 500 > RAM totale
+
+        assertThrows(SchedulingEngineException.class,
+                () -> new JavaSchedulingEngine().ordonnancer(config, processus, new Ressources(List.of("CPU1"), 100)));
+    }
+
+}
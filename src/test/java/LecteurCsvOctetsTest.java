@@ -0,0 +1,202 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ordonnancement.model.Allocation;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.parser.DictionnaireOctets;
+import com.ordonnancement.service.parser.FileParsingException;
+import com.ordonnancement.service.parser.process.DetailedResultProcessParser;
+import com.ordonnancement.util.ProcessUtils;
+
+// Chaque cas compare la lecture sur les octets (LecteurCsvOctets, DictionnaireOctets) à la lecture
+// de référence (readLine, split, trim, parseInt) : même résultat ou même exception.
+public class LecteurCsvOctetsTest {
+
+    private static final String ALGO = "FIFO";
+    private static final String EN_TETE = "idProcessus,dateDebut,dateFin,idProcesseur";
+    private static final int TAILLE_BLOC = 64 * 1024;
+
+    @TempDir
+    Path dossier;
+
+    @Test
+    void testEnTete() throws IOException {
+        verifierCommeReference(" idProcessus , dateDebut,dateFin ,idProcesseur\r\n1,0,2,CPU1\n"); //Espaces et CRLF acceptés
+        verifierCommeReference("idProcessus,dateDebut,idProcesseur,dateFin\n1,0,2,CPU1\n"); //Colonne mal placée
+        verifierCommeReference("idProcessus,dateDebut,dateFin\n"); //Colonne manquante
+        verifierCommeReference(""); //Fichier vide
+        verifierCommeReference(EN_TETE); //En-tête seul, sans retour à la ligne
+    }
+
+    @Test
+    void testFinsDeLigneEtEspaces() throws IOException {
+        verifierCommeReference(EN_TETE + "\r\n1,0,2,CPU1\r\n2,2,5,CPU2\r\n"); //CRLF
+        verifierCommeReference(EN_TETE + "\n1,0,2,CPU1\n\n   \n\r\n"); //Lignes vides en fin de fichier
+        verifierCommeReference(EN_TETE + "\n1,0,2,CPU1"); //Dernière ligne sans retour à la ligne
+        verifierCommeReference(EN_TETE + "\n 1 ,\t0 , 2\t, CPU1 \n"); //Espaces autour des champs
+        verifierCommeReference(EN_TETE + "\n1,0,2,CPU1,colonne en trop\n"); //Colonnes supplémentaires ignorées
+        verifierCommeReference(EN_TETE + "\n1,0,2, \n"); //Processeur vide mais présent
+    }
+
+    @Test
+    void testLignesIncompletes() throws IOException {
+        verifierCommeReference(EN_TETE + "\n1,0,2\n");
+        verifierCommeReference(EN_TETE + "\n1,0,2,\n"); //split(",") ignore la dernière colonne vide
+        verifierCommeReference(EN_TETE + "\n1,0,2,,,\n");
+        verifierCommeReference(EN_TETE + "\n1\n");
+    }
+
+    @Test
+    void testEntiers() throws IOException {
+        verifierCommeReference(EN_TETE + "\n1,-5,+7,CPU1\n"); //Signes
+        verifierCommeReference(EN_TETE + "\n1,-2147483648,2147483647,CPU1\n"); //Bornes des int
+        verifierCommeReference(EN_TETE + "\n1,0,2147483648,CPU1\n"); //Dépassement
+        verifierCommeReference(EN_TETE + "\n1,-2147483649,2,CPU1\n");
+        verifierCommeReference(EN_TETE + "\n1,99999999999999999999,2,CPU1\n");
+        verifierCommeReference(EN_TETE + "\n1,0,,CPU1\n"); //Champ vide
+        verifierCommeReference(EN_TETE + "\n1,-,2,CPU1\n"); //Signe seul
+        verifierCommeReference(EN_TETE + "\n1,1 2,3,CPU1\n"); //Espace au milieu
+        verifierCommeReference(EN_TETE + "\n1,0x1,3,CPU1\n");
+    }
+
+    @Test
+    void testProcessusInconnu() throws IOException {
+        verifierCommeReference(EN_TETE + "\n1,0,2,CPU1\n 42 ,2,3,CPU1\n");
+        verifierCommeReference(EN_TETE + "\n,0,2,CPU1\n"); //Identifiant vide
+    }
+
+    @Test
+    void testLignesAChevalSurLesBlocsDeLecture() throws IOException {
+        // GIVEN : assez de lignes pour remplir plusieurs blocs, et une ligne plus longue qu'un bloc
+        StringBuilder contenu = new StringBuilder(EN_TETE).append('\n');
+        boolean aCheval = false;
+        for (int i = 0; contenu.length() < 3 * TAILLE_BLOC; i++) {
+            int debutLigne = contenu.length();
+            contenu.append(1 + i % 5).append(',').append(i).append(',').append(i + 1 + i % 7).append(",CPU").append(i % 13).append("\r\n");
+            aCheval |= debutLigne < TAILLE_BLOC && contenu.length() > TAILLE_BLOC; //Contenu ASCII : un caractère = un octet
+        }
+        contenu.append("2,0,1,").append("C".repeat(TAILLE_BLOC + 100)).append('\n');
+        assertTrue(aCheval);
+
+        // WHEN / THEN
+        verifierCommeReference(contenu.toString());
+    }
+
+    @Test
+    void testDictionnaireOctets() {
+        // GIVEN : un dictionnaire plus petit que le nombre de clés (agrandissements)
+        DictionnaireOctets<Integer> dictionnaire = new DictionnaireOctets<>(1);
+        for (int i = 0; i < 1000; i++) {
+            dictionnaire.ajouter("P" + i, i);
+        }
+        byte[] tampon = "xxP42,P999,P1000,CPU1,CPU1".getBytes(StandardCharsets.UTF_8);
+
+        // WHEN / THEN : recherche sur une partie du tampon
+        assertEquals(42, dictionnaire.chercher(tampon, 2, 5));
+        assertEquals(999, dictionnaire.chercher(tampon, 6, 10));
+        assertNull(dictionnaire.chercher(tampon, 11, 16)); //Clé inconnue
+        assertNull(dictionnaire.chercher(tampon, 2, 2)); //Clé vide
+
+        // THEN : une même suite d'octets donne toujours la même String
+        DictionnaireOctets<String> processeurs = new DictionnaireOctets<>(2);
+        String premier = processeurs.interner(tampon, 17, 21);
+        assertEquals("CPU1", premier);
+        assertSame(premier, processeurs.interner(tampon, 22, 26));
+    }
+
+    // Lit le contenu avec les deux parsers et vérifie qu'ils donnent les mêmes allocations ou la même erreur
+    private void verifierCommeReference(String contenu) throws IOException {
+        Path fichier = Files.createTempFile(dossier, "rDetailled", ".csv");
+        Files.writeString(fichier, contenu, StandardCharsets.UTF_8);
+
+        Map<String, List<String>> attendues = null;
+        FileParsingException erreurAttendue = null;
+        try {
+            attendues = parserReference(fichier);
+        } catch (FileParsingException e) {
+            erreurAttendue = e;
+        }
+
+        List<Process> processus = creerProcessus();
+        DetailedResultProcessParser parser = new DetailedResultProcessParser(processus);
+        if (erreurAttendue != null) {
+            FileParsingException erreur = assertThrows(FileParsingException.class, () -> parser.parse(fichier.toString(), ALGO));
+            assertEquals(erreurAttendue.getMessage(), erreur.getMessage());
+            return;
+        }
+        parser.parse(fichier.toString(), ALGO);
+        Map<String, List<String>> obtenues = new HashMap<>();
+        for (Process p : processus) {
+            List<Allocation> allocations = ProcessUtils.getAllocations(p, ALGO);
+            for (Allocation a : allocations) {
+                obtenues.computeIfAbsent(p.getId(), id -> new ArrayList<>())
+                        .add(a.getProcessor() + "|" + a.getDateDebutExecution() + "|" + a.getDateFinExecution());
+            }
+        }
+        assertEquals(attendues, obtenues);
+    }
+
+    // Lecture de référence : celle du parser avant la lecture sur les octets
+    private Map<String, List<String>> parserReference(Path fichier) throws IOException {
+        Map<String, List<String>> allocations = new HashMap<>();
+        List<String> ids = creerProcessus().stream().map(Process::getId).toList();
+        try (BufferedReader reader = Files.newBufferedReader(fichier, StandardCharsets.UTF_8)) {
+            String ligne = reader.readLine();
+            if (ligne == null) {
+                throw new FileParsingException("Fichier CSV vide : " + fichier);
+            }
+            String[] colonnesAttendues = EN_TETE.split(",");
+            String[] colonnes = ligne.split(",");
+            if (colonnes.length != colonnesAttendues.length) {
+                throw new FileParsingException("Nombre de colonnes incorrect dans le CSV des résultats détaillés");
+            }
+            for (int i = 0; i < colonnesAttendues.length; i++) {
+                if (!colonnes[i].trim().equals(colonnesAttendues[i])) {
+                    throw new FileParsingException(
+                            "Colonne " + colonnesAttendues[i] + " introuvable ou mal placée dans le CSV des résultats détaillés");
+                }
+            }
+            while ((ligne = reader.readLine()) != null) {
+                if (ligne.trim().isEmpty()) continue;
+                String[] valeurs = ligne.split(",");
+                if (valeurs.length < 4) {
+                    throw new FileParsingException("Ligne CSV incomplète : " + ligne + " dans le fichier des résultats détailés de " + ALGO);
+                }
+                String id = valeurs[0].trim();
+                int dateDebut = Integer.parseInt(valeurs[1].trim());
+                int dateFin = Integer.parseInt(valeurs[2].trim());
+                if (!ids.contains(id)) {
+                    throw new FileParsingException("Incohérence détectée : le processus " + id
+                            + " dans les résultats CSV n'existe pas dans la liste initiale.");
+                }
+                allocations.computeIfAbsent(id, cle -> new ArrayList<>()).add(valeurs[3].trim() + "|" + dateDebut + "|" + dateFin);
+            }
+        } catch (NumberFormatException e) {
+            throw new FileParsingException("Format numérique invalide dans le fichier CSV : " + fichier, e);
+        }
+        return allocations;
+    }
+
+    private List<Process> creerProcessus() {
+        List<Process> processus = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            processus.add(new Process(String.valueOf(i), 0, 10, 10, 100, 1));
+        }
+        return processus;
+    }
+}
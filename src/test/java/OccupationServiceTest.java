@@ -0,0 +1,52 @@
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.ordonnancement.model.Allocation;
+import com.ordonnancement.model.Chronologie;
+import com.ordonnancement.model.Occupation;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.gantt.OccupationService;
+
+public class OccupationServiceTest {
+
+    @Test
+    void testChronologiesConstruitesParBalayage() {
+        // GIVEN : trois processus sur deux processeurs, P1 interrompu par P3 sur CPU1
+        Process p1 = new Process("P1", 0, 6, 100, 20, 1);
+        Process p2 = new Process("P2", 0, 4, 50, 20, 1);
+        Process p3 = new Process("P3", 0, 2, 30, 20, 1);
+        p1.setAllocations("RR", List.of(new Allocation(p1, "CPU1", 0, 4), new Allocation(p1, "CPU1", 6, 8)));
+        p2.setAllocations("RR", List.of(new Allocation(p2, "CPU2", 2, 6)));
+        p3.setAllocations("RR", List.of(new Allocation(p3, "CPU1", 4, 6)));
+
+        // WHEN
+        Occupation occupation = OccupationService.calculer(List.of(p1, p2, p3), "RR");
+
+        // THEN : processeurs occupés 1, 2, 2, 1 puis 0 ; RAM réservée de la première à la dernière allocation
+        Chronologie occupes = occupation.getProcesseursOccupes();
+        assertEquals(4, occupes.getNombrePaliers()); //Paliers consécutifs de même valeur fusionnés
+        assertEquals(2, occupes.getMax());
+        assertEquals(12, occupes.integrale(0, 8));
+        assertEquals(1.5, occupes.moyenne(1, 3));
+        assertEquals(0, occupes.getValeur(8));
+        Chronologie ram = occupation.getRamUtilisee();
+        assertEquals(180, ram.getMax());
+        assertEquals(150, ram.getValeur(3));
+        assertEquals(100, ram.getValeur(7));
+        assertEquals(8, occupation.getDateFin());
+
+        // THEN : CPU1 occupé sans interruption, CPU2 la moitié du temps
+        assertEquals(List.of("CPU1", "CPU2"), List.copyOf(occupation.getOccupationParProcesseur().keySet()));
+        assertEquals(1.0, occupation.getOccupationParProcesseur().get("CPU1").moyenne(0, 8));
+        assertEquals(0.5, occupation.getOccupationParProcesseur().get("CPU2").moyenne(0, 8));
+
+        // THEN : l'échantillonnage conserve l'aire sous la courbe
+        double[][] points = occupes.echantillonner(0, 8, 4);
+        assertArrayEquals(new double[] {1, 2, 2, 1}, new double[] {points[0][1], points[1][1], points[2][1], points[3][1]});
+        assertEquals(4.0, points[2][0]);
+        assertEquals(8, occupes.echantillonner(0, 8, 100).length); //Au plus un point par unité de temps
+    }
+}
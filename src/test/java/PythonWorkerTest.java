@@ -0,0 +1,161 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ordonnancement.service.python.EcouteurSortie;
+import com.ordonnancement.service.python.PythonException;
+import com.ordonnancement.service.python.PythonWorker;
+
+// Le worker est lancé sur un faux script serveur qui répond selon le "fichier de configuration" demandé
+public class PythonWorkerTest {
+
+    private static final String FAUX_SERVEUR = """
+            import json, os, subprocess, sys, time
+
+            def envoyer(texte):
+                print(texte, flush=True)
+
+            while True:
+                demande = sys.stdin.readline()
+                if not demande:
+                    break
+                config = json.loads(demande)["config"]
+                if config == "normal":
+                    envoyer("L pid " + str(os.getpid()))
+                    envoyer("E attention")
+                    envoyer("sans etiquette")
+                    envoyer("F 0")
+                elif config == "erreur":
+                    envoyer("L calcul")
+                    envoyer("E ValueError: config invalide")
+                    envoyer("F 1")
+                elif config == "plantage":
+                    sys.stderr.write("Traceback: plantage de l'interpreteur\\n")
+                    sys.stderr.flush()
+                    os._exit(3)
+                elif config == "attente":
+                    enfant = subprocess.Popen([sys.executable, "-c", "import time; time.sleep(60)"])
+                    envoyer("L enfant " + str(enfant.pid))
+                    time.sleep(60)
+            """;
+
+    @TempDir
+    Path dossier;
+
+    private PythonWorker worker;
+
+    @BeforeEach
+    void creerWorker() throws IOException {
+        Path script = dossier.resolve("fauxServeur.py");
+        Files.writeString(script, FAUX_SERVEUR);
+        worker = PythonWorker.getInstance(script); //Un worker par script : chaque test a le sien
+    }
+
+    @AfterEach
+    void arreterWorker() {
+        worker.arreter();
+        Thread.interrupted();
+    }
+
+    @Test
+    void testEchangeNormal() {
+        // GIVEN
+        List<String> lignes = new CopyOnWriteArrayList<>();
+
+        // WHEN : deux demandes à la suite
+        worker.executer("normal", (flux, ligne) -> lignes.add(flux + ":" + ligne));
+        worker.executer("normal", (flux, ligne) -> lignes.add(flux + ":" + ligne));
+
+        // THEN : les lignes sont transmises sur leur flux, et le même processus python a servi les deux demandes
+        assertEquals(6, lignes.size());
+        assertTrue(lignes.get(0).startsWith("SORTIE:pid "));
+        assertEquals("ERREUR:attention", lignes.get(1));
+        assertEquals("SORTIE:sans etiquette", lignes.get(2)); //Ligne non étiquetée
+        assertEquals(lignes.get(0), lignes.get(3));
+    }
+
+    @Test
+    void testTrameDErreur() {
+        // WHEN
+        PythonException erreur = assertThrows(PythonException.class, () -> worker.executer("erreur", EcouteurSortie.AUCUN));
+
+        // THEN : le code et la sortie d'erreur de la demande sont dans le message
+        assertTrue(erreur.getMessage().contains("code 1"), erreur.getMessage());
+        assertTrue(erreur.getMessage().contains("ValueError: config invalide"), erreur.getMessage());
+
+        // THEN : le script est toujours lancé et accepte la demande suivante
+        worker.executer("normal", EcouteurSortie.AUCUN);
+    }
+
+    @Test
+    void testRelanceApresPlantage() {
+        // GIVEN : un script déjà lancé
+        String pidAvant = pid();
+
+        // WHEN : l'interpréteur s'arrête pendant une demande
+        PythonException erreur = assertThrows(PythonException.class, () -> worker.executer("plantage", EcouteurSortie.AUCUN));
+
+        // THEN : la trace de l'interpréteur est dans le message, et la demande suivante relance le script
+        assertTrue(erreur.getMessage().contains("s'est arrêté pendant l'exécution"), erreur.getMessage());
+        assertTrue(erreur.getMessage().contains("plantage de l'interpreteur"), erreur.getMessage());
+        assertNotEquals(pidAvant, pid());
+    }
+
+    @Test
+    void testAnnulationArreteLeScriptEtSesSousProcessus() throws Exception {
+        // GIVEN : une demande longue qui a lancé un sous-processus
+        String pidAvant = pid();
+        BlockingQueue<String> lignes = new LinkedBlockingQueue<>();
+        AtomicReference<RuntimeException> resultat = new AtomicReference<>();
+        Thread appelant = new Thread(() -> {
+            try {
+                worker.executer("attente", (flux, ligne) -> lignes.add(ligne));
+            } catch (RuntimeException e) {
+                resultat.set(e);
+            }
+        });
+        appelant.start();
+        String ligne = lignes.poll(10, TimeUnit.SECONDS);
+        assertNotNull(ligne);
+        ProcessHandle enfant = ProcessHandle.of(Long.parseLong(ligne.substring("enfant ".length()))).orElseThrow();
+
+        // WHEN : le thread appelant est interrompu
+        appelant.interrupt();
+        appelant.join(5000);
+
+        // THEN : la demande est annulée et le sous-processus est arrêté avec le script
+        assertFalse(appelant.isAlive());
+        assertInstanceOf(CancellationException.class, resultat.get());
+        enfant.onExit().get(5, TimeUnit.SECONDS);
+        assertFalse(enfant.isAlive());
+
+        // THEN : la demande suivante relance le script
+        assertNotEquals(pidAvant, pid());
+    }
+
+    // Renvoie le pid du processus python qui traite les demandes
+    private String pid() {
+        List<String> lignes = new CopyOnWriteArrayList<>();
+        worker.executer("normal", (flux, ligne) -> lignes.add(ligne));
+        return lignes.get(0);
+    }
+}
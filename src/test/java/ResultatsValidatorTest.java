@@ -0,0 +1,62 @@
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ordonnancement.model.Allocation;
+import com.ordonnancement.model.ExecutionInfo;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.parser.FileParsingException;
+import com.ordonnancement.service.validation.ResultatsValidator;
+
+public class ResultatsValidatorTest {
+
+    /**
+     * Crée n processus exécutés d'une traite sur CPU1, les uns après les autres.
+     */
+    private List<Process> creerProcessus(int n) {
+        List<Process> liste = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            Process p = new Process("P" + i, 0, 2, 4, 2 * n + 2, 1);
+            p.addExecution("ALGO", new ExecutionInfo(2 * i, 2 * i + 2, 4));
+            p.setAllocations("ALGO", List.of(new Allocation(p, "CPU1", 2 * i, 2 * i + 2)));
+            liste.add(p);
+        }
+        return liste;
+    }
+
+    @Test
+    void testResultatsValides() {
+        // GIVEN : assez de processus pour que la vérification soit découpée entre plusieurs tâches
+        List<Process> liste = creerProcessus(10_000);
+
+        // WHEN / THEN : aucune erreur
+        assertTrue(ResultatsValidator.listerErreurs(liste, "ALGO").isEmpty());
+        assertDoesNotThrow(() -> ResultatsValidator.valider(liste, "ALGO"));
+    }
+
+    @Test
+    void testToutesLesErreursCollectees() {
+        // GIVEN : trois processus incohérents, éloignés dans la liste
+        List<Process> liste = creerProcessus(10_000);
+        liste.get(10).addExecution("ALGO", new ExecutionInfo(30, 20, 4)); //Début après la fin
+        Process p = liste.get(5_000);
+        p.setAllocations("ALGO", List.of(new Allocation(p, "CPU1", 10_000, 10_003))); //Allocation trop longue
+        liste.get(9_999).addExecution("ALGO", new ExecutionInfo(19_998, 19_999, 4)); //Exécution trop courte
+
+        // WHEN
+        List<String> erreurs = ResultatsValidator.listerErreurs(liste, "ALGO");
+        FileParsingException exception = assertThrows(FileParsingException.class, () -> ResultatsValidator.valider(liste, "ALGO"));
+
+        // THEN : les trois processus sont signalés, dans l'ordre de la liste
+        assertTrue(erreurs.size() >= 3);
+        assertTrue(erreurs.get(0).contains("P10 "), erreurs.get(0));
+        assertTrue(erreurs.get(erreurs.size() - 1).contains("P9999"), erreurs.get(erreurs.size() - 1));
+        assertTrue(exception.getMessage().contains("P5000"), exception.getMessage());
+        assertEquals(erreurs.size(), exception.getMessage().split("\n- ").length - 1);
+    }
+}
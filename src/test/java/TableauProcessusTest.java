@@ -0,0 +1,64 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.ordonnancement.model.ExecutionInfo;
+import com.ordonnancement.model.Process;
+import com.ordonnancement.service.processus.TableauProcessus;
+import com.ordonnancement.service.processus.TableauProcessus.Champ;
+import com.ordonnancement.util.IndexPrefixes;
+
+public class TableauProcessusTest {
+
+    @Test
+    void testRechercheParPrefixe() {
+        // GIVEN : des identifiants dans le désordre, dont certains préfixes d'autres
+        IndexPrefixes index = new IndexPrefixes(new String[] {"P12", "P1", "Q1", "P120", "P2", "P13"});
+
+        // WHEN / THEN : les positions des identifiants qui commencent par le préfixe, dans l'ordre d'origine
+        assertArrayEquals(new int[] {0, 1, 3, 5}, index.rechercher("P1"));
+        assertArrayEquals(new int[] {0, 3}, index.rechercher("P12"));
+        assertArrayEquals(new int[] {2}, index.rechercher("Q"));
+        assertArrayEquals(new int[] {}, index.rechercher("P3"));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5}, index.rechercher(""));
+
+        // THEN : le rang suit l'ordre alphabétique des identifiants
+        assertEquals(0, index.getRang(1));
+        assertEquals(5, index.getRang(2));
+    }
+
+    @Test
+    void testFiltreEtTriParAlgorithme() {
+        // GIVEN : 1000 processus, dont un sur trois dépasse sa deadline avec FIFO, et un non exécuté
+        List<Process> processus = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Process p = new Process("P" + i, i, 5, 10, i + 10, 1);
+            if (i != 999) {
+                int debut = i + (i % 3 == 0 ? 20 : 1);
+                p.addExecution("FIFO", new ExecutionInfo(debut, debut + 5, 10));
+            }
+            processus.add(p);
+        }
+        TableauProcessus tableau = new TableauProcessus(processus, List.of("FIFO"));
+
+        // WHEN : filtre des deadlines manquées parmi les id commençant par "P9", puis tri par attente décroissante
+        int[] lignes = tableau.filtrer("P9", ligne -> tableau.getValeur(Champ.DEADLINE_RESPECTEE, "FIFO", ligne) == 0);
+        int[] triees = tableau.trier(lignes, Champ.ATTENTE, "FIFO", false);
+
+        // THEN : seules les lignes attendues, triées par attente puis dans l'ordre des processus
+        int[] attendues = IntStream.range(0, 999).filter(i -> String.valueOf(i).startsWith("9") && i % 3 == 0).toArray();
+        assertArrayEquals(attendues, lignes);
+        assertArrayEquals(attendues, triees); //Toutes ont la même attente (20) : ordre des processus conservé
+        assertEquals(20, tableau.getValeur(Champ.ATTENTE, "FIFO", triees[0]));
+        assertEquals(TableauProcessus.ABSENT, tableau.getValeur(Champ.DEBUT, "FIFO", 999));
+
+        // THEN : le tri par fin décroissante place le processus non exécuté en dernier
+        int[] parFin = tableau.trier(tableau.filtrer("", null), Champ.FIN, "FIFO", false);
+        assertEquals(996, parFin[0]); //Fin 996 + 20 + 5
+        assertEquals(999, parFin[parFin.length - 1]);
+    }
+}
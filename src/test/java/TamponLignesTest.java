@@ -0,0 +1,48 @@
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.ordonnancement.util.TamponLignes;
+
+public class TamponLignesTest {
+
+    @Test
+    void testConserveLesDernieresLignes() {
+        // GIVEN : un tampon de 3 lignes
+        TamponLignes tampon = new TamponLignes(3);
+
+        // WHEN : 5 lignes sont ajoutées
+        for (int i = 1; i <= 5; i++) {
+            tampon.ajouter("ligne " + i);
+        }
+
+        // THEN : seules les 3 dernières sont conservées, dans l'ordre
+        assertEquals(List.of("ligne 3", "ligne 4", "ligne 5"), tampon.getLignes());
+        assertEquals(5, tampon.getTotal());
+        assertEquals(2, tampon.getNombrePerdues());
+        assertEquals("[... 2 lignes précédentes omises]\nligne 3\nligne 4\nligne 5", tampon.getTexte());
+    }
+
+    @Test
+    void testTamponPartiellementRempli() {
+        // GIVEN : un tampon de 4 lignes
+        TamponLignes tampon = new TamponLignes(4);
+
+        // WHEN : 2 lignes sont ajoutées
+        tampon.ajouter("a");
+        tampon.ajouter("b");
+
+        // THEN : aucune ligne perdue
+        assertEquals(List.of("a", "b"), tampon.getLignes());
+        assertEquals("a\nb", tampon.getTexte());
+        assertEquals(0, tampon.getNombrePerdues());
+    }
+
+    @Test
+    void testCapaciteInvalide() {
+        // WHEN / THEN : une capacité nulle est refusée
+        assertThrows(IllegalArgumentException.class, () -> new TamponLignes(0));
+    }
+}
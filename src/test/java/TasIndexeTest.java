@@ -0,0 +1,67 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ordonnancement.util.TasIndexe;
+
+public class TasIndexeTest {
+
+    @Test
+    void testExtractionParCleCroissante() {
+        // GIVEN : 1000 éléments de clés aléatoires (tas volontairement trop petit au départ)
+        Random random = new Random(42);
+        TasIndexe tas = new TasIndexe(4);
+        long[] cles = new long[1000];
+        for (int i = 0; i < cles.length; i++) {
+            cles[i] = ((long) random.nextInt(50) << 32) | i; //Clé : valeur puis ordre d'insertion
+            tas.inserer(i, cles[i]);
+        }
+
+        // WHEN : on extrait tous les éléments
+        List<Long> extraites = new ArrayList<>();
+        while (!tas.estVide()) {
+            extraites.add(cles[tas.extraireMin()]);
+        }
+
+        // THEN : clés croissantes, à valeur égale dans l'ordre d'insertion
+        assertEquals(cles.length, extraites.size());
+        for (int i = 1; i < extraites.size(); i++) {
+            assertTrue(extraites.get(i - 1) < extraites.get(i));
+        }
+    }
+
+    @Test
+    void testModificationEtSuppression() {
+        // GIVEN
+        TasIndexe tas = new TasIndexe(8);
+        tas.inserer(0, 50);
+        tas.inserer(1, 40);
+        tas.inserer(2, 30);
+        tas.inserer(3, 20);
+
+        // WHEN : l'élément 0 vieillit jusqu'à passer en tête, l'élément 3 recule, l'élément 2 est retiré
+        tas.modifierCle(0, 10);
+        tas.modifierCle(3, 60);
+        tas.retirer(2);
+
+        // THEN
+        assertEquals(3, tas.taille());
+        assertFalse(tas.contient(2));
+        assertEquals(10, tas.getCle(0));
+        assertEquals(0, tas.extraireMin());
+        assertEquals(1, tas.extraireMin());
+        assertEquals(3, tas.extraireMin());
+        assertThrows(NoSuchElementException.class, tas::extraireMin);
+        assertThrows(IllegalArgumentException.class, () -> {
+            tas.inserer(5, 1);
+            tas.inserer(5, 2);
+        });
+    }
+}